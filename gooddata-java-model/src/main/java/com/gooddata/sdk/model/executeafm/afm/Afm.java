@@ -10,12 +10,21 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.gooddata.sdk.common.util.GoodDataToStringBuilder;
+import com.gooddata.sdk.model.executeafm.IdentifierObjQualifier;
+import com.gooddata.sdk.model.executeafm.ObjQualifier;
 import com.gooddata.sdk.model.executeafm.afm.filter.CompatibilityFilter;
+import com.gooddata.sdk.model.executeafm.afm.filter.FilterItem;
+import com.gooddata.sdk.model.executeafm.afm.filter.MeasureValueFilter;
+import com.gooddata.sdk.model.executeafm.afm.filter.RankingFilter;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.gooddata.sdk.common.util.Validate.notNull;
 import static java.lang.String.format;
@@ -137,6 +146,83 @@ public class Afm {
         return this;
     }
 
+    /**
+     * Returns all the object qualifiers used by the attributes, measures (including the derived ones) and filters.
+     * <p>
+     * This information comes handy if it is necessary, for example, to convert the AFM to use just the URI object qualifiers
+     * instead of the identifier object qualifiers. It can be used to gather these for a conversion service, so all of them
+     * are converted at once.
+     *
+     * @return all the object qualifiers the AFM uses
+     */
+    @JsonIgnore
+    public Collection<ObjQualifier> getObjQualifiers() {
+        final Collection<ObjQualifier> qualifiers = new LinkedHashSet<>();
+        if (attributes != null) {
+            attributes.forEach(attribute -> qualifiers.add(attribute.getDisplayForm()));
+        }
+        if (measures != null) {
+            measures.forEach(measure -> qualifiers.addAll(measure.getDefinition().getObjQualifiers()));
+        }
+        if (filters != null) {
+            for (CompatibilityFilter filter : filters) {
+                if (filter instanceof FilterItem) {
+                    qualifiers.add(((FilterItem) filter).getObjQualifier());
+                } else if (filter instanceof MeasureValueFilter
+                        && ((MeasureValueFilter) filter).getMeasure() instanceof ObjQualifier) {
+                    qualifiers.add((ObjQualifier) ((MeasureValueFilter) filter).getMeasure());
+                } else if (filter instanceof RankingFilter) {
+                    qualifiers.addAll(((RankingFilter) filter).getObjQualifiers());
+                }
+            }
+        }
+        qualifiers.remove(null);
+        return qualifiers;
+    }
+
+    /**
+     * Copy itself using the given object qualifier converter, so the copy uses just the URI object qualifiers. The items not using
+     * {@link IdentifierObjQualifier} are kept as they are.
+     * <p>
+     * The provided converter must be able to handle the conversion for all the qualifiers that are of the {@link IdentifierObjQualifier} type
+     * (see {@link #getObjQualifiers()}).
+     *
+     * @param objQualifierConverter The function that converts identifier qualifiers to the matching URI qualifiers. The parameter must not be null.
+     * @return copy of itself with replaced qualifiers
+     * @throws IllegalArgumentException The exception is thrown when conversion for some identifier qualifier could not be made by the provided
+     *                                  converter or when provided converter is null.
+     */
+    public Afm withObjUriQualifiers(final ObjQualifierConverter objQualifierConverter) {
+        notNull(objQualifierConverter, "objQualifierConverter");
+        return new Afm(
+                convert(attributes, attribute -> attribute.withObjUriQualifiers(objQualifierConverter)),
+                convert(filters, filter -> convertFilter(filter, objQualifierConverter)),
+                convert(measures, measure -> measure.withObjUriQualifiers(objQualifierConverter)),
+                nativeTotals
+        );
+    }
+
+    private static CompatibilityFilter convertFilter(final CompatibilityFilter filter, final ObjQualifierConverter objQualifierConverter) {
+        if (filter instanceof FilterItem) {
+            final FilterItem filterItem = (FilterItem) filter;
+            return ObjIdentifierUtilities.copyIfNecessary(filterItem, filterItem.getObjQualifier(),
+                    filterItem::withObjUriQualifier, objQualifierConverter);
+        }
+        if (filter instanceof MeasureValueFilter && ((MeasureValueFilter) filter).getMeasure() instanceof ObjQualifier) {
+            final MeasureValueFilter measureValueFilter = (MeasureValueFilter) filter;
+            return ObjIdentifierUtilities.copyIfNecessary(measureValueFilter, (ObjQualifier) measureValueFilter.getMeasure(),
+                    measureValueFilter::withUriObjQualifier, objQualifierConverter);
+        }
+        if (filter instanceof RankingFilter) {
+            return ((RankingFilter) filter).withObjUriQualifiers(objQualifierConverter);
+        }
+        return filter;
+    }
+
+    private static <T> List<T> convert(final List<T> items, final Function<T, T> converter) {
+        return items == null ? null : items.stream().map(converter).collect(Collectors.toList());
+    }
+
     @Override
     public String toString() {
         return GoodDataToStringBuilder.defaultToString(this);
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.gooddata.sdk.common.util.GoodDataToStringBuilder;
+import com.gooddata.sdk.model.executeafm.IdentifierObjQualifier;
 import com.gooddata.sdk.model.executeafm.ObjQualifier;
 import com.gooddata.sdk.model.md.AttributeDisplayForm;
 
@@ -82,6 +83,20 @@ public class AttributeItem implements LocallyIdentifiable, Serializable {
         this.alias = alias;
     }
 
+    /**
+     * Copy itself using the given object qualifier converter in case when {@link IdentifierObjQualifier} is used as the display form, otherwise
+     * the original object is returned.
+     *
+     * @param objQualifierConverter The function that converts identifier qualifiers to the matching URI qualifiers. The parameter must not be null.
+     * @return copy of itself with replaced qualifier in case when {@link IdentifierObjQualifier} was used, otherwise original object is returned.
+     * @throws IllegalArgumentException The exception is thrown when conversion for the identifier qualifier could not be made by the provided
+     *                                  converter or when provided converter is null.
+     */
+    public AttributeItem withObjUriQualifiers(final ObjQualifierConverter objQualifierConverter) {
+        return ObjIdentifierUtilities.copyIfNecessary(this, displayForm,
+                uriObjQualifier -> new AttributeItem(uriObjQualifier, localIdentifier, alias), objQualifierConverter);
+    }
+
     @Override
     public String toString() {
         return GoodDataToStringBuilder.defaultToString(this);
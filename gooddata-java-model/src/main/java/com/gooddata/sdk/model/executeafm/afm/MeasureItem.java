@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.gooddata.sdk.common.util.GoodDataToStringBuilder;
+import com.gooddata.sdk.model.executeafm.IdentifierObjQualifier;
 
 import java.io.Serializable;
 import java.util.Objects;
@@ -86,6 +87,21 @@ public class MeasureItem implements LocallyIdentifiable, Serializable {
         this.format = format;
     }
 
+    /**
+     * Copy itself using the given object qualifier converter in case when {@link IdentifierObjQualifier} instances are used in the definition,
+     * otherwise the original object is returned.
+     *
+     * @param objQualifierConverter The function that converts identifier qualifiers to the matching URI qualifiers. The parameter must not be null.
+     * @return copy of itself with replaced qualifiers in case when some {@link IdentifierObjQualifier} were used, otherwise original object is returned.
+     * @throws IllegalArgumentException The exception is thrown when conversion for the identifier qualifier could not be made by the provided
+     *                                  converter or when provided converter is null.
+     * @see MeasureDefinition#withObjUriQualifiers(ObjQualifierConverter)
+     */
+    public MeasureItem withObjUriQualifiers(final ObjQualifierConverter objQualifierConverter) {
+        final MeasureDefinition converted = definition.withObjUriQualifiers(objQualifierConverter);
+        return converted == definition ? this : new MeasureItem(converted, localIdentifier, alias, format);
+    }
+
     @Override
     public String toString() {
         return GoodDataToStringBuilder.defaultToString(this);
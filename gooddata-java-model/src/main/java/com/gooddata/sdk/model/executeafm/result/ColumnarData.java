@@ -0,0 +1,234 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.model.executeafm.result;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.gooddata.sdk.common.util.GoodDataToStringBuilder;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Compact primitive representation of the {@link ExecutionResult} data. Values of one or two dimensional data are
+ * stored row by row in a single {@code double[]}, nulls are tracked separately. Unlike {@link DataList} it doesn't
+ * allocate any object per cell, so even large result pages can be held in memory cheaply.
+ * <p>
+ * Data of one dimensional result are represented as a single row.
+ *
+ * @see ColumnarExecutionResult
+ */
+@JsonDeserialize(using = ColumnarData.ColumnarDataDeserializer.class)
+public final class ColumnarData {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int dimensions;
+    private final int rowCount;
+    private final int columnCount;
+    private final double[] values;
+    private final BitSet nulls;
+
+    /**
+     * Creates new data
+     *
+     * @param dimensions  number of dimensions of the data (1 or 2)
+     * @param rowCount    number of rows
+     * @param columnCount number of columns
+     * @param values      values stored row by row, of length {@code rowCount * columnCount} at least
+     * @param nulls       indexes of null values
+     */
+    ColumnarData(final int dimensions, final int rowCount, final int columnCount, final double[] values,
+                 final BitSet nulls) {
+        this.dimensions = dimensions;
+        this.rowCount = rowCount;
+        this.columnCount = columnCount;
+        this.values = values;
+        this.nulls = nulls;
+    }
+
+    /**
+     * @return number of dimensions of the data (1 or 2)
+     */
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    /**
+     * @return number of rows (1 for one dimensional data)
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return number of columns
+     */
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    /**
+     * @param row    row index
+     * @param column column index
+     * @return value at given position, {@link Double#NaN} for null value
+     */
+    public double getValue(final int row, final int column) {
+        return values[index(row, column)];
+    }
+
+    /**
+     * @param row    row index
+     * @param column column index
+     * @return true if the value at given position is null
+     */
+    public boolean isNull(final int row, final int column) {
+        return nulls.get(index(row, column));
+    }
+
+    /**
+     * @param row row index
+     * @return copy of values of given row, nulls are represented by {@link Double#NaN}
+     */
+    public double[] getRow(final int row) {
+        final int from = index(row, 0);
+        return Arrays.copyOfRange(values, from, from + columnCount);
+    }
+
+    /**
+     * @param column column index
+     * @return copy of values of given column, nulls are represented by {@link Double#NaN}
+     */
+    public double[] getColumn(final int column) {
+        final double[] result = new double[rowCount];
+        for (int row = 0; row < rowCount; row++) {
+            result[row] = getValue(row, column);
+        }
+        return result;
+    }
+
+    /**
+     * @return copy of all values stored row by row, nulls are represented by {@link Double#NaN}
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(values, rowCount * columnCount);
+    }
+
+    private int index(final int row, final int column) {
+        if (row < 0 || row >= rowCount || column < 0 || column >= columnCount) {
+            throw new IndexOutOfBoundsException("Position [" + row + ", " + column + "] is out of bounds ["
+                    + rowCount + ", " + columnCount + "]");
+        }
+        return row * columnCount + column;
+    }
+
+    @Override
+    public String toString() {
+        return GoodDataToStringBuilder.defaultToString(this, "values", "nulls");
+    }
+
+    /**
+     * Reads data directly from the token stream into primitive array.
+     */
+    static class ColumnarDataDeserializer extends JsonDeserializer<ColumnarData> {
+
+        @Override
+        public ColumnarData deserialize(final JsonParser jp, final DeserializationContext ctxt) throws IOException {
+            if (jp.currentToken() != JsonToken.START_ARRAY) {
+                throw JsonMappingException.from(jp, "Expected array of data but got: " + jp.currentToken());
+            }
+            final Builder builder = new Builder();
+            JsonToken token = jp.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                int rowCount = 0;
+                int columnCount = -1;
+                while (token != JsonToken.END_ARRAY) {
+                    if (token != JsonToken.START_ARRAY) {
+                        throw JsonMappingException.from(jp, "Expected array of row data but got: " + token);
+                    }
+                    final int rowLength = readRow(jp, builder);
+                    if (columnCount == -1) {
+                        columnCount = rowLength;
+                    } else if (columnCount != rowLength) {
+                        throw JsonMappingException.from(jp, "Rows of data have different lengths: "
+                                + columnCount + " and " + rowLength);
+                    }
+                    rowCount++;
+                    token = jp.nextToken();
+                }
+                return builder.build(2, rowCount, Math.max(columnCount, 0));
+            }
+            final int columnCount = token == JsonToken.END_ARRAY ? 0 : readValues(jp, builder, token);
+            return builder.build(1, 1, columnCount);
+        }
+
+        private static int readRow(final JsonParser jp, final Builder builder) throws IOException {
+            final JsonToken token = jp.nextToken();
+            return token == JsonToken.END_ARRAY ? 0 : readValues(jp, builder, token);
+        }
+
+        /**
+         * Reads values until the end of the current array, the first value token is given.
+         */
+        private static int readValues(final JsonParser jp, final Builder builder, JsonToken token) throws IOException {
+            int count = 0;
+            while (token != JsonToken.END_ARRAY) {
+                switch (token) {
+                    case VALUE_NULL:
+                        builder.addNull();
+                        break;
+                    case VALUE_STRING:
+                        builder.add(parseValue(jp));
+                        break;
+                    case VALUE_NUMBER_INT:
+                    case VALUE_NUMBER_FLOAT:
+                        builder.add(jp.getDoubleValue());
+                        break;
+                    default:
+                        throw JsonMappingException.from(jp, "Unknown value of type: " + token);
+                }
+                count++;
+                token = jp.nextToken();
+            }
+            return count;
+        }
+
+        private static double parseValue(final JsonParser jp) throws IOException {
+            try {
+                return Double.parseDouble(jp.getText());
+            } catch (NumberFormatException e) {
+                throw JsonMappingException.from(jp, "Non numeric data value: " + jp.getText(), e);
+            }
+        }
+    }
+
+    private static final class Builder {
+        private double[] values = new double[INITIAL_CAPACITY];
+        private final BitSet nulls = new BitSet();
+        private int size;
+
+        private void add(final double value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[size++] = value;
+        }
+
+        private void addNull() {
+            nulls.set(size);
+            add(Double.NaN);
+        }
+
+        private ColumnarData build(final int dimensions, final int rowCount, final int columnCount) {
+            return new ColumnarData(dimensions, rowCount, columnCount, values, nulls);
+        }
+    }
+}
@@ -7,20 +7,15 @@ package com.gooddata.sdk.model.executeafm.result;
 
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Spliterator;
-import java.util.stream.Collectors;
-
-import static java.util.Spliterators.spliteratorUnknownSize;
-import static java.util.stream.StreamSupport.stream;
 
 /**
  * Data of {@link ExecutionResult}, can be of three basic kinds - {@link #NULL}, list and simple value.
@@ -75,26 +70,30 @@ public interface Data {
         throw new UnsupportedOperationException("This is not a list");
     }
 
+    /**
+     * Deserializes {@link Data} directly from the token stream, without building intermediate
+     * {@link com.fasterxml.jackson.databind.JsonNode} tree.
+     */
     class DataDeserializer extends JsonDeserializer<Data> {
         @Override
         public Data deserialize(final JsonParser jp, final DeserializationContext ctxt) throws IOException {
-            final JsonNode root = jp.readValueAsTree();
-            if (root.isArray()) {
-                final List<Data> list = stream(spliteratorUnknownSize(root.elements(), Spliterator.ORDERED), false)
-                        .map(elem -> {
-                            try {
-                                return ctxt.readValue(elem.traverse(jp.getCodec()), Data.class);
-                            } catch (IOException e) {
-                                throw new UncheckedIOException(e);
-                            }
-                        }).collect(Collectors.toList());
+            return readData(jp);
+        }
+
+        private static Data readData(final JsonParser jp) throws IOException {
+            final JsonToken token = jp.currentToken();
+            if (token == JsonToken.START_ARRAY) {
+                final List<Data> list = new ArrayList<>();
+                while (jp.nextToken() != JsonToken.END_ARRAY) {
+                    list.add(readData(jp));
+                }
                 return new DataList(list);
-            } else if (root.isTextual()) {
-                return new DataValue(root.textValue());
-            } else if (root.isNull()) {
+            } else if (token == JsonToken.VALUE_STRING) {
+                return new DataValue(jp.getText());
+            } else if (token == JsonToken.VALUE_NULL) {
                 return NULL;
             } else {
-                throw JsonMappingException.from(jp, "Unknown value of type: " + root.getNodeType());
+                throw JsonMappingException.from(jp, "Unknown value of type: " + token);
             }
         }
 
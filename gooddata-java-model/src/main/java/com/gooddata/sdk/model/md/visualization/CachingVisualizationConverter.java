@@ -0,0 +1,214 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.model.md.visualization;
+
+import com.gooddata.sdk.common.util.GoodDataToStringBuilder;
+import com.gooddata.sdk.model.executeafm.Execution;
+import com.gooddata.sdk.model.executeafm.afm.Afm;
+import com.gooddata.sdk.model.executeafm.resultspec.ResultSpec;
+import com.gooddata.sdk.model.executeafm.resultspec.SortItem;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static com.gooddata.sdk.common.util.Validate.isTrue;
+import static com.gooddata.sdk.common.util.Validate.notNull;
+
+/**
+ * Converter of {@link VisualizationObject}s into {@link Execution}s (see {@link VisualizationConverter}) suitable
+ * for converting many visualization objects. It keeps size bounded LRU caches of
+ * <ul>
+ * <li>{@link VisualizationClass}es by their URI, so the class is fetched once, not for every converted object</li>
+ * <li>sorting parsed from the visualization object properties by the object URI and its update time, so the properties
+ * of unchanged object are parsed once</li>
+ * </ul>
+ * Visualization objects without URI or update time (e.g. not stored yet) are converted without caching of their properties.
+ * <p>
+ * The converter is thread safe.
+ */
+public class CachingVisualizationConverter {
+
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final Function<String, VisualizationClass> visualizationClassGetter;
+    private final Map<String, VisualizationClass> visualizationClasses;
+    private final Map<PropertiesKey, Optional<List<SortItem>>> sortings;
+
+    /**
+     * Creates converter with {@link #DEFAULT_MAX_SIZE} of the caches.
+     *
+     * @param visualizationClassGetter {@link Function} for fetching VisualizationClass by URI
+     */
+    public CachingVisualizationConverter(final Function<String, VisualizationClass> visualizationClassGetter) {
+        this(visualizationClassGetter, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param visualizationClassGetter {@link Function} for fetching VisualizationClass by URI
+     * @param maxSize                  maximal number of entries of each cache
+     */
+    public CachingVisualizationConverter(final Function<String, VisualizationClass> visualizationClassGetter,
+                                         final int maxSize) {
+        this.visualizationClassGetter = notNull(visualizationClassGetter, "visualizationClassGetter");
+        isTrue(maxSize > 0, "maxSize must be greater than zero");
+        this.visualizationClasses = lruMap(maxSize);
+        this.sortings = lruMap(maxSize);
+    }
+
+    /**
+     * Generate Execution from Visualization object.
+     * <p>
+     * <b>NOTE: totals are not included in this conversion</b>
+     *
+     * @param visualizationObject which will be converted to {@link Execution}
+     * @return {@link Execution} object
+     * @see VisualizationConverter#convertToExecution(VisualizationObject, VisualizationClass)
+     */
+    public Execution convertToExecution(final VisualizationObject visualizationObject) {
+        notNull(visualizationObject, "visualizationObject");
+        final ResultSpec resultSpec = convertToResultSpec(visualizationObject);
+        final Afm afm = VisualizationConverter.convertToAfm(visualizationObject);
+        return new Execution(afm, resultSpec);
+    }
+
+    /**
+     * Generate Execution from Visualization object with totals included.
+     *
+     * @param visualizationObject which will be converted to {@link Execution}
+     * @return {@link Execution} object
+     * @see VisualizationConverter#convertToExecutionWithTotals(VisualizationObject, VisualizationClass)
+     */
+    public Execution convertToExecutionWithTotals(final VisualizationObject visualizationObject) {
+        notNull(visualizationObject, "visualizationObject");
+        final ResultSpec resultSpec = convertToResultSpecWithTotals(visualizationObject);
+        final Afm afm = VisualizationConverter.convertToAfmWithNativeTotals(visualizationObject);
+        return new Execution(afm, resultSpec);
+    }
+
+    /**
+     * Generate ResultSpec from Visualization object.
+     * <p>
+     * <b>NOTE: totals are not included in this conversion</b>
+     *
+     * @param visualizationObject which will be converted to {@link ResultSpec}
+     * @return {@link ResultSpec} object
+     * @see VisualizationConverter#convertToResultSpec(VisualizationObject, VisualizationClass)
+     */
+    public ResultSpec convertToResultSpec(final VisualizationObject visualizationObject) {
+        notNull(visualizationObject, "visualizationObject");
+        return convertToResultSpecWithTotals(VisualizationConverter.removeTotals(visualizationObject));
+    }
+
+    /**
+     * Generate ResultSpec from Visualization object with totals included.
+     *
+     * @param visualizationObject which will be converted to {@link ResultSpec}
+     * @return {@link ResultSpec} object
+     * @see VisualizationConverter#convertToResultSpecWithTotals(VisualizationObject, VisualizationClass)
+     */
+    public ResultSpec convertToResultSpecWithTotals(final VisualizationObject visualizationObject) {
+        notNull(visualizationObject, "visualizationObject");
+        final VisualizationClass visualizationClass = getVisualizationClass(visualizationObject.getVisualizationClassUri());
+        return VisualizationConverter.convertToResultSpecWithTotals(visualizationObject, visualizationClass,
+                getSorting(visualizationObject));
+    }
+
+    /**
+     * Get visualization class from the cache, fetching it when not cached yet.
+     *
+     * @param uri URI of the visualization class
+     * @return visualization class
+     */
+    public VisualizationClass getVisualizationClass(final String uri) {
+        notNull(uri, "uri");
+        synchronized (visualizationClasses) {
+            final VisualizationClass cached = visualizationClasses.get(uri);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final VisualizationClass visualizationClass = notNull(visualizationClassGetter.apply(uri), "visualizationClass");
+        synchronized (visualizationClasses) {
+            visualizationClasses.put(uri, visualizationClass);
+        }
+        return visualizationClass;
+    }
+
+    /**
+     * Evict all the cached visualization classes and properties.
+     */
+    public void clear() {
+        synchronized (visualizationClasses) {
+            visualizationClasses.clear();
+        }
+        synchronized (sortings) {
+            sortings.clear();
+        }
+    }
+
+    private List<SortItem> getSorting(final VisualizationObject visualizationObject) {
+        final String uri = visualizationObject.getUri();
+        if (uri == null || visualizationObject.getUpdated() == null) {
+            return VisualizationConverter.getSorting(visualizationObject);
+        }
+        final PropertiesKey key = new PropertiesKey(uri, visualizationObject.getUpdated().toInstant());
+        Optional<List<SortItem>> sorting;
+        synchronized (sortings) {
+            sorting = sortings.get(key);
+        }
+        if (sorting == null) {
+            sorting = Optional.ofNullable(VisualizationConverter.getSorting(visualizationObject));
+            synchronized (sortings) {
+                sortings.put(key, sorting);
+            }
+        }
+        // the result spec may be modified, so it gets its own copy
+        return sorting.map(ArrayList::new).orElse(null);
+    }
+
+    private static <K, V> Map<K, V> lruMap(final int maxSize) {
+        return new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return GoodDataToStringBuilder.defaultToString(this, "visualizationClasses", "sortings");
+    }
+
+    private static final class PropertiesKey {
+        private final String uri;
+        private final Instant updated;
+
+        private PropertiesKey(final String uri, final Instant updated) {
+            this.uri = uri;
+            this.updated = updated;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final PropertiesKey that = (PropertiesKey) o;
+            return uri.equals(that.uri) && updated.equals(that.updated);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(uri, updated);
+        }
+    }
+}
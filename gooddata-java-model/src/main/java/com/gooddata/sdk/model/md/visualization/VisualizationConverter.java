@@ -5,8 +5,10 @@
  */
 package com.gooddata.sdk.model.md.visualization;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gooddata.sdk.model.executeafm.Execution;
 import com.gooddata.sdk.model.executeafm.afm.Afm;
@@ -215,10 +217,15 @@ public abstract class VisualizationConverter {
                                                            final VisualizationClass visualizationClass) {
         notNull(visualizationObject, "visualizationObject");
         notNull(visualizationClass, "visualizationClass");
+        return convertToResultSpecWithTotals(visualizationObject, visualizationClass, getSorting(visualizationObject));
+    }
+
+    static ResultSpec convertToResultSpecWithTotals(final VisualizationObject visualizationObject,
+                                                    final VisualizationClass visualizationClass,
+                                                    final List<SortItem> sorts) {
         isTrue(visualizationObject.getVisualizationClassUri().equals(visualizationClass.getUri()),
                 "visualizationClass URI does not match the URI within visualizationObject, "
                         + "you're trying to create ResultSpec for incompatible objects");
-        List<SortItem> sorts = getSorting(visualizationObject);
         List<Dimension> dimensions = getDimensions(visualizationObject, visualizationClass.getVisualizationType());
         return new ResultSpec(dimensions, sorts);
     }
@@ -236,11 +243,15 @@ public abstract class VisualizationConverter {
     }
 
     static List<SortItem> parseSorting(final String properties) throws Exception {
-        JsonNode jsonProperties = parseProperties(properties);
-        JsonNode nodeSortItems = jsonProperties.get("sortItems");
-        TypeReference<List<SortItem>> mapType = new TypeReference<List<SortItem>>() {
-        };
-        return MAPPER.convertValue(nodeSortItems, mapType);
+        // binds just the sort items, the rest of the properties is skipped without building the JSON tree
+        try {
+            return MAPPER.readValue(properties, SortingProperties.class).sortItems;
+        } catch (JsonMappingException e) {
+            if (e.getCause() instanceof JsonParseException) {
+                throw (JsonParseException) e.getCause();
+            }
+            throw e;
+        }
     }
 
     /**
@@ -250,7 +261,7 @@ public abstract class VisualizationConverter {
      * @param visualizationObject original {@link VisualizationObject}
      * @return a new VisualizationObject derived from the original but without any totals in the buckets.
      */
-    private static VisualizationObject removeTotals(final VisualizationObject visualizationObject) {
+    static VisualizationObject removeTotals(final VisualizationObject visualizationObject) {
         final List<Bucket> bucketsWithoutTotals = visualizationObject.getBuckets().stream()
                 // create buckets without totals
                 .map(bucket -> new Bucket(bucket.getLocalIdentifier(), bucket.getItems()))
@@ -351,10 +362,6 @@ public abstract class VisualizationConverter {
         return dimensions;
     }
 
-    private static JsonNode parseProperties(final String properties) throws Exception {
-        return MAPPER.readValue(properties, JsonNode.class);
-    }
-
     private static List<AttributeItem> convertAttributes(final List<VisualizationAttribute> attributes) {
         return attributes.stream()
                 .map(AttributeItem.class::cast)
@@ -473,4 +480,10 @@ public abstract class VisualizationConverter {
     private static boolean isNativeTotal(TotalItem totalItem) {
         return totalItem.getType() != null && Total.NAT.name().equals(totalItem.getType().toUpperCase());
     }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class SortingProperties {
+        @JsonProperty("sortItems")
+        private List<SortItem> sortItems;
+    }
 }
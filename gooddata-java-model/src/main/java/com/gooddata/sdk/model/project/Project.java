@@ -71,6 +71,14 @@ public class Project {
         meta.setProjectTemplate(uri);
     }
 
+    /**
+     * @return URI of the template the project was created from, null when created without template
+     */
+    @JsonIgnore
+    public String getProjectTemplate() {
+        return meta.getProjectTemplate();
+    }
+
     @JsonIgnore
     public String getId() {
         return UriHelper.getLastUriPart(getUri());
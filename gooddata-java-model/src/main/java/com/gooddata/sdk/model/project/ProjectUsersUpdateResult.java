@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.gooddata.sdk.common.util.GoodDataToStringBuilder;
 
 import java.util.List;
 
@@ -27,7 +28,7 @@ public class ProjectUsersUpdateResult {
     private final List<String> failed;
 
     @JsonCreator
-    private ProjectUsersUpdateResult(@JsonProperty("successful") final List<String> successful,
+    public ProjectUsersUpdateResult(@JsonProperty("successful") final List<String> successful,
                                      @JsonProperty("failed") final List<String> failed) {
         this.successful = successful;
         this.failed = failed;
@@ -48,4 +49,9 @@ public class ProjectUsersUpdateResult {
     public List<String> getFailed() {
         return failed;
     }
+
+    @Override
+    public String toString() {
+        return GoodDataToStringBuilder.defaultToString(this);
+    }
 }
@@ -95,6 +95,14 @@ public class User {
         return links;
     }
 
+    /**
+     * @return URI of the user's account
+     */
+    @JsonIgnore
+    public String getUri() {
+        return links == null ? null : links.getSelf();
+    }
+
     @Override
     public String toString() {
         return GoodDataToStringBuilder.defaultToString(this);
@@ -6,9 +6,15 @@
 package com.gooddata.sdk.model.executeafm.afm
 
 import com.gooddata.sdk.model.executeafm.IdentifierObjQualifier
+import com.gooddata.sdk.model.executeafm.LocalIdentifierQualifier
 import com.gooddata.sdk.model.executeafm.UriObjQualifier
 import com.gooddata.sdk.model.executeafm.afm.filter.CompatibilityFilter
 import com.gooddata.sdk.model.executeafm.afm.filter.ExpressionFilter
+import com.gooddata.sdk.model.executeafm.afm.filter.MeasureValueFilter
+import com.gooddata.sdk.model.executeafm.afm.filter.PositiveAttributeFilter
+import com.gooddata.sdk.model.executeafm.afm.filter.RankingFilter
+import com.gooddata.sdk.model.executeafm.afm.filter.RankingFilterOperator
+import com.gooddata.sdk.model.executeafm.afm.filter.RelativeDateFilter
 import spock.lang.Specification
 import spock.lang.Unroll
 
@@ -100,4 +106,80 @@ class AfmTest extends Specification {
         !afm.getMeasures().isEmpty()
         !afm.getNativeTotals().isEmpty()
     }
+
+    def "should get obj qualifiers"() {
+        expect:
+        fullAfm().objQualifiers as List == [qualifier('attr'), qualifier('fact'), QUALIFIER, qualifier('date'), qualifier('df'), qualifier('metric'), qualifier('rankedAttr')]
+    }
+
+    def "should copy with uri converter"() {
+        given:
+        def afm = fullAfm()
+
+        when:
+        def copy = afm.withObjUriQualifiers({ identifierQualifier ->
+            Optional.of(new UriObjQualifier("/uri/$identifierQualifier.identifier"))
+        })
+
+        then:
+        copy.objQualifiers.every { it instanceof UriObjQualifier }
+        copy.attributes[0].displayForm.uri == '/uri/attr'
+        copy.attributes[0].alias == 'alias'
+        copy.measures[0].definition.objQualifiers == [new UriObjQualifier('/uri/fact')] as Set
+        copy.measures[0].format == 'format'
+        copy.measures[1].is(afm.measures[1])
+        copy.measures[2].definition.objQualifiers == [new UriObjQualifier('/uri/date')] as Set
+        copy.filters[0].objQualifier.uri == '/uri/df'
+        copy.filters[1].objQualifier.uri == '/uri/date'
+        copy.filters[2].measure.uri == '/uri/metric'
+        copy.filters[3].is(afm.filters[3])
+        copy.filters[4].attributes == [new UriObjQualifier('/uri/rankedAttr')]
+        copy.filters[5].is(afm.filters[5])
+        copy.nativeTotals.is(afm.nativeTotals)
+        afm.attributes[0].displayForm == qualifier('attr')
+    }
+
+    def "should fail when qualifier converter cannot convert"() {
+        when:
+        fullAfm().withObjUriQualifiers({ identifierQualifier -> Optional.empty() })
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "should copy empty with uri converter"() {
+        when:
+        def copy = new Afm().withObjUriQualifiers({ identifierQualifier -> Optional.empty() })
+
+        then:
+        copy.attributes == null
+        copy.filters == null
+        copy.measures == null
+        copy.objQualifiers.isEmpty()
+    }
+
+    private static Afm fullAfm() {
+        new Afm(
+                [new AttributeItem(qualifier('attr'), 'a1', 'alias')],
+                [
+                        new PositiveAttributeFilter(qualifier('df'), 'a'),
+                        new RelativeDateFilter(qualifier('date'), 'GDC.time.year', -1, 0),
+                        new MeasureValueFilter(qualifier('metric')),
+                        new MeasureValueFilter(new LocalIdentifierQualifier('m1')),
+                        new RankingFilter([new LocalIdentifierQualifier('m1')], [qualifier('rankedAttr')], RankingFilterOperator.TOP, 3),
+                        new ExpressionFilter('some expression')
+                ],
+                [
+                        new MeasureItem(new SimpleMeasureDefinition(qualifier('fact')), 'm1', null, 'format'),
+                        new MeasureItem(new SimpleMeasureDefinition(QUALIFIER), 'm2'),
+                        new MeasureItem(new PreviousPeriodMeasureDefinition('m1', [new PreviousPeriodDateDataSet(qualifier('date'), 1)]), 'm3'),
+                        new MeasureItem(new ArithmeticMeasureDefinition(['m1', 'm2'], 'sum'), 'm4')
+                ],
+                [new NativeTotalItem('m1', ['a1'])]
+        )
+    }
+
+    private static IdentifierObjQualifier qualifier(final String identifier) {
+        new IdentifierObjQualifier(identifier)
+    }
 }
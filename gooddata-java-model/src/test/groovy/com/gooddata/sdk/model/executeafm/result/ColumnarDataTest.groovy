@@ -0,0 +1,98 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.model.executeafm.result
+
+import com.fasterxml.jackson.databind.JsonMappingException
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import static com.gooddata.sdk.common.util.ResourceUtils.OBJECT_MAPPER
+
+class ColumnarDataTest extends Specification {
+
+    def "should deserialize two dimensional data"() {
+        when:
+        ColumnarData data = OBJECT_MAPPER.readValue('[["1","2.5","-3"],["4",null,"6e2"]]', ColumnarData)
+
+        then:
+        data.dimensions == 2
+        data.rowCount == 2
+        data.columnCount == 3
+        data.getValue(0, 1) == 2.5d
+        data.getValue(1, 2) == 600d
+        data.isNull(1, 1)
+        Double.isNaN(data.getValue(1, 1))
+        !data.isNull(1, 0)
+        data.getRow(0) == [1d, 2.5d, -3d] as double[]
+        data.getColumn(0) == [1d, 4d] as double[]
+        data.toArray().length == 6
+        data.toString()
+    }
+
+    def "should deserialize one dimensional data"() {
+        when:
+        ColumnarData data = OBJECT_MAPPER.readValue('["1",null,3]', ColumnarData)
+
+        then:
+        data.dimensions == 1
+        data.rowCount == 1
+        data.columnCount == 3
+        data.getRow(0)[2] == 3d
+        data.isNull(0, 1)
+    }
+
+    @Unroll
+    def "should deserialize empty data #json"() {
+        when:
+        ColumnarData data = OBJECT_MAPPER.readValue(json, ColumnarData)
+
+        then:
+        data.dimensions == dimensions
+        data.columnCount == 0
+        data.toArray().length == 0
+
+        where:
+        json   | dimensions
+        '[]'   | 1
+        '[[]]' | 2
+    }
+
+    def "should grow over initial capacity"() {
+        given:
+        def values = (1..1000).collect { "\"$it\"" }.join(',')
+
+        when:
+        ColumnarData data = OBJECT_MAPPER.readValue("[[$values],[$values]]", ColumnarData)
+
+        then:
+        data.rowCount == 2
+        data.columnCount == 1000
+        data.getValue(1, 999) == 1000d
+    }
+
+    @Unroll
+    def "should fail on invalid data #json"() {
+        when:
+        OBJECT_MAPPER.readValue(json, ColumnarData)
+
+        then:
+        thrown(JsonMappingException)
+
+        where:
+        json << ['[["1","2"],["3"]]', '["a"]', '[{"a":1}]', '[["1"],"2"]', '"1"']
+    }
+
+    def "should throw for out of bounds position"() {
+        given:
+        ColumnarData data = OBJECT_MAPPER.readValue('[["1","2"]]', ColumnarData)
+
+        when:
+        data.getValue(1, 0)
+
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+}
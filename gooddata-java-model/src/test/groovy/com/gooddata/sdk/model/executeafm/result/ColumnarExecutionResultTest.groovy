@@ -0,0 +1,34 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.model.executeafm.result
+
+import spock.lang.Specification
+
+import static com.gooddata.sdk.common.util.ResourceUtils.readObjectFromResource
+
+class ColumnarExecutionResultTest extends Specification {
+
+    private static final String EXECUTION_RESULT_FULL_JSON = 'executeafm/result/executionResultFull.json'
+
+    def "should deserialize full"() {
+        when:
+        ColumnarExecutionResult result = readObjectFromResource("/$EXECUTION_RESULT_FULL_JSON", ColumnarExecutionResult)
+
+        then:
+        result.data.rowCount == 2
+        result.data.columnCount == 4
+        result.data.getValue(0, 0) == -12958511.8099999d
+        result.data.getValue(1, 3) == 9999d
+
+        result.paging.count == [2, 4]
+        result.headerItems[1][0][1].name == 'Salaries'
+        result.totals[1][0][0] == '38'
+        result.totalTotals[0][0][0] == '43'
+        result.warnings == [new Warning('gdc123', 'Some msg %s %s %s', ['bum', 1, null])]
+
+        result.toString()
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.model.md.visualization
+
+import com.fasterxml.jackson.databind.node.ObjectNode
+import com.gooddata.sdk.model.executeafm.Execution
+import com.gooddata.sdk.model.executeafm.resultspec.AttributeSortItem
+import spock.lang.Specification
+
+import java.util.function.Function
+
+import static com.gooddata.sdk.common.util.ResourceUtils.OBJECT_MAPPER
+import static com.gooddata.sdk.common.util.ResourceUtils.readFromResource
+import static com.gooddata.sdk.common.util.ResourceUtils.readObjectFromResource
+import static net.javacrumbs.jsonunit.JsonMatchers.jsonEquals
+import static spock.util.matcher.HamcrestSupport.that
+
+class CachingVisualizationConverterTest extends Specification {
+
+    private static final String TABLE_WITH_TOTALS = "md/visualization/complexTableWithTotals.json"
+    private static final String EXECUTION_FROM_TABLE_WITH_TOTALS = "executeafm/executionComplexTableConverted.json"
+    private static final String URI = '/gdc/md/w3hub93g7fwmvx60pkt2v8cr56530t0l/obj/1'
+
+    Function<String, VisualizationClass> getter = Mock()
+    CachingVisualizationConverter converter = new CachingVisualizationConverter(getter)
+
+    def setup() {
+        getter.apply(_) >> { String uri -> table(uri) }
+    }
+
+    def "should convert same as static converter"() {
+        given:
+        Execution expectedExecution = readObjectFromResource("/$EXECUTION_FROM_TABLE_WITH_TOTALS", Execution)
+
+        expect:
+        that converter.convertToExecutionWithTotals(stored('2020-01-01 10:00:00')), jsonEquals(expectedExecution)
+        that converter.convertToExecution(stored('2020-01-01 10:00:00')),
+                jsonEquals(VisualizationConverter.convertToExecution(stored('2020-01-01 10:00:00'), table(classUri())))
+        that converter.convertToResultSpec(unstored()),
+                jsonEquals(VisualizationConverter.convertToResultSpec(unstored(), table(classUri())))
+    }
+
+    def "should fetch visualization class once"() {
+        when:
+        3.times { converter.convertToExecution(unstored()) }
+
+        then:
+        1 * getter.apply(classUri()) >> table(classUri())
+    }
+
+    def "should fetch visualization class again when cleared"() {
+        when:
+        converter.convertToResultSpec(unstored())
+        converter.clear()
+        converter.convertToResultSpec(unstored())
+
+        then:
+        2 * getter.apply(classUri()) >> table(classUri())
+    }
+
+    def "should evict least recently used visualization class"() {
+        given:
+        def converter = new CachingVisualizationConverter(getter, 1)
+
+        when:
+        converter.getVisualizationClass('a')
+        converter.getVisualizationClass('b')
+        converter.getVisualizationClass('b')
+        converter.getVisualizationClass('a')
+
+        then:
+        2 * getter.apply('a') >> table('a')
+        1 * getter.apply('b') >> table('b')
+    }
+
+    def "should parse properties once per update"() {
+        given:
+        def first = stored('2020-01-01 10:00:00')
+        def changed = stored('2020-01-02 10:00:00')
+        changed.properties = '{"sortItems":[{"attributeSortItem":{"attributeIdentifier":"changed","direction":"desc"}}]}'
+        def firstSpec = converter.convertToResultSpec(first)
+
+        when:
+        first.properties = 'not parsed again'
+        def cachedSpec = converter.convertToResultSpec(first)
+        def changedSpec = converter.convertToResultSpec(changed)
+
+        then:
+        cachedSpec.sorts == firstSpec.sorts
+        !cachedSpec.sorts.is(firstSpec.sorts)
+        that changedSpec.sorts, jsonEquals([new AttributeSortItem('desc', 'changed')])
+    }
+
+    def "should not cache properties of unstored visualization object"() {
+        given:
+        def vo = unstored()
+        converter.convertToResultSpec(vo)
+
+        when:
+        vo.properties = '{}'
+
+        then:
+        converter.convertToResultSpec(vo).sorts == null
+    }
+
+    def "should fail on invalid arguments"() {
+        when:
+        new CachingVisualizationConverter(getter, 0)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        when:
+        converter.convertToExecution(null)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    private static VisualizationObject stored(String updated) {
+        ObjectNode json = OBJECT_MAPPER.readTree(readFromResource("/$TABLE_WITH_TOTALS")) as ObjectNode
+        json.with('visualizationObject').with('meta').put('uri', URI).put('updated', updated)
+        OBJECT_MAPPER.treeToValue(json, VisualizationObject)
+    }
+
+    private static VisualizationObject unstored() {
+        readObjectFromResource("/$TABLE_WITH_TOTALS", VisualizationObject)
+    }
+
+    private static String classUri() {
+        unstored().visualizationClassUri
+    }
+
+    private VisualizationClass table(String uri) {
+        Stub(VisualizationClass) {
+            getVisualizationType() >> VisualizationType.TABLE
+            getUri() >> uri
+        }
+    }
+}
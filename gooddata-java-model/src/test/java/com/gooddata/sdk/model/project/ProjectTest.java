@@ -15,6 +15,7 @@ import static java.time.ZoneOffset.UTC;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.StringContains.containsString;
 import static org.hamcrest.core.StringStartsWith.startsWith;
@@ -91,6 +92,17 @@ public class ProjectTest {
         assertThat(serializedProject, not(containsString("\"links\"")));
     }
 
+    @Test
+    public void testDeserializeProjectTemplate() throws Exception {
+        final Project project = new Project("TITLE", "SUMMARY", "TOKEN");
+        project.setProjectTemplate("/projectTemplates/SCHEMAS_TEMPLATE");
+
+        final Project deserialized = OBJECT_MAPPER.readValue(OBJECT_MAPPER.writeValueAsString(project), Project.class);
+        assertThat(deserialized.getProjectTemplate(), is("/projectTemplates/SCHEMAS_TEMPLATE"));
+        assertThat(readObjectFromResource("/project/project.json", Project.class).getProjectTemplate(),
+                is(nullValue()));
+    }
+
     @Test
     public void testDeserializeVerticaProject() throws Exception {
         final Project project = readObjectFromResource("/project/project-vertica.json", Project.class);
@@ -13,6 +13,7 @@ import static com.gooddata.sdk.common.util.ResourceUtils.readObjectFromResource;
 import static java.util.Collections.emptyList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.text.MatchesPattern.matchesPattern;
 
 public class ProjectUsersUpdateResultTest {
 
@@ -24,4 +25,12 @@ public class ProjectUsersUpdateResultTest {
         assertThat(project.getSuccessful(), is(Arrays.asList("/gdc/account/profile/1")));
     }
 
+    @Test
+    public void testToStringFormat() {
+        final ProjectUsersUpdateResult result = new ProjectUsersUpdateResult(
+                Arrays.asList("/gdc/account/profile/1"), Arrays.asList("/gdc/account/profile/2"));
+
+        assertThat(result.toString(), matchesPattern(ProjectUsersUpdateResult.class.getSimpleName() + "\\[.*\\]"));
+    }
+
 }
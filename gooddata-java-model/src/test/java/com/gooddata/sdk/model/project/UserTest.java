@@ -28,6 +28,7 @@ public class UserTest {
         assertThat(user.getStatus(), is("ENABLED"));
         assertThat(user.getLastName(), is("ads-testing"));
         assertThat(user.getLogin(), is("ateam+ads-testing@gooddata.com"));
+        assertThat(user.getUri(), is("/gdc/account/profile/USER_ID"));
     }
 
     @Test
@@ -22,11 +22,13 @@ import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpEntityContainer;
 import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.StreamingHttpOutputMessage;
 import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpResponse;
@@ -36,28 +38,49 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Spring {@link ClientHttpRequestFactory} backed by Apache HttpClient 5 Classic API.
+ * <p>
+ * Requests implement {@link StreamingHttpOutputMessage}. By default the request body is buffered in memory before
+ * it is sent. When the buffering is switched off by {@link #setBufferRequestBody(boolean)}, bodies written by message
+ * converters are streamed directly to the connection using chunked transfer encoding, so the memory used by a request
+ * doesn't depend on the size of its body.
  */
 public class HttpClient5ComponentsClientHttpRequestFactory implements ClientHttpRequestFactory {
 
     private static final Logger logger = LoggerFactory.getLogger(HttpClient5ComponentsClientHttpRequestFactory.class);
 
     private final HttpClient httpClient;
+    private boolean bufferRequestBody = true;
 
     public HttpClient5ComponentsClientHttpRequestFactory(final HttpClient httpClient) {
         Assert.notNull(httpClient, "HttpClient must not be null");
         this.httpClient = httpClient;
     }
 
+    /**
+     * Indicates whether this request factory should buffer the request body in memory. Default is {@code true}.
+     * <p>
+     * When set to {@code false}, the body set by {@link StreamingHttpOutputMessage#setBody} is written directly
+     * to the connection with chunked transfer encoding. The body may be written more than once when the request
+     * is re-sent by the HTTP client (e.g. after token refresh), so it should be repeatable.
+     * Bodies written to {@link ClientHttpRequest#getBody()} are always buffered.
+     *
+     * @param bufferRequestBody whether to buffer the request body
+     */
+    public void setBufferRequestBody(final boolean bufferRequestBody) {
+        this.bufferRequestBody = bufferRequestBody;
+    }
+
     @Override
     public ClientHttpRequest createRequest(final URI uri, final HttpMethod httpMethod) throws IOException {
         final ClassicHttpRequest httpRequest = createHttpRequest(httpMethod, uri);
-        return new HttpClient5ComponentsClientHttpRequest(httpClient, httpRequest);
+        return new HttpClient5ComponentsClientHttpRequest(httpClient, httpRequest, bufferRequestBody);
     }
 
     private ClassicHttpRequest createHttpRequest(final HttpMethod httpMethod, final URI uri) {
@@ -85,17 +108,22 @@ public class HttpClient5ComponentsClientHttpRequestFactory implements ClientHttp
     /**
      * {@link ClientHttpRequest} implementation using Apache HttpClient 5 Classic API.
      */
-    private static class HttpClient5ComponentsClientHttpRequest implements ClientHttpRequest {
+    private static class HttpClient5ComponentsClientHttpRequest
+            implements ClientHttpRequest, StreamingHttpOutputMessage {
 
         private final HttpClient httpClient;
         private final ClassicHttpRequest httpRequest;
         private final HttpHeaders headers;
+        private final boolean bufferRequestBody;
         private final ByteArrayOutputStream bufferedOutput = new ByteArrayOutputStream(1024);
+        private Body streamingBody;
 
-        HttpClient5ComponentsClientHttpRequest(final HttpClient httpClient, final ClassicHttpRequest httpRequest) {
+        HttpClient5ComponentsClientHttpRequest(final HttpClient httpClient, final ClassicHttpRequest httpRequest,
+                                               final boolean bufferRequestBody) {
             this.httpClient = httpClient;
             this.httpRequest = httpRequest;
             this.headers = new HttpHeaders();
+            this.bufferRequestBody = bufferRequestBody;
         }
 
         @Override
@@ -128,22 +156,35 @@ public class HttpClient5ComponentsClientHttpRequestFactory implements ClientHttp
         }
 
         @Override
-        public ClientHttpResponse execute() throws IOException {
-            final byte[] bytes = bufferedOutput.toByteArray();
-            if (bytes.length > 0 && httpRequest instanceof HttpEntityContainer) {
-                // Determine content type from Spring headers first, then fallback to default
-                ContentType contentType = ContentType.APPLICATION_JSON;
-                final String contentTypeHeader = headers.getFirst(org.springframework.http.HttpHeaders.CONTENT_TYPE);
-                if (contentTypeHeader != null) {
-                    try {
-                        contentType = ContentType.parse(contentTypeHeader);
-                    } catch (Exception e) {
-                        logger.warn("Failed to parse Content-Type header '{}', using default", contentTypeHeader, e);
-                    }
+        public void setBody(final Body body) {
+            Assert.notNull(body, "Body must not be null");
+            if (bufferRequestBody) {
+                try {
+                    body.writeTo(bufferedOutput);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Unable to buffer request body", e);
                 }
+            } else {
+                this.streamingBody = body;
+            }
+        }
 
-                final ByteArrayEntity requestEntity = new ByteArrayEntity(bytes, contentType);
-                ((HttpEntityContainer) httpRequest).setEntity(requestEntity);
+        @Override
+        public ClientHttpResponse execute() throws IOException {
+            if (httpRequest instanceof HttpEntityContainer) {
+                final HttpEntity requestEntity;
+                if (streamingBody != null) {
+                    final Body body = streamingBody;
+                    // unknown length makes HttpClient use chunked transfer encoding
+                    requestEntity = new EntityTemplate(-1, getContentType(), null, body::writeTo);
+                } else if (bufferedOutput.size() > 0) {
+                    requestEntity = new ByteArrayEntity(bufferedOutput.toByteArray(), getContentType());
+                } else {
+                    requestEntity = null;
+                }
+                if (requestEntity != null) {
+                    ((HttpEntityContainer) httpRequest).setEntity(requestEntity);
+                }
             }
 
             // Add headers after setting entity to avoid conflicts
@@ -153,6 +194,21 @@ public class HttpClient5ComponentsClientHttpRequestFactory implements ClientHttp
             return new HttpClient5ComponentsClientHttpResponse(httpResponse);
         }
 
+        /**
+         * Determine content type from Spring headers first, then fallback to default
+         */
+        private ContentType getContentType() {
+            final String contentTypeHeader = headers.getFirst(HttpHeaders.CONTENT_TYPE);
+            if (contentTypeHeader != null) {
+                try {
+                    return ContentType.parse(contentTypeHeader);
+                } catch (Exception e) {
+                    logger.warn("Failed to parse Content-Type header '{}', using default", contentTypeHeader, e);
+                }
+            }
+            return ContentType.APPLICATION_JSON;
+        }
+
         /**
          * Execute the request while keeping the response stream open for callers (e.g. RestTemplate)
          * to consume. Avoids using response handlers which auto-close streams.
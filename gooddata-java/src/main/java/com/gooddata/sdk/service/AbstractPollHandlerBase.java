@@ -24,6 +24,7 @@ public abstract class AbstractPollHandlerBase<P, R> implements PollHandler<P, R>
     protected final Class<R> resultClass;
     private boolean done = false;
     private R result;
+    private PollType pollType;
 
     protected AbstractPollHandlerBase(Class<P> pollClass, Class<R> resultClass) {
         this.pollClass = notNull(pollClass, "pollClass");
@@ -47,6 +48,22 @@ public abstract class AbstractPollHandlerBase<P, R> implements PollHandler<P, R>
         return this;
     }
 
+    @Override
+    public final PollType getPollType() {
+        return pollType;
+    }
+
+    /**
+     * Set kind of the polled task.
+     *
+     * @param pollType poll type
+     * @return this handler
+     */
+    public final AbstractPollHandlerBase<P, R> withPollType(final PollType pollType) {
+        this.pollType = pollType;
+        return this;
+    }
+
     @Override
     public final boolean isDone() {
         return done;
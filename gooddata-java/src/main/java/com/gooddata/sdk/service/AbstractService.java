@@ -8,6 +8,10 @@ package com.gooddata.sdk.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gooddata.sdk.common.GoodDataException;
 import com.gooddata.sdk.common.GoodDataRestException;
+import com.gooddata.sdk.common.collections.CustomPageRequest;
+import com.gooddata.sdk.common.collections.Page;
+import com.gooddata.sdk.common.collections.PageBrowser;
+import com.gooddata.sdk.common.collections.PageRequest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -22,7 +26,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import static com.gooddata.sdk.common.util.Validate.notNull;
 import static java.lang.String.format;
@@ -35,7 +45,12 @@ public abstract class AbstractService {
 
     protected final RestTemplate restTemplate;
     protected final ObjectMapper mapper = new ObjectMapper();
+    private final GoodDataCodec codec;
     private final GoodDataSettings settings;
+    private final PollScheduler pollScheduler;
+    private final Executor requestExecutor;
+    private final AsyncRestOperations asyncRestOperations;
+    private final GoodDataMetrics metrics;
     private final ResponseExtractor<ClientHttpResponse> reusableResponseExtractor = ReusableClientHttpResponse::new;
 
     /**
@@ -48,21 +63,104 @@ public abstract class AbstractService {
     public AbstractService(final RestTemplate restTemplate, final GoodDataSettings settings) {
         this.restTemplate = notNull(restTemplate, "restTemplate");
         this.settings = notNull(settings, "settings");
+        final GoodDataCodec installedCodec = GoodDataCodec.of(restTemplate);
+        this.codec = installedCodec != null ? installedCodec : new GoodDataCodec(settings);
+        this.pollScheduler = settings.getPollScheduler() != null
+                ? new PollScheduler(settings.getPollScheduler())
+                : PollScheduler.shared();
+        this.requestExecutor = settings.getRequestExecutor() != null
+                ? settings.getRequestExecutor()
+                : SharedRequestExecutorHolder.INSTANCE;
+        this.asyncRestOperations = restTemplate instanceof AsyncRestOperations
+                ? (AsyncRestOperations) restTemplate
+                : new BlockingAsyncRestOperations(restTemplate, requestExecutor);
+        this.metrics = settings.getMetrics();
+    }
+
+    /**
+     * JSON codec shared with the REST template (when installed by {@link GoodDataServices}), providing cached
+     * readers and writers of the model types. Unlike the {@link #mapper} of this service, it's configured the same
+     * way as the REST template, see {@link GoodDataCodec}.
+     *
+     * @return JSON codec
+     */
+    protected final GoodDataCodec getCodec() {
+        return codec;
+    }
+
+    /**
+     * Executor to run independent blocking API requests concurrently on, see
+     * {@link GoodDataSettings#setRequestExecutor(ExecutorService)}.
+     *
+     * @return request executor
+     */
+    protected final Executor getRequestExecutor() {
+        return requestExecutor;
+    }
+
+    /**
+     * Asynchronous view of the REST template. It's the template itself, when it provides asynchronous transport
+     * (see {@link com.gooddata.sdk.service.httpcomponents.AsyncGoodDataRestProvider}), otherwise the blocking calls
+     * are executed on the {@link #getRequestExecutor() request executor}.
+     *
+     * @return asynchronous REST operations
+     */
+    protected final AsyncRestOperations getAsyncRestOperations() {
+        return asyncRestOperations;
+    }
+
+    /**
+     * Creates browser of the paged listing starting with the first page, prefetching the pages when configured by
+     * {@link ParallelismSettings#getPagePrefetch()}.
+     *
+     * @param pageProvider provider of the pages
+     * @param <T>          type of the listed items
+     * @return page browser
+     */
+    protected final <T> PageBrowser<T> createPageBrowser(final Function<PageRequest, Page<T>> pageProvider) {
+        return createPageBrowser(new CustomPageRequest(), pageProvider);
+    }
+
+    /**
+     * Creates browser of the paged listing, prefetching the pages when configured by
+     * {@link ParallelismSettings#getPagePrefetch()}.
+     *
+     * @param startPage    page to be retrieved first
+     * @param pageProvider provider of the pages
+     * @param <T>          type of the listed items
+     * @return page browser
+     */
+    protected final <T> PageBrowser<T> createPageBrowser(final PageRequest startPage,
+                                                         final Function<PageRequest, Page<T>> pageProvider) {
+        final int pagePrefetch = settings.getParallelismSettings().getPagePrefetch();
+        return pagePrefetch > 0
+                ? new PrefetchingPageBrowser<>(startPage, pageProvider, requestExecutor, pagePrefetch)
+                : new PageBrowser<>(startPage, pageProvider);
+    }
+
+    /**
+     * Unwraps the cause of exception thrown by a {@link CompletableFuture} stage.
+     *
+     * @param e exception passed to the stage
+     * @return the cause of {@link CompletionException} or the exception itself
+     */
+    protected static Throwable unwrapCompletionException(final Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
     }
 
     final <R> R poll(final PollHandler<?, R> handler, long timeout, final TimeUnit unit) {
         notNull(handler, "handler");
-        final long start = System.currentTimeMillis();
+        final PollState state = new PollState();
         while (true) {
-            if (pollOnce(handler)) {
+            if (pollOnce(handler, state)) {
                 return handler.getResult();
             }
-            if (unit != null && start + unit.toMillis(timeout) < System.currentTimeMillis()) {
+            if (unit != null && unit.toMillis(timeout) < state.getElapsed()) {
                 throw new GoodDataException("timeout");
             }
 
             try {
-                Thread.sleep(settings.getPollSleep());
+                Thread.sleep(nextPollInterval(handler, state));
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new GoodDataException("interrupted");
@@ -70,17 +168,105 @@ public abstract class AbstractService {
         }
     }
 
+    /**
+     * Polls given handler asynchronously on the poll scheduler, without blocking the calling thread.
+     *
+     * @param handler poll handler
+     * @param timeout timeout value
+     * @param unit    timeout unit, {@code null} for no timeout
+     * @param <R>     result type
+     * @return future completed by the result, or exceptionally by {@link GoodDataException}
+     */
+    final <R> CompletableFuture<R> pollAsync(final PollHandler<?, R> handler, long timeout, final TimeUnit unit) {
+        return pollScheduler.schedule(this, handler, timeout, unit);
+    }
+
+    /**
+     * Compute delay before the next poll request using strategy of the handler, the one configured in settings or
+     * the fixed poll sleep (in this order).
+     */
+    final long nextPollInterval(final PollHandler<?, ?> handler, final PollState state) {
+        final PollIntervalStrategy strategy = handler.getPollIntervalStrategy() != null
+                ? handler.getPollIntervalStrategy()
+                : settings.getPollIntervalStrategy();
+        if (strategy == null) {
+            return settings.getPollSleep();
+        }
+        return Math.max(0, strategy.nextPollInterval(handler, state.getAttempts(), state.getElapsed(),
+                state.getRetryAfter()));
+    }
+
     final <P> boolean pollOnce(final PollHandler<P, ?> handler) {
+        return pollOnce(handler, new PollState());
+    }
+
+    final <P> boolean pollOnce(final PollHandler<P, ?> handler, final PollState state) {
         notNull(handler, "handler");
+        notNull(state, "state");
         final ClientHttpResponse response;
         try {
             response = restTemplate.execute(handler.getPolling(), GET, null, reusableResponseExtractor);
         } catch (GoodDataRestException e) {
-            handler.handlePollException(e);
-            throw new GoodDataException("Handler " + handler.getClass().getName() + " didn't handle exception", e);
+            throw handlePollException(handler, state, e);
+        }
+        return handlePollResponse(handler, state, response);
+    }
+
+    /**
+     * Asynchronous variant of {@link #pollOnce(PollHandler, PollState)}. The poll request doesn't block the calling
+     * thread only when the REST template provides asynchronous transport, otherwise the poll is done synchronously.
+     *
+     * @return future completed by true when the polling is done
+     */
+    final <P> CompletableFuture<Boolean> pollOnceAsync(final PollHandler<P, ?> handler, final PollState state) {
+        notNull(handler, "handler");
+        notNull(state, "state");
+        if (!(restTemplate instanceof AsyncRestOperations)) {
+            final CompletableFuture<Boolean> result = new CompletableFuture<>();
+            try {
+                result.complete(pollOnce(handler, state));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+            return result;
         }
+        return asyncRestOperations.executeAsync(handler.getPolling(), GET, null, reusableResponseExtractor)
+                .handle((response, failure) -> {
+                    if (failure == null) {
+                        return handlePollResponse(handler, state, response);
+                    }
+                    final Throwable cause = unwrapCompletionException(failure);
+                    if (cause instanceof GoodDataRestException) {
+                        throw handlePollException(handler, state, (GoodDataRestException) cause);
+                    }
+                    throw cause instanceof RuntimeException
+                            ? (RuntimeException) cause
+                            : new GoodDataException("Unable to poll " + handler.getPolling(), cause);
+                });
+    }
 
+    private GoodDataException handlePollException(final PollHandler<?, ?> handler, final PollState state,
+                                                  final GoodDataRestException e) {
+        state.recordAttempt(null);
+        if (metrics != null) {
+            metrics.pollAttempted(handler.getPolling().toString(), e.getStatusCode(), state.getAttempts());
+            metrics.pollFinished(handler.getPolling().toString(), state.getAttempts(), state.getElapsed());
+        }
+        handler.handlePollException(e);
+        return new GoodDataException("Handler " + handler.getClass().getName() + " didn't handle exception", e);
+    }
+
+    private <P> boolean handlePollResponse(final PollHandler<P, ?> handler, final PollState state,
+                                           final ClientHttpResponse response) {
+        state.recordAttempt(parseRetryAfter(response.getHeaders()));
+
+        // failed polling is finished as well
+        boolean done = true;
         try {
+            if (metrics != null) {
+                metrics.pollAttempted(handler.getPolling().toString(), response.getStatusCode().value(),
+                        state.getAttempts());
+            }
             if (handler.isFinished(response)) {
                 final P data = extractData(response, handler.getPollClass());
                 handler.handlePollResult(data);
@@ -89,10 +275,36 @@ public abstract class AbstractService {
                         format("Polling returned client error HTTP status %s", response.getStatusCode().value())
                 );
             }
+            done = handler.isDone();
         } catch (IOException e) {
             throw new GoodDataException("I/O error occurred during HTTP response extraction", e);
+        } finally {
+            if (metrics != null && done) {
+                metrics.pollFinished(handler.getPolling().toString(), state.getAttempts(), state.getElapsed());
+            }
+        }
+        return done;
+    }
+
+    /**
+     * Parse {@code Retry-After} header given either as delay in seconds or HTTP date.
+     *
+     * @return delay in milliseconds or null when not present or invalid
+     */
+    private static Long parseRetryAfter(final HttpHeaders headers) {
+        final String value = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                return Math.max(0, headers.getFirstDate(HttpHeaders.RETRY_AFTER) - System.currentTimeMillis());
+            } catch (IllegalArgumentException ignored) {
+                return null;
+            }
         }
-        return handler.isDone();
     }
 
     protected final <T> T extractData(ClientHttpResponse response, Class<T> cls) throws IOException {
@@ -173,4 +385,8 @@ public abstract class AbstractService {
         }
     }
 
+    private static final class SharedRequestExecutorHolder {
+        private static final ExecutorService INSTANCE =
+                Executors.newCachedThreadPool(new DaemonThreadFactory("gooddata-request-"));
+    }
 }
@@ -0,0 +1,229 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service;
+
+import com.gooddata.sdk.common.util.GoodDataToStringBuilder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.gooddata.sdk.common.util.Validate.isTrue;
+import static com.gooddata.sdk.common.util.Validate.notNull;
+
+/**
+ * Limits the number of concurrent requests of every {@link ApiFamily} using the AIMD (additive increase,
+ * multiplicative decrease) algorithm, so the throughput settles at the highest concurrency the backend tolerates:
+ * <ul>
+ * <li>successful request increases the limit by one, as long as at least half of the limit was in use when
+ * the request started</li>
+ * <li>overloaded request (see {@link Permit#overloaded()}) and request with latency exceeding
+ * {@link ConcurrencyLimitSettings#getLatencyTolerance() tolerance} multiple of the average latency decrease the limit
+ * by {@link ConcurrencyLimitSettings#getBackoffRatio() backoff ratio}</li>
+ * </ul>
+ * Requests over the limit wait for a running request of their family to finish.
+ * <p>
+ * Installed to the http client when {@link GoodDataSettings#setConcurrencyLimitSettings(ConcurrencyLimitSettings)}
+ * is set. Changes of the limits are reported to {@link GoodDataSettings#getMetrics()}.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    /**
+     * Smoothing factor of the average latency.
+     */
+    private static final double LATENCY_SMOOTHING = 0.05;
+
+    /**
+     * Number of successful requests needed before the latency is compared to the average.
+     */
+    private static final int LATENCY_WARMUP = 10;
+
+    private final ConcurrencyLimitSettings settings;
+    private final GoodDataMetrics metrics;
+    private final Map<ApiFamily, FamilyLimit> limits = new EnumMap<>(ApiFamily.class);
+
+    /**
+     * @param settings limit settings
+     */
+    public AdaptiveConcurrencyLimiter(final ConcurrencyLimitSettings settings) {
+        this(settings, null);
+    }
+
+    /**
+     * @param settings limit settings
+     * @param metrics  metrics to report the limit changes to, may be null
+     */
+    public AdaptiveConcurrencyLimiter(final ConcurrencyLimitSettings settings, final GoodDataMetrics metrics) {
+        this.settings = notNull(settings, "settings");
+        isTrue(settings.getMinLimit() <= settings.getInitialLimit()
+                        && settings.getInitialLimit() <= settings.getMaxLimit(),
+                "initialLimit has to be between minLimit and maxLimit");
+        this.metrics = metrics;
+        for (ApiFamily family : ApiFamily.values()) {
+            limits.put(family, new FamilyLimit(family, settings.getInitialLimit()));
+        }
+    }
+
+    /**
+     * Waits until the family is under its limit and occupies one of its permits. The permit must be released
+     * by one of its methods once the response is received.
+     *
+     * @param family family of the requested resource
+     * @return permit
+     * @throws InterruptedException when interrupted while waiting
+     * @throws TimeoutException     when the family isn't under the limit within
+     *                              {@link ConcurrencyLimitSettings#getMaxWait() max wait}
+     */
+    public Permit acquire(final ApiFamily family) throws InterruptedException, TimeoutException {
+        return limits.get(notNull(family, "family")).acquire();
+    }
+
+    /**
+     * @param family API family
+     * @return current limit of concurrent requests of the family
+     */
+    public int getLimit(final ApiFamily family) {
+        final FamilyLimit limit = limits.get(notNull(family, "family"));
+        synchronized (limit) {
+            return limit.current();
+        }
+    }
+
+    /**
+     * @param family API family
+     * @return number of requests of the family in progress
+     */
+    public int getInFlight(final ApiFamily family) {
+        final FamilyLimit limit = limits.get(notNull(family, "family"));
+        synchronized (limit) {
+            return limit.inFlight;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return GoodDataToStringBuilder.defaultToString(this, "limits", "metrics");
+    }
+
+    /**
+     * Permit to perform single request, released by the outcome of the request.
+     */
+    public final class Permit {
+
+        private final FamilyLimit limit;
+        private final boolean utilized;
+        private boolean released;
+
+        private Permit(final FamilyLimit limit, final boolean utilized) {
+            this.limit = limit;
+            this.utilized = utilized;
+        }
+
+        /**
+         * Releases the permit of successful request, increasing the limit or decreasing it when the latency
+         * is too high.
+         *
+         * @param latencyNanos latency of the request, in nanoseconds
+         */
+        public void success(final long latencyNanos) {
+            limit.release(this, latencyNanos, true, false);
+        }
+
+        /**
+         * Releases the permit of successful request whose latency isn't comparable to the usual requests of its
+         * family (e.g. poll of a task still in progress), increasing the limit. The latency isn't included
+         * in the average latency.
+         */
+        public void success() {
+            limit.release(this, -1, true, false);
+        }
+
+        /**
+         * Releases the permit of request refused or timed out due to the backend overload, decreasing the limit.
+         */
+        public void overloaded() {
+            limit.release(this, -1, false, true);
+        }
+
+        /**
+         * Releases the permit of request whose outcome says nothing about the backend load (e.g. connection
+         * failure), keeping the limit.
+         */
+        public void ignore() {
+            limit.release(this, -1, false, false);
+        }
+    }
+
+    private final class FamilyLimit {
+
+        private final ApiFamily family;
+        private double limit;
+        private int inFlight;
+        private double averageLatency;
+        private int latencySamples;
+
+        private FamilyLimit(final ApiFamily family, final int limit) {
+            this.family = family;
+            this.limit = limit;
+        }
+
+        private int current() {
+            return (int) limit;
+        }
+
+        private synchronized Permit acquire() throws InterruptedException, TimeoutException {
+            final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(settings.getMaxWait());
+            while (inFlight >= current()) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new TimeoutException("Limit of " + current() + " concurrent " + family
+                            + " requests not satisfied within " + settings.getMaxWait() + "ms");
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            inFlight++;
+            return new Permit(this, inFlight * 2 >= current());
+        }
+
+        private void release(final Permit permit, final long latencyNanos, final boolean succeeded,
+                             final boolean overloaded) {
+            final int before;
+            final int after;
+            synchronized (this) {
+                if (permit.released) {
+                    return;
+                }
+                permit.released = true;
+                inFlight--;
+                before = current();
+                if (overloaded || isLatencySpike(latencyNanos)) {
+                    limit = Math.max(settings.getMinLimit(), limit * settings.getBackoffRatio());
+                } else if (succeeded && permit.utilized) {
+                    limit = Math.min(settings.getMaxLimit(), limit + 1);
+                }
+                after = current();
+                notifyAll();
+            }
+            if (metrics != null && before != after) {
+                metrics.concurrencyLimitChanged(family.name(), after);
+            }
+        }
+
+        private boolean isLatencySpike(final long latencyNanos) {
+            if (latencyNanos < 0) {
+                return false;
+            }
+            final boolean spike = latencySamples >= LATENCY_WARMUP
+                    && latencyNanos > averageLatency * settings.getLatencyTolerance();
+            averageLatency = latencySamples == 0
+                    ? latencyNanos
+                    : averageLatency + LATENCY_SMOOTHING * (latencyNanos - averageLatency);
+            latencySamples++;
+            return spike;
+        }
+    }
+}
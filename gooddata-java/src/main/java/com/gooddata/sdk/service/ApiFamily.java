@@ -0,0 +1,60 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service;
+
+/**
+ * Family of API resources sharing the backend capacity, and so the concurrency limit
+ * (see {@link AdaptiveConcurrencyLimiter}).
+ */
+public enum ApiFamily {
+
+    /**
+     * Metadata resources (<code>/gdc/md/...</code>).
+     */
+    MD,
+
+    /**
+     * AFM executions and their results (<code>.../executeAfm</code>, <code>.../executeVisualization</code>,
+     * <code>.../executionResults/...</code>).
+     */
+    EXECUTE_AFM,
+
+    /**
+     * Exports (<code>/gdc/exporter/...</code> and raw exports <code>.../execute/raw</code>).
+     */
+    EXPORTER,
+
+    /**
+     * User staging (<code>/gdc/uploads/...</code>, <code>/uploads/...</code>).
+     */
+    STAGING;
+
+    /**
+     * Determines the family of the API resource.
+     *
+     * @param path path of the resource URI
+     * @return family of the resource or null when the resource belongs to no family
+     */
+    public static ApiFamily of(final String path) {
+        if (path == null) {
+            return null;
+        }
+        if (path.startsWith("/gdc/md/")) {
+            return MD;
+        }
+        if (path.startsWith("/gdc/exporter/") || path.contains("/execute/raw")) {
+            return EXPORTER;
+        }
+        if (path.contains("/executeAfm") || path.contains("/executeVisualization")
+                || path.contains("/executionResults/")) {
+            return EXECUTE_AFM;
+        }
+        if (path.startsWith("/gdc/uploads") || path.startsWith("/uploads")) {
+            return STAGING;
+        }
+        return null;
+    }
+}
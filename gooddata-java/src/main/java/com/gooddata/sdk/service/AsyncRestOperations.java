@@ -0,0 +1,90 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of the subset of {@link org.springframework.web.client.RestOperations} used by the services.
+ * <p>
+ * Returned futures are completed by the extracted response or exceptionally by the same exceptions the blocking
+ * {@link org.springframework.web.client.RestTemplate} throws (i.e. {@link com.gooddata.sdk.common.GoodDataRestException}
+ * produced by the configured error handler).
+ * <p>
+ * It is implemented by REST templates of providers with a truly asynchronous transport, such as
+ * {@link com.gooddata.sdk.service.httpcomponents.AsyncGoodDataRestProvider}. Services running on a blocking
+ * template fall back to executing the blocking calls on the request executor.
+ */
+public interface AsyncRestOperations {
+
+    /**
+     * Executes the HTTP method on the URI template, preparing the request by the callback and reading the response
+     * by the extractor.
+     *
+     * @param uri               URI template
+     * @param method            HTTP method
+     * @param requestCallback   object preparing the request, may be null
+     * @param responseExtractor object extracting the response, may be null
+     * @param uriVariables      variables to expand the template with
+     * @param <T>               result type
+     * @return future completed by the result of the extractor
+     */
+    <T> CompletableFuture<T> executeAsync(String uri, HttpMethod method, RequestCallback requestCallback,
+                                          ResponseExtractor<T> responseExtractor, Object... uriVariables);
+
+    /**
+     * Executes the HTTP method on the URI, preparing the request by the callback and reading the response
+     * by the extractor.
+     *
+     * @param uri               URI
+     * @param method            HTTP method
+     * @param requestCallback   object preparing the request, may be null
+     * @param responseExtractor object extracting the response, may be null
+     * @param <T>               result type
+     * @return future completed by the result of the extractor
+     */
+    <T> CompletableFuture<T> executeAsync(URI uri, HttpMethod method, RequestCallback requestCallback,
+                                          ResponseExtractor<T> responseExtractor);
+
+    /**
+     * Retrieves representation by GET on the URI template.
+     *
+     * @param uri          URI template
+     * @param responseType type of the representation
+     * @param uriVariables variables to expand the template with
+     * @param <T>          result type
+     * @return future completed by the converted representation
+     */
+    <T> CompletableFuture<T> getForObjectAsync(String uri, Class<T> responseType, Object... uriVariables);
+
+    /**
+     * Retrieves representation by GET on the URI.
+     *
+     * @param uri          URI
+     * @param responseType type of the representation
+     * @param <T>          result type
+     * @return future completed by the converted representation
+     */
+    <T> CompletableFuture<T> getForObjectAsync(URI uri, Class<T> responseType);
+
+    /**
+     * Creates new resource by POSTing the given object to the URI template.
+     *
+     * @param uri          URI template
+     * @param request      object to be POSTed, may be null
+     * @param responseType type of the response representation
+     * @param uriVariables variables to expand the template with
+     * @param <T>          result type
+     * @return future completed by the converted response representation
+     */
+    <T> CompletableFuture<T> postForObjectAsync(String uri, Object request, Class<T> responseType,
+                                                Object... uriVariables);
+}
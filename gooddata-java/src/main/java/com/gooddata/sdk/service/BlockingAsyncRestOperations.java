@@ -0,0 +1,70 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static com.gooddata.sdk.common.util.Validate.notNull;
+
+/**
+ * {@link AsyncRestOperations} executing the blocking {@link RestTemplate} calls on an executor. Used for the templates
+ * without asynchronous transport.
+ * <p>
+ * For internal use by {@link AbstractService}.
+ */
+final class BlockingAsyncRestOperations implements AsyncRestOperations {
+
+    private final RestTemplate restTemplate;
+    private final Executor executor;
+
+    BlockingAsyncRestOperations(final RestTemplate restTemplate, final Executor executor) {
+        this.restTemplate = notNull(restTemplate, "restTemplate");
+        this.executor = notNull(executor, "executor");
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeAsync(final String uri, final HttpMethod method,
+                                                 final RequestCallback requestCallback,
+                                                 final ResponseExtractor<T> responseExtractor,
+                                                 final Object... uriVariables) {
+        return CompletableFuture.supplyAsync(
+                () -> restTemplate.execute(uri, method, requestCallback, responseExtractor, uriVariables), executor);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeAsync(final URI uri, final HttpMethod method,
+                                                 final RequestCallback requestCallback,
+                                                 final ResponseExtractor<T> responseExtractor) {
+        return CompletableFuture.supplyAsync(
+                () -> restTemplate.execute(uri, method, requestCallback, responseExtractor), executor);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> getForObjectAsync(final String uri, final Class<T> responseType,
+                                                      final Object... uriVariables) {
+        return CompletableFuture.supplyAsync(
+                () -> restTemplate.getForObject(uri, responseType, uriVariables), executor);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> getForObjectAsync(final URI uri, final Class<T> responseType) {
+        return CompletableFuture.supplyAsync(() -> restTemplate.getForObject(uri, responseType), executor);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> postForObjectAsync(final String uri, final Object request,
+                                                       final Class<T> responseType, final Object... uriVariables) {
+        return CompletableFuture.supplyAsync(
+                () -> restTemplate.postForObject(uri, request, responseType, uriVariables), executor);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service;
+
+import com.gooddata.sdk.common.util.GoodDataToStringBuilder;
+
+import java.util.Objects;
+
+import static org.springframework.util.Assert.isTrue;
+
+/**
+ * Contains settings of the adaptive limit of concurrent API requests, see {@link AdaptiveConcurrencyLimiter}.
+ * The limit is disabled unless these settings are set using
+ * {@link GoodDataSettings#setConcurrencyLimitSettings(ConcurrencyLimitSettings)}.
+ * <p>
+ * Every {@link ApiFamily} has its own limit starting at {@link #getInitialLimit() initial limit}. The limit grows
+ * by one with every successful request while it's utilized and it's multiplied by {@link #getBackoffRatio() backoff
+ * ratio} when the API signals overload - by HTTP 429 or 503, by socket timeout or by latency exceeding
+ * {@link #getLatencyTolerance() latency tolerance}.
+ */
+public class ConcurrencyLimitSettings {
+
+    public static final int DEFAULT_INITIAL_LIMIT = 4;
+    public static final int DEFAULT_MIN_LIMIT = 1;
+    public static final int DEFAULT_MAX_LIMIT = 20;
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+    public static final double DEFAULT_LATENCY_TOLERANCE = 3.0;
+    public static final long DEFAULT_MAX_WAIT = 60 * 1000L; // 1min
+
+    private int initialLimit = DEFAULT_INITIAL_LIMIT;
+    private int minLimit = DEFAULT_MIN_LIMIT;
+    private int maxLimit = DEFAULT_MAX_LIMIT;
+    private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+    private double latencyTolerance = DEFAULT_LATENCY_TOLERANCE;
+    private long maxWait = DEFAULT_MAX_WAIT;
+
+    /**
+     * Number of concurrent requests of an API family allowed before any feedback is received.
+     * Has to be between {@link #getMinLimit() min limit} and {@link #getMaxLimit() max limit}.
+     *
+     * @return initial limit
+     */
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public void setInitialLimit(final int initialLimit) {
+        isTrue(initialLimit > 0, "initialLimit has to be greater than 0");
+        this.initialLimit = initialLimit;
+    }
+
+    /**
+     * Number of concurrent requests of an API family allowed even when the API signals overload.
+     *
+     * @return minimal limit
+     */
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(final int minLimit) {
+        isTrue(minLimit > 0, "minLimit has to be greater than 0");
+        this.minLimit = minLimit;
+    }
+
+    /**
+     * Maximal number of concurrent requests of an API family. There's no point in setting it higher than
+     * {@link GoodDataSettings#getMaxConnections()}.
+     *
+     * @return maximal limit
+     */
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(final int maxLimit) {
+        isTrue(maxLimit > 0, "maxLimit has to be greater than 0");
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Ratio the limit is multiplied by when the API signals overload.
+     *
+     * @return backoff ratio, between 0 and 1 (exclusive)
+     */
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    public void setBackoffRatio(final double backoffRatio) {
+        isTrue(backoffRatio > 0 && backoffRatio < 1, "backoffRatio has to be between 0 and 1");
+        this.backoffRatio = backoffRatio;
+    }
+
+    /**
+     * How many times the latency of a request may exceed the average latency of the API family before it's handled
+     * as an overload signal. Use {@link Double#POSITIVE_INFINITY} to ignore the latency.
+     *
+     * @return latency tolerance
+     */
+    public double getLatencyTolerance() {
+        return latencyTolerance;
+    }
+
+    public void setLatencyTolerance(final double latencyTolerance) {
+        isTrue(latencyTolerance > 1, "latencyTolerance has to be greater than 1");
+        this.latencyTolerance = latencyTolerance;
+    }
+
+    /**
+     * Maximal time in milliseconds a request waits for its API family being under the limit, the request fails
+     * when exceeded.
+     *
+     * @return maximal wait time
+     */
+    public long getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(final long maxWait) {
+        isTrue(maxWait > 0, "maxWait has to be greater than 0");
+        this.maxWait = maxWait;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final ConcurrencyLimitSettings that = (ConcurrencyLimitSettings) o;
+        return initialLimit == that.initialLimit &&
+                minLimit == that.minLimit &&
+                maxLimit == that.maxLimit &&
+                Double.compare(that.backoffRatio, backoffRatio) == 0 &&
+                Double.compare(that.latencyTolerance, latencyTolerance) == 0 &&
+                maxWait == that.maxWait;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(initialLimit, minLimit, maxLimit, backoffRatio, latencyTolerance, maxWait);
+    }
+
+    @Override
+    public String toString() {
+        return GoodDataToStringBuilder.defaultToString(this);
+    }
+}
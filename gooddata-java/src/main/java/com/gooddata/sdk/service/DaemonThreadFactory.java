@@ -0,0 +1,31 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.gooddata.sdk.common.util.Validate.notNull;
+
+/**
+ * Creates numbered daemon threads, so the executors shared by SDK instances don't prevent JVM from exiting.
+ */
+final class DaemonThreadFactory implements ThreadFactory {
+
+    private final String namePrefix;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    DaemonThreadFactory(final String namePrefix) {
+        this.namePrefix = notNull(namePrefix, "namePrefix");
+    }
+
+    @Override
+    public Thread newThread(final Runnable runnable) {
+        final Thread thread = new Thread(runnable, namePrefix + counter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
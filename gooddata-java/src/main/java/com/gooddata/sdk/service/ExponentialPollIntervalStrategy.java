@@ -0,0 +1,205 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.gooddata.sdk.common.util.Validate.notNull;
+import static org.springframework.util.Assert.isTrue;
+
+/**
+ * Polls with exponentially growing interval randomized by jitter. Short tasks are polled frequently at the beginning,
+ * while long running tasks cost only a logarithmic number of poll requests.
+ * <p>
+ * The interval is bounded by floor and cap, which can be overridden per kind of the polled task using
+ * {@link #withBounds(PollType, long, long)} (e.g. short floor for {@link PollType#EXECUTION_RESULT}, high cap for
+ * {@link PollType#ETL_PULL} or {@link PollType#PROJECT_EXPORT}) or per type of custom handler using
+ * {@link #withBounds(Class, long, long)}. The floor also grows with the age of the task - the task is never polled
+ * more often than after {@link #getAgeRatio() age ratio} of the time elapsed since the polling started (still within
+ * the cap), so a task which is long running already isn't polled frequently even when the server asks for it.
+ * Delay requested by the server using the {@code Retry-After} header is respected within these bounds.
+ */
+public class ExponentialPollIntervalStrategy implements PollIntervalStrategy {
+
+    public static final long DEFAULT_FLOOR = 100L;
+    public static final long DEFAULT_CAP = 30 * 1000L;
+    public static final double DEFAULT_MULTIPLIER = 1.5d;
+    public static final double DEFAULT_JITTER = 0.2d;
+    public static final double DEFAULT_AGE_RATIO = 0.1d;
+
+    private final long floor;
+    private final long cap;
+    private final double multiplier;
+    private final double jitter;
+    private final double ageRatio;
+    private final Map<PollType, Bounds> typeBounds = new EnumMap<>(PollType.class);
+    private final Map<Class<?>, Bounds> handlerBounds = new LinkedHashMap<>();
+
+    /**
+     * Creates strategy with default floor ({@value #DEFAULT_FLOOR} ms), cap ({@value #DEFAULT_CAP} ms),
+     * multiplier ({@value #DEFAULT_MULTIPLIER}), jitter ({@value #DEFAULT_JITTER}) and age ratio
+     * ({@value #DEFAULT_AGE_RATIO}).
+     */
+    public ExponentialPollIntervalStrategy() {
+        this(DEFAULT_FLOOR, DEFAULT_CAP, DEFAULT_MULTIPLIER, DEFAULT_JITTER);
+    }
+
+    /**
+     * Creates strategy with default age ratio ({@value #DEFAULT_AGE_RATIO}).
+     *
+     * @param floor      first and minimal interval in milliseconds
+     * @param cap        maximal interval in milliseconds
+     * @param multiplier interval multiplier applied after each poll request, greater or equal to 1
+     * @param jitter     relative random deviation of the interval, between 0 (no jitter) and 1
+     */
+    public ExponentialPollIntervalStrategy(final long floor, final long cap, final double multiplier,
+                                           final double jitter) {
+        this(floor, cap, multiplier, jitter, DEFAULT_AGE_RATIO);
+    }
+
+    /**
+     * Creates strategy.
+     *
+     * @param floor      first and minimal interval in milliseconds
+     * @param cap        maximal interval in milliseconds
+     * @param multiplier interval multiplier applied after each poll request, greater or equal to 1
+     * @param jitter     relative random deviation of the interval, between 0 (no jitter) and 1
+     * @param ageRatio   minimal interval relative to the time elapsed since the polling started, between 0 (interval
+     *                   independent of the task age) and 1
+     */
+    public ExponentialPollIntervalStrategy(final long floor, final long cap, final double multiplier,
+                                           final double jitter, final double ageRatio) {
+        isTrue(floor >= 0, "floor must be not negative");
+        isTrue(cap >= floor, "cap must be greater or equal to floor");
+        isTrue(multiplier >= 1.0, "multiplier must be greater or equal to 1.0");
+        isTrue(jitter >= 0.0 && jitter <= 1.0, "jitter must be between 0.0 and 1.0");
+        isTrue(ageRatio >= 0.0 && ageRatio <= 1.0, "ageRatio must be between 0.0 and 1.0");
+        this.floor = floor;
+        this.cap = cap;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+        this.ageRatio = ageRatio;
+    }
+
+    /**
+     * @return minimal interval relative to the time elapsed since the polling started
+     */
+    public double getAgeRatio() {
+        return ageRatio;
+    }
+
+    /**
+     * Override floor and cap for the tasks of given kind, see {@link PollHandler#getPollType()}.
+     * Takes precedence over the bounds set by {@link #withBounds(Class, long, long)}.
+     *
+     * @param pollType kind of the polled task
+     * @param floor    first and minimal interval in milliseconds
+     * @param cap      maximal interval in milliseconds
+     * @return this strategy
+     */
+    public ExponentialPollIntervalStrategy withBounds(final PollType pollType, final long floor, final long cap) {
+        notNull(pollType, "pollType");
+        isTrue(floor >= 0, "floor must be not negative");
+        isTrue(cap >= floor, "cap must be greater or equal to floor");
+        typeBounds.put(pollType, new Bounds(floor, cap));
+        return this;
+    }
+
+    /**
+     * Override floor and cap for handlers of given type, useful for custom handlers (the SDK handlers are matched
+     * by {@link #withBounds(PollType, long, long)}). When more types match a handler, the first registered wins.
+     *
+     * @param handlerType type of the poll handler
+     * @param floor       first and minimal interval in milliseconds
+     * @param cap         maximal interval in milliseconds
+     * @return this strategy
+     */
+    public ExponentialPollIntervalStrategy withBounds(final Class<?> handlerType, final long floor, final long cap) {
+        notNull(handlerType, "handlerType");
+        isTrue(floor >= 0, "floor must be not negative");
+        isTrue(cap >= floor, "cap must be greater or equal to floor");
+        handlerBounds.put(handlerType, new Bounds(floor, cap));
+        return this;
+    }
+
+    @Override
+    public long nextPollInterval(final PollHandler<?, ?> handler, final int attempt, final long elapsed,
+                                 final Long retryAfter) {
+        final Bounds bounds = boundsFor(handler);
+        final long interval;
+        if (retryAfter != null) {
+            interval = retryAfter;
+        } else {
+            final double base = bounds.floor * Math.pow(multiplier, Math.max(0, attempt - 1));
+            final double deviation = jitter > 0 ? ThreadLocalRandom.current().nextDouble(-jitter, jitter) : 0;
+            interval = (long) Math.min(base * (1 + deviation), Long.MAX_VALUE);
+        }
+        // long running task isn't polled more often than after the age ratio of its age
+        final long ageFloor = Math.min(bounds.cap, (long) (Math.max(0, elapsed) * ageRatio));
+        return Math.max(Math.max(bounds.floor, ageFloor), Math.min(bounds.cap, interval));
+    }
+
+    private Bounds boundsFor(final PollHandler<?, ?> handler) {
+        if (handler != null) {
+            final Bounds bounds = handler.getPollType() != null ? typeBounds.get(handler.getPollType()) : null;
+            if (bounds != null) {
+                return bounds;
+            }
+            for (Map.Entry<Class<?>, Bounds> entry : handlerBounds.entrySet()) {
+                if (entry.getKey().isInstance(handler)) {
+                    return entry.getValue();
+                }
+            }
+        }
+        return new Bounds(floor, cap);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final ExponentialPollIntervalStrategy that = (ExponentialPollIntervalStrategy) o;
+        return floor == that.floor
+                && cap == that.cap
+                && Double.compare(that.multiplier, multiplier) == 0
+                && Double.compare(that.jitter, jitter) == 0
+                && Double.compare(that.ageRatio, ageRatio) == 0
+                && Objects.equals(typeBounds, that.typeBounds)
+                && Objects.equals(handlerBounds, that.handlerBounds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(floor, cap, multiplier, jitter, ageRatio, typeBounds, handlerBounds);
+    }
+
+    private static final class Bounds {
+        private final long floor;
+        private final long cap;
+
+        private Bounds(final long floor, final long cap) {
+            this.floor = floor;
+            this.cap = cap;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final Bounds bounds = (Bounds) o;
+            return floor == bounds.floor && cap == bounds.cap;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(floor, cap);
+        }
+    }
+}
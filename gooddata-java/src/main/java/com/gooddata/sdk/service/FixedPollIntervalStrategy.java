@@ -0,0 +1,52 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service;
+
+import java.util.Objects;
+
+import static org.springframework.util.Assert.isTrue;
+
+/**
+ * Polls in a fixed interval regardless of the task or the server hints. This is the default strategy
+ * using {@link GoodDataSettings#getPollSleep()}.
+ */
+public class FixedPollIntervalStrategy implements PollIntervalStrategy {
+
+    private final long interval;
+
+    /**
+     * Creates strategy polling in given interval.
+     *
+     * @param interval interval in milliseconds
+     */
+    public FixedPollIntervalStrategy(final long interval) {
+        isTrue(interval >= 0, "interval must be not negative");
+        this.interval = interval;
+    }
+
+    public long getInterval() {
+        return interval;
+    }
+
+    @Override
+    public long nextPollInterval(final PollHandler<?, ?> handler, final int attempt, final long elapsed,
+                                 final Long retryAfter) {
+        return interval;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final FixedPollIntervalStrategy that = (FixedPollIntervalStrategy) o;
+        return interval == that.interval;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(interval);
+    }
+}
@@ -7,6 +7,7 @@ package com.gooddata.sdk.service;
 
 import com.gooddata.sdk.common.GoodDataException;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -40,6 +41,19 @@ public interface FutureResult<T> {
      */
     T get(final long timeout, final TimeUnit unit);
 
+    /**
+     * Get the result as {@link CompletableFuture} which is completed once the result is available, without blocking
+     * the calling thread. The future is completed exceptionally by {@link GoodDataException} when polling fails.
+     * <p>
+     * The default implementation blocks a thread of {@link java.util.concurrent.ForkJoinPool#commonPool()} by
+     * calling {@link #get()}, implementations backed by polling should override it.
+     *
+     * @return future of the result value
+     */
+    default CompletableFuture<T> toCompletableFuture() {
+        return CompletableFuture.supplyAsync(this::get);
+    }
+
     /**
      * Get URI used for polling
      *
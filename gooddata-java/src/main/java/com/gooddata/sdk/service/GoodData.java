@@ -160,6 +160,13 @@ public class GoodData {
         return services.getRestTemplate();
     }
 
+    /**
+     * @return JSON codec shared by the services and the underlying RestTemplate
+     */
+    protected GoodDataCodec getCodec() {
+        return services.getCodec();
+    }
+
     /**
      * Logout from GoodData Platform
      */
@@ -0,0 +1,244 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.gooddata.sdk.common.util.Validate.notNull;
+
+/**
+ * JSON codec shared by the services and the REST template of single {@link GoodData} instance. It holds one
+ * {@link ObjectMapper} and caches {@link ObjectReader} and {@link ObjectWriter} per type, so the root
+ * (de)serializers are resolved only once per type instead of on every call.
+ * <p>
+ * The mapper is configured the same way as the default JSON message converter of the REST template (by
+ * {@link Jackson2ObjectMapperBuilder}), so the responses are read as before. It differs from plain
+ * {@code new ObjectMapper()} formerly used by the services to (de)serialize JSON themselves: unknown properties
+ * don't fail the deserialization, properties without {@code @JsonView} are not serialized within a view and
+ * the well-known Jackson modules found on the classpath (e.g. Java 8 date and time) are registered.
+ * <p>
+ * The codec is installed into the REST template by {@link GoodDataServices}, replacing its JSON message converter,
+ * and it's obtained by the services using {@link #of(RestTemplate)}.
+ *
+ * @see GoodDataSettings#setJacksonBlackbird(boolean)
+ */
+public final class GoodDataCodec {
+
+    private static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+    // guards against unbounded growth when many generic types are (de)serialized
+    private static final int MAX_CACHED_TYPES = 1024;
+
+    private static final Logger logger = LoggerFactory.getLogger(GoodDataCodec.class);
+
+    private final ObjectMapper mapper;
+    private final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    /**
+     * Creates new codec with given settings.
+     *
+     * @param settings settings
+     */
+    public GoodDataCodec(final GoodDataSettings settings) {
+        notNull(settings, "settings");
+        mapper = Jackson2ObjectMapperBuilder.json().build();
+        if (settings.isJacksonBlackbird()) {
+            registerBlackbird(mapper);
+        }
+    }
+
+    /**
+     * Finds codec installed into given REST template.
+     *
+     * @param restTemplate REST template
+     * @return installed codec or null if there is none
+     */
+    public static GoodDataCodec of(final RestTemplate restTemplate) {
+        notNull(restTemplate, "restTemplate");
+        final List<HttpMessageConverter<?>> converters = restTemplate.getMessageConverters();
+        if (converters != null) {
+            for (HttpMessageConverter<?> converter : converters) {
+                if (converter instanceof CodecMessageConverter) {
+                    return ((CodecMessageConverter) converter).codec;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Installs this codec into given REST template, replacing its JSON message converters. Does nothing when
+     * a codec has been already installed.
+     *
+     * @param restTemplate REST template
+     * @return the codec installed into the REST template (this one or the one installed before)
+     */
+    public GoodDataCodec install(final RestTemplate restTemplate) {
+        final GoodDataCodec installed = of(restTemplate);
+        if (installed != null) {
+            return installed;
+        }
+        final List<HttpMessageConverter<?>> converters = restTemplate.getMessageConverters();
+        final CodecMessageConverter converter = new CodecMessageConverter(this);
+        boolean replaced = false;
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                // replaced in place, the list may be shared (e.g. by the error handler)
+                if (replaced) {
+                    converters.remove(i--);
+                } else {
+                    converters.set(i, converter);
+                    replaced = true;
+                }
+            }
+        }
+        if (!replaced) {
+            converters.add(converter);
+        }
+        return this;
+    }
+
+    /**
+     * @return the shared object mapper, it must not be reconfigured
+     */
+    public ObjectMapper getMapper() {
+        return mapper;
+    }
+
+    /**
+     * @param type type to read
+     * @return cached reader of given type
+     */
+    public ObjectReader reader(final Class<?> type) {
+        return reader(mapper.constructType(notNull(type, "type")));
+    }
+
+    /**
+     * @param type type to read
+     * @return cached reader of given type
+     */
+    public ObjectReader reader(final JavaType type) {
+        notNull(type, "type");
+        final ObjectReader reader = readers.get(type);
+        if (reader != null) {
+            return reader;
+        }
+        return cache(readers, type, mapper.readerFor(type));
+    }
+
+    /**
+     * Values are written as the given type, so writer of the runtime type of the value should be used for non-final
+     * types, unless writing just the properties of the given type is intended.
+     *
+     * @param type type to write
+     * @return cached writer of given type
+     */
+    public ObjectWriter writer(final Class<?> type) {
+        return writer(mapper.constructType(notNull(type, "type")));
+    }
+
+    /**
+     * @param type type to write
+     * @return cached writer of given type
+     */
+    public ObjectWriter writer(final JavaType type) {
+        notNull(type, "type");
+        final ObjectWriter writer = writers.get(type);
+        if (writer != null) {
+            return writer;
+        }
+        return cache(writers, type, mapper.writerFor(type));
+    }
+
+    /**
+     * Resolves and caches the readers and writers of given types upfront, so the first call (de)serializing them
+     * doesn't pay for introspection of the types.
+     *
+     * @param types types to prepare
+     */
+    public void warmUp(final Class<?>... types) {
+        for (Class<?> type : notNull(types, "types")) {
+            reader(type);
+            writer(type);
+        }
+    }
+
+    private static <T> T cache(final Map<JavaType, T> cache, final JavaType type, final T value) {
+        if (cache.size() >= MAX_CACHED_TYPES) {
+            return value;
+        }
+        final T previous = cache.putIfAbsent(type, value);
+        return previous != null ? previous : value;
+    }
+
+    private static void registerBlackbird(final ObjectMapper mapper) {
+        try {
+            final Class<?> module = Class.forName(BLACKBIRD_MODULE, true, GoodDataCodec.class.getClassLoader());
+            mapper.registerModule((Module) module.getDeclaredConstructor().newInstance());
+        } catch (ClassNotFoundException e) {
+            logger.info("Optional dependency jackson-module-blackbird not found - using reflection based accessors");
+        } catch (ReflectiveOperationException | LinkageError e) {
+            logger.warn("Unable to register Jackson Blackbird module - using reflection based accessors", e);
+        }
+    }
+
+    /**
+     * JSON message converter using the shared mapper and the cached readers and writers. The cached ones are used
+     * only when the converter doesn't customize them (e.g. by serialization view or filters).
+     */
+    private static final class CodecMessageConverter extends MappingJackson2HttpMessageConverter {
+
+        private final GoodDataCodec codec;
+
+        private CodecMessageConverter(final GoodDataCodec codec) {
+            super(codec.getMapper());
+            this.codec = codec;
+        }
+
+        @Override
+        protected ObjectReader customizeReader(final ObjectReader reader, final JavaType javaType) {
+            return reader.getConfig() == codec.getMapper().getDeserializationConfig()
+                    ? codec.reader(javaType)
+                    : reader;
+        }
+
+        @Override
+        protected void writeInternal(final Object object, final Type type, final HttpOutputMessage outputMessage)
+                throws IOException {
+            // the cached writers are typed, so the runtime type is used, as it's used by the default untyped writer
+            final boolean typed = object instanceof MappingJacksonValue
+                    || type != null && codec.getMapper().constructType(type).isContainerType();
+            super.writeInternal(object, typed ? type : object.getClass(), outputMessage);
+        }
+
+        @Override
+        protected ObjectWriter customizeWriter(final ObjectWriter writer, final JavaType javaType,
+                                               final MediaType contentType) {
+            return javaType != null && writer.getConfig() == codec.getMapper().getSerializationConfig()
+                    ? codec.writer(javaType)
+                    : writer;
+        }
+    }
+}
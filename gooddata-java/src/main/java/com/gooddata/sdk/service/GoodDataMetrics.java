@@ -0,0 +1,87 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service;
+
+/**
+ * Receiver of the SDK instrumentation events, to be bridged to a metrics library of choice (e.g. by recording
+ * the request durations to a histogram keyed by the URI template). The SDK itself doesn't depend on any metrics
+ * library.
+ * <p>
+ * All methods have empty default implementation, so only the interesting events need to be implemented.
+ * Methods are called synchronously on the thread performing the request (or on an I/O thread of the asynchronous
+ * transport), they should be fast and must not throw.
+ *
+ * @see GoodDataSettings#setMetrics(GoodDataMetrics)
+ */
+public interface GoodDataMetrics {
+
+    /**
+     * Called when an HTTP request is finished, once per every attempt of a retried request.
+     *
+     * @param method         HTTP method
+     * @param uriTemplate    URI template used to call the API (e.g. <code>/gdc/md/{projectId}/obj/{objId}</code>),
+     *                       or the path of the URI when it was called without template
+     * @param statusCode     HTTP status code of the response, 0 when no response was received (i.e. I/O error)
+     * @param durationNanos  duration of the request including the wait for the connection, in nanoseconds
+     */
+    default void requestCompleted(String method, String uriTemplate, int statusCode, long durationNanos) {
+    }
+
+    /**
+     * Called when a connection is leased from the pool of the blocking http client.
+     *
+     * @param route      target of the connection (e.g. <code>https://secure.gooddata.com:443</code>)
+     * @param waitNanos  time spent waiting for the connection, in nanoseconds
+     * @param leased     number of connections of the route leased right after this lease
+     * @param pending    number of requests of the route waiting for a connection
+     * @param available  number of idle connections of the route
+     * @param max        maximal number of connections of the route
+     */
+    default void connectionLeased(String route, long waitNanos, int leased, int pending, int available, int max) {
+    }
+
+    /**
+     * Called before a failed request is retried, see {@link GoodDataSettings#setRetrySettings}.
+     *
+     * @param method      HTTP method
+     * @param uriTemplate URI template or path of the URI, see {@link #requestCompleted}
+     * @param statusCode  HTTP status code of the failed attempt
+     * @param retryCount  number of the retry (starting with 1)
+     */
+    default void requestRetried(String method, String uriTemplate, int statusCode, int retryCount) {
+    }
+
+    /**
+     * Called when a poll request of a {@link FutureResult} is finished.
+     *
+     * @param pollingUri URI being polled
+     * @param statusCode HTTP status code of the response
+     * @param attempt    number of poll requests performed so far (starting with 1)
+     */
+    default void pollAttempted(String pollingUri, int statusCode, int attempt) {
+    }
+
+    /**
+     * Called when the polling of a {@link FutureResult} is finished, either by the result or by a failure.
+     * Polling cancelled or timed out by the caller isn't reported.
+     *
+     * @param pollingUri URI being polled
+     * @param attempts   number of poll requests performed
+     * @param elapsed    milliseconds elapsed since the polling started
+     */
+    default void pollFinished(String pollingUri, int attempts, long elapsed) {
+    }
+
+    /**
+     * Called when the concurrency limit of an API family changes, see
+     * {@link GoodDataSettings#setConcurrencyLimitSettings(ConcurrencyLimitSettings)}.
+     *
+     * @param family name of the {@link ApiFamily}
+     * @param limit  new limit of concurrent requests of the family
+     */
+    default void concurrencyLimitChanged(String family, int limit) {
+    }
+}
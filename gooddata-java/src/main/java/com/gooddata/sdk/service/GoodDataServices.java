@@ -61,10 +61,13 @@ class GoodDataServices {
     private final ExecuteAfmService executeAfmService;
     private final LcmService lcmService;
     private final HierarchicalConfigService hierarchicalConfigService;
+    private final GoodDataCodec codec;
 
     @SuppressWarnings("deprecation")
     GoodDataServices(final GoodDataRestProvider goodDataRestProvider) {
         this.goodDataRestProvider = goodDataRestProvider;
+        // installed before the services are created, so they share the codec with the REST template
+        codec = new GoodDataCodec(getSettings()).install(getRestTemplate());
 
         accountService = new AccountService(getRestTemplate(), getSettings());
         projectService = new ProjectService(getRestTemplate(), accountService, getSettings());
@@ -104,6 +107,10 @@ class GoodDataServices {
         return goodDataRestProvider.getSettings();
     }
 
+    GoodDataCodec getCodec() {
+        return codec;
+    }
+
     ProjectService getProjectService() {
         return projectService;
     }
@@ -7,9 +7,13 @@ package com.gooddata.sdk.service;
 
 import com.gooddata.sdk.common.gdc.Header;
 import com.gooddata.sdk.common.util.GoodDataToStringBuilder;
+import com.gooddata.sdk.service.executeafm.ExecutionResultCacheSettings;
+import com.gooddata.sdk.service.md.MetadataCacheSettings;
+import com.gooddata.sdk.service.project.RoleCacheSettings;
 import com.gooddata.sdk.service.retry.RetrySettings;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
 import org.apache.hc.core5.util.VersionInfo;
 import org.springframework.http.MediaType;
 import org.springframework.util.StreamUtils;
@@ -19,6 +23,8 @@ import java.nio.charset.Charset;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import static com.gooddata.sdk.common.util.Validate.notNull;
@@ -37,12 +43,29 @@ public class GoodDataSettings {
     private static final String UNKNOWN_VERSION = "UNKNOWN";
     private final Map<String, String> presetHeaders = new HashMap<>(2);
     private int maxConnections = 20;
+    private int stagingMaxConnections = 20;
+    private int maxTotalConnections;
+    private PoolConcurrencyPolicy poolConcurrencyPolicy = PoolConcurrencyPolicy.STRICT;
+    private int connectionTimeToLive;
+    private int connectionIdleTimeout;
+    private int validateAfterInactivity = secondsToMillis(2);
     private int connectionTimeout = secondsToMillis(10);
     private int connectionRequestTimeout = secondsToMillis(10);
     private int socketTimeout = secondsToMillis(60);
+    private boolean bufferRequestBody = true;
     private int pollSleep = secondsToMillis(5);
+    private PollIntervalStrategy pollIntervalStrategy;
+    private ScheduledExecutorService pollScheduler;
+    private ExecutorService requestExecutor;
+    private GoodDataMetrics metrics;
+    private ParallelismSettings parallelismSettings = new ParallelismSettings();
+    private boolean jacksonBlackbird;
     private String userAgent;
     private RetrySettings retrySettings;
+    private MetadataCacheSettings metadataCacheSettings;
+    private RoleCacheSettings roleCacheSettings;
+    private ExecutionResultCacheSettings executionResultCacheSettings;
+    private ConcurrencyLimitSettings concurrencyLimitSettings;
 
     public GoodDataSettings() {
         presetHeaders.put("Accept", MediaType.APPLICATION_JSON_VALUE);
@@ -71,18 +94,157 @@ public class GoodDataSettings {
     }
 
     /**
-     * Set maximum number of connections used. This applies same for connections per host as for total connections.
-     * (As we assume GoodData connects to single host).
+     * Set maximum number of connections used to the API host (the route of {@link GoodDataEndpoint}).
      * <p>
      * The default value is 20.
      *
      * @param maxConnections maximum number of connections used.
+     * @see #setStagingMaxConnections(int)
+     * @see #setMaxTotalConnections(int)
      */
     public void setMaxConnections(int maxConnections) {
         isTrue(maxConnections > 0, "maxConnections must be greater than zero");
         this.maxConnections = maxConnections;
     }
 
+    /**
+     * Maximum number of connections used to any other host than the API one, namely the user staging (WebDAV) host
+     *
+     * @return maximum number of connections per non-API host
+     */
+    public int getStagingMaxConnections() {
+        return stagingMaxConnections;
+    }
+
+    /**
+     * Set maximum number of connections used to any other host than the API one, namely the user staging (WebDAV)
+     * host used by {@link com.gooddata.sdk.service.gdc.DataStoreService}. Limits of the API and staging hosts are
+     * independent, so bulk uploads can't starve API calls of connections, as long as the
+     * {@link #setMaxTotalConnections(int) total limit} leaves room for both.
+     * <p>
+     * Note that when the staging is deployed on the same host as the API, {@link #setMaxConnections(int)} applies.
+     * <p>
+     * The default value is 20.
+     *
+     * @param stagingMaxConnections maximum number of connections per non-API host
+     */
+    public void setStagingMaxConnections(final int stagingMaxConnections) {
+        isTrue(stagingMaxConnections > 0, "stagingMaxConnections must be greater than zero");
+        this.stagingMaxConnections = stagingMaxConnections;
+    }
+
+    /**
+     * Maximum number of connections in the pool in total
+     *
+     * @return the value set by {@link #setMaxTotalConnections(int)}, or {@link #getMaxConnections()} when not set
+     */
+    public int getMaxTotalConnections() {
+        return maxTotalConnections > 0 ? maxTotalConnections : maxConnections;
+    }
+
+    /**
+     * Set maximum number of connections in the pool in total (for all hosts).
+     * <p>
+     * By default (0) it's the same as {@link #getMaxConnections()}, so the API and staging hosts share it. Set it to
+     * the sum of {@link #getMaxConnections()} and {@link #getStagingMaxConnections()} to keep their limits
+     * independent.
+     *
+     * @param maxTotalConnections maximum number of connections in total, 0 for the default
+     */
+    public void setMaxTotalConnections(final int maxTotalConnections) {
+        isTrue(maxTotalConnections >= 0, "maxTotalConnections must not be negative");
+        this.maxTotalConnections = maxTotalConnections;
+    }
+
+    /**
+     * Concurrency policy of the connection pool
+     *
+     * @return pool concurrency policy
+     */
+    public PoolConcurrencyPolicy getPoolConcurrencyPolicy() {
+        return poolConcurrencyPolicy;
+    }
+
+    /**
+     * Set concurrency policy of the connection pool. {@link PoolConcurrencyPolicy#STRICT} guarantees the connection
+     * limits, {@link PoolConcurrencyPolicy#LAX} enforces only the per host limits, but has lower lock contention under
+     * high concurrency.
+     * <p>
+     * The default value is {@link PoolConcurrencyPolicy#STRICT}.
+     *
+     * @param poolConcurrencyPolicy pool concurrency policy
+     */
+    public void setPoolConcurrencyPolicy(final PoolConcurrencyPolicy poolConcurrencyPolicy) {
+        this.poolConcurrencyPolicy = notNull(poolConcurrencyPolicy, "poolConcurrencyPolicy");
+    }
+
+    /**
+     * Milliseconds for which a connection can be kept in the pool.
+     *
+     * @return connection time to live milliseconds
+     */
+    public int getConnectionTimeToLive() {
+        return connectionTimeToLive;
+    }
+
+    /**
+     * Set total time to live of a pooled connection in milliseconds. Connections older than this are closed instead
+     * of being reused, which helps to spread load when the API host is behind DNS based balancing.
+     * <p>
+     * The default value is 0 (infinite).
+     *
+     * @param connectionTimeToLive connection time to live milliseconds
+     */
+    public void setConnectionTimeToLive(final int connectionTimeToLive) {
+        isTrue(connectionTimeToLive >= 0, "connectionTimeToLive must not be negative");
+        this.connectionTimeToLive = connectionTimeToLive;
+    }
+
+    /**
+     * Milliseconds after which the idle pooled connections are evicted.
+     *
+     * @return connection idle timeout milliseconds
+     */
+    public int getConnectionIdleTimeout() {
+        return connectionIdleTimeout;
+    }
+
+    /**
+     * Set time in milliseconds after which the idle pooled connections are closed by a background thread, together
+     * with the connections which exceeded their {@link #setConnectionTimeToLive(int) time to live}.
+     * <p>
+     * The default value is 0 (idle connections aren't evicted).
+     *
+     * @param connectionIdleTimeout connection idle timeout milliseconds
+     */
+    public void setConnectionIdleTimeout(final int connectionIdleTimeout) {
+        isTrue(connectionIdleTimeout >= 0, "connectionIdleTimeout must not be negative");
+        this.connectionIdleTimeout = connectionIdleTimeout;
+    }
+
+    /**
+     * Milliseconds of inactivity after which a pooled connection is validated before reuse.
+     *
+     * @return validate after inactivity milliseconds
+     */
+    public int getValidateAfterInactivity() {
+        return validateAfterInactivity;
+    }
+
+    /**
+     * Set period of inactivity in milliseconds after which a pooled connection is validated before it's reused.
+     * <p>
+     * The default value is 2 seconds (2000 ms).
+     * <p>
+     * Set to 0 to disable the validation.
+     *
+     * @param validateAfterInactivity validate after inactivity milliseconds
+     */
+    public void setValidateAfterInactivity(final int validateAfterInactivity) {
+        isTrue(validateAfterInactivity >= 0, "validateAfterInactivity must not be negative");
+        this.validateAfterInactivity = validateAfterInactivity;
+    }
+
     /**
      * Set timeout seconds until connection established.
      * <p>
@@ -192,6 +354,28 @@ public class GoodDataSettings {
         this.socketTimeout = socketTimeout;
     }
 
+    /**
+     * Whether request bodies are buffered in memory before they are sent
+     *
+     * @return true when request bodies are buffered
+     */
+    public boolean isBufferRequestBody() {
+        return bufferRequestBody;
+    }
+
+    /**
+     * Set whether request bodies are buffered in memory before they are sent. Default is {@code true}.
+     * <p>
+     * When set to {@code false}, request bodies (e.g. AFM executions, bulk gets or uploads) are streamed directly
+     * to the connection using chunked transfer encoding, so the memory used by a request doesn't depend on its size.
+     *
+     * @param bufferRequestBody whether to buffer request bodies
+     * @see com.gooddata.sdk.common.HttpClient5ComponentsClientHttpRequestFactory#setBufferRequestBody(boolean)
+     */
+    public void setBufferRequestBody(final boolean bufferRequestBody) {
+        this.bufferRequestBody = bufferRequestBody;
+    }
+
     /**
      * Get sleep time in milliseconds between poll retries
      *
@@ -222,6 +406,134 @@ public class GoodDataSettings {
         setPollSleep(secondsToMillis(pollSleep));
     }
 
+    /**
+     * Get strategy computing the delay between poll requests.
+     *
+     * @return poll interval strategy or null when the fixed {@link #getPollSleep()} interval is used
+     */
+    public PollIntervalStrategy getPollIntervalStrategy() {
+        return pollIntervalStrategy;
+    }
+
+    /**
+     * Set strategy computing the delay between poll requests, e.g. {@link ExponentialPollIntervalStrategy}.
+     * When set, {@link #getPollSleep()} is ignored.
+     * <p>
+     * By default (null) the fixed {@link #getPollSleep()} interval is used.
+     *
+     * @param pollIntervalStrategy poll interval strategy
+     * @see PollHandler#getPollIntervalStrategy()
+     */
+    public void setPollIntervalStrategy(final PollIntervalStrategy pollIntervalStrategy) {
+        this.pollIntervalStrategy = pollIntervalStrategy;
+    }
+
+    /**
+     * Get executor used to drive asynchronous polling (see {@link FutureResult#toCompletableFuture()}).
+     *
+     * @return poll executor or null when the executor shared by all SDK instances is used
+     */
+    public ScheduledExecutorService getPollScheduler() {
+        return pollScheduler;
+    }
+
+    /**
+     * Set executor used to drive asynchronous polling (see {@link FutureResult#toCompletableFuture()}).
+     * The executor is used only to run the single poll requests, so a few threads are able to serve thousands
+     * of in-flight tasks. Its lifecycle is managed by the caller, so it's not considered by {@link #equals(Object)}.
+     * <p>
+     * By default (null) the daemon executor shared by all SDK instances is used.
+     *
+     * @param pollScheduler poll executor
+     */
+    public void setPollScheduler(final ScheduledExecutorService pollScheduler) {
+        this.pollScheduler = pollScheduler;
+    }
+
+    /**
+     * Get executor used to run independent API requests concurrently (e.g. chunks of bulk get).
+     *
+     * @return request executor or null when the executor shared by all SDK instances is used
+     */
+    public ExecutorService getRequestExecutor() {
+        return requestExecutor;
+    }
+
+    /**
+     * Set executor used to run independent API requests concurrently (e.g. chunks of bulk get). The requests are
+     * blocking, so the executor should have enough threads for the configured parallelism. Its lifecycle is managed
+     * by the caller, so it's not considered by {@link #equals(Object)}.
+     * <p>
+     * By default (null) the daemon executor shared by all SDK instances is used.
+     *
+     * @param requestExecutor request executor
+     */
+    public void setRequestExecutor(final ExecutorService requestExecutor) {
+        this.requestExecutor = requestExecutor;
+    }
+
+    /**
+     * Get receiver of the instrumentation events (request latencies, connection pool, retries and polling).
+     *
+     * @return metrics or null when the SDK isn't instrumented
+     */
+    public GoodDataMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Set receiver of the instrumentation events (request latencies, connection pool, retries and polling).
+     * <p>
+     * By default (null) no events are collected and the SDK isn't instrumented at all.
+     *
+     * @param metrics metrics
+     */
+    public void setMetrics(final GoodDataMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Get settings of the parallelism and the batch sizes of the bulk operations.
+     *
+     * @return parallelism settings
+     */
+    public ParallelismSettings getParallelismSettings() {
+        return parallelismSettings;
+    }
+
+    /**
+     * Set settings of the parallelism and the batch sizes of the bulk operations.
+     *
+     * @param parallelismSettings parallelism settings
+     */
+    public void setParallelismSettings(final ParallelismSettings parallelismSettings) {
+        this.parallelismSettings = notNull(parallelismSettings, "parallelismSettings");
+    }
+
+    /**
+     * Whether the Jackson Blackbird module is registered to the shared JSON codec
+     *
+     * @return true if the Blackbird module is registered (when available)
+     * @see GoodDataCodec
+     */
+    public boolean isJacksonBlackbird() {
+        return jacksonBlackbird;
+    }
+
+    /**
+     * Set whether the Jackson Blackbird module (replacing reflection by generated accessors) is registered
+     * to the shared JSON codec. The module is registered only if the optional
+     * com.fasterxml.jackson.module:jackson-module-blackbird dependency is present, otherwise it's ignored.
+     * <p>
+     * By default (false) the module is not registered.
+     *
+     * @param jacksonBlackbird true to register the Blackbird module
+     * @see GoodDataCodec
+     */
+    public void setJacksonBlackbird(final boolean jacksonBlackbird) {
+        this.jacksonBlackbird = jacksonBlackbird;
+    }
+
     /**
      * GoodData User agent
      *
@@ -262,6 +574,92 @@ public class GoodDataSettings {
         this.retrySettings = retrySettings;
     }
 
+    /**
+     * Get settings of metadata query cache.
+     *
+     * @return metadata cache settings or null when metadata queries are not cached
+     */
+    public MetadataCacheSettings getMetadataCacheSettings() {
+        return metadataCacheSettings;
+    }
+
+    /**
+     * Set settings of metadata query cache. When set, listings of metadata queried by
+     * {@link com.gooddata.sdk.service.md.MetadataService#find} and related methods are cached.
+     * <p>
+     * By default (null) metadata queries are not cached.
+     *
+     * @param metadataCacheSettings metadata cache settings
+     */
+    public void setMetadataCacheSettings(final MetadataCacheSettings metadataCacheSettings) {
+        this.metadataCacheSettings = metadataCacheSettings;
+    }
+
+    /**
+     * Get settings of project role cache.
+     *
+     * @return role cache settings or null when project roles are not cached
+     */
+    public RoleCacheSettings getRoleCacheSettings() {
+        return roleCacheSettings;
+    }
+
+    /**
+     * Set settings of project role cache. When set, roles fetched by
+     * {@link com.gooddata.sdk.service.project.ProjectService#getRoles} are cached.
+     * <p>
+     * By default (null) project roles are not cached.
+     *
+     * @param roleCacheSettings role cache settings
+     */
+    public void setRoleCacheSettings(final RoleCacheSettings roleCacheSettings) {
+        this.roleCacheSettings = roleCacheSettings;
+    }
+
+    /**
+     * Get settings of execution result cache.
+     *
+     * @return execution result cache settings or null when executions and their results are not cached
+     */
+    public ExecutionResultCacheSettings getExecutionResultCacheSettings() {
+        return executionResultCacheSettings;
+    }
+
+    /**
+     * Set settings of execution result cache. When set, responses of AFM executions executed by
+     * {@link com.gooddata.sdk.service.executeafm.ExecuteAfmService#executeAfm} and result pages fetched by
+     * {@link com.gooddata.sdk.service.executeafm.ExecuteAfmService#getResult} are cached.
+     * <p>
+     * By default (null) executions and their results are not cached.
+     *
+     * @param executionResultCacheSettings execution result cache settings
+     */
+    public void setExecutionResultCacheSettings(final ExecutionResultCacheSettings executionResultCacheSettings) {
+        this.executionResultCacheSettings = executionResultCacheSettings;
+    }
+
+    /**
+     * Get settings of the adaptive limit of concurrent API requests.
+     *
+     * @return concurrency limit settings or null when the concurrency isn't limited
+     */
+    public ConcurrencyLimitSettings getConcurrencyLimitSettings() {
+        return concurrencyLimitSettings;
+    }
+
+    /**
+     * Set settings of the adaptive limit of concurrent API requests. When set, the http client limits concurrent
+     * requests of every {@link ApiFamily} by {@link AdaptiveConcurrencyLimiter}, adapting the limit to the overload
+     * signalled by the API (HTTP 429, 503 and latency spikes).
+     * <p>
+     * By default (null) the concurrency is limited just by the {@link #getMaxConnections() connection pool}.
+     *
+     * @param concurrencyLimitSettings concurrency limit settings
+     */
+    public void setConcurrencyLimitSettings(final ConcurrencyLimitSettings concurrencyLimitSettings) {
+        this.concurrencyLimitSettings = concurrencyLimitSettings;
+    }
+
     /**
      * Set preset header
      *
@@ -287,19 +685,37 @@ public class GoodDataSettings {
         if (o == null || getClass() != o.getClass()) return false;
         final GoodDataSettings that = (GoodDataSettings) o;
         return maxConnections == that.maxConnections
+                && stagingMaxConnections == that.stagingMaxConnections
+                && maxTotalConnections == that.maxTotalConnections
+                && poolConcurrencyPolicy == that.poolConcurrencyPolicy
+                && connectionTimeToLive == that.connectionTimeToLive
+                && connectionIdleTimeout == that.connectionIdleTimeout
+                && validateAfterInactivity == that.validateAfterInactivity
                 && connectionTimeout == that.connectionTimeout
                 && connectionRequestTimeout == that.connectionRequestTimeout
                 && socketTimeout == that.socketTimeout
+                && bufferRequestBody == that.bufferRequestBody
                 && pollSleep == that.pollSleep
+                && Objects.equals(pollIntervalStrategy, that.pollIntervalStrategy)
+                && Objects.equals(metrics, that.metrics)
+                && Objects.equals(parallelismSettings, that.parallelismSettings)
+                && jacksonBlackbird == that.jacksonBlackbird
                 && Objects.equals(userAgent, that.userAgent)
                 && Objects.equals(retrySettings, that.retrySettings)
+                && Objects.equals(metadataCacheSettings, that.metadataCacheSettings)
+                && Objects.equals(roleCacheSettings, that.roleCacheSettings)
+                && Objects.equals(executionResultCacheSettings, that.executionResultCacheSettings)
+                && Objects.equals(concurrencyLimitSettings, that.concurrencyLimitSettings)
                 && Objects.equals(presetHeaders, that.presetHeaders);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(maxConnections, connectionTimeout, connectionRequestTimeout, socketTimeout, pollSleep,
-                userAgent, retrySettings, presetHeaders);
+        return Objects.hash(maxConnections, stagingMaxConnections, maxTotalConnections, poolConcurrencyPolicy,
+                connectionTimeToLive, connectionIdleTimeout, validateAfterInactivity, connectionTimeout,
+                connectionRequestTimeout, socketTimeout, bufferRequestBody, pollSleep, pollIntervalStrategy, metrics,
+                parallelismSettings, jacksonBlackbird, userAgent, retrySettings, metadataCacheSettings,
+                roleCacheSettings, executionResultCacheSettings, concurrencyLimitSettings, presetHeaders);
     }
 
     @Override
@@ -0,0 +1,248 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service;
+
+import com.gooddata.sdk.common.util.GoodDataToStringBuilder;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.springframework.util.Assert.isTrue;
+
+/**
+ * Contains settings of the parallelism and the batch sizes of the bulk operations, can be set using
+ * {@link GoodDataSettings#setParallelismSettings(ParallelismSettings)}.
+ * <p>
+ * Concurrent requests are executed on the {@link GoodDataSettings#setRequestExecutor(ExecutorService) request
+ * executor}, long running tasks are polled by the
+ * {@link GoodDataSettings#setPollScheduler(ScheduledExecutorService) poll scheduler}. The parallelism of the
+ * operations should not exceed {@link GoodDataSettings#getMaxConnections()} (or
+ * {@link GoodDataSettings#getStagingMaxConnections()} for the user staging operations).
+ */
+public class ParallelismSettings {
+
+    public static final int DEFAULT_BULK_GET_CHUNK_SIZE = 500;
+    public static final int DEFAULT_USERS_UPDATE_BATCH_SIZE = 500;
+    public static final int DEFAULT_PARALLELISM = 4;
+    public static final int DEFAULT_DOWNLOAD_SEGMENT_SIZE = 8 * 1024 * 1024; // 8MB
+    public static final int DEFAULT_DOWNLOAD_SEGMENT_RETRIES = 3;
+
+    private int bulkGetChunkSize = DEFAULT_BULK_GET_CHUNK_SIZE;
+    private int bulkGetParallelism = DEFAULT_PARALLELISM;
+    private int usersUpdateBatchSize = DEFAULT_USERS_UPDATE_BATCH_SIZE;
+    private int usersUpdateParallelism = DEFAULT_PARALLELISM;
+    private int uploadParallelism = DEFAULT_PARALLELISM;
+    private int downloadParallelism = DEFAULT_PARALLELISM;
+    private int downloadSegmentSize = DEFAULT_DOWNLOAD_SEGMENT_SIZE;
+    private int downloadSegmentRetries = DEFAULT_DOWNLOAD_SEGMENT_RETRIES;
+    private int exportParallelism = DEFAULT_PARALLELISM;
+    private int modelUpdateParallelism = DEFAULT_PARALLELISM;
+    private int pagePrefetch;
+
+    /**
+     * Maximal number of URIs requested by single bulk get request, larger collections are split into chunks.
+     *
+     * @return chunk size
+     * @see com.gooddata.sdk.service.md.MetadataService#getObjsByUris
+     */
+    public int getBulkGetChunkSize() {
+        return bulkGetChunkSize;
+    }
+
+    public void setBulkGetChunkSize(final int bulkGetChunkSize) {
+        isTrue(bulkGetChunkSize > 0, "bulkGetChunkSize has to be greater than 0");
+        this.bulkGetChunkSize = bulkGetChunkSize;
+    }
+
+    /**
+     * Maximal number of bulk get chunks requested concurrently.
+     *
+     * @return maximal number of concurrent bulk get requests
+     * @see com.gooddata.sdk.service.md.MetadataService#getObjsByUris
+     */
+    public int getBulkGetParallelism() {
+        return bulkGetParallelism;
+    }
+
+    public void setBulkGetParallelism(final int bulkGetParallelism) {
+        isTrue(bulkGetParallelism > 0, "bulkGetParallelism has to be greater than 0");
+        this.bulkGetParallelism = bulkGetParallelism;
+    }
+
+    /**
+     * Maximal number of users sent by single project users update request, larger collections are split into
+     * batches.
+     *
+     * @return batch size
+     * @see com.gooddata.sdk.service.project.ProjectService#updateUsersInProjects
+     */
+    public int getUsersUpdateBatchSize() {
+        return usersUpdateBatchSize;
+    }
+
+    public void setUsersUpdateBatchSize(final int usersUpdateBatchSize) {
+        isTrue(usersUpdateBatchSize > 0, "usersUpdateBatchSize has to be greater than 0");
+        this.usersUpdateBatchSize = usersUpdateBatchSize;
+    }
+
+    /**
+     * Maximal number of project users update batches sent concurrently.
+     *
+     * @return maximal number of concurrent project users update requests
+     * @see com.gooddata.sdk.service.project.ProjectService#updateUsersInProjects
+     */
+    public int getUsersUpdateParallelism() {
+        return usersUpdateParallelism;
+    }
+
+    public void setUsersUpdateParallelism(final int usersUpdateParallelism) {
+        isTrue(usersUpdateParallelism > 0, "usersUpdateParallelism has to be greater than 0");
+        this.usersUpdateParallelism = usersUpdateParallelism;
+    }
+
+    /**
+     * Maximal number of files uploaded to the user staging concurrently.
+     *
+     * @return maximal number of concurrent uploads
+     * @see com.gooddata.sdk.service.dataset.DatasetService#loadDatasets
+     */
+    public int getUploadParallelism() {
+        return uploadParallelism;
+    }
+
+    public void setUploadParallelism(final int uploadParallelism) {
+        isTrue(uploadParallelism > 0, "uploadParallelism has to be greater than 0");
+        this.uploadParallelism = uploadParallelism;
+    }
+
+    /**
+     * Maximal number of segments of a file downloaded from the user staging concurrently.
+     *
+     * @return maximal number of concurrent segment downloads
+     * @see com.gooddata.sdk.service.gdc.DataStoreService#download(String, java.io.File)
+     */
+    public int getDownloadParallelism() {
+        return downloadParallelism;
+    }
+
+    public void setDownloadParallelism(final int downloadParallelism) {
+        isTrue(downloadParallelism > 0, "downloadParallelism has to be greater than 0");
+        this.downloadParallelism = downloadParallelism;
+    }
+
+    /**
+     * Size of segment (HTTP range) in bytes a file downloaded from the user staging is split to.
+     * Files not larger than a single segment are downloaded by a single request.
+     *
+     * @return segment size in bytes
+     * @see com.gooddata.sdk.service.gdc.DataStoreService#download(String, java.io.File)
+     */
+    public int getDownloadSegmentSize() {
+        return downloadSegmentSize;
+    }
+
+    public void setDownloadSegmentSize(final int downloadSegmentSize) {
+        isTrue(downloadSegmentSize > 0, "downloadSegmentSize has to be greater than 0");
+        this.downloadSegmentSize = downloadSegmentSize;
+    }
+
+    /**
+     * Number of retries of a failed segment download, the retry continues from the last byte received.
+     *
+     * @return number of retries of a segment, 0 when the retries are disabled
+     * @see com.gooddata.sdk.service.gdc.DataStoreService#download(String, java.io.File)
+     */
+    public int getDownloadSegmentRetries() {
+        return downloadSegmentRetries;
+    }
+
+    public void setDownloadSegmentRetries(final int downloadSegmentRetries) {
+        isTrue(downloadSegmentRetries >= 0, "downloadSegmentRetries must not be negative");
+        this.downloadSegmentRetries = downloadSegmentRetries;
+    }
+
+    /**
+     * Maximal number of reports exported concurrently by the batch export. Only the start and download requests
+     * of the exports occupy the request executor.
+     *
+     * @return maximal number of concurrent exports
+     * @see com.gooddata.sdk.service.export.ExportService#export(java.util.Collection)
+     */
+    public int getExportParallelism() {
+        return exportParallelism;
+    }
+
+    public void setExportParallelism(final int exportParallelism) {
+        isTrue(exportParallelism > 0, "exportParallelism has to be greater than 0");
+        this.exportParallelism = exportParallelism;
+    }
+
+    /**
+     * Maximal number of projects updated concurrently by the model rollout. The MAQL DDL chunks of single project
+     * are always executed one after another.
+     *
+     * @return maximal number of concurrently updated projects
+     * @see com.gooddata.sdk.service.project.model.ModelService#rolloutProjectModel(String, java.util.Collection)
+     */
+    public int getModelUpdateParallelism() {
+        return modelUpdateParallelism;
+    }
+
+    public void setModelUpdateParallelism(final int modelUpdateParallelism) {
+        isTrue(modelUpdateParallelism > 0, "modelUpdateParallelism has to be greater than 0");
+        this.modelUpdateParallelism = modelUpdateParallelism;
+    }
+
+    /**
+     * Number of pages fetched ahead in the background when iterating all items of paged listings (e.g.
+     * {@link com.gooddata.sdk.service.project.ProjectService#listProjects()}). Next page is fetched while the
+     * current one is processed, at most given number of pages is kept in memory ahead of the processed one.
+     * <p>
+     * By default (0) the next page is fetched when all items of the current one are processed.
+     *
+     * @return number of prefetched pages
+     * @see com.gooddata.sdk.common.collections.PageBrowser#allItemsStream()
+     */
+    public int getPagePrefetch() {
+        return pagePrefetch;
+    }
+
+    public void setPagePrefetch(final int pagePrefetch) {
+        isTrue(pagePrefetch >= 0, "pagePrefetch must not be negative");
+        this.pagePrefetch = pagePrefetch;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final ParallelismSettings that = (ParallelismSettings) o;
+        return bulkGetChunkSize == that.bulkGetChunkSize &&
+                bulkGetParallelism == that.bulkGetParallelism &&
+                usersUpdateBatchSize == that.usersUpdateBatchSize &&
+                usersUpdateParallelism == that.usersUpdateParallelism &&
+                uploadParallelism == that.uploadParallelism &&
+                downloadParallelism == that.downloadParallelism &&
+                downloadSegmentSize == that.downloadSegmentSize &&
+                downloadSegmentRetries == that.downloadSegmentRetries &&
+                exportParallelism == that.exportParallelism &&
+                modelUpdateParallelism == that.modelUpdateParallelism &&
+                pagePrefetch == that.pagePrefetch;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(bulkGetChunkSize, bulkGetParallelism, usersUpdateBatchSize, usersUpdateParallelism,
+                uploadParallelism, downloadParallelism, downloadSegmentSize, downloadSegmentRetries,
+                exportParallelism, modelUpdateParallelism, pagePrefetch);
+    }
+
+    @Override
+    public String toString() {
+        return GoodDataToStringBuilder.defaultToString(this);
+    }
+}
@@ -80,6 +80,26 @@ public interface PollHandler<P, R> {
      */
     void handlePollResult(P pollResult);
 
+    /**
+     * Strategy computing delays between poll requests of this handler. Overrides the strategy configured
+     * by {@link GoodDataSettings#setPollIntervalStrategy(PollIntervalStrategy)}.
+     *
+     * @return poll interval strategy or null to use the one configured in settings (default)
+     */
+    default PollIntervalStrategy getPollIntervalStrategy() {
+        return null;
+    }
+
+    /**
+     * Kind of the polled task, allowing the {@link PollIntervalStrategy} to tune the intervals per task kind
+     * (see {@link ExponentialPollIntervalStrategy#withBounds(PollType, long, long)}).
+     *
+     * @return poll type or null when the task is of no known kind (default)
+     */
+    default PollType getPollType() {
+        return null;
+    }
+
     /**
      * Handle exception while polling.
      * The implementing class should throw instance of {@link com.gooddata.sdk.common.GoodDataException}
@@ -0,0 +1,27 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service;
+
+/**
+ * Strategy computing the delay between two consecutive poll requests.
+ *
+ * @see GoodDataSettings#setPollIntervalStrategy(PollIntervalStrategy)
+ * @see PollHandler#getPollIntervalStrategy()
+ */
+public interface PollIntervalStrategy {
+
+    /**
+     * Compute delay before the next poll request.
+     *
+     * @param handler    handler being polled
+     * @param attempt    number of poll requests already performed (starting with 1)
+     * @param elapsed    milliseconds elapsed since the polling started
+     * @param retryAfter delay in milliseconds requested by the server using the {@code Retry-After} header
+     *                   of the last poll response, null if not present
+     * @return delay in milliseconds before the next poll request
+     */
+    long nextPollInterval(PollHandler<?, ?> handler, int attempt, long elapsed, Long retryAfter);
+}
@@ -5,6 +5,7 @@
  */
 package com.gooddata.sdk.service;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import static com.gooddata.sdk.common.util.Validate.notNull;
@@ -18,6 +19,8 @@ public final class PollResult<T> implements FutureResult<T> {
 
     private final PollHandler<?, T> handler;
 
+    private CompletableFuture<T> future;
+
     /**
      * Creates a new instance of the result to be eventually retrieved by polling on the REST API.<p>
      * For internal use by services employing polling.
@@ -48,6 +51,22 @@ public final class PollResult<T> implements FutureResult<T> {
         return service.poll(handler, timeout, unit);
     }
 
+    /**
+     * Get the result as {@link CompletableFuture} polled on the shared poll scheduler. Repeated calls return
+     * the same future.
+     *
+     * @return future of the result value
+     */
+    @Override
+    public synchronized CompletableFuture<T> toCompletableFuture() {
+        if (future == null) {
+            future = handler.isDone()
+                    ? CompletableFuture.completedFuture(handler.getResult())
+                    : service.pollAsync(handler, 0, null);
+        }
+        return future;
+    }
+
     /**
      * Get URI used for polling
      *
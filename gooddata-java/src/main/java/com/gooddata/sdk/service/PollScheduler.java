@@ -0,0 +1,137 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service;
+
+import com.gooddata.sdk.common.GoodDataException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.gooddata.sdk.common.util.Validate.notNull;
+
+/**
+ * Drives polling of {@link PollHandler}s on a {@link ScheduledExecutorService} instead of parking the calling thread.
+ * <p>
+ * Every poll request is executed as a short task on the executor and the next one is scheduled only after the
+ * previous has finished, so a single handler is never polled concurrently and the threads are busy only while
+ * the HTTP request is in flight. This allows tracking thousands of in-flight tasks with a handful of threads.
+ * <p>
+ * For internal use by {@link AbstractService}.
+ */
+final class PollScheduler {
+
+    private static final String THREAD_NAME_PREFIX = "gooddata-poll-";
+
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Creates scheduler using the given executor.
+     *
+     * @param executor executor to run the poll requests on
+     */
+    PollScheduler(final ScheduledExecutorService executor) {
+        this.executor = notNull(executor, "executor");
+    }
+
+    /**
+     * Scheduler shared by all services which were not configured with their own executor
+     * (see {@link GoodDataSettings#setPollScheduler(ScheduledExecutorService)}).
+     *
+     * @return shared scheduler
+     */
+    static PollScheduler shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * Starts asynchronous polling of given handler.
+     *
+     * @param service service used to perform the single poll requests
+     * @param handler handler to poll
+     * @param timeout timeout value
+     * @param unit    timeout unit, {@code null} for no timeout
+     * @param <R>     result type
+     * @return future completed by the handler result or exceptionally by {@link GoodDataException}
+     */
+    <R> CompletableFuture<R> schedule(final AbstractService service, final PollHandler<?, R> handler,
+                                      final long timeout, final TimeUnit unit) {
+        notNull(service, "service");
+        notNull(handler, "handler");
+        final long deadline = unit != null ? System.currentTimeMillis() + unit.toMillis(timeout) : Long.MAX_VALUE;
+        final PollTask<R> task = new PollTask<>(service, handler, deadline);
+        task.submit(0);
+        return task.future;
+    }
+
+    private final class PollTask<R> implements Runnable {
+
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+        private final AbstractService service;
+        private final PollHandler<?, R> handler;
+        private final PollState state = new PollState();
+        private final long deadline;
+
+        private PollTask(final AbstractService service, final PollHandler<?, R> handler, final long deadline) {
+            this.service = service;
+            this.handler = handler;
+            this.deadline = deadline;
+        }
+
+        private void submit(final long delay) {
+            try {
+                executor.schedule(this, delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                future.completeExceptionally(new GoodDataException("Poll scheduler rejected the polling task", e));
+            }
+        }
+
+        @Override
+        public void run() {
+            if (future.isDone()) {
+                // cancelled by the caller
+                return;
+            }
+            try {
+                if (handler.isDone()) {
+                    future.complete(handler.getResult());
+                    return;
+                }
+                // with asynchronous transport the thread is released while the request is in flight
+                service.pollOnceAsync(handler, state).whenComplete((done, failure) -> {
+                    if (failure != null) {
+                        future.completeExceptionally(AbstractService.unwrapCompletionException(failure));
+                    } else {
+                        next(done);
+                    }
+                });
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        private void next(final boolean done) {
+            try {
+                if (done) {
+                    future.complete(handler.getResult());
+                } else if (deadline < System.currentTimeMillis()) {
+                    future.completeExceptionally(new GoodDataException("timeout"));
+                } else {
+                    submit(service.nextPollInterval(handler, state));
+                }
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static final class SharedHolder {
+        private static final PollScheduler INSTANCE = new PollScheduler(Executors.newScheduledThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors()), new DaemonThreadFactory(THREAD_NAME_PREFIX)));
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service;
+
+/**
+ * Progress of polling of a single {@link PollHandler}, used to compute the next poll interval.
+ * For internal use by {@link AbstractService} and {@link PollScheduler}.
+ */
+final class PollState {
+
+    private final long start = System.currentTimeMillis();
+    private int attempts;
+    private Long retryAfter;
+
+    /**
+     * Record finished poll request.
+     *
+     * @param retryAfter delay in milliseconds requested by the server, null if not requested
+     */
+    void recordAttempt(final Long retryAfter) {
+        this.attempts++;
+        this.retryAfter = retryAfter;
+    }
+
+    int getAttempts() {
+        return attempts;
+    }
+
+    Long getRetryAfter() {
+        return retryAfter;
+    }
+
+    long getElapsed() {
+        return System.currentTimeMillis() - start;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service;
+
+/**
+ * Kind of the task polled by the SDK services, so the poll intervals can be tuned per task kind
+ * (see {@link ExponentialPollIntervalStrategy#withBounds(PollType, long, long)}).
+ *
+ * @see PollHandler#getPollType()
+ */
+public enum PollType {
+
+    /**
+     * AFM execution results, see {@link com.gooddata.sdk.service.executeafm.ExecuteAfmService}.
+     */
+    EXECUTION_RESULT,
+
+    /**
+     * Report and raw exports, see {@link com.gooddata.sdk.service.export.ExportService}.
+     */
+    EXPORT,
+
+    /**
+     * ETL pull of uploaded data, see {@link com.gooddata.sdk.service.dataset.DatasetService}.
+     */
+    ETL_PULL,
+
+    /**
+     * Data manipulation (MAQL DML, SLI hash optimization), see {@link com.gooddata.sdk.service.dataset.DatasetService}.
+     */
+    DATA_UPDATE,
+
+    /**
+     * Logical model diff and update, see {@link com.gooddata.sdk.service.project.model.ModelService}.
+     */
+    MODEL_UPDATE,
+
+    /**
+     * Complete and partial project exports, see {@link com.gooddata.sdk.service.md.maintenance.ExportImportService}.
+     */
+    PROJECT_EXPORT,
+
+    /**
+     * Complete and partial project imports, see {@link com.gooddata.sdk.service.md.maintenance.ExportImportService}.
+     */
+    PROJECT_IMPORT,
+
+    /**
+     * Project creation, see {@link com.gooddata.sdk.service.project.ProjectService}.
+     */
+    PROJECT_CREATE,
+
+    /**
+     * Project validation, see {@link com.gooddata.sdk.service.project.ProjectService}.
+     */
+    PROJECT_VALIDATION,
+
+    /**
+     * Deployment of dataload processes, see {@link com.gooddata.sdk.service.dataload.processes.ProcessService}.
+     */
+    PROCESS_DEPLOYMENT,
+
+    /**
+     * Executions of dataload processes, schedules and connector processes.
+     */
+    PROCESS_EXECUTION,
+
+    /**
+     * Warehouse and warehouse user tasks, see {@link com.gooddata.sdk.service.warehouse.WarehouseService}.
+     */
+    WAREHOUSE
+}
@@ -0,0 +1,126 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service;
+
+import com.gooddata.sdk.common.GoodDataException;
+import com.gooddata.sdk.common.collections.Page;
+import com.gooddata.sdk.common.collections.PageBrowser;
+import com.gooddata.sdk.common.collections.PageRequest;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.gooddata.sdk.common.util.Validate.isTrue;
+import static com.gooddata.sdk.common.util.Validate.notNull;
+
+/**
+ * {@link PageBrowser} reading the following pages ahead in the background, while the caller processes the current
+ * one. The next page is known only when the previous one is fetched, so the pages are fetched one after another,
+ * but the fetching overlaps with the processing of already fetched items. At most the given number of pages is
+ * buffered (fetched or being fetched) ahead of the page being processed.
+ * <p>
+ * For internal use by {@link AbstractService}, see {@link ParallelismSettings#getPagePrefetch()}.
+ */
+final class PrefetchingPageBrowser<T> extends PageBrowser<T> {
+
+    private final Function<PageRequest, Page<T>> pageProvider;
+    private final Executor executor;
+    private final int prefetchPages;
+
+    /**
+     * @param startPage     page to be retrieved first
+     * @param pageProvider  provider of the pages
+     * @param executor      executor to fetch the following pages on
+     * @param prefetchPages maximal number of pages fetched ahead
+     */
+    PrefetchingPageBrowser(final PageRequest startPage, final Function<PageRequest, Page<T>> pageProvider,
+                           final Executor executor, final int prefetchPages) {
+        super(startPage, pageProvider);
+        this.pageProvider = pageProvider;
+        this.executor = notNull(executor, "executor");
+        isTrue(prefetchPages > 0, "prefetchPages must be greater than zero");
+        this.prefetchPages = prefetchPages;
+    }
+
+    @Override
+    public Stream<T> allItemsStream() {
+        final Iterable<Page<T>> pages = PrefetchingPageIterator::new;
+        return Stream.concat(getPageItems().stream(),
+                StreamSupport.stream(pages.spliterator(), false).flatMap(page -> page.getPageItems().stream()));
+    }
+
+    /**
+     * Iterates over the pages following this one, keeping up to {@link #prefetchPages} pages fetched ahead.
+     */
+    private final class PrefetchingPageIterator implements Iterator<Page<T>> {
+
+        private final Deque<CompletableFuture<Page<T>>> window = new ArrayDeque<>();
+        private CompletableFuture<Page<T>> tail = CompletableFuture.completedFuture(PrefetchingPageBrowser.this);
+        private Page<T> next;
+        private boolean finished;
+
+        private PrefetchingPageIterator() {
+            fill();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !finished) {
+                try {
+                    next = window.removeFirst().join();
+                } catch (CompletionException e) {
+                    finish();
+                    throw e.getCause() instanceof RuntimeException
+                            ? (RuntimeException) e.getCause()
+                            : new GoodDataException("Unable to fetch next page", e.getCause());
+                }
+                if (next == null) {
+                    finish();
+                } else {
+                    fill();
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Page<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Page<T> page = next;
+            next = null;
+            return page;
+        }
+
+        private void fill() {
+            while (window.size() < prefetchPages) {
+                tail = tail.thenApplyAsync(this::fetchNext, executor);
+                window.addLast(tail);
+            }
+        }
+
+        /**
+         * @return page following the given one, null when there is no such page
+         */
+        private Page<T> fetchNext(final Page<T> page) {
+            return page != null && page.hasNextPage() ? pageProvider.apply(page.getNextPage()) : null;
+        }
+
+        private void finish() {
+            finished = true;
+            window.clear();
+        }
+    }
+}
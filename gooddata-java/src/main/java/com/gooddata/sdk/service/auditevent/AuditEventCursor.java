@@ -0,0 +1,85 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.auditevent;
+
+import com.gooddata.sdk.common.util.GoodDataToStringBuilder;
+import com.gooddata.sdk.model.auditevent.AuditEvent;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+
+import static com.gooddata.sdk.common.util.Validate.notNull;
+
+/**
+ * Position in the audit event stream, the tailing continues after it. It's either the last processed event
+ * (its id and occurrence time), or just a time to start at.
+ *
+ * @see AuditEventTail
+ * @see AuditEventCursorStore
+ */
+public final class AuditEventCursor {
+
+    private final String eventId;
+    private final ZonedDateTime occurred;
+
+    /**
+     * @param eventId  id of the last processed event, null to start at the given time
+     * @param occurred occurrence time of the last processed event
+     */
+    public AuditEventCursor(final String eventId, final ZonedDateTime occurred) {
+        this.eventId = eventId;
+        this.occurred = notNull(occurred, "occurred");
+    }
+
+    /**
+     * @param event last processed event
+     * @return cursor positioned after the given event
+     */
+    public static AuditEventCursor after(final AuditEvent event) {
+        notNull(event, "event");
+        return new AuditEventCursor(notNull(event.getId(), "event.id"), event.getOccurred());
+    }
+
+    /**
+     * @param time time to start at
+     * @return cursor positioned at the first event occurred since the given time
+     */
+    public static AuditEventCursor startingAt(final ZonedDateTime time) {
+        return new AuditEventCursor(null, time);
+    }
+
+    /**
+     * @return id of the last processed event, null when the cursor is positioned at time only
+     */
+    public String getEventId() {
+        return eventId;
+    }
+
+    /**
+     * @return occurrence time of the last processed event, or the time to start at
+     */
+    public ZonedDateTime getOccurred() {
+        return occurred;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final AuditEventCursor that = (AuditEventCursor) o;
+        return Objects.equals(eventId, that.eventId) && occurred.isEqual(that.occurred);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(eventId, occurred.toInstant());
+    }
+
+    @Override
+    public String toString() {
+        return GoodDataToStringBuilder.defaultToString(this);
+    }
+}
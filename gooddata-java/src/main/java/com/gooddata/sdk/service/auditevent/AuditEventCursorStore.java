@@ -0,0 +1,30 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.auditevent;
+
+/**
+ * Storage of the {@link AuditEventCursor} of the audit event tailing, so the tailing is resumed after restart
+ * where it has stopped.
+ *
+ * @see FileAuditEventCursorStore
+ * @see AuditEventTail
+ */
+public interface AuditEventCursorStore {
+
+    /**
+     * Loads the stored cursor.
+     *
+     * @return stored cursor, null when nothing is stored yet
+     */
+    AuditEventCursor load();
+
+    /**
+     * Stores the cursor, replacing the stored one.
+     *
+     * @param cursor cursor to store
+     */
+    void save(AuditEventCursor cursor);
+}
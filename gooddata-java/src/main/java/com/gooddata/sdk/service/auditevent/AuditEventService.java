@@ -70,7 +70,7 @@ public class AuditEventService extends AbstractService {
         notNull(page, "page");
 
         final String uri = ADMIN_URI_TEMPLATE.expand(domainId).toString();
-        return new PageBrowser<>(page, (p) -> doListAuditEvents(getAuditEventsUri(p, uri)));
+        return createPageBrowser(page, (p) -> doListAuditEvents(getAuditEventsUri(p, uri)));
     }
 
     /**
@@ -101,7 +101,7 @@ public class AuditEventService extends AbstractService {
 
         final String uri = USER_URI_TEMPLATE.expand(account.getId()).toString();
 
-        return new PageBrowser<>(page, (p) -> doListAuditEvents(getAuditEventsUri(p, uri)));
+        return createPageBrowser(page, (p) -> doListAuditEvents(getAuditEventsUri(p, uri)));
     }
 
     /**
@@ -128,6 +128,46 @@ public class AuditEventService extends AbstractService {
         return listAuditEvents(account, page);
     }
 
+    /**
+     * Tail audit events of the given domain id, continuing after the cursor stored in the given store
+     *
+     * @param domainId domain id
+     * @param page     request parameters (type filter, page size and start time used when no cursor is stored)
+     * @param store    store of the cursor, see {@link FileAuditEventCursorStore}
+     * @return tailing of the events
+     */
+    public AuditEventTail tailAuditEvents(final String domainId, final AuditEventPageRequest page,
+                                          final AuditEventCursorStore store) {
+        notEmpty(domainId, "domainId");
+        notNull(page, "page");
+
+        return createTail(ADMIN_URI_TEMPLATE.expand(domainId).toString(), page, store);
+    }
+
+    /**
+     * Tail audit events of the given account, continuing after the cursor stored in the given store
+     *
+     * @param account account with valid id
+     * @param page    request parameters (type filter, page size and start time used when no cursor is stored)
+     * @param store   store of the cursor, see {@link FileAuditEventCursorStore}
+     * @return tailing of the events
+     */
+    public AuditEventTail tailAuditEvents(final Account account, final AuditEventPageRequest page,
+                                          final AuditEventCursorStore store) {
+        notNull(account, "account");
+        notEmpty(account.getId(), "account.id");
+        notNull(page, "page");
+
+        return createTail(USER_URI_TEMPLATE.expand(account.getId()).toString(), page, store);
+    }
+
+    private AuditEventTail createTail(final String uri, final AuditEventPageRequest page,
+                                      final AuditEventCursorStore store) {
+        return new AuditEventTail(
+                (p) -> createPageBrowser(p, (next) -> doListAuditEvents(getAuditEventsUri(next, uri))),
+                page, store);
+    }
+
     private AuditEvents doListAuditEvents(final String uri) {
         try {
             return restTemplate.getForObject(uri, AuditEvents.class);
@@ -0,0 +1,117 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.auditevent;
+
+import com.gooddata.sdk.common.collections.PageBrowser;
+import com.gooddata.sdk.common.collections.PageRequest;
+import com.gooddata.sdk.model.auditevent.AuditEvent;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static com.gooddata.sdk.common.util.Validate.notNull;
+
+/**
+ * Incremental reading of audit events. Every {@link #poll(Consumer)} reads the events following the
+ * {@link AuditEventCursor cursor}, passes them to the consumer and moves the cursor after the last consumed event.
+ * The cursor is checkpointed to the {@link AuditEventCursorStore} after every page of events and at the end of
+ * the poll, so the tailing is resumed where it has stopped, also after restart.
+ * <p>
+ * The events are listed from the cursor position (using the offset of the last event), so a poll without new events
+ * costs a single request with an empty page. To export the events continuously, call {@link #poll(Consumer)}
+ * periodically, e.g. from a {@link java.util.concurrent.ScheduledExecutorService}.
+ *
+ * @see AuditEventService#tailAuditEvents(String, AuditEventPageRequest, AuditEventCursorStore)
+ */
+public class AuditEventTail {
+
+    private final Function<PageRequest, PageBrowser<AuditEvent>> listing;
+    private final AuditEventPageRequest page;
+    private final AuditEventCursorStore store;
+
+    private AuditEventCursor cursor;
+    private boolean loaded;
+
+    /**
+     * @param listing lists the events starting with the given page
+     * @param page    parameters of the listing (type filter, page size and start time when there is no stored cursor)
+     * @param store   store of the cursor
+     */
+    AuditEventTail(final Function<PageRequest, PageBrowser<AuditEvent>> listing, final AuditEventPageRequest page,
+                   final AuditEventCursorStore store) {
+        this.listing = notNull(listing, "listing");
+        this.page = AuditEventPageRequest.copy(notNull(page, "page"));
+        this.store = notNull(store, "store");
+    }
+
+    /**
+     * Reads the events following the cursor and passes them to the consumer in the order they're listed.
+     * When the consumer fails, the cursor stays after the last successfully consumed event.
+     *
+     * @param consumer consumer of the new events
+     * @return number of the consumed events
+     * @throws AuditEventsForbiddenException if the audit events are not accessible
+     */
+    public synchronized int poll(final Consumer<? super AuditEvent> consumer) {
+        notNull(consumer, "consumer");
+        if (!loaded) {
+            cursor = store.load();
+            loaded = true;
+        }
+        final AuditEventPageRequest request = AuditEventPageRequest.copy(page);
+        if (cursor != null) {
+            if (cursor.getEventId() != null) {
+                request.setOffset(cursor.getEventId());
+            } else {
+                request.setFrom(cursor.getOccurred());
+            }
+        }
+
+        final int pageSize = request.getSanitizedLimit();
+        AuditEventCursor saved = cursor;
+        int consumed = 0;
+        try {
+            final Iterator<AuditEvent> events = listing.apply(request).allItemsStream().iterator();
+            while (events.hasNext()) {
+                final AuditEvent event = events.next();
+                // the event at the offset may be listed again
+                if (cursor != null && event.getId().equals(cursor.getEventId())) {
+                    continue;
+                }
+                consumer.accept(event);
+                cursor = AuditEventCursor.after(event);
+                if (++consumed % pageSize == 0) {
+                    store.save(cursor);
+                    saved = cursor;
+                }
+            }
+        } catch (RuntimeException | Error e) {
+            try {
+                saveConsumed(saved);
+            } catch (RuntimeException saveFailure) {
+                // the failure of the listing or the consumer is the primary one
+                e.addSuppressed(saveFailure);
+            }
+            throw e;
+        }
+        saveConsumed(saved);
+        return consumed;
+    }
+
+    private void saveConsumed(final AuditEventCursor saved) {
+        if (cursor != null && !cursor.equals(saved)) {
+            store.save(cursor);
+        }
+    }
+
+    /**
+     * @return position after the last consumed event, null when nothing has been consumed or stored yet
+     */
+    public synchronized AuditEventCursor getCursor() {
+        return loaded ? cursor : store.load();
+    }
+}
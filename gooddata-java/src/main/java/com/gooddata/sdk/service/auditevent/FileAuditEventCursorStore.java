@@ -0,0 +1,96 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.auditevent;
+
+import com.gooddata.sdk.common.GoodDataException;
+import com.gooddata.sdk.common.util.GoodDataToStringBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Properties;
+
+import static com.gooddata.sdk.common.util.Validate.notNull;
+
+/**
+ * {@link AuditEventCursorStore} keeping the cursor in a properties file. The file is replaced atomically
+ * (written next to the target and moved over it), so it's never left partially written.
+ */
+public class FileAuditEventCursorStore implements AuditEventCursorStore {
+
+    private static final String EVENT_ID = "eventId";
+    private static final String OCCURRED = "occurred";
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+    private final Path path;
+
+    /**
+     * @param path file to store the cursor to, the parent directory must exist
+     */
+    public FileAuditEventCursorStore(final Path path) {
+        this.path = notNull(path, "path");
+    }
+
+    @Override
+    public synchronized AuditEventCursor load() {
+        final Properties properties = new Properties();
+        try (InputStream input = Files.newInputStream(path)) {
+            properties.load(input);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new GoodDataException("Unable to read audit event cursor from " + path, e);
+        }
+        final String occurred = properties.getProperty(OCCURRED);
+        if (occurred == null) {
+            throw new GoodDataException("Invalid audit event cursor in " + path + ", missing " + OCCURRED);
+        }
+        try {
+            return new AuditEventCursor(properties.getProperty(EVENT_ID), ZonedDateTime.parse(occurred, FORMATTER));
+        } catch (DateTimeParseException e) {
+            throw new GoodDataException("Invalid audit event cursor in " + path, e);
+        }
+    }
+
+    @Override
+    public synchronized void save(final AuditEventCursor cursor) {
+        notNull(cursor, "cursor");
+        final Properties properties = new Properties();
+        if (cursor.getEventId() != null) {
+            properties.setProperty(EVENT_ID, cursor.getEventId());
+        }
+        properties.setProperty(OCCURRED, FORMATTER.format(cursor.getOccurred()));
+
+        final Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            try (OutputStream output = Files.newOutputStream(temp)) {
+                properties.store(output, null);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new GoodDataException("Unable to store audit event cursor to " + path, e);
+        }
+    }
+
+    /**
+     * @return file the cursor is stored to
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public String toString() {
+        return GoodDataToStringBuilder.defaultToString(this);
+    }
+}
@@ -22,6 +22,7 @@ import com.gooddata.sdk.service.AbstractService;
 import com.gooddata.sdk.service.FutureResult;
 import com.gooddata.sdk.service.GoodDataSettings;
 import com.gooddata.sdk.service.PollResult;
+import com.gooddata.sdk.service.PollType;
 import com.gooddata.sdk.service.SimplePollHandler;
 import com.gooddata.sdk.service.project.ProjectService;
 import org.springframework.http.HttpStatus;
@@ -343,7 +344,7 @@ public class ConnectorService extends AbstractService {
                 throw new ConnectorException(format("%s process %s failed: %s", connectorType, processId,
                         e.getText()), e);
             }
-        });
+        }.withPollType(PollType.PROCESS_EXECUTION));
     }
 
 }
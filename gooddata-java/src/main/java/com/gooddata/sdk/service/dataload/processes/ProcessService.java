@@ -27,13 +27,14 @@ import com.gooddata.sdk.service.AbstractService;
 import com.gooddata.sdk.service.FutureResult;
 import com.gooddata.sdk.service.GoodDataSettings;
 import com.gooddata.sdk.service.PollResult;
+import com.gooddata.sdk.service.PollType;
 import com.gooddata.sdk.service.SimplePollHandler;
 import com.gooddata.sdk.service.account.AccountService;
 import com.gooddata.sdk.service.gdc.DataStoreService;
 import com.gooddata.sdk.service.util.ZipHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.AbstractResource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -43,18 +44,23 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriTemplate;
 
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
 import java.net.URI;
-import java.nio.file.Files;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.gooddata.sdk.common.util.Validate.notEmpty;
 import static com.gooddata.sdk.common.util.Validate.notNull;
@@ -129,6 +135,10 @@ public class ProcessService extends AbstractService {
     /**
      * Create new process with given data by given project.
      * Process must have null path to prevent clashes with deploying from appstore.
+     * <p>
+     * The process data are zipped while being sent. Data larger than 1MB before compression (the size of the file
+     * or the total size of the files in the directory) are uploaded to the user staging first, smaller data are sent
+     * within the request.
      *
      * @param project     project to which the process belongs
      * @param process     to create
@@ -178,6 +188,7 @@ public class ProcessService extends AbstractService {
     /**
      * Update process with given data by given project.
      * Process must have null path to prevent clashes with deploying from appstore.
+     * The process data are sent the same way as by {@link #createProcess(Project, DataloadProcess, File)}.
      *
      * @param process     to create
      * @param processData process data to upload
@@ -366,7 +377,7 @@ public class ProcessService extends AbstractService {
                 }
             }
 
-        });
+        }.withPollType(PollType.PROCESS_EXECUTION));
     }
 
     /**
@@ -470,7 +481,7 @@ public class ProcessService extends AbstractService {
                                                final PageRequest startPage) {
         notNull(project, "project");
         notNull(startPage, "startPage");
-        return new PageBrowser<>(startPage, page -> listSchedules(getSchedulesUri(project, page)));
+        return createPageBrowser(startPage, page -> listSchedules(getSchedulesUri(project, page)));
     }
 
     /**
@@ -524,7 +535,7 @@ public class ProcessService extends AbstractService {
             public void handlePollException(final GoodDataRestException e) {
                 throw new ScheduleExecutionException("Cannot execute schedule", e);
             }
-        });
+        }.withPollType(PollType.PROCESS_EXECUTION));
     }
 
     private Page<Schedule> listSchedules(URI uri) {
@@ -562,27 +573,18 @@ public class ProcessService extends AbstractService {
     }
 
     private DataloadProcess postProcess(DataloadProcess process, File processData, URI postUri) {
-        File tempFile = createTempFile("process", ".zip");
-
-        try (OutputStream output = Files.newOutputStream(tempFile.toPath())) {
-            ZipHelper.zip(processData, output);
-        } catch (IOException e) {
-            throw new GoodDataException("Unable to zip process data", e);
-        }
+        // the archive is streamed while being sent, so only the uncompressed size is known upfront
+        final long estimatedSize = ZipHelper.estimateZipSize(processData);
 
         Object processToSend;
         HttpMethod method = HttpMethod.POST;
-        if (dataStoreService != null && tempFile.length() > MAX_MULTIPART_SIZE) {
-            try (final InputStream input = Files.newInputStream(tempFile.toPath())) {
-                process.setPath(dataStoreService.getUri(tempFile.getName()).getPath());
-                dataStoreService.upload(tempFile.getName(), input);
-                processToSend = process;
-                if (PROCESS_TEMPLATE.matches(postUri.toString())) {
-                    method = HttpMethod.PUT;
-                }
-            } catch (IOException e) {
-                throw new GoodDataException("Unable to access zipped process data at "
-                        + tempFile.getAbsolutePath(), e);
+        if (dataStoreService != null && estimatedSize > MAX_MULTIPART_SIZE) {
+            final String fileName = "process-" + UUID.randomUUID() + ".zip";
+            process.setPath(dataStoreService.getUri(fileName).getPath());
+            dataStoreService.upload(fileName, output -> zip(processData, output));
+            processToSend = process;
+            if (PROCESS_TEMPLATE.matches(postUri.toString())) {
+                method = HttpMethod.PUT;
             }
         } else {
             if (dataStoreService == null) { // we have no WebDAV support, so let's try send big file by multipart
@@ -595,7 +597,7 @@ public class ProcessService extends AbstractService {
             parts.add("process", process);
             final HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MEDIA_TYPE_ZIP);
-            parts.add("data", new HttpEntity<>(new FileSystemResource(tempFile), headers));
+            parts.add("data", new HttpEntity<>(new ZippedProcessData(processData), headers));
             processToSend = parts;
         }
 
@@ -608,32 +610,39 @@ public class ProcessService extends AbstractService {
             return response.getBody();
         } catch (GoodDataException | RestClientException e) {
             throw new GoodDataException("Unable to post dataload process.", e);
-        } finally {
-            deleteTempFile(tempFile);
         }
     }
 
+    /**
+     * Zips the process data to the output, which is left open.
+     */
+    private static void zip(final File processData, final OutputStream output) throws IOException {
+        ZipHelper.zip(processData, StreamUtils.nonClosing(output));
+    }
+
     private FutureResult<DataloadProcess> postProcess(DataloadProcess process, URI postUri, HttpMethod method) {
         try {
             ResponseEntity<String> exchange = restTemplate.exchange(postUri, method, new HttpEntity<>(process), String.class);
             if (exchange.getStatusCode() == HttpStatus.ACCEPTED) { //deployment worker will create process
-                AsyncTask asyncTask = mapper.readValue(exchange.getBody(), AsyncTask.class);
+                final AsyncTask asyncTask = getCodec().reader(AsyncTask.class)
+                        .readValue(exchange.getBody());
                 return new PollResult<>(this, new SimplePollHandler<DataloadProcess>(asyncTask.getUri(), DataloadProcess.class) {
 
                     @Override
                     public void handlePollException(GoodDataRestException e) {
                         throw new GoodDataException("Creating process failed", e);
                     }
-                });
+                }.withPollType(PollType.PROCESS_DEPLOYMENT));
             } else if (exchange.getStatusCode() == HttpStatus.OK) { //object has been found in package registry, deployment worker is not triggered
-                final DataloadProcess dataloadProcess = mapper.readValue(exchange.getBody(), DataloadProcess.class);
+                final DataloadProcess dataloadProcess = getCodec().reader(DataloadProcess.class)
+                        .readValue(exchange.getBody());
                 return new PollResult<>(this, new SimplePollHandler<DataloadProcess>(dataloadProcess.getUri(), DataloadProcess.class) {
 
                     @Override
                     public void handlePollException(GoodDataRestException e) {
                         throw new GoodDataException("Creating process failed", e);
                     }
-                });
+                }.withPollType(PollType.PROCESS_DEPLOYMENT));
             } else {
                 throw new IllegalStateException("Unexpected status code from resource: " + exchange.getStatusCode());
             }
@@ -650,21 +659,77 @@ public class ProcessService extends AbstractService {
         }
     }
 
-    private File createTempFile(String prefix, String suffix) {
-        File tempFile;
-        try {
-            tempFile = File.createTempFile(prefix, suffix);
-            tempFile.deleteOnExit();
-        } catch (IOException e) {
-            throw new GoodDataException("Unable to create temporary file", e);
+    /**
+     * Process data zipped on the fly. Each opened stream is fed by a zipping task running on the request executor,
+     * so the archive is stored neither in memory nor in a temporary file. A failure to zip the data is reported
+     * by the stream instead of its end, so the truncated archive is never sent completely.
+     */
+    private final class ZippedProcessData extends AbstractResource {
+
+        private static final int PIPE_SIZE = 64 * 1024;
+
+        private final File processData;
+
+        private ZippedProcessData(final File processData) {
+            this.processData = processData;
+        }
+
+        @Override
+        public String getFilename() {
+            return "process.zip";
         }
-        return tempFile;
-    }
 
-    private void deleteTempFile(File file) {
-        notNull(file, "file");
-        if (!file.delete()) {
-            // ignored
+        @Override
+        public String getDescription() {
+            return "zipped process data " + processData;
+        }
+
+        @Override
+        public long contentLength() {
+            return -1;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            final PipedInputStream input = new PipedInputStream(PIPE_SIZE);
+            final PipedOutputStream output = new PipedOutputStream(input);
+            final AtomicReference<IOException> failure = new AtomicReference<>();
+            getRequestExecutor().execute(() -> {
+                try {
+                    zip(processData, output);
+                } catch (IOException | RuntimeException e) {
+                    // set before the pipe is closed, so the reader sees the failure instead of the end of stream
+                    failure.set(e instanceof IOException ? (IOException) e : new IOException(e));
+                } finally {
+                    closeQuietly(output);
+                }
+            });
+            return new FilterInputStream(input) {
+                @Override
+                public int read() throws IOException {
+                    return checkFailure(super.read());
+                }
+
+                @Override
+                public int read(final byte[] b, final int off, final int len) throws IOException {
+                    return checkFailure(super.read(b, off, len));
+                }
+
+                private int checkFailure(final int result) throws IOException {
+                    if (result == -1 && failure.get() != null) {
+                        throw new IOException("Unable to zip process data", failure.get());
+                    }
+                    return result;
+                }
+            };
+        }
+
+        private void closeQuietly(final OutputStream output) {
+            try {
+                output.close();
+            } catch (IOException e) {
+                logger.debug("Unable to close process data pipe", e);
+            }
         }
     }
 }
@@ -30,11 +30,16 @@ import com.gooddata.sdk.service.AbstractPollHandler;
 import com.gooddata.sdk.service.AbstractService;
 import com.gooddata.sdk.service.FutureResult;
 import com.gooddata.sdk.service.GoodDataSettings;
+import com.gooddata.sdk.service.ParallelismSettings;
 import com.gooddata.sdk.service.PollResult;
+import com.gooddata.sdk.service.PollType;
 import com.gooddata.sdk.service.gdc.DataStoreException;
 import com.gooddata.sdk.service.gdc.DataStoreService;
+import com.gooddata.sdk.service.gdc.UploadCompression;
 import com.gooddata.sdk.service.project.model.ModelService;
 import org.apache.commons.lang3.RandomStringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
@@ -48,6 +53,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import static com.gooddata.sdk.common.util.Validate.notEmpty;
 import static com.gooddata.sdk.common.util.Validate.notNull;
@@ -67,12 +77,15 @@ public class DatasetService extends AbstractService {
     private static final String MANIFEST_FILE_NAME = "upload_info.json";
     private static final String ETL_PULL_DEFAULT_ERROR_MESSAGE = "ETL Pull failed with status %s";
 
+    private final Logger logger = LoggerFactory.getLogger(getClass());
     private final DataStoreService dataStoreService;
+    private final int uploadParallelism;
 
     public DatasetService(final RestTemplate restTemplate, final DataStoreService dataStoreService,
                           final GoodDataSettings settings) {
         super(restTemplate, settings);
         this.dataStoreService = dataStoreService;
+        this.uploadParallelism = settings.getParallelismSettings().getUploadParallelism();
     }
 
     /**
@@ -147,6 +160,11 @@ public class DatasetService extends AbstractService {
      * Loads datasets into platform. Uploads given datasets and their manifests to staging area and triggers ETL pull.
      * The call is asynchronous returning {@link FutureResult} to let caller wait for results.
      * Uploaded files are deleted from staging area when finished.
+     * <p>
+     * The datasets are uploaded concurrently, at most {@link ParallelismSettings#getUploadParallelism()} at once.
+     * When any of the uploads fails, the remaining ones are not started and the staging area is cleaned up once
+     * the uploads already in progress finish. These are not cancelled, since the blocking WebDAV upload can't be
+     * interrupted.
      *
      * @param project  project to which dataset belongs
      * @param datasets map dataset manifests
@@ -156,32 +174,112 @@ public class DatasetService extends AbstractService {
      * @see <a href="https://developer.gooddata.com/article/multiload-of-csv-data">batch upload reference</a>
      */
     public FutureResult<Void> loadDatasets(final Project project, final Collection<DatasetManifest> datasets) {
+        return doLoadDatasets(project, datasets, null);
+    }
+
+    /**
+     * Loads datasets into platform like {@link #loadDatasets(Project, Collection)}, but compresses the datasets while
+     * uploading them to staging area. Each dataset is stored under its {@link DatasetManifest#getFile() file} name
+     * with the {@link UploadCompression#getExtension() extension} of the compression and the uploaded manifest
+     * references the compressed files. Given manifests are not modified.
+     *
+     * @param project     project to which dataset belongs
+     * @param datasets    map dataset manifests
+     * @param compression compression of the uploaded datasets
+     * @return {@link FutureResult} of the task, which can throw {@link DatasetException}
+     * in case the ETL pull task fails
+     * @throws DatasetException if there is a problem to serialize manifest or upload dataset
+     */
+    public FutureResult<Void> loadDatasets(final Project project, final Collection<DatasetManifest> datasets,
+                                           final UploadCompression compression) {
+        notNull(compression, "compression");
+        return doLoadDatasets(project, datasets, compression);
+    }
+
+    private FutureResult<Void> doLoadDatasets(final Project project, final Collection<DatasetManifest> datasets,
+                                              final UploadCompression compression) {
         if (dataStoreService == null) {
             throw new UnsupportedOperationException("WebDAV calls not supported. Please add com.github.lookfirst:sardine to dependencies.");
         }
 
         notNull(project, "project");
         validateUploadManifests(datasets);
-        final List<String> datasetsNames = new ArrayList<>(datasets.size());
+        final List<String> datasetsNames = datasets.stream()
+                .map(DatasetManifest::getDataSet)
+                .collect(Collectors.toList());
+        final String dirPath = "/" + project.getId() + "_" + RandomStringUtils.randomAlphabetic(3) + "/";
         try {
-            final String dirPath = "/" + project.getId() + "_" + RandomStringUtils.randomAlphabetic(3) + "/";
-            for (DatasetManifest datasetManifest : datasets) {
-                datasetsNames.add(datasetManifest.getDataSet());
-                dataStoreService.upload(dirPath + datasetManifest.getFile(), datasetManifest.getSource());
-            }
-
-            final String manifestJson = mapper.writeValueAsString(new DatasetManifests(datasets));
+            uploadDatasets(dirPath, datasets, compression);
+
+            final DatasetManifests manifests = new DatasetManifests(compression == null
+                    ? datasets
+                    : datasets.stream()
+                        .map(dataset -> new DatasetManifest(dataset.getDataSet(),
+                                dataset.getFile() + compression.getExtension(), dataset.getParts()))
+                        .collect(Collectors.toList()));
+            final String manifestJson = getCodec().writer(DatasetManifests.class).writeValueAsString(manifests);
             final ByteArrayInputStream inputStream = new ByteArrayInputStream(manifestJson.getBytes(UTF_8));
             dataStoreService.upload(dirPath + MANIFEST_FILE_NAME, inputStream);
 
             return pullLoad(project, dirPath, datasetsNames);
         } catch (IOException e) {
+            deleteStagingDir(dirPath);
             throw new DatasetException("Unable to serialize manifest", datasetsNames, e);
         } catch (DataStoreException | GoodDataRestException | RestClientException e) {
+            deleteStagingDir(dirPath);
             throw new DatasetException("Unable to load", datasetsNames, e);
         }
     }
 
+    /**
+     * Uploads sources of the datasets to given staging directory, keeping at most {@link #uploadParallelism} uploads
+     * in flight. The first failure stops starting of further uploads and is rethrown once the running ones finish
+     * (they can't be interrupted).
+     */
+    private void uploadDatasets(final String dirPath, final Collection<DatasetManifest> datasets,
+                                final UploadCompression compression) {
+        // a single upload is done from the calling thread
+        final Executor executor = datasets.size() > 1 && uploadParallelism > 1
+                ? getRequestExecutor()
+                : Runnable::run;
+        final Semaphore permits = new Semaphore(uploadParallelism);
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        final List<CompletableFuture<Void>> uploads = new ArrayList<>(datasets.size());
+        for (DatasetManifest dataset : datasets) {
+            permits.acquireUninterruptibly();
+            if (failure.get() != null) {
+                permits.release();
+                break;
+            }
+            uploads.add(CompletableFuture.runAsync(() -> {
+                try {
+                    if (compression == null) {
+                        dataStoreService.upload(dirPath + dataset.getFile(), dataset.getSource());
+                    } else {
+                        dataStoreService.upload(dirPath + dataset.getFile() + compression.getExtension(),
+                                dataset.getSource(), compression);
+                    }
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    permits.release();
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0])).join();
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    private void deleteStagingDir(final String dirPath) {
+        try {
+            dataStoreService.delete(dirPath);
+        } catch (DataStoreException e) {
+            logger.warn("Unable to delete staging directory {}", dirPath, e);
+        }
+    }
+
     private void validateUploadManifests(final Collection<DatasetManifest> datasets) {
         notEmpty(datasets, "datasets");
         for (DatasetManifest datasetManifest : datasets) {
@@ -222,13 +320,9 @@ public class DatasetService extends AbstractService {
 
             @Override
             protected void onFinish() {
-                try {
-                    dataStoreService.delete(dirPath);
-                } catch (DataStoreException ignored) {
-                    // todo log?
-                }
+                deleteStagingDir(dirPath);
             }
-        });
+        }.withPollType(PollType.ETL_PULL));
     }
 
     /**
@@ -296,7 +390,7 @@ public class DatasetService extends AbstractService {
                         throw new GoodDataException("Unable to optimize SLI hash: " + getPollingUri(), e);
                     }
 
-                });
+                }.withPollType(PollType.DATA_UPDATE));
 
     }
 
@@ -345,7 +439,7 @@ public class DatasetService extends AbstractService {
                     public void handlePollException(final GoodDataRestException e) {
                         throw new GoodDataException(errorMessage + ": " + getPollingUri(), e);
                     }
-                });
+                }.withPollType(PollType.DATA_UPDATE));
     }
 
     /**
@@ -5,23 +5,32 @@
  */
 package com.gooddata.sdk.service.executeafm;
 
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.gooddata.sdk.common.GoodDataException;
 import com.gooddata.sdk.common.GoodDataRestException;
 import com.gooddata.sdk.model.executeafm.Execution;
 import com.gooddata.sdk.model.executeafm.ResultPage;
 import com.gooddata.sdk.model.executeafm.VisualizationExecution;
 import com.gooddata.sdk.model.executeafm.response.ExecutionResponse;
+import com.gooddata.sdk.model.executeafm.result.ColumnarExecutionResult;
 import com.gooddata.sdk.model.executeafm.result.ExecutionResult;
 import com.gooddata.sdk.model.project.Project;
 import com.gooddata.sdk.service.AbstractService;
 import com.gooddata.sdk.service.FutureResult;
 import com.gooddata.sdk.service.GoodDataSettings;
 import com.gooddata.sdk.service.PollResult;
+import com.gooddata.sdk.service.PollType;
 import com.gooddata.sdk.service.SimplePollHandler;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import static com.gooddata.sdk.common.util.Validate.notNull;
 
 /**
@@ -53,6 +62,13 @@ public class ExecuteAfmService extends AbstractService {
      */
     public static final String RESULT_LIMIT = "limit";
 
+    private static final Pattern RESULT_PROJECT = Pattern.compile("^/gdc/app/projects/([^/?]+)/");
+    private static final String EXECUTION_KEY = "execution:";
+    private static final String RESULT_KEY = "result:";
+
+    private final ExecutionResultCache resultCache;
+    private final ObjectWriter executionWriter;
+
     /**
      * Constructor.
      *
@@ -61,10 +77,17 @@ public class ExecuteAfmService extends AbstractService {
      */
     public ExecuteAfmService(final RestTemplate restTemplate, final GoodDataSettings settings) {
         super(restTemplate, settings);
+        this.resultCache = settings.getExecutionResultCacheSettings() != null
+                ? new ExecutionResultCache(settings.getExecutionResultCacheSettings())
+                : null;
+        // equal executions are written equally, regardless of the order their maps were filled in
+        this.executionWriter = getCodec().writer(Execution.class).with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
     }
 
     /**
-     * Executes the given AFM execution returning the execution response
+     * Executes the given AFM execution returning the execution response. When the execution result cache is enabled
+     * (see {@link GoodDataSettings#setExecutionResultCacheSettings(ExecutionResultCacheSettings)}), the response
+     * of equal execution of the same project is served from the cache.
      *
      * @param project   project of the execution
      * @param execution execution
@@ -72,6 +95,11 @@ public class ExecuteAfmService extends AbstractService {
      */
     public ExecutionResponse executeAfm(final Project project, final Execution execution) {
         final String projectId = notNull(notNull(project, "project").getId(), "projectId");
+        final String cacheKey = executionKey(notNull(execution, "execution"));
+        final ExecutionResponse cached = getCached(projectId, cacheKey, ExecutionResponse.class);
+        if (cached != null) {
+            return cached;
+        }
         final ExecutionResponse response;
         try {
             response = restTemplate.postForObject(
@@ -87,9 +115,44 @@ public class ExecuteAfmService extends AbstractService {
             throw new GoodDataException("Empty response when execution posted to API");
         }
 
+        putCached(projectId, cacheKey, response);
         return response;
     }
 
+    /**
+     * Executes the given AFM execution asynchronously. The calling thread is not blocked by the request when the REST
+     * provider supports asynchronous transport (see
+     * {@link com.gooddata.sdk.service.httpcomponents.AsyncGoodDataRestProvider}).
+     * <p>
+     * The result of the execution can be then obtained asynchronously by
+     * {@link #getResult(ExecutionResponse)} and {@link FutureResult#toCompletableFuture()}. The response is cached
+     * the same way as by {@link #executeAfm(Project, Execution)}.
+     *
+     * @param project   project of the execution
+     * @param execution execution to execute
+     * @return future completed by the execution response or exceptionally by {@link GoodDataException}
+     */
+    public CompletableFuture<ExecutionResponse> executeAfmAsync(final Project project, final Execution execution) {
+        final String projectId = notNull(notNull(project, "project").getId(), "projectId");
+        final String cacheKey = executionKey(notNull(execution, "execution"));
+        final ExecutionResponse cached = getCached(projectId, cacheKey, ExecutionResponse.class);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return getAsyncRestOperations()
+                .postForObjectAsync(AFM_EXECUTION_URI, execution, ExecutionResponse.class, projectId)
+                .handle((response, failure) -> {
+                    if (failure != null) {
+                        throw new GoodDataException("Unable to execute AFM", unwrapCompletionException(failure));
+                    }
+                    if (response == null) {
+                        throw new GoodDataException("Empty response when execution posted to API");
+                    }
+                    putCached(projectId, cacheKey, response);
+                    return response;
+                });
+    }
+
     /**
      * Executes the given execution returning the execution response
      *
@@ -118,38 +181,176 @@ public class ExecuteAfmService extends AbstractService {
     }
 
     /**
-     * Get for result of given response.
+     * Get for result of given response. When the execution result cache is enabled
+     * (see {@link GoodDataSettings#setExecutionResultCacheSettings(ExecutionResultCacheSettings)}), the result
+     * is served from the cache without polling.
      *
      * @param executionResponse response to get the result
      * @return future of execution result
      */
     public FutureResult<ExecutionResult> getResult(final ExecutionResponse executionResponse) {
-        return new PollResult<>(this, new ExecutionPollHandler(notNull(executionResponse, "executionResponse").getExecutionResultUri()));
+        return getResult(notNull(executionResponse, "executionResponse").getExecutionResultUri());
     }
 
     /**
-     * Get for page of result of given response.
+     * Get for page of result of given response. When the execution result cache is enabled
+     * (see {@link GoodDataSettings#setExecutionResultCacheSettings(ExecutionResultCacheSettings)}), every page
+     * is cached separately and served from the cache without polling.
      *
      * @param executionResponse response to get the result
      * @param page              desired result page specification
      * @return future of execution result
      */
     public FutureResult<ExecutionResult> getResult(final ExecutionResponse executionResponse, final ResultPage page) {
+        return getResult(getPagedResultUri(executionResponse, page));
+    }
+
+    /**
+     * Get for result of given response with data in compact primitive representation. Unlike
+     * {@link #getResult(ExecutionResponse)} no object per data cell is allocated, which makes it suitable for large
+     * results.
+     *
+     * @param executionResponse response to get the result
+     * @return future of execution result
+     */
+    public FutureResult<ColumnarExecutionResult> getColumnarResult(final ExecutionResponse executionResponse) {
+        return new PollResult<>(this, new ExecutionPollHandler<>(
+                notNull(executionResponse, "executionResponse").getExecutionResultUri(), ColumnarExecutionResult.class));
+    }
+
+    /**
+     * Get for page of result of given response with data in compact primitive representation. Unlike
+     * {@link #getResult(ExecutionResponse, ResultPage)} no object per data cell is allocated, which makes it suitable
+     * for large result pages.
+     *
+     * @param executionResponse response to get the result
+     * @param page              desired result page specification
+     * @return future of execution result
+     */
+    public FutureResult<ColumnarExecutionResult> getColumnarResult(final ExecutionResponse executionResponse,
+                                                                   final ResultPage page) {
+        return new PollResult<>(this, new ExecutionPollHandler<>(getPagedResultUri(executionResponse, page),
+                ColumnarExecutionResult.class));
+    }
+
+    /**
+     * Get fetcher of all pages of result of given response. The pages are fetched concurrently and can be either
+     * streamed or assembled to a single result.
+     *
+     * @param executionResponse response to get the result
+     * @return result fetcher
+     */
+    public ExecutionResultFetcher getResultFetcher(final ExecutionResponse executionResponse) {
+        return new ExecutionResultFetcher(this, executionResponse);
+    }
+
+    /**
+     * Evict all cached executions and results
+     * (see {@link GoodDataSettings#setExecutionResultCacheSettings(ExecutionResultCacheSettings)}).
+     * Use when the data were loaded or the metadata were changed.
+     */
+    public void clearResultCache() {
+        if (resultCache != null) {
+            resultCache.invalidateAll();
+        }
+    }
+
+    /**
+     * Evict cached executions and results of given project
+     * (see {@link GoodDataSettings#setExecutionResultCacheSettings(ExecutionResultCacheSettings)}).
+     * Use when the data were loaded or the metadata were changed.
+     *
+     * @param project project
+     */
+    public void clearResultCache(final Project project) {
+        notNull(project, "project");
+        notNull(project.getId(), "project.id");
+        if (resultCache != null) {
+            resultCache.invalidateProject(project.getId());
+        }
+    }
+
+    private FutureResult<ExecutionResult> getResult(final String resultUri) {
+        final Matcher matcher = RESULT_PROJECT.matcher(resultUri);
+        if (resultCache == null || !matcher.find()) {
+            return new PollResult<>(this, new ExecutionPollHandler<>(resultUri, ExecutionResult.class));
+        }
+        final String projectId = matcher.group(1);
+        final String cacheKey = RESULT_KEY + resultUri;
+        final ExecutionResult cached = getCached(projectId, cacheKey, ExecutionResult.class);
+        if (cached != null) {
+            return new PollResult<>(this, new ExecutionPollHandler<>(resultUri, ExecutionResult.class).done(cached));
+        }
+        return new PollResult<>(this, new ExecutionPollHandler<ExecutionResult>(resultUri, ExecutionResult.class) {
+            @Override
+            public void handlePollResult(final ExecutionResult pollResult) {
+                putCached(projectId, cacheKey, pollResult);
+                super.handlePollResult(pollResult);
+            }
+        });
+    }
+
+    private String executionKey(final Execution execution) {
+        if (resultCache == null) {
+            return null;
+        }
+        try {
+            return EXECUTION_KEY + ExecutionResultCache.sha256(executionWriter.writeValueAsBytes(execution));
+        } catch (IOException e) {
+            throw new GoodDataException("Unable to serialize execution", e);
+        }
+    }
+
+    private <T> T getCached(final String projectId, final String cacheKey, final Class<T> type) {
+        if (cacheKey == null) {
+            return null;
+        }
+        final byte[] cached = resultCache.get(projectId, cacheKey);
+        if (cached == null) {
+            return null;
+        }
+        try {
+            return getCodec().reader(type).readValue(cached);
+        } catch (IOException e) {
+            throw new GoodDataException("Unable to read cached " + cacheKey, e);
+        }
+    }
+
+    private void putCached(final String projectId, final String cacheKey, final Object value) {
+        if (cacheKey == null || value == null) {
+            return;
+        }
+        try {
+            resultCache.put(projectId, cacheKey, getCodec().writer(value.getClass()).writeValueAsBytes(value));
+        } catch (IOException e) {
+            throw new GoodDataException("Unable to serialize " + cacheKey, e);
+        }
+    }
+
+    private static String getPagedResultUri(final ExecutionResponse executionResponse, final ResultPage page) {
         final String executionResultUri = notNull(executionResponse, "executionResponse").getExecutionResultUri();
 
-        final String pagedResultUri = UriComponentsBuilder.fromUriString(executionResultUri)
+        return UriComponentsBuilder.fromUriString(executionResultUri)
                 .replaceQueryParam(RESULT_OFFSET, page.getOffsetsQueryParam())
                 .replaceQueryParam(RESULT_LIMIT, page.getLimitsQueryParam())
                 .build(true)
                 .toUriString();
-
-        return new PollResult<>(this, new ExecutionPollHandler(pagedResultUri));
     }
 
-    private static final class ExecutionPollHandler extends SimplePollHandler<ExecutionResult> {
+    private static class ExecutionPollHandler<T> extends SimplePollHandler<T> {
+
+        ExecutionPollHandler(final String pollingUri, final Class<T> resultClass) {
+            super(pollingUri, resultClass);
+            withPollType(PollType.EXECUTION_RESULT);
+        }
 
-        ExecutionPollHandler(String pollingUri) {
-            super(pollingUri, ExecutionResult.class);
+        /**
+         * @param result already known result
+         * @return this, finished with the given result
+         */
+        ExecutionPollHandler<T> done(final T result) {
+            setResult(result);
+            return this;
         }
 
         @Override
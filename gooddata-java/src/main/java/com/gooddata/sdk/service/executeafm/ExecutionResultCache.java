@@ -0,0 +1,360 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.executeafm;
+
+import com.gooddata.sdk.common.GoodDataException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.gooddata.sdk.common.util.Validate.notNull;
+
+/**
+ * Size bounded LRU cache of serialized execution responses and result pages with expiration. Entries are kept
+ * in memory and, when the disk directory is configured, also in files named by the project and the SHA-256 hash
+ * of the key. The disk tier is written through, so it serves the entries evicted from memory (and the entries cached
+ * before restart) until they expire.
+ * <p>
+ * The cache is best effort - failures of the disk tier are logged and handled as cache misses.
+ * <p>
+ * For internal use by {@link ExecuteAfmService}.
+ */
+final class ExecutionResultCache {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final long ttl;
+    private final LongSupplier clock;
+    private final long maxMemorySize;
+    private final Map<Key, CachedEntry> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private long memorySize;
+
+    private final Path directory;
+    private final long maxDiskSize;
+    private final Map<String, Long> files = new LinkedHashMap<>(16, 0.75f, true);
+    private long diskSize;
+
+    ExecutionResultCache(final ExecutionResultCacheSettings settings) {
+        this(settings, System::currentTimeMillis);
+    }
+
+    ExecutionResultCache(final ExecutionResultCacheSettings settings, final LongSupplier clock) {
+        notNull(settings, "settings");
+        this.ttl = settings.getTtl();
+        this.clock = notNull(clock, "clock");
+        this.maxMemorySize = settings.getMaxMemorySize();
+        this.directory = settings.getDiskDirectory();
+        this.maxDiskSize = settings.getMaxDiskSize();
+        if (directory != null) {
+            loadDirectory();
+        }
+    }
+
+    /**
+     * @param projectId project id
+     * @param key       key of the entry within the project
+     * @return cached entry or null if not cached or expired
+     */
+    byte[] get(final String projectId, final String key) {
+        final Key memoryKey = new Key(projectId, key);
+        synchronized (memory) {
+            final CachedEntry cached = memory.get(memoryKey);
+            if (cached != null) {
+                if (!isExpired(cached.stored)) {
+                    return cached.value;
+                }
+                removeFromMemory(memoryKey);
+            }
+        }
+        if (directory == null) {
+            return null;
+        }
+        final CachedEntry cached = readFile(fileName(projectId, key));
+        if (cached != null) {
+            putToMemory(memoryKey, cached);
+            return cached.value;
+        }
+        return null;
+    }
+
+    /**
+     * Caches the entry.
+     *
+     * @param projectId project id
+     * @param key       key of the entry within the project
+     * @param value     entry to cache
+     */
+    void put(final String projectId, final String key, final byte[] value) {
+        final CachedEntry cached = new CachedEntry(value, clock.getAsLong());
+        putToMemory(new Key(projectId, key), cached);
+        if (directory != null) {
+            writeFile(fileName(projectId, key), cached);
+        }
+    }
+
+    /**
+     * Evicts all the cached entries of the project.
+     *
+     * @param projectId project id
+     */
+    void invalidateProject(final String projectId) {
+        synchronized (memory) {
+            memory.keySet().stream()
+                    .filter(key -> key.projectId.equals(projectId))
+                    .collect(Collectors.toList())
+                    .forEach(this::removeFromMemory);
+        }
+        if (directory != null) {
+            synchronized (files) {
+                files.keySet().stream()
+                        .filter(name -> name.startsWith(projectId + '_'))
+                        .collect(Collectors.toList())
+                        .forEach(this::deleteFile);
+            }
+        }
+    }
+
+    /**
+     * Evicts all the cached entries.
+     */
+    void invalidateAll() {
+        synchronized (memory) {
+            memory.clear();
+            memorySize = 0;
+        }
+        if (directory != null) {
+            synchronized (files) {
+                files.keySet().stream().collect(Collectors.toList()).forEach(this::deleteFile);
+            }
+        }
+    }
+
+    long memorySize() {
+        synchronized (memory) {
+            return memorySize;
+        }
+    }
+
+    long diskSize() {
+        synchronized (files) {
+            return diskSize;
+        }
+    }
+
+    private boolean isExpired(final long stored) {
+        return clock.getAsLong() - stored >= ttl;
+    }
+
+    private void putToMemory(final Key key, final CachedEntry cached) {
+        if (cached.value.length > maxMemorySize) {
+            return;
+        }
+        synchronized (memory) {
+            removeFromMemory(key);
+            memory.put(key, cached);
+            memorySize += cached.value.length;
+            final Iterator<CachedEntry> eldest = memory.values().iterator();
+            while (memorySize > maxMemorySize) {
+                memorySize -= eldest.next().value.length;
+                eldest.remove();
+            }
+        }
+    }
+
+    private void removeFromMemory(final Key key) {
+        final CachedEntry removed = memory.remove(key);
+        if (removed != null) {
+            memorySize -= removed.value.length;
+        }
+    }
+
+    private CachedEntry readFile(final String name) {
+        synchronized (files) {
+            // touches the file, so it's the most recently used
+            if (files.get(name) == null) {
+                return null;
+            }
+        }
+        // read without the lock, the files are replaced atomically, but they may be deleted meanwhile
+        final Path file = directory.resolve(name);
+        try {
+            final long stored = Files.getLastModifiedTime(file).toMillis();
+            if (isExpired(stored)) {
+                synchronized (files) {
+                    deleteFile(name);
+                }
+                return null;
+            }
+            return new CachedEntry(Files.readAllBytes(file), stored);
+        } catch (NoSuchFileException e) {
+            synchronized (files) {
+                // unless written again meanwhile
+                if (Files.notExists(file)) {
+                    forgetFile(name);
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            logger.warn("Unable to read cached execution result {}", file, e);
+            return null;
+        }
+    }
+
+    private void writeFile(final String name, final CachedEntry cached) {
+        if (cached.value.length > maxDiskSize) {
+            return;
+        }
+        synchronized (files) {
+            final Path file = directory.resolve(name);
+            final Path temp = directory.resolve(name + TEMP_SUFFIX);
+            try {
+                Files.write(temp, cached.value);
+                Files.setLastModifiedTime(temp, FileTime.fromMillis(cached.stored));
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                logger.warn("Unable to cache execution result to {}", file, e);
+                return;
+            }
+            forgetFile(name);
+            files.put(name, (long) cached.value.length);
+            diskSize += cached.value.length;
+            evictFiles();
+        }
+    }
+
+    private void evictFiles() {
+        while (diskSize > maxDiskSize) {
+            deleteFile(files.keySet().iterator().next());
+        }
+    }
+
+    private void deleteFile(final String name) {
+        final Path file = directory.resolve(name);
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Unable to delete cached execution result {}", file, e);
+        }
+        forgetFile(name);
+    }
+
+    private void forgetFile(final String name) {
+        final Long size = files.remove(name);
+        if (size != null) {
+            diskSize -= size;
+        }
+    }
+
+    private void loadDirectory() {
+        final List<Path> cached;
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> listing = Files.list(directory)) {
+                cached = listing
+                        .filter(Files::isRegularFile)
+                        .sorted(Comparator.comparing(ExecutionResultCache::lastModified))
+                        .collect(Collectors.toList());
+            }
+        } catch (IOException e) {
+            throw new GoodDataException("Unable to use execution result cache directory " + directory, e);
+        }
+        synchronized (files) {
+            for (Path file : cached) {
+                final String name = file.getFileName().toString();
+                if (name.endsWith(TEMP_SUFFIX)) {
+                    deleteFile(name);
+                    continue;
+                }
+                final long size = file.toFile().length();
+                files.put(name, size);
+                diskSize += size;
+            }
+            evictFiles();
+        }
+    }
+
+    private static long lastModified(final Path file) {
+        return file.toFile().lastModified();
+    }
+
+    private static String fileName(final String projectId, final String key) {
+        return projectId + '_' + sha256(key);
+    }
+
+    /**
+     * @param value value to hash
+     * @return hex encoded SHA-256 hash of the value
+     */
+    static String sha256(final byte[] value) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(value);
+            final StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String sha256(final String value) {
+        return sha256(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class Key {
+        private final String projectId;
+        private final String key;
+
+        private Key(final String projectId, final String key) {
+            this.projectId = notNull(projectId, "projectId");
+            this.key = notNull(key, "key");
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final Key that = (Key) o;
+            return projectId.equals(that.projectId) && key.equals(that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(projectId, key);
+        }
+    }
+
+    private static final class CachedEntry {
+        private final byte[] value;
+        private final long stored;
+
+        private CachedEntry(final byte[] value, final long stored) {
+            this.value = value;
+            this.stored = stored;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.executeafm;
+
+import com.gooddata.sdk.common.util.GoodDataToStringBuilder;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+import static org.springframework.util.Assert.isTrue;
+
+/**
+ * Contains settings for caching of AFM executions and their results done by {@link ExecuteAfmService}.
+ * Caching is disabled unless these settings are set using
+ * {@link com.gooddata.sdk.service.GoodDataSettings#setExecutionResultCacheSettings(ExecutionResultCacheSettings)}.
+ * <p>
+ * The cache keeps the serialized execution responses and result pages in memory and optionally also in files
+ * of the {@link #setDiskDirectory(Path) disk directory}, so they survive restart and aren't limited by the heap.
+ */
+public class ExecutionResultCacheSettings {
+
+    public static final long DEFAULT_TTL = 5 * 60 * 1000L; // 5min
+    public static final long DEFAULT_MAX_MEMORY_SIZE = 64 * 1024 * 1024L; // 64MB
+    public static final long DEFAULT_MAX_DISK_SIZE = 1024 * 1024 * 1024L; // 1GB
+
+    private long ttl = DEFAULT_TTL;
+    private long maxMemorySize = DEFAULT_MAX_MEMORY_SIZE;
+    private Path diskDirectory;
+    private long maxDiskSize = DEFAULT_MAX_DISK_SIZE;
+
+    /**
+     * Time in milliseconds for which an execution response or result page is served from the cache.
+     *
+     * @return time to live of cached entry
+     */
+    public long getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(final long ttl) {
+        isTrue(ttl > 0, "ttl has to be greater than 0");
+        this.ttl = ttl;
+    }
+
+    /**
+     * Maximal total size in bytes of the entries cached in memory. When exceeded, the least recently used entries
+     * are evicted.
+     *
+     * @return maximal size of the memory cache
+     */
+    public long getMaxMemorySize() {
+        return maxMemorySize;
+    }
+
+    public void setMaxMemorySize(final long maxMemorySize) {
+        isTrue(maxMemorySize > 0, "maxMemorySize has to be greater than 0");
+        this.maxMemorySize = maxMemorySize;
+    }
+
+    /**
+     * Directory to store the cached entries to, so they can be served also after they're evicted from memory.
+     * The directory should be dedicated to the cache, it's created when it doesn't exist.
+     *
+     * @return directory of the disk cache or null when entries are cached just in memory
+     */
+    public Path getDiskDirectory() {
+        return diskDirectory;
+    }
+
+    public void setDiskDirectory(final Path diskDirectory) {
+        this.diskDirectory = diskDirectory;
+    }
+
+    /**
+     * Maximal total size in bytes of the entries cached in the {@link #getDiskDirectory() disk directory}.
+     * When exceeded, the least recently used entries are deleted.
+     *
+     * @return maximal size of the disk cache
+     */
+    public long getMaxDiskSize() {
+        return maxDiskSize;
+    }
+
+    public void setMaxDiskSize(final long maxDiskSize) {
+        isTrue(maxDiskSize > 0, "maxDiskSize has to be greater than 0");
+        this.maxDiskSize = maxDiskSize;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final ExecutionResultCacheSettings that = (ExecutionResultCacheSettings) o;
+        return ttl == that.ttl &&
+                maxMemorySize == that.maxMemorySize &&
+                maxDiskSize == that.maxDiskSize &&
+                Objects.equals(diskDirectory, that.diskDirectory);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ttl, maxMemorySize, diskDirectory, maxDiskSize);
+    }
+
+    @Override
+    public String toString() {
+        return GoodDataToStringBuilder.defaultToString(this);
+    }
+}
@@ -24,6 +24,16 @@ public class ExecutionResultException extends GoodDataException {
         super(computeMessage(cause), cause);
     }
 
+    /**
+     * Creates new instance
+     *
+     * @param message message
+     * @param cause   cause
+     */
+    ExecutionResultException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
     private static String computeMessage(GoodDataRestException cause) {
         switch (HttpStatus.valueOf(cause.getStatusCode())) {
             case BAD_REQUEST:
@@ -0,0 +1,282 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.executeafm;
+
+import com.gooddata.sdk.common.GoodDataException;
+import com.gooddata.sdk.model.executeafm.ResultPage;
+import com.gooddata.sdk.model.executeafm.response.ExecutionResponse;
+import com.gooddata.sdk.model.executeafm.result.Data;
+import com.gooddata.sdk.model.executeafm.result.ExecutionResult;
+import com.gooddata.sdk.model.executeafm.result.Paging;
+import com.gooddata.sdk.model.executeafm.result.Warning;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static com.gooddata.sdk.common.util.Validate.notNull;
+import static java.util.Arrays.asList;
+import static org.springframework.util.Assert.isTrue;
+
+/**
+ * Fetches all pages of an {@link ExecutionResult} concurrently, keeping at most {@link #maxInFlight(int)} page
+ * requests in flight. Pages are requested and delivered in row-major order (the last dimension changes the fastest),
+ * so they can be either streamed to a callback using {@link #forEachPage(Consumer)} or assembled to a single result
+ * using {@link #fetchAll()}.
+ * <p>
+ * Obtain instance using {@link ExecuteAfmService#getResultFetcher(ExecutionResponse)}.
+ */
+public final class ExecutionResultFetcher {
+
+    /**
+     * Default page limit in every dimension.
+     */
+    public static final int DEFAULT_PAGE_LIMIT = 1000;
+
+    /**
+     * Default maximal number of pages requested concurrently.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 4;
+
+    private final ExecuteAfmService service;
+    private final ExecutionResponse executionResponse;
+    private final int dimensions;
+    private List<Integer> pageLimits;
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+    ExecutionResultFetcher(final ExecuteAfmService service, final ExecutionResponse executionResponse) {
+        this.service = notNull(service, "service");
+        this.executionResponse = notNull(executionResponse, "executionResponse");
+        this.dimensions = Math.max(1, executionResponse.getDimensions().size());
+        this.pageLimits = Collections.nCopies(dimensions, DEFAULT_PAGE_LIMIT);
+    }
+
+    /**
+     * Set page limits, one for every dimension of the result or a single one used for all dimensions.
+     *
+     * @param limits page limits
+     * @return this
+     */
+    public ExecutionResultFetcher pageLimits(final Integer... limits) {
+        notNull(limits, "limits");
+        isTrue(limits.length == 1 || limits.length == dimensions,
+                "limits must be given for each of " + dimensions + " dimensions or once for all");
+        for (Integer limit : limits) {
+            isTrue(limit != null && limit > 0, "limits must be greater than zero");
+        }
+        this.pageLimits = limits.length == 1 ? Collections.nCopies(dimensions, limits[0]) : asList(limits);
+        return this;
+    }
+
+    /**
+     * Set maximal number of page requests in flight.
+     * <p>
+     * The default value is {@value #DEFAULT_MAX_IN_FLIGHT}.
+     *
+     * @param maxInFlight maximal number of page requests in flight
+     * @return this
+     */
+    public ExecutionResultFetcher maxInFlight(final int maxInFlight) {
+        isTrue(maxInFlight > 0, "maxInFlight must be greater than zero");
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    /**
+     * Fetch all result pages and pass them to the consumer in row-major order. The consumer is called from
+     * the calling thread while next pages are being fetched.
+     *
+     * @param pageConsumer consumer of the result pages
+     * @throws ExecutionResultException when fetching of any page fails
+     */
+    public void forEachPage(final Consumer<ExecutionResult> pageConsumer) {
+        notNull(pageConsumer, "pageConsumer");
+        final ExecutionResult first;
+        try {
+            first = service.getResult(executionResponse, page(zeros())).get();
+        } catch (ExecutionResultException e) {
+            throw e;
+        } catch (GoodDataException e) {
+            throw new ExecutionResultException("Unable to fetch execution result page", e);
+        }
+        pageConsumer.accept(first);
+
+        final List<ResultPage> remaining = remainingPages(first.getPaging());
+        final Deque<CompletableFuture<ExecutionResult>> inFlight = new ArrayDeque<>();
+        int next = 0;
+        try {
+            while (next < remaining.size() || !inFlight.isEmpty()) {
+                while (next < remaining.size() && inFlight.size() < maxInFlight) {
+                    inFlight.add(service.getResult(executionResponse, remaining.get(next++)).toCompletableFuture());
+                }
+                pageConsumer.accept(join(inFlight.poll()));
+            }
+        } finally {
+            inFlight.forEach(future -> future.cancel(false));
+        }
+    }
+
+    /**
+     * Fetch all result pages and assemble them to a single result with data, header items and totals merged.
+     *
+     * @return assembled execution result
+     * @throws ExecutionResultException when fetching of any page fails
+     */
+    public ExecutionResult fetchAll() {
+        final List<ExecutionResult> pages = new ArrayList<>();
+        forEachPage(pages::add);
+        return assemble(pages);
+    }
+
+    private List<ResultPage> remainingPages(final Paging paging) {
+        final List<Integer> total = paging != null && paging.getTotal() != null ? paging.getTotal() : zeros();
+        final List<ResultPage> pages = new ArrayList<>();
+        final int rowPages = pageCount(total.get(0), pageLimits.get(0));
+        final int columnPages = dimensions > 1 ? pageCount(total.get(1), pageLimits.get(1)) : 1;
+        for (int row = 0; row < rowPages; row++) {
+            for (int column = 0; column < columnPages; column++) {
+                if (row == 0 && column == 0) {
+                    continue;
+                }
+                final List<Integer> offsets = new ArrayList<>(zeros());
+                offsets.set(0, row * pageLimits.get(0));
+                if (dimensions > 1) {
+                    offsets.set(1, column * pageLimits.get(1));
+                }
+                pages.add(page(offsets));
+            }
+        }
+        return pages;
+    }
+
+    private ExecutionResult assemble(final List<ExecutionResult> pages) {
+        final ExecutionResult first = pages.get(0);
+        if (pages.size() == 1) {
+            return first;
+        }
+        final List<Integer> total = first.getPaging().getTotal();
+        final int columnPages = dimensions > 1 ? pageCount(total.get(1), pageLimits.get(1)) : 1;
+        final int rowPages = pages.size() / columnPages;
+
+        final ExecutionResult result;
+        if (dimensions > 1) {
+            final List<String[]> rows = new ArrayList<>();
+            for (int rowPage = 0; rowPage < rowPages; rowPage++) {
+                final List<List<String>> bandRows = new ArrayList<>();
+                for (int columnPage = 0; columnPage < columnPages; columnPage++) {
+                    final List<Data> pageRows = pages.get(rowPage * columnPages + columnPage).getData();
+                    for (int i = 0; i < pageRows.size(); i++) {
+                        if (bandRows.size() <= i) {
+                            bandRows.add(new ArrayList<>());
+                        }
+                        bandRows.get(i).addAll(textValues(pageRows.get(i).asList()));
+                    }
+                }
+                bandRows.forEach(row -> rows.add(row.toArray(new String[0])));
+            }
+            result = new ExecutionResult(rows.toArray(new String[0][]), fullPaging(total));
+        } else {
+            final List<String> values = new ArrayList<>();
+            pages.forEach(page -> values.addAll(textValues(page.getData())));
+            result = new ExecutionResult(values.toArray(new String[0]), fullPaging(total));
+        }
+
+        final List<ExecutionResult> rowBandPages = new ArrayList<>();
+        for (int rowPage = 0; rowPage < rowPages; rowPage++) {
+            rowBandPages.add(pages.get(rowPage * columnPages));
+        }
+        final List<List<ExecutionResult>> pagesAlong = asList(rowBandPages, pages.subList(0, columnPages));
+
+        if (first.getHeaderItems() != null) {
+            for (int dimension = 0; dimension < first.getHeaderItems().size(); dimension++) {
+                final int index = dimension;
+                result.addHeaderItems(mergeAlong(pagesAlong.get(Math.min(dimension, 1)),
+                        page -> itemsOf(page.getHeaderItems(), index)));
+            }
+        }
+        if (first.getTotals() != null) {
+            final List<List<List<String>>> totals = new ArrayList<>();
+            for (int dimension = 0; dimension < first.getTotals().size(); dimension++) {
+                final int index = dimension;
+                // values of totals of a dimension lay along the other dimension
+                totals.add(dimensions > 1
+                        ? mergeAlong(pagesAlong.get(dimension == 0 ? 1 : 0), page -> itemsOf(page.getTotals(), index))
+                        : first.getTotals().get(dimension));
+            }
+            result.setTotals(totals);
+        }
+        result.setTotalTotals(first.getTotalTotals());
+        final LinkedHashSet<Warning> warnings = new LinkedHashSet<>();
+        pages.stream().filter(page -> page.getWarnings() != null).forEach(page -> warnings.addAll(page.getWarnings()));
+        result.setWarnings(warnings.isEmpty() ? first.getWarnings() : new ArrayList<>(warnings));
+        return result;
+    }
+
+    /**
+     * Concatenates lists of items of the given pages, item by item.
+     */
+    private static <T> List<List<T>> mergeAlong(final List<ExecutionResult> pages,
+                                                final Function<ExecutionResult, List<List<T>>> extractor) {
+        final List<List<T>> merged = new ArrayList<>();
+        for (ExecutionResult page : pages) {
+            final List<List<T>> items = extractor.apply(page);
+            for (int i = 0; i < items.size(); i++) {
+                if (merged.size() <= i) {
+                    merged.add(new ArrayList<>());
+                }
+                merged.get(i).addAll(items.get(i));
+            }
+        }
+        return merged;
+    }
+
+    private static <T> List<List<T>> itemsOf(final List<List<List<T>>> items, final int dimension) {
+        return items != null && items.size() > dimension ? items.get(dimension) : Collections.emptyList();
+    }
+
+    private static List<String> textValues(final List<Data> data) {
+        final List<String> values = new ArrayList<>(data.size());
+        data.forEach(value -> values.add(value.isNull() ? null : value.textValue()));
+        return values;
+    }
+
+    private static ExecutionResult join(final CompletableFuture<ExecutionResult> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ExecutionResultException) {
+                throw (ExecutionResultException) e.getCause();
+            }
+            throw new ExecutionResultException("Unable to fetch execution result page", e.getCause());
+        } catch (CancellationException e) {
+            throw new ExecutionResultException("Fetching of execution result page was cancelled", e);
+        }
+    }
+
+    private Paging fullPaging(final List<Integer> total) {
+        return new Paging(total, zeros(), total);
+    }
+
+    private ResultPage page(final List<Integer> offsets) {
+        return new ResultPage(offsets, pageLimits);
+    }
+
+    private List<Integer> zeros() {
+        return Collections.nCopies(dimensions, 0);
+    }
+
+    private static int pageCount(final int total, final int limit) {
+        return Math.max(1, (total + limit - 1) / limit);
+    }
+}
@@ -27,7 +27,9 @@ import com.gooddata.sdk.service.AbstractService;
 import com.gooddata.sdk.service.FutureResult;
 import com.gooddata.sdk.service.GoodDataEndpoint;
 import com.gooddata.sdk.service.GoodDataSettings;
+import com.gooddata.sdk.service.ParallelismSettings;
 import com.gooddata.sdk.service.PollResult;
+import com.gooddata.sdk.service.PollType;
 import com.gooddata.sdk.service.SimplePollHandler;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
@@ -39,7 +41,16 @@ import org.springframework.web.util.UriTemplate;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
 
 import static com.gooddata.sdk.common.util.Validate.notNull;
 import static com.gooddata.sdk.common.util.Validate.notNullState;
@@ -58,6 +69,8 @@ public class ExportService extends AbstractService {
     private static final String CLIENT_EXPORT_URI = "/gdc/projects/{projectId}/clientexport";
     private static final String RAW_EXPORT_URI = "/gdc/projects/{projectId}/execute/raw";
 
+    private final int exportParallelism;
+
     /**
      * Service for data export
      *
@@ -66,6 +79,7 @@ public class ExportService extends AbstractService {
      */
     public ExportService(final RestTemplate restTemplate, final GoodDataSettings settings) {
         super(restTemplate, settings);
+        this.exportParallelism = settings.getParallelismSettings().getExportParallelism();
     }
 
     static String extractProjectId(final AbstractObj obj) {
@@ -111,38 +125,85 @@ public class ExportService extends AbstractService {
         return exportReport(request, format, output);
     }
 
+    /**
+     * Export the given reports (report definitions) to their target files. At most
+     * {@link ParallelismSettings#getExportParallelism()} exports are in progress at once; they're polled by the shared
+     * poll scheduler, so the threads of the {@link GoodDataSettings#getRequestExecutor() request executor} are
+     * occupied only while the export is started and while the result is written to the target file.
+     * <p>
+     * Failure of single export doesn't stop the batch, it's reported by its result. The target file of a failed
+     * export is deleted, nothing is written when the report contains no data.
+     *
+     * @param exports exports to perform
+     * @return results in the order of the given exports, once all the exports are finished
+     */
+    public List<ReportExportResult> export(final Collection<ReportExport> exports) {
+        notNull(exports, "exports");
+        final Semaphore permits = new Semaphore(exportParallelism);
+        final List<CompletableFuture<ReportExportResult>> results = new ArrayList<>(exports.size());
+        for (ReportExport export : exports) {
+            notNull(export, "export");
+            permits.acquireUninterruptibly();
+            results.add(exportAsync(export).handle((ignored, failure) -> {
+                permits.release();
+                return new ReportExportResult(export, failure == null ? null : toExportFailure(export, failure));
+            }));
+        }
+        return results.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    }
+
+    private CompletableFuture<Void> exportAsync(final ReportExport export) {
+        final String message = failureMessage(export);
+        return CompletableFuture
+                .supplyAsync(() -> export.isRaw()
+                        ? startRawExport(export.getObj(), export.getRequest())
+                        : startExport(export.getRequest(), export.getFormat()), getRequestExecutor())
+                .thenCompose(uri -> new PollResult<>(this, new ExportPollHandler(uri, message, null))
+                        .toCompletableFuture()
+                        .thenApply(ignored -> uri))
+                // the result is written on the request executor, not to hold the poll scheduler threads
+                .thenAcceptAsync(uri -> download(uri, export.getTarget(), message), getRequestExecutor());
+    }
+
+    private void download(final String uri, final Path target, final String message) {
+        try {
+            restTemplate.execute(uri, GET, null, response -> Files.copy(response.getBody(), target,
+                    StandardCopyOption.REPLACE_EXISTING));
+        } catch (GoodDataException | RestClientException e) {
+            deleteQuietly(target);
+            throw new ExportException(message, e);
+        }
+    }
+
+    private static GoodDataException toExportFailure(final ReportExport export, final Throwable failure) {
+        final Throwable cause = unwrapCompletionException(failure);
+        return cause instanceof GoodDataException
+                ? (GoodDataException) cause
+                : new ExportException(failureMessage(export), cause);
+    }
+
+    private static String failureMessage(final ReportExport export) {
+        return export.isRaw() ? "Unable to export: " + export.getObj().getUri() : "Unable to export report";
+    }
+
+    private static void deleteQuietly(final Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // the export failure is reported
+        }
+    }
+
     private FutureResult<Void> exportReport(final ReportRequest request, final ExportFormat format, final OutputStream output) {
         notNull(output, "output");
         notNull(format, "format");
-        final JsonNode execResult = executeReport(ReportRequest.URI, request);
-        final String uri = exportReport(execResult, format);
-        return new PollResult<>(this, new SimplePollHandler<Void>(uri, Void.class) {
-            @Override
-            public boolean isFinished(ClientHttpResponse response) throws IOException {
-                HttpStatus status = HttpStatus.resolve(response.getStatusCode().value());
-                return switch (status) {
-                    case OK -> true;
-                    case ACCEPTED -> false;
-                    case NO_CONTENT -> throw new NoDataExportException();
-                    default ->
-                            throw new ExportException("Unable to export report, unknown HTTP response code: " + response.getStatusCode());
-                };
-            }
-
-            @Override
-            public void handlePollException(final GoodDataRestException e) {
-                throw new ExportException("Unable to export report", e);
-            }
+        final String uri = startExport(request, format);
+        return new PollResult<>(this, new ExportPollHandler(uri, "Unable to export report", output));
+    }
 
-            @Override
-            protected void onFinish() {
-                try {
-                    restTemplate.execute(uri, GET, null, new OutputStreamResponseExtractor(output));
-                } catch (GoodDataException | RestClientException e) {
-                    throw new ExportException("Unable to export report", e);
-                }
-            }
-        });
+    private String startExport(final ReportRequest request, final ExportFormat format) {
+        final JsonNode execResult = executeReport(ReportRequest.URI, request);
+        return exportReport(execResult, format);
     }
 
     protected JsonNode executeReport(final String executionUri, final ReportRequest request) {
@@ -230,7 +291,7 @@ public class ExportService extends AbstractService {
             public void handlePollException(final GoodDataRestException e) {
                 throw new ExportException("Unable to export dashboard: " + dashboardUri, e);
             }
-        });
+        }.withPollType(PollType.EXPORT));
     }
 
     /**
@@ -260,9 +321,14 @@ public class ExportService extends AbstractService {
     }
 
     private FutureResult<Void> exportCsv(final AbstractObj obj, final ReportRequest request, final OutputStream output) {
+        notNull(output, "output");
+        final String uri = startRawExport(obj, request);
+        return new PollResult<>(this, new ExportPollHandler(uri, "Unable to export: " + obj.getUri(), output));
+    }
+
+    private String startRawExport(final AbstractObj obj, final ReportRequest request) {
         notNull(obj, "obj");
         notNull(request, "request");
-        notNull(output, "output");
 
         final String projectId = extractProjectId(obj);
         final String uri = obj.getUri();
@@ -276,33 +342,50 @@ public class ExportService extends AbstractService {
         if (response == null || response.getUri() == null) {
             throw new ExportException("Empty response, unable to export: " + uri);
         }
+        return response.getUri();
+    }
 
-        return new PollResult<>(this, new SimplePollHandler<Void>(response.getUri(), Void.class) {
-            @Override
-            public boolean isFinished(ClientHttpResponse response) throws IOException {
-                HttpStatus status = HttpStatus.resolve(response.getStatusCode().value());
-                return switch (status) {
-                    case OK -> true;
-                    case ACCEPTED -> false;
-                    case NO_CONTENT -> throw new NoDataExportException();
-                    default -> throw new ExportException("Unable to export: " + uri +
-                            ", unknown HTTP response code: " + response.getStatusCode());
-                };
-            }
+    /**
+     * Polls the export until it's ready, then writes it to the output (if any).
+     */
+    private class ExportPollHandler extends SimplePollHandler<Void> {
 
-            @Override
-            protected void onFinish() {
-                try {
-                    restTemplate.execute(getPolling(), GET, null, new OutputStreamResponseExtractor(output));
-                } catch (GoodDataException | RestClientException e) {
-                    throw new ExportException("Unable to export: " + uri, e);
-                }
-            }
+        private final String message;
+        private final OutputStream output;
 
-            @Override
-            public void handlePollException(final GoodDataRestException e) {
-                throw new ExportException("Unable to export: " + uri, e);
+        private ExportPollHandler(final String pollingUri, final String message, final OutputStream output) {
+            super(pollingUri, Void.class);
+            this.message = message;
+            this.output = output;
+            withPollType(PollType.EXPORT);
+        }
+
+        @Override
+        public boolean isFinished(ClientHttpResponse response) throws IOException {
+            HttpStatus status = HttpStatus.resolve(response.getStatusCode().value());
+            return switch (status) {
+                case OK -> true;
+                case ACCEPTED -> false;
+                case NO_CONTENT -> throw new NoDataExportException();
+                default -> throw new ExportException(message + ", unknown HTTP response code: " + response.getStatusCode());
+            };
+        }
+
+        @Override
+        public void handlePollException(final GoodDataRestException e) {
+            throw new ExportException(message, e);
+        }
+
+        @Override
+        protected void onFinish() {
+            if (output == null) {
+                return;
             }
-        });
+            try {
+                restTemplate.execute(getPollingUri(), GET, null, new OutputStreamResponseExtractor(output));
+            } catch (GoodDataException | RestClientException e) {
+                throw new ExportException(message, e);
+            }
+        }
     }
 }
@@ -0,0 +1,125 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.export;
+
+import com.gooddata.sdk.common.util.GoodDataToStringBuilder;
+import com.gooddata.sdk.model.export.ExecuteReport;
+import com.gooddata.sdk.model.export.ExecuteReportDefinition;
+import com.gooddata.sdk.model.export.ExportFormat;
+import com.gooddata.sdk.model.export.ReportRequest;
+import com.gooddata.sdk.model.md.AbstractObj;
+import com.gooddata.sdk.model.md.report.Report;
+import com.gooddata.sdk.model.md.report.ReportDefinition;
+
+import java.nio.file.Path;
+
+import static com.gooddata.sdk.common.util.Validate.notNull;
+
+/**
+ * Single export of the batch export, the report (or report definition) exported in the given format to the target file.
+ *
+ * @see ExportService#export(java.util.Collection)
+ */
+public final class ReportExport {
+
+    private final AbstractObj obj;
+    private final ReportRequest request;
+    private final ExportFormat format;
+    private final Path target;
+
+    /**
+     * Export of the report in the given format
+     *
+     * @param report report
+     * @param format export format
+     * @param target file to write the export to, it's overwritten when exists
+     */
+    public ReportExport(final Report report, final ExportFormat format, final Path target) {
+        this(notNull(report, "report"), new ExecuteReport(report), notNull(format, "format"), target);
+    }
+
+    /**
+     * Export of the report definition in the given format
+     *
+     * @param definition report definition
+     * @param format     export format
+     * @param target     file to write the export to, it's overwritten when exists
+     */
+    public ReportExport(final ReportDefinition definition, final ExportFormat format, final Path target) {
+        this(notNull(definition, "definition"), new ExecuteReportDefinition(definition), notNull(format, "format"),
+                target);
+    }
+
+    private ReportExport(final AbstractObj obj, final ReportRequest request, final ExportFormat format,
+                         final Path target) {
+        this.obj = obj;
+        this.request = request;
+        this.format = format;
+        this.target = notNull(target, "target");
+    }
+
+    /**
+     * Raw CSV export of the report (without columns/rows limitations)
+     *
+     * @param report report
+     * @param target file to write the export to, it's overwritten when exists
+     * @return raw export
+     * @see ExportService#exportCsv(Report, java.io.OutputStream)
+     */
+    public static ReportExport rawCsv(final Report report, final Path target) {
+        return new ReportExport(notNull(report, "report"), new ExecuteReport(report), null, target);
+    }
+
+    /**
+     * Raw CSV export of the report definition (without columns/rows limitations)
+     *
+     * @param definition report definition
+     * @param target     file to write the export to, it's overwritten when exists
+     * @return raw export
+     * @see ExportService#exportCsv(ReportDefinition, java.io.OutputStream)
+     */
+    public static ReportExport rawCsv(final ReportDefinition definition, final Path target) {
+        return new ReportExport(notNull(definition, "definition"), new ExecuteReportDefinition(definition), null,
+                target);
+    }
+
+    /**
+     * @return exported report or report definition
+     */
+    public AbstractObj getObj() {
+        return obj;
+    }
+
+    /**
+     * @return export format, null for the raw CSV export
+     */
+    public ExportFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * @return file the export is written to
+     */
+    public Path getTarget() {
+        return target;
+    }
+
+    /**
+     * @return true for the raw CSV export
+     */
+    public boolean isRaw() {
+        return format == null;
+    }
+
+    ReportRequest getRequest() {
+        return request;
+    }
+
+    @Override
+    public String toString() {
+        return GoodDataToStringBuilder.defaultToString(this, "request");
+    }
+}
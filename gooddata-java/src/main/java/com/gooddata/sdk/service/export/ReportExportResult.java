@@ -0,0 +1,61 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.export;
+
+import com.gooddata.sdk.common.GoodDataException;
+import com.gooddata.sdk.common.util.GoodDataToStringBuilder;
+
+import static com.gooddata.sdk.common.util.Validate.notNull;
+
+/**
+ * Outcome of single export of the batch export.
+ *
+ * @see ExportService#export(java.util.Collection)
+ */
+public final class ReportExportResult {
+
+    private final ReportExport export;
+    private final GoodDataException failure;
+
+    ReportExportResult(final ReportExport export, final GoodDataException failure) {
+        this.export = notNull(export, "export");
+        this.failure = failure;
+    }
+
+    /**
+     * @return the export this is the result of
+     */
+    public ReportExport getExport() {
+        return export;
+    }
+
+    /**
+     * @return the failure of the export ({@link NoDataExportException} when the report contains no data,
+     * {@link ExportException} otherwise), null when the export succeeded
+     */
+    public GoodDataException getFailure() {
+        return failure;
+    }
+
+    /**
+     * @return true when the export was written to the target file
+     */
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+
+    /**
+     * @return true when the report contains no data, nothing is written to the target file in such case
+     */
+    public boolean isNoData() {
+        return failure instanceof NoDataExportException;
+    }
+
+    @Override
+    public String toString() {
+        return GoodDataToStringBuilder.defaultToString(this);
+    }
+}
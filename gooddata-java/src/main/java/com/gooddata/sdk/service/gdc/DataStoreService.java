@@ -8,8 +8,13 @@ package com.gooddata.sdk.service.gdc;
 import com.github.sardine.impl.SardineException;
 import com.gooddata.sdk.common.GoodDataRestException;
 import com.gooddata.sdk.common.UriPrefixer;
+import com.gooddata.sdk.service.GoodDataSettings;
+import com.gooddata.sdk.service.ParallelismSettings;
 import com.gooddata.sdk.service.httpcomponents.SingleEndpointGoodDataRestProvider;
 import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.routing.RoutingSupport;
+import org.apache.hc.core5.concurrent.DefaultThreadFactory;
+import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
 import org.apache.http.Header;
 import org.apache.http.HeaderIterator;
 import org.apache.http.HttpEntity;
@@ -31,18 +36,25 @@ import org.apache.http.message.BasicHeaderIterator;
 import org.apache.http.params.HttpParams;
 import org.apache.http.protocol.HTTP;
 import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 
 import static com.gooddata.sdk.common.util.Validate.notEmpty;
@@ -57,6 +69,7 @@ public class DataStoreService {
     private final Supplier<String> stagingUriSupplier;
     private final URI gdcUri;
     private final RestTemplate restTemplate;
+    private final SegmentedDownload segmentedDownload;
 
     private UriPrefixer prefixer;
 
@@ -73,9 +86,19 @@ public class DataStoreService {
         this.gdcUri = URI.create(notNull(restProvider.getEndpoint(), "endpoint").toUri());
         this.restTemplate = notNull(restProvider.getRestTemplate(), "restTemplate");
         sardine = new GdcSardine(new CustomHttpClientBuilder(notNull(restProvider.getHttpClient(), "httpClient")));
+        final GoodDataSettings settings = restProvider.getSettings() != null
+                ? restProvider.getSettings()
+                : new GoodDataSettings();
+        final ParallelismSettings parallelismSettings = settings.getParallelismSettings();
+        segmentedDownload = new SegmentedDownload(sardine,
+                settings.getRequestExecutor() != null
+                        ? settings.getRequestExecutor()
+                        : SharedDownloadExecutorHolder.INSTANCE,
+                parallelismSettings.getDownloadParallelism(), parallelismSettings.getDownloadSegmentSize(),
+                parallelismSettings.getDownloadSegmentRetries());
     }
 
-    private UriPrefixer getPrefixer() {
+    private synchronized UriPrefixer getPrefixer() {
         if (prefixer == null) {
             final String uriString = stagingUriSupplier.get();
             final URI uri = URI.create(uriString);
@@ -105,13 +128,49 @@ public class DataStoreService {
     public void upload(String path, InputStream stream) {
         notEmpty(path, "path");
         notNull(stream, "stream");
-        upload(getUri(path), stream);
+        upload(getUri(path), new InputStreamEntity(stream));
     }
 
-    private void upload(URI url, InputStream stream) {
+    /**
+     * Uploads given stream to given datastore path, compressing it on the fly. The stream is compressed while
+     * being sent, without buffering or temporary files, so its size isn't known upfront and the upload is chunked.
+     *
+     * @param path        path where to upload to, it should contain the {@link UploadCompression#getExtension()
+     *                    extension} of the compression
+     * @param stream      stream to upload, it's closed when uploaded
+     * @param compression compression of the uploaded data
+     * @throws DataStoreException in case upload failed
+     */
+    public void upload(String path, InputStream stream, UploadCompression compression) {
+        notEmpty(path, "path");
+        notNull(stream, "stream");
+        notNull(compression, "compression");
+        final String entryName = path.substring(path.lastIndexOf('/') + 1);
+        upload(getUri(path), new StreamingEntity(output -> {
+            try (InputStream input = stream;
+                 OutputStream compressed = compression.compress(StreamUtils.nonClosing(output), entryName)) {
+                StreamUtils.copy(input, compressed);
+            }
+        }));
+    }
+
+    /**
+     * Uploads data written by given body to given datastore path. The body writes the data directly to the connection
+     * while being sent, so the data don't have to be prepared upfront (e.g. in a temporary file).
+     *
+     * @param path path where to upload to
+     * @param body body writing the data to upload, it's called once
+     * @throws DataStoreException in case upload failed
+     */
+    public void upload(String path, StreamingHttpOutputMessage.Body body) {
+        notEmpty(path, "path");
+        notNull(body, "body");
+        upload(getUri(path), new StreamingEntity(body));
+    }
+
+    private void upload(URI url, HttpEntity entity) {
         try {
             // We need to use it this way, if we want to track request_id in the stacktrace.
-            InputStreamEntity entity = new InputStreamEntity(stream);
             List<Header> headers = Collections.singletonList(new BasicHeader(HTTP.EXPECT_DIRECTIVE, HTTP.EXPECT_CONTINUE));
             sardine.put(url.toString(), entity, headers, new GdcSardineResponseHandler());
         } catch (SardineException e) {
@@ -162,6 +221,31 @@ public class DataStoreService {
         }
     }
 
+    /**
+     * Download given path into the target file. The file is downloaded by concurrent HTTP range requests (segments),
+     * each segment is retried on failure, see {@link ParallelismSettings#getDownloadParallelism()},
+     * {@link ParallelismSettings#getDownloadSegmentSize()} and {@link ParallelismSettings#getDownloadSegmentRetries()}.
+     * <p>
+     * Progress of the download is stored in a file next to the target (having {@code .progress} suffix), which is
+     * deleted once the download completes. When the download fails, the downloaded segments are kept and the next
+     * download of the same path into the same target downloads only the missing segments, unless the file has been
+     * changed in the meantime. Files not larger than a single segment are downloaded by a single request.
+     *
+     * @param path   path from where to download
+     * @param target file to download to, it's overwritten unless the previous download is resumed
+     * @throws DataStoreException in case download failed
+     */
+    public void download(String path, File target) {
+        notEmpty(path, "path");
+        notNull(target, "target");
+        final URI uri = getUri(path);
+        try {
+            segmentedDownload.download(uri, target);
+        } catch (IOException e) {
+            throw new DataStoreException("Unable to download from " + uri + " to " + target, e);
+        }
+    }
+
     /**
      * Delete given path from datastore.
      *
@@ -270,11 +354,46 @@ public class DataStoreService {
             return java.net.URI.create(target.toURI()).resolve(uri);
         }
 
-        private static org.apache.hc.core5.http.HttpEntity adaptEntity(final HttpEntity entity) throws IOException {
-            final org.apache.hc.core5.http.ContentType contentType = entity.getContentType() != null
-                    ? org.apache.hc.core5.http.ContentType.parse(entity.getContentType().getValue())
+        private static org.apache.hc.core5.http.HttpEntity adaptEntity(final HttpEntity entity) {
+            final String contentType = entity.getContentType() != null ? entity.getContentType().getValue() : null;
+            final String contentEncoding = entity.getContentEncoding() != null
+                    ? entity.getContentEncoding().getValue()
                     : null;
-            return new org.apache.hc.core5.http.io.entity.InputStreamEntity(entity.getContent(), entity.getContentLength(), contentType);
+            // delegates writing, so entities producing their content on the fly (see StreamingEntity) are supported
+            return new AbstractHttpEntity(contentType, contentEncoding, entity.isChunked()) {
+                @Override
+                public InputStream getContent() throws IOException {
+                    return entity.getContent();
+                }
+
+                @Override
+                public void writeTo(final OutputStream outStream) throws IOException {
+                    entity.writeTo(outStream);
+                }
+
+                @Override
+                public boolean isRepeatable() {
+                    return entity.isRepeatable();
+                }
+
+                @Override
+                public long getContentLength() {
+                    return entity.getContentLength();
+                }
+
+                @Override
+                public boolean isStreaming() {
+                    return entity.isStreaming();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    // releases the stream of the wrapped entity, the streaming entity has none as it's only written
+                    if (!(entity instanceof StreamingEntity)) {
+                        EntityUtils.consume(entity);
+                    }
+                }
+            };
         }
 
         @Override
@@ -290,10 +409,13 @@ public class DataStoreService {
         private org.apache.hc.core5.http.ClassicHttpResponse execute(
                 final org.apache.hc.core5.http.HttpHost target, final org.apache.hc.core5.http.ClassicHttpRequest request,
                 final HttpContext context) throws IOException {
-            if (target != null) {
-                return client.execute(target, request, adaptContext(context), response -> response);
+            // the response is kept open, so its entity can be streamed (see GdcSardine#get), it's closed by Sardine
+            try {
+                return client.executeOpen(target != null ? target : RoutingSupport.determineHost(request), request,
+                        adaptContext(context));
+            } catch (org.apache.hc.core5.http.HttpException e) {
+                throw new ClientProtocolException(e);
             }
-            return client.execute(request, adaptContext(context), response -> response);
         }
 
         @Override
@@ -331,15 +453,13 @@ public class DataStoreService {
 
         @Override
         public void close() throws IOException {
-            // nothing to close - wrappedClient doesn't have to implement CloseableHttpResponse
+            // releases the connection, unless it has been already released by consuming the entity
+            response.close();
         }
 
             @Override
             public StatusLine getStatusLine() {
-                final org.apache.hc.core5.http.ProtocolVersion version = response.getVersion();
-                final ProtocolVersion protocolVersion = new ProtocolVersion(version.getProtocol(),
-                        version.getMajor(), version.getMinor());
-                return new org.apache.http.message.BasicStatusLine(protocolVersion, response.getCode(), response.getReasonPhrase());
+                return new org.apache.http.message.BasicStatusLine(getProtocolVersion(), response.getCode(), response.getReasonPhrase());
             }
 
             @Override
@@ -381,11 +501,7 @@ public class DataStoreService {
                     response.setEntity(null);
                     return;
                 }
-                try {
-                    response.setEntity(adaptEntity(entity));
-                } catch (IOException e) {
-                    throw new IllegalStateException("Unable to set entity on the Sardine shadow response", e);
-                }
+                response.setEntity(adaptEntity(entity));
             }
 
             @Override
@@ -400,7 +516,10 @@ public class DataStoreService {
 
             @Override
             public ProtocolVersion getProtocolVersion() {
-                final org.apache.hc.core5.http.ProtocolVersion version = response.getVersion();
+                // the version is not set unless the response has been received
+                final org.apache.hc.core5.http.ProtocolVersion version = response.getVersion() != null
+                        ? response.getVersion()
+                        : org.apache.hc.core5.http.HttpVersion.DEFAULT;
                 return new ProtocolVersion(version.getProtocol(), version.getMajor(), version.getMinor());
             }
 
@@ -556,4 +675,47 @@ public class DataStoreService {
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Streaming entity writing its content by given body while it's being sent.
+     */
+    static final class StreamingEntity extends org.apache.http.entity.AbstractHttpEntity {
+
+        private final StreamingHttpOutputMessage.Body body;
+
+        StreamingEntity(final StreamingHttpOutputMessage.Body body) {
+            this.body = notNull(body, "body");
+            setChunked(true);
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return false;
+        }
+
+        @Override
+        public long getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public InputStream getContent() {
+            throw new UnsupportedOperationException("Streaming content can be only written");
+        }
+
+        @Override
+        public void writeTo(final OutputStream outStream) throws IOException {
+            body.writeTo(notNull(outStream, "outStream"));
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return true;
+        }
+    }
+
+    private static final class SharedDownloadExecutorHolder {
+        private static final ExecutorService INSTANCE =
+                Executors.newCachedThreadPool(new DefaultThreadFactory("gooddata-download", true));
+    }
+}
@@ -12,6 +12,7 @@ import org.apache.http.Header;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.ResponseHandler;
 import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpHead;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.impl.client.HttpClientBuilder;
 
@@ -72,4 +73,16 @@ class GdcSardine extends SardineImpl {
             throw ex;
         }
     }
+
+    /**
+     * Executes HEAD request, the response (having no entity) is handled by the given response handler.
+     *
+     * @param url             Path to the resource including protocol and hostname
+     * @param responseHandler Response handler reading the response headers
+     * @return result of the response handler
+     * @throws IOException I/O error or HTTP response validation failure
+     */
+    public <T> T head(final String url, final ResponseHandler<T> responseHandler) throws IOException {
+        return this.execute(new HttpHead(url), responseHandler);
+    }
 }
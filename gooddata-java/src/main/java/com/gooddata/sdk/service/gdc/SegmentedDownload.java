@@ -0,0 +1,331 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.gdc;
+
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.message.BasicHeader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.gooddata.sdk.common.util.Validate.isTrue;
+import static com.gooddata.sdk.common.util.Validate.notNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Downloads a file from datastore by concurrent HTTP range requests (segments), which are written into the target
+ * file at their offsets. A failed segment is retried from the last received byte. Completed segments are recorded
+ * in a progress file next to the target, so the failed download is resumed by the next download of the same
+ * (unchanged) file into the same (unchanged) target. Files not larger than a single segment or not supporting ranges
+ * are downloaded by a single request.
+ * <p>
+ * For internal use by {@link DataStoreService}.
+ */
+final class SegmentedDownload {
+
+    static final String PROGRESS_SUFFIX = ".progress";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final GdcSardineResponseHandler RESPONSE_HANDLER = new GdcSardineResponseHandler();
+    private static final ResponseHandler<Void> PARTIAL_CONTENT_HANDLER = response -> {
+        RESPONSE_HANDLER.handleResponse(response);
+        if (response.getStatusLine().getStatusCode() != HttpStatus.SC_PARTIAL_CONTENT) {
+            throw new IOException("Range request not satisfied, got status " + response.getStatusLine().getStatusCode());
+        }
+        return null;
+    };
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final GdcSardine sardine;
+    private final Executor executor;
+    private final int parallelism;
+    private final long segmentSize;
+    private final int retries;
+
+    /**
+     * @param sardine     sardine to execute the requests
+     * @param executor    executor to download the segments on
+     * @param parallelism maximal number of segments downloaded concurrently
+     * @param segmentSize size of segment in bytes
+     * @param retries     number of retries of a failed segment
+     */
+    SegmentedDownload(final GdcSardine sardine, final Executor executor, final int parallelism,
+                      final long segmentSize, final int retries) {
+        this.sardine = notNull(sardine, "sardine");
+        this.executor = notNull(executor, "executor");
+        isTrue(parallelism > 0, "parallelism must be greater than zero");
+        isTrue(segmentSize > 0, "segmentSize must be greater than zero");
+        isTrue(retries >= 0, "retries must not be negative");
+        this.parallelism = parallelism;
+        this.segmentSize = segmentSize;
+        this.retries = retries;
+    }
+
+    /**
+     * Downloads the file at given URI into the target file.
+     *
+     * @param uri    URI of the file
+     * @param target file to download to
+     * @throws IOException when the download failed, the progress is kept for the next download in such case
+     */
+    void download(final URI uri, final File target) throws IOException {
+        final RemoteFile remoteFile = sardine.head(uri.toString(), RemoteFile::new);
+        if (!remoteFile.acceptsRanges || remoteFile.length <= segmentSize) {
+            downloadWhole(uri, target);
+            return;
+        }
+
+        final Progress progress = Progress.open(progressPath(target), target.toPath(),
+                remoteFile.length + " " + segmentSize + " " + remoteFile.etag, segmentSize, remoteFile.length);
+        try (FileChannel channel = FileChannel.open(target.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            if (!progress.resumed) {
+                channel.truncate(0);
+            }
+            downloadSegments(uri, channel, remoteFile.length, progress);
+            channel.truncate(remoteFile.length);
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            progress.suspend(e);
+            throw e;
+        }
+        Files.delete(progress.path);
+    }
+
+    /**
+     * Downloads the segments not completed yet, keeping at most {@link #parallelism} downloads in flight.
+     * The first failure stops starting of further segments and is rethrown once the running ones finish.
+     */
+    private void downloadSegments(final URI uri, final FileChannel channel, final long length,
+                                  final Progress progress) throws IOException {
+        final int segments = (int) ((length + segmentSize - 1) / segmentSize);
+        final List<Integer> remaining = progress.remaining(segments);
+        // a single segment is downloaded from the calling thread
+        final Executor segmentExecutor = remaining.size() > 1 && parallelism > 1 ? executor : Runnable::run;
+        final Semaphore permits = new Semaphore(parallelism);
+        final AtomicReference<IOException> failure = new AtomicReference<>();
+        final List<CompletableFuture<Void>> downloads = new ArrayList<>(remaining.size());
+        for (int index : remaining) {
+            permits.acquireUninterruptibly();
+            if (failure.get() != null) {
+                permits.release();
+                break;
+            }
+            final long start = index * segmentSize;
+            final long end = Math.min(start + segmentSize, length) - 1;
+            downloads.add(CompletableFuture.runAsync(() -> {
+                try {
+                    downloadSegment(uri, channel, start, end);
+                    // the data must be stored before the segment is recorded as completed
+                    channel.force(false);
+                    progress.complete(index);
+                } catch (IOException e) {
+                    failure.compareAndSet(null, e);
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, new IOException("Unable to download segment " + index, e));
+                } finally {
+                    permits.release();
+                }
+            }, segmentExecutor));
+        }
+        CompletableFuture.allOf(downloads.toArray(new CompletableFuture[0])).join();
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    private void downloadSegment(final URI uri, final FileChannel channel, final long start, final long end)
+            throws IOException {
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        long position = start;
+        for (int attempt = 0; ; attempt++) {
+            IOException failure;
+            final Header range = new BasicHeader(HttpHeaders.RANGE, "bytes=" + position + "-" + end);
+            try (InputStream input = sardine.get(uri.toString(), Collections.singletonList(range),
+                    PARTIAL_CONTENT_HANDLER)) {
+                int read;
+                while (position <= end
+                        && (read = input.read(buffer, 0, (int) Math.min(buffer.length, end - position + 1))) != -1) {
+                    write(channel, buffer, read, position);
+                    position += read;
+                }
+                if (position > end) {
+                    return;
+                }
+                failure = new IOException("Premature end of bytes " + start + "-" + end + " at " + position);
+            } catch (IOException e) {
+                failure = e;
+            }
+            if (attempt >= retries) {
+                throw failure;
+            }
+            logger.debug("Retrying download of {} from byte {}", uri, position, failure);
+        }
+    }
+
+    private void downloadWhole(final URI uri, final File target) throws IOException {
+        try (InputStream input = sardine.get(uri.toString(), Collections.emptyList(), RESPONSE_HANDLER)) {
+            Files.copy(input, target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.deleteIfExists(progressPath(target));
+    }
+
+    private static void write(final FileChannel channel, final byte[] buffer, final int length, final long position)
+            throws IOException {
+        final ByteBuffer data = ByteBuffer.wrap(buffer, 0, length);
+        while (data.hasRemaining()) {
+            channel.write(data, position + data.position());
+        }
+    }
+
+    static Path progressPath(final File target) {
+        return Paths.get(target.getPath() + PROGRESS_SUFFIX);
+    }
+
+    /**
+     * Properties of the downloaded file read from the HEAD response.
+     */
+    private static final class RemoteFile {
+        private final long length;
+        private final boolean acceptsRanges;
+        private final String etag;
+
+        private RemoteFile(final HttpResponse response) throws IOException {
+            RESPONSE_HANDLER.handleResponse(response);
+            final Header length = response.getFirstHeader(HttpHeaders.CONTENT_LENGTH);
+            final Header acceptRanges = response.getFirstHeader(HttpHeaders.ACCEPT_RANGES);
+            final Header etag = response.getFirstHeader(HttpHeaders.ETAG);
+            this.length = length != null ? parseLength(length.getValue()) : -1;
+            this.acceptsRanges = this.length >= 0 && acceptRanges != null && "bytes".equals(acceptRanges.getValue());
+            this.etag = etag != null ? etag.getValue() : "";
+        }
+
+        private static long parseLength(final String value) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Segments completed so far, stored in the progress file. The first line of the file identifies the download
+     * (the file length, the segment size and the ETag), each next line contains index of a completed segment.
+     * When the download fails, the size and the modification time of the target are appended, so the progress
+     * is discarded when the target is replaced or modified before the download is resumed.
+     */
+    private static final class Progress {
+        private static final String TARGET_PREFIX = "target ";
+
+        private final Path path;
+        private final Path target;
+        private final BitSet completed;
+        private final boolean resumed;
+
+        private Progress(final Path path, final Path target, final BitSet completed, final boolean resumed) {
+            this.path = path;
+            this.target = target;
+            this.completed = completed;
+            this.resumed = resumed;
+        }
+
+        /**
+         * Reads the progress of the same download into the unchanged target, or starts a new one. The target has
+         * to be at least as large as the end of the highest completed segment.
+         */
+        private static Progress open(final Path path, final Path target, final String header,
+                                     final long segmentSize, final long length) throws IOException {
+            try {
+                final List<String> lines = Files.readAllLines(path, UTF_8);
+                if (!lines.isEmpty() && header.equals(lines.get(0))) {
+                    final BitSet completed = new BitSet();
+                    String targetState = null;
+                    for (String line : lines.subList(1, lines.size())) {
+                        if (line.matches("\\d+")) {
+                            completed.set(Integer.parseInt(line));
+                        } else if (line.startsWith(TARGET_PREFIX)) {
+                            targetState = line;
+                        }
+                    }
+                    if (!completed.isEmpty() && Files.isRegularFile(target)
+                            && Files.size(target) >= Math.min(completed.length() * segmentSize, length)
+                            && (targetState == null || targetState.equals(targetState(target)))) {
+                        final Progress progress = new Progress(path, target, completed, true);
+                        // the target state is outdated as soon as the target is written to
+                        progress.store(header);
+                        return progress;
+                    }
+                }
+            } catch (NoSuchFileException ignored) {
+                // new download
+            }
+            Files.write(path, Collections.singletonList(header), UTF_8);
+            return new Progress(path, target, new BitSet(), false);
+        }
+
+        private static String targetState(final Path target) throws IOException {
+            return TARGET_PREFIX + Files.size(target) + " " + Files.getLastModifiedTime(target).toMillis();
+        }
+
+        private synchronized void store(final String header) throws IOException {
+            final List<String> lines = new ArrayList<>();
+            lines.add(header);
+            completed.stream().mapToObj(String::valueOf).forEach(lines::add);
+            Files.write(path, lines, UTF_8);
+        }
+
+        /**
+         * Records the state of the target after the download failed.
+         */
+        private synchronized void suspend(final Exception failure) {
+            try {
+                Files.write(path, Collections.singletonList(targetState(target)), UTF_8, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                failure.addSuppressed(e);
+            }
+        }
+
+        private synchronized List<Integer> remaining(final int segments) {
+            final List<Integer> remaining = new ArrayList<>();
+            for (int segment = completed.nextClearBit(0); segment < segments;
+                 segment = completed.nextClearBit(segment + 1)) {
+                remaining.add(segment);
+            }
+            return remaining;
+        }
+
+        private synchronized void complete(final int segment) throws IOException {
+            Files.write(path, Collections.singletonList(String.valueOf(segment)), UTF_8, StandardOpenOption.APPEND);
+            completed.set(segment);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.gdc;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Compression applied to the data uploaded to the user staging by
+ * {@link DataStoreService#upload(String, java.io.InputStream, UploadCompression)}. The data are compressed on the fly
+ * while being sent, they're neither buffered nor written to temporary files.
+ */
+public enum UploadCompression {
+
+    /**
+     * GZIP stream, conventionally stored with {@code .gz} extension.
+     */
+    GZIP(".gz") {
+        @Override
+        OutputStream compress(final OutputStream output, final String entryName) throws IOException {
+            return new GZIPOutputStream(output, BUFFER_SIZE);
+        }
+    },
+
+    /**
+     * ZIP archive with single entry, conventionally stored with {@code .zip} extension. The entry is named
+     * after the uploaded file without the {@code .zip} extension.
+     */
+    ZIP(".zip") {
+        @Override
+        OutputStream compress(final OutputStream output, final String entryName) throws IOException {
+            final ZipOutputStream zip = new ZipOutputStream(output);
+            zip.putNextEntry(new ZipEntry(entryName.endsWith(getExtension())
+                    ? entryName.substring(0, entryName.length() - getExtension().length())
+                    : entryName));
+            return zip;
+        }
+    };
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String extension;
+
+    UploadCompression(final String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * @return file extension of the compressed data (including the dot)
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Wraps given stream with compressing one. Closing the returned stream finishes the compressed data.
+     *
+     * @param output    stream to write the compressed data to
+     * @param entryName name of the uploaded file
+     * @return compressing stream
+     */
+    abstract OutputStream compress(OutputStream output, String entryName) throws IOException;
+}
@@ -0,0 +1,175 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.httpcomponents;
+
+import com.gooddata.http.client.GoodDataHttpClient;
+import com.gooddata.http.client.LoginSSTRetrievalStrategy;
+import com.gooddata.http.client.SSTRetrievalStrategy;
+import com.gooddata.http.client.SimpleSSTRetrievalStrategy;
+import com.gooddata.sdk.service.AsyncRestOperations;
+import com.gooddata.sdk.service.GoodDataCodec;
+import com.gooddata.sdk.service.GoodDataEndpoint;
+import com.gooddata.sdk.service.GoodDataSettings;
+import com.gooddata.sdk.service.RequestIdInterceptor;
+import com.gooddata.sdk.service.ResponseMissingRequestIdInterceptor;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.cookie.StandardCookieSpec;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.DefaultThreadFactory;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.Closeable;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.gooddata.sdk.common.util.Validate.notNull;
+
+/**
+ * The {@link com.gooddata.sdk.service.GoodDataRestProvider} using the asynchronous Apache HttpClient with HTTP/2
+ * multiplexing (negotiated by TLS ALPN, HTTP/1.1 is used when not supported by the server).
+ * <p>
+ * The provided REST template implements {@link AsyncRestOperations}, so the asynchronous service methods
+ * (i.e. {@link com.gooddata.sdk.service.md.MetadataService#getObjByUriAsync(String, Class)},
+ * {@link com.gooddata.sdk.service.executeafm.ExecuteAfmService#executeAfmAsync}) and
+ * {@link com.gooddata.sdk.service.FutureResult#toCompletableFuture() polling} don't block any thread
+ * while the request is in flight. Blocking service methods work as usual on top of the same connection pool.
+ * <p>
+ * Note that the {@link GoodDataSettings#getRetrySettings() retries} are applied only to the blocking calls.
+ * The provider should be {@link #close() closed} when no longer used, to release the connections and I/O threads.
+ */
+public final class AsyncGoodDataRestProvider extends SingleEndpointGoodDataRestProvider implements Closeable {
+
+    private static final String THREAD_NAME_PREFIX = "gooddata-async";
+
+    private final CloseableHttpAsyncClient asyncClient;
+    private final ExecutorService executor;
+
+    /**
+     * Creates new instance authenticating by login and password.
+     *
+     * @param endpoint endpoint of GoodData API
+     * @param settings settings
+     * @param login    API user login
+     * @param password API user password
+     */
+    public AsyncGoodDataRestProvider(final GoodDataEndpoint endpoint, final GoodDataSettings settings,
+                                     final String login, final String password) {
+        this(endpoint, settings, new LoginSSTRetrievalStrategy(notNull(login, "login"), notNull(password, "password")));
+    }
+
+    /**
+     * Creates new instance authenticating by pre created SST.
+     *
+     * @param endpoint endpoint of GoodData API
+     * @param settings settings
+     * @param sst      super secure token
+     */
+    public AsyncGoodDataRestProvider(final GoodDataEndpoint endpoint, final GoodDataSettings settings,
+                                     final String sst) {
+        this(endpoint, settings, new SimpleSSTRetrievalStrategy(notNull(sst, "sst")));
+    }
+
+    /**
+     * Creates new instance authenticating by SST obtained by the given strategy.
+     *
+     * @param endpoint    endpoint of GoodData API
+     * @param settings    settings
+     * @param sstStrategy strategy obtaining the super secure token
+     */
+    public AsyncGoodDataRestProvider(final GoodDataEndpoint endpoint, final GoodDataSettings settings,
+                                     final SSTRetrievalStrategy sstStrategy) {
+        super(endpoint, settings);
+        notNull(sstStrategy, "sstStrategy");
+
+        this.asyncClient = createHttpAsyncClientBuilder(endpoint, settings).build();
+        this.asyncClient.start();
+        this.executor = Executors.newCachedThreadPool(new DefaultThreadFactory(THREAD_NAME_PREFIX, true));
+
+        final HttpHost httpHost = new HttpHost(endpoint.getProtocol(), endpoint.getHostname(), endpoint.getPort());
+        final CloseableHttpClient blockingClient =
+                HttpAsyncClients.classic(asyncClient, Timeout.ofMilliseconds(settings.getSocketTimeout()));
+        final RestTemplate blockingTemplate =
+                createRestTemplate(endpoint, settings, new GoodDataHttpClient(blockingClient, httpHost, sstStrategy));
+        // installed before wrapping, so the asynchronous template and the token authenticator share the codec
+        final GoodDataCodec codec = new GoodDataCodec(settings).install(blockingTemplate);
+        final AsyncTokenAuthenticator authenticator = new AsyncTokenAuthenticator(asyncClient, blockingClient,
+                httpHost, sstStrategy, executor, codec.getMapper());
+
+        this.restTemplate = new AsyncGoodDataRestTemplate(blockingTemplate, asyncClient, URI.create(endpoint.toUri()),
+                settings.getPresetHeaders(), authenticator, executor, settings.getMetrics());
+    }
+
+    /**
+     * @return asynchronous view of the provided REST template
+     */
+    public AsyncRestOperations getAsyncRestOperations() {
+        return (AsyncRestOperations) restTemplate;
+    }
+
+    /**
+     * Shuts down the asynchronous client and releases its connections.
+     */
+    @Override
+    public void close() {
+        asyncClient.close(CloseMode.GRACEFUL);
+        executor.shutdown();
+    }
+
+    /**
+     * Creates asynchronous http client builder, applying given settings.
+     *
+     * @param endpoint API endpoint
+     * @param settings settings to apply
+     * @return configured builder
+     */
+    static HttpAsyncClientBuilder createHttpAsyncClientBuilder(final GoodDataEndpoint endpoint,
+                                                               final GoodDataSettings settings) {
+        final PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setDefaultConnectionConfig(createConnectionConfig(settings))
+                .setDefaultTlsConfig(TlsConfig.custom()
+                        .setVersionPolicy(HttpVersionPolicy.NEGOTIATE)
+                        .build())
+                .setMessageMultiplexing(true)
+                .setPoolConcurrencyPolicy(settings.getPoolConcurrencyPolicy())
+                .setMaxConnPerRoute(settings.getStagingMaxConnections())
+                .setMaxConnTotal(settings.getMaxTotalConnections())
+                .build();
+        connectionManager.setMaxPerRoute(createApiRoute(endpoint), settings.getMaxConnections());
+
+        final RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(settings.getConnectionRequestTimeout()))
+                .setResponseTimeout(Timeout.ofMilliseconds(settings.getSocketTimeout()))
+                .setCookieSpec(StandardCookieSpec.STRICT)
+                .build();
+
+        final HttpAsyncClientBuilder builder = HttpAsyncClients.custom()
+                .setUserAgent(settings.getGoodDataUserAgent())
+                .setConnectionManager(connectionManager)
+                .addRequestInterceptorFirst(new RequestIdInterceptor())
+                .addResponseInterceptorFirst(new ResponseMissingRequestIdInterceptor())
+                .setDefaultRequestConfig(requestConfig);
+        if (settings.getConnectionIdleTimeout() > 0) {
+            builder.evictExpiredConnections()
+                    .evictIdleConnections(TimeValue.ofMilliseconds(settings.getConnectionIdleTimeout()));
+        }
+        if (settings.getRetrySettings() != null) {
+            builder.setRetryStrategy(createIoErrorRetryStrategy());
+        }
+        return builder;
+    }
+}
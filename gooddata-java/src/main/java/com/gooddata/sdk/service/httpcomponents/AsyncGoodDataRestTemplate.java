@@ -0,0 +1,330 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.httpcomponents;
+
+import com.gooddata.sdk.common.UriPrefixer;
+import com.gooddata.sdk.service.AsyncRestOperations;
+import com.gooddata.sdk.service.DeprecationWarningRequestInterceptor;
+import com.gooddata.sdk.service.GoodDataMetrics;
+import org.apache.hc.client5.http.async.HttpAsyncClient;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.HttpMessageConverterExtractor;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseErrorHandler;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import static com.gooddata.sdk.common.util.Validate.notNull;
+
+/**
+ * {@link RestTemplate} executing the blocking calls by the given template and the {@link AsyncRestOperations}
+ * by the asynchronous Apache HttpClient, authenticated by {@link AsyncTokenAuthenticator}.
+ * <p>
+ * Asynchronous requests are buffered in memory, prefixed by the API endpoint, get preset headers and are checked
+ * for deprecation warnings in the same way as the blocking ones. Responses are handled (error handler, extractor)
+ * on the given executor, so the I/O threads of the client are never blocked by the response processing.
+ * Every asynchronous request attempt is reported to the given {@link GoodDataMetrics}, if any.
+ * <p>
+ * For internal use by {@link AsyncGoodDataRestProvider}.
+ */
+final class AsyncGoodDataRestTemplate extends RestTemplate implements AsyncRestOperations {
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private final RestTemplate blockingTemplate;
+    private final HttpAsyncClient asyncClient;
+    private final UriPrefixer prefixer;
+    private final Map<String, String> presetHeaders;
+    private final AsyncTokenAuthenticator authenticator;
+    private final Executor executor;
+    private final GoodDataMetrics metrics;
+    private final DeprecationWarningRequestInterceptor deprecationInterceptor = new DeprecationWarningRequestInterceptor();
+
+    /**
+     * @param blockingTemplate template performing the blocking calls
+     * @param asyncClient      client performing the asynchronous calls
+     * @param endpointUri      API endpoint to prefix the relative URIs with
+     * @param presetHeaders    headers set to every request
+     * @param authenticator    authenticator of the asynchronous calls
+     * @param executor         executor to process the responses on
+     * @param metrics          metrics to report the asynchronous requests to, may be null
+     */
+    AsyncGoodDataRestTemplate(final RestTemplate blockingTemplate, final HttpAsyncClient asyncClient,
+                              final URI endpointUri, final Map<String, String> presetHeaders,
+                              final AsyncTokenAuthenticator authenticator, final Executor executor,
+                              final GoodDataMetrics metrics) {
+        super(notNull(blockingTemplate, "blockingTemplate").getMessageConverters());
+        this.blockingTemplate = blockingTemplate;
+        this.asyncClient = notNull(asyncClient, "asyncClient");
+        this.prefixer = new UriPrefixer(notNull(endpointUri, "endpointUri"));
+        this.presetHeaders = notNull(presetHeaders, "presetHeaders");
+        this.authenticator = notNull(authenticator, "authenticator");
+        this.executor = notNull(executor, "executor");
+        this.metrics = metrics;
+        setErrorHandler(blockingTemplate.getErrorHandler());
+        setUriTemplateHandler(blockingTemplate.getUriTemplateHandler());
+    }
+
+    @Override
+    protected <T> T doExecute(final URI url, final String uriTemplate, final HttpMethod method,
+                              final RequestCallback requestCallback,
+                              final ResponseExtractor<T> responseExtractor) throws RestClientException {
+        return blockingTemplate.execute(url, method, requestCallback, responseExtractor);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeAsync(final String uri, final HttpMethod method,
+                                                 final RequestCallback requestCallback,
+                                                 final ResponseExtractor<T> responseExtractor,
+                                                 final Object... uriVariables) {
+        notNull(uri, "uri");
+        return executeAsync(getUriTemplateHandler().expand(uri, uriVariables), uri, method, requestCallback,
+                responseExtractor);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeAsync(final URI uri, final HttpMethod method,
+                                                 final RequestCallback requestCallback,
+                                                 final ResponseExtractor<T> responseExtractor) {
+        notNull(uri, "uri");
+        return executeAsync(uri, uri.getPath(), method, requestCallback, responseExtractor);
+    }
+
+    private <T> CompletableFuture<T> executeAsync(final URI uri, final String uriTemplate, final HttpMethod method,
+                                                  final RequestCallback requestCallback,
+                                                  final ResponseExtractor<T> responseExtractor) {
+        notNull(method, "method");
+        final BufferedClientHttpRequest request =
+                new BufferedClientHttpRequest(uri.isAbsolute() ? uri : prefixer.mergeUris(uri), method);
+        try {
+            if (requestCallback != null) {
+                requestCallback.doWithRequest(request);
+            }
+        } catch (IOException | RuntimeException e) {
+            final CompletableFuture<T> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e instanceof IOException ? ioError(request, (IOException) e) : e);
+            return failed;
+        }
+        presetHeaders.forEach(request.getHeaders()::set);
+
+        return authenticator.getToken()
+                .thenCompose(token -> send(request, uriTemplate, token).thenCompose(response -> {
+                    if (response.getCode() != HttpStatus.UNAUTHORIZED.value()) {
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    return authenticator.refreshToken(token).thenCompose(refreshed -> send(request, uriTemplate, refreshed));
+                }))
+                .thenApplyAsync(response -> handleResponse(request, new SimpleClientHttpResponse(response),
+                        responseExtractor), executor);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> getForObjectAsync(final String uri, final Class<T> responseType,
+                                                      final Object... uriVariables) {
+        return executeAsync(uri, HttpMethod.GET, acceptHeaderRequestCallback(responseType),
+                new HttpMessageConverterExtractor<>(responseType, getMessageConverters()), uriVariables);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> getForObjectAsync(final URI uri, final Class<T> responseType) {
+        return executeAsync(uri, HttpMethod.GET, acceptHeaderRequestCallback(responseType),
+                new HttpMessageConverterExtractor<>(responseType, getMessageConverters()));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> postForObjectAsync(final String uri, final Object request,
+                                                       final Class<T> responseType, final Object... uriVariables) {
+        return executeAsync(uri, HttpMethod.POST, httpEntityCallback(request, responseType),
+                new HttpMessageConverterExtractor<>(responseType, getMessageConverters()), uriVariables);
+    }
+
+    private CompletableFuture<SimpleHttpResponse> send(final BufferedClientHttpRequest request,
+                                                       final String uriTemplate, final String token) {
+        final SimpleHttpRequest httpRequest = SimpleHttpRequest.create(request.getMethod().name(), request.getURI());
+        request.getHeaders().forEach((name, values) -> {
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && !HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+                values.forEach(value -> httpRequest.addHeader(name, value));
+            }
+        });
+        httpRequest.setHeader(AsyncTokenAuthenticator.TT_HEADER, token);
+        final byte[] body = request.getBodyBytes();
+        if (body.length > 0 || request.getHeaders().getContentType() != null) {
+            httpRequest.setBody(body, request.getHeaders().getContentType() != null
+                    ? ContentType.parse(request.getHeaders().getContentType().toString())
+                    : null);
+        }
+
+        final CompletableFuture<SimpleHttpResponse> result = new CompletableFuture<>();
+        final long start = System.nanoTime();
+        asyncClient.execute(SimpleRequestProducer.create(httpRequest), SimpleResponseConsumer.create(), null,
+                HttpClientContext.create(),
+                new FutureCallback<SimpleHttpResponse>() {
+                    @Override
+                    public void completed(final SimpleHttpResponse response) {
+                        reportRequest(request, uriTemplate, response.getCode(), start);
+                        result.complete(response);
+                    }
+
+                    @Override
+                    public void failed(final Exception e) {
+                        reportRequest(request, uriTemplate, 0, start);
+                        result.completeExceptionally(e instanceof IOException
+                                ? ioError(request, (IOException) e)
+                                : new RestClientException("Unable to execute " + request.getMethod() + " "
+                                + request.getURI(), e));
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        result.cancel(false);
+                    }
+                });
+        return result;
+    }
+
+    private void reportRequest(final ClientHttpRequest request, final String uriTemplate, final int statusCode,
+                               final long start) {
+        if (metrics != null) {
+            metrics.requestCompleted(request.getMethod().name(), uriTemplate, statusCode, System.nanoTime() - start);
+        }
+    }
+
+    private <T> T handleResponse(final BufferedClientHttpRequest request, final ClientHttpResponse response,
+                                 final ResponseExtractor<T> responseExtractor) {
+        try {
+            deprecationInterceptor.intercept(request, EMPTY_BODY, (r, b) -> response);
+            final ResponseErrorHandler errorHandler = getErrorHandler();
+            if (errorHandler.hasError(response)) {
+                errorHandler.handleError(request.getURI(), request.getMethod(), response);
+            }
+            return responseExtractor != null ? responseExtractor.extractData(response) : null;
+        } catch (IOException e) {
+            throw new CompletionException(ioError(request, e));
+        }
+    }
+
+    private static ResourceAccessException ioError(final ClientHttpRequest request, final IOException e) {
+        return new ResourceAccessException("I/O error on " + request.getMethod() + " request for \""
+                + request.getURI() + "\": " + e.getMessage(), e);
+    }
+
+    /**
+     * Request collecting the body written by {@link RequestCallback}. It can't be executed directly.
+     */
+    private static final class BufferedClientHttpRequest implements ClientHttpRequest {
+
+        private final URI uri;
+        private final HttpMethod method;
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+
+        private BufferedClientHttpRequest(final URI uri, final HttpMethod method) {
+            this.uri = uri;
+            this.method = method;
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return method;
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public ClientHttpResponse execute() {
+            throw new UnsupportedOperationException("Buffered request is sent asynchronously");
+        }
+
+        private byte[] getBodyBytes() {
+            return body.toByteArray();
+        }
+    }
+
+    /**
+     * {@link ClientHttpResponse} adapter of the fully read {@link SimpleHttpResponse}.
+     */
+    private static final class SimpleClientHttpResponse implements ClientHttpResponse {
+
+        private final SimpleHttpResponse response;
+        private final HttpHeaders headers = new HttpHeaders();
+
+        private SimpleClientHttpResponse(final SimpleHttpResponse response) {
+            this.response = response;
+            for (org.apache.hc.core5.http.Header header : response.getHeaders()) {
+                headers.add(header.getName(), header.getValue());
+            }
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return HttpStatusCode.valueOf(response.getCode());
+        }
+
+        @Override
+        public int getRawStatusCode() {
+            return response.getCode();
+        }
+
+        @Override
+        public String getStatusText() {
+            return response.getReasonPhrase() != null ? response.getReasonPhrase() : "";
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            final byte[] body = response.getBodyBytes();
+            return new ByteArrayInputStream(body != null ? body : EMPTY_BODY);
+        }
+
+        @Override
+        public void close() {
+            // fully read already
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.httpcomponents;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gooddata.http.client.SSTRetrievalStrategy;
+import com.gooddata.sdk.common.GoodDataException;
+import com.gooddata.sdk.common.GoodDataRestException;
+import com.gooddata.sdk.common.gdc.ErrorStructure;
+import com.gooddata.sdk.common.gdc.Header;
+import org.apache.hc.client5.http.async.HttpAsyncClient;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.Method;
+import org.apache.hc.core5.http.message.BasicHeader;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static com.gooddata.sdk.common.util.Validate.notNull;
+
+/**
+ * Obtains temporary tokens (TT) used to authenticate requests of the asynchronous transport. It follows the protocol
+ * of {@link com.gooddata.http.client.GoodDataHttpClient}: the super secure token (SST) is obtained by the given
+ * {@link SSTRetrievalStrategy} and exchanged for TT at <code>/gdc/account/token</code>.
+ * <p>
+ * Tokens are shared by all requests, concurrent requests for expired token result in a single refresh.
+ * <p>
+ * For internal use by {@link AsyncGoodDataRestTemplate}.
+ */
+final class AsyncTokenAuthenticator {
+
+    static final String TT_HEADER = "X-GDC-AuthTT";
+    static final String SST_HEADER = "X-GDC-AuthSST";
+    static final String TOKEN_URI = "/gdc/account/token";
+
+    private final HttpAsyncClient asyncClient;
+    private final HttpClient sstClient;
+    private final HttpHost host;
+    private final SSTRetrievalStrategy sstStrategy;
+    private final Executor executor;
+    private final ObjectMapper mapper;
+
+    private CompletableFuture<String> sst;
+    private CompletableFuture<String> tt;
+
+    /**
+     * @param asyncClient client to obtain TT with
+     * @param sstClient   blocking client to pass to SST strategy
+     * @param host        API host
+     * @param sstStrategy strategy obtaining SST
+     * @param executor    executor to run the (blocking) SST strategy on
+     * @param mapper      mapper to read the token response with
+     */
+    AsyncTokenAuthenticator(final HttpAsyncClient asyncClient, final HttpClient sstClient, final HttpHost host,
+                            final SSTRetrievalStrategy sstStrategy, final Executor executor,
+                            final ObjectMapper mapper) {
+        this.asyncClient = notNull(asyncClient, "asyncClient");
+        this.sstClient = notNull(sstClient, "sstClient");
+        this.host = notNull(host, "host");
+        this.sstStrategy = notNull(sstStrategy, "sstStrategy");
+        this.executor = notNull(executor, "executor");
+        this.mapper = notNull(mapper, "mapper");
+    }
+
+    /**
+     * @return future completed by the current TT, obtaining new one when there is none yet
+     */
+    synchronized CompletableFuture<String> getToken() {
+        if (tt == null || tt.isCompletedExceptionally()) {
+            tt = obtainToken(false);
+        }
+        return tt;
+    }
+
+    /**
+     * Obtains new TT unless the rejected one was already replaced by a concurrent refresh.
+     *
+     * @param rejected TT rejected by the API
+     * @return future completed by the new TT
+     */
+    synchronized CompletableFuture<String> refreshToken(final String rejected) {
+        if (tt == null || tt.isCompletedExceptionally() || (tt.isDone() && Objects.equals(tt.join(), rejected))) {
+            tt = obtainToken(false);
+        }
+        return tt;
+    }
+
+    private CompletableFuture<String> obtainToken(final boolean sstRefreshed) {
+        return getSst(sstRefreshed).thenCompose(currentSst -> requestToken(currentSst).thenCompose(token -> {
+            if (token != null) {
+                return CompletableFuture.completedFuture(token);
+            }
+            if (sstRefreshed) {
+                throw new GoodDataException("Unable to obtain temporary token, super secure token was rejected");
+            }
+            return obtainToken(true);
+        }));
+    }
+
+    private synchronized CompletableFuture<String> getSst(final boolean refresh) {
+        if (sst == null || refresh || sst.isCompletedExceptionally()) {
+            sst = CompletableFuture.supplyAsync(() -> {
+                final String obtained;
+                try {
+                    obtained = sstStrategy.obtainSst(sstClient, host);
+                } catch (Exception e) {
+                    throw new GoodDataException("Unable to obtain super secure token", e);
+                }
+                if (obtained == null) {
+                    throw new GoodDataException("Unable to obtain super secure token");
+                }
+                return obtained;
+            }, executor);
+        }
+        return sst;
+    }
+
+    /**
+     * @return future completed by TT or null when SST was rejected
+     */
+    private CompletableFuture<String> requestToken(final String currentSst) {
+        final SimpleHttpRequest request = SimpleHttpRequest.create(Method.GET, host, TOKEN_URI);
+        request.setHeader(new BasicHeader(SST_HEADER, currentSst));
+        request.setHeader(new BasicHeader(HttpHeaders.ACCEPT, "application/json"));
+
+        final CompletableFuture<String> result = new CompletableFuture<>();
+        asyncClient.execute(SimpleRequestProducer.create(request), SimpleResponseConsumer.create(), null,
+                HttpClientContext.create(),
+                new FutureCallback<SimpleHttpResponse>() {
+                    @Override
+                    public void completed(final SimpleHttpResponse response) {
+                        try {
+                            result.complete(readToken(response));
+                        } catch (RuntimeException e) {
+                            result.completeExceptionally(e);
+                        }
+                    }
+
+                    @Override
+                    public void failed(final Exception e) {
+                        result.completeExceptionally(
+                                new GoodDataException("Unable to obtain temporary token", e));
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        result.cancel(false);
+                    }
+                });
+        return result;
+    }
+
+    private String readToken(final SimpleHttpResponse response) {
+        if (response.getCode() == HttpStatus.SC_UNAUTHORIZED) {
+            return null;
+        }
+        final String requestId = response.getFirstHeader(Header.GDC_REQUEST_ID) != null
+                ? response.getFirstHeader(Header.GDC_REQUEST_ID).getValue()
+                : null;
+        if (response.getCode() != HttpStatus.SC_OK) {
+            throw new GoodDataRestException(response.getCode(), requestId, response.getReasonPhrase(),
+                    (ErrorStructure) null);
+        }
+        if (response.getBodyBytes() == null) {
+            throw new GoodDataException("Empty response of " + TOKEN_URI);
+        }
+        try {
+            final String token = mapper.readTree(response.getBodyBytes()).path("userToken").path("token").asText(null);
+            if (token == null) {
+                throw new GoodDataException("Temporary token missing in response of " + TOKEN_URI);
+            }
+            return token;
+        } catch (IOException e) {
+            throw new GoodDataException("Unable to read temporary token", e);
+        }
+    }
+}
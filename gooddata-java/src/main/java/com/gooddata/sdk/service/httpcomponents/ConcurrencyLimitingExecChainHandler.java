@@ -0,0 +1,90 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.httpcomponents;
+
+import com.gooddata.sdk.service.AdaptiveConcurrencyLimiter;
+import com.gooddata.sdk.service.ApiFamily;
+import org.apache.hc.client5.http.classic.ExecChain;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpStatus;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.net.URISyntaxException;
+import java.util.concurrent.TimeoutException;
+
+import static com.gooddata.sdk.common.util.Validate.notNull;
+
+/**
+ * Http client {@link ExecChainHandler} limiting concurrent requests by {@link AdaptiveConcurrencyLimiter}.
+ * It's placed after the retry handler of the client, so every attempt is limited and reported separately.
+ * <p>
+ * The permit is held until the response head is received, the response body is then read without it
+ * (still limited by the connection pool).
+ */
+class ConcurrencyLimitingExecChainHandler implements ExecChainHandler {
+
+    static final String NAME = "CONCURRENCY_LIMIT";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    ConcurrencyLimitingExecChainHandler(final AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = notNull(limiter, "limiter");
+    }
+
+    @Override
+    public ClassicHttpResponse execute(final ClassicHttpRequest request, final ExecChain.Scope scope,
+                                       final ExecChain chain) throws IOException, HttpException {
+        final ApiFamily family = ApiFamily.of(getPath(request));
+        if (family == null) {
+            return chain.proceed(request, scope);
+        }
+
+        final AdaptiveConcurrencyLimiter.Permit permit;
+        try {
+            permit = limiter.acquire(family);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for concurrency limit of " + family);
+        } catch (TimeoutException e) {
+            throw new InterruptedIOException(e.getMessage());
+        }
+
+        final long start = System.nanoTime();
+        final ClassicHttpResponse response;
+        try {
+            response = chain.proceed(request, scope);
+        } catch (SocketTimeoutException e) {
+            permit.overloaded();
+            throw e;
+        } catch (IOException | HttpException | RuntimeException e) {
+            permit.ignore();
+            throw e;
+        }
+        if (response.getCode() == HttpStatus.SC_TOO_MANY_REQUESTS
+                || response.getCode() == HttpStatus.SC_SERVICE_UNAVAILABLE) {
+            permit.overloaded();
+        } else if (response.getCode() == HttpStatus.SC_ACCEPTED) {
+            // the task is still in progress, such quick poll responses would distort the average latency
+            permit.success();
+        } else {
+            permit.success(System.nanoTime() - start);
+        }
+        return response;
+    }
+
+    private static String getPath(final ClassicHttpRequest request) {
+        try {
+            return request.getUri().getPath();
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+}
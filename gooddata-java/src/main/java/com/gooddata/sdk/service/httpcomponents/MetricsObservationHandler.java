@@ -0,0 +1,81 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.httpcomponents;
+
+import com.gooddata.sdk.service.GoodDataMetrics;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.observation.ClientRequestObservationContext;
+
+import java.io.IOException;
+
+import static com.gooddata.sdk.common.util.Validate.notNull;
+
+/**
+ * Reports requests observed by the {@link org.springframework.web.client.RestTemplate} to {@link GoodDataMetrics}.
+ * Spring's observation API is used only as a hook to get the URI template of the request, no metrics library
+ * is needed.
+ */
+class MetricsObservationHandler implements ObservationHandler<ClientRequestObservationContext> {
+
+    private static final String START_KEY = MetricsObservationHandler.class.getName() + ".start";
+
+    private final GoodDataMetrics metrics;
+
+    MetricsObservationHandler(final GoodDataMetrics metrics) {
+        this.metrics = notNull(metrics, "metrics");
+    }
+
+    /**
+     * Creates observation registry reporting to given metrics.
+     *
+     * @param metrics metrics to report to
+     * @return observation registry to set to the REST template
+     */
+    static ObservationRegistry createObservationRegistry(final GoodDataMetrics metrics) {
+        final ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new MetricsObservationHandler(metrics));
+        return registry;
+    }
+
+    @Override
+    public boolean supportsContext(final Observation.Context context) {
+        return context instanceof ClientRequestObservationContext;
+    }
+
+    @Override
+    public void onStart(final ClientRequestObservationContext context) {
+        context.put(START_KEY, System.nanoTime());
+    }
+
+    @Override
+    public void onStop(final ClientRequestObservationContext context) {
+        final Long start = context.get(START_KEY);
+        if (start == null) {
+            return;
+        }
+        final ClientHttpRequest request = context.getCarrier();
+        final String uriTemplate = context.getUriTemplate() != null || request == null
+                ? context.getUriTemplate()
+                : request.getURI().getPath();
+        metrics.requestCompleted(request != null ? request.getMethod().name() : null, uriTemplate,
+                statusCode(context.getResponse()), System.nanoTime() - start);
+    }
+
+    private static int statusCode(final ClientHttpResponse response) {
+        if (response == null) {
+            return 0;
+        }
+        try {
+            return response.getStatusCode().value();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
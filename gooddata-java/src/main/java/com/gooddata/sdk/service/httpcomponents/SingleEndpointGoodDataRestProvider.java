@@ -7,6 +7,7 @@ package com.gooddata.sdk.service.httpcomponents;
 
 
 import com.gooddata.sdk.common.HttpClient5ComponentsClientHttpRequestFactory;
+import com.gooddata.sdk.service.AdaptiveConcurrencyLimiter;
 import com.gooddata.sdk.service.DeprecationWarningRequestInterceptor;
 import com.gooddata.sdk.service.GoodDataEndpoint;
 import com.gooddata.sdk.service.GoodDataRestProvider;
@@ -17,19 +18,30 @@ import com.gooddata.sdk.service.ResponseMissingRequestIdInterceptor;
 import com.gooddata.sdk.service.gdc.DataStoreService;
 import com.gooddata.sdk.service.retry.RetryableRestTemplate;
 import com.gooddata.sdk.service.util.ResponseErrorHandler;
+import org.apache.hc.client5.http.HttpRequestRetryStrategy;
+import org.apache.hc.client5.http.HttpRoute;
 import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.cookie.StandardCookieSpec;
+import org.apache.hc.client5.http.impl.ChainElement;
+import org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -45,6 +57,8 @@ import static java.util.Arrays.asList;
  *     <li>Configures connection according to {@link GoodDataSettings}</li>
  *     <li>Set default headers from {@link GoodDataSettings} including User-Agent</li>
  *     <li>Configures retries in case it's requested</li>
+ *     <li>Reports requests and connection leases to {@link GoodDataSettings#getMetrics()} in case it's set</li>
+ *     <li>Limits concurrent requests by {@link AdaptiveConcurrencyLimiter} in case it's requested</li>
  * </ul>
  * <p>
  * To provide complete implementation, this class must be extended and descendants should implement own logic by providing
@@ -73,6 +87,19 @@ public abstract class SingleEndpointGoodDataRestProvider implements GoodDataRest
                 createHttpClientBuilder(settings), endpoint, settings));
     }
 
+    /**
+     * Creates new instance, which doesn't create the http client nor the REST template. Descendants using this
+     * constructor are responsible for setting {@link #httpClient} (i.e. by calling
+     * {@link #createRestTemplate(GoodDataEndpoint, GoodDataSettings, HttpClient)}) and {@link #restTemplate}.
+     *
+     * @param endpoint API endpoint
+     * @param settings settings
+     */
+    protected SingleEndpointGoodDataRestProvider(final GoodDataEndpoint endpoint, final GoodDataSettings settings) {
+        this.endpoint = notNull(endpoint, "endpoint");
+        this.settings = notNull(settings, "settings");
+    }
+
     @Override
     public RestTemplate getRestTemplate() {
         return restTemplate;
@@ -121,23 +148,36 @@ public abstract class SingleEndpointGoodDataRestProvider implements GoodDataRest
         notNull(settings, "settings");
         this.httpClient = notNull(httpClient, "httpClient");
 
-        final ClientHttpRequestFactory httpClientFactory = new HttpClient5ComponentsClientHttpRequestFactory(httpClient);
-        final ClientHttpRequestFactory factory = new RestTemplateUriPrefixingClientHttpRequestFactory(
+        final HttpClient5ComponentsClientHttpRequestFactory httpClientFactory =
+                new HttpClient5ComponentsClientHttpRequestFactory(httpClient);
+        httpClientFactory.setBufferRequestBody(settings.isBufferRequestBody());
+        ClientHttpRequestFactory factory = new RestTemplateUriPrefixingClientHttpRequestFactory(
                 httpClientFactory,
                 java.net.URI.create(endpoint.toUri())
         );
+        final List<ClientHttpRequestInterceptor> interceptors = asList(
+                new HeaderSettingRequestInterceptor(settings.getPresetHeaders()),
+                new DeprecationWarningRequestInterceptor());
+        if (!settings.isBufferRequestBody()) {
+            // RestTemplate would buffer the body for its own interceptors
+            factory = new StreamingInterceptingClientHttpRequestFactory(factory, interceptors);
+        }
 
         final RestTemplate restTemplate;
         if (settings.getRetrySettings() == null) {
             restTemplate = new RestTemplate(factory);
         } else {
-            restTemplate = RetryableRestTemplate.create(settings.getRetrySettings(), factory);
+            restTemplate = RetryableRestTemplate.create(settings.getRetrySettings(), factory, settings.getMetrics());
+        }
+        if (settings.isBufferRequestBody()) {
+            restTemplate.setInterceptors(interceptors);
         }
-        restTemplate.setInterceptors(asList(
-                new HeaderSettingRequestInterceptor(settings.getPresetHeaders()),
-                new DeprecationWarningRequestInterceptor()));
 
         restTemplate.setErrorHandler(new ResponseErrorHandler(restTemplate.getMessageConverters()));
+        if (settings.getMetrics() != null) {
+            restTemplate.setObservationRegistry(
+                    MetricsObservationHandler.createObservationRegistry(settings.getMetrics()));
+        }
 
         return restTemplate;
     }
@@ -154,9 +194,12 @@ public abstract class SingleEndpointGoodDataRestProvider implements GoodDataRest
                 .setDefaultSocketConfig(SocketConfig.custom()
                         .setSoTimeout(Timeout.ofMilliseconds(settings.getSocketTimeout()))
                         .build())
-                .setMaxConnPerRoute(settings.getMaxConnections())
-                .setMaxConnTotal(settings.getMaxConnections())
+                .setDefaultConnectionConfig(createConnectionConfig(settings))
+                .setPoolConcurrencyPolicy(settings.getPoolConcurrencyPolicy())
+                .setMaxConnPerRoute(settings.getStagingMaxConnections())
+                .setMaxConnTotal(settings.getMaxTotalConnections())
                 .build();
+        connectionManager.setMaxPerRoute(createApiRoute(endpoint), settings.getMaxConnections());
 
         // Create request config using HttpClient 5.x APIs
         final RequestConfig requestConfig = RequestConfig.custom()
@@ -165,11 +208,74 @@ public abstract class SingleEndpointGoodDataRestProvider implements GoodDataRest
                 .setCookieSpec(StandardCookieSpec.STRICT)
                 .build();
 
-        return HttpClientBuilder.create()
+        final HttpClientBuilder builder = HttpClientBuilder.create()
                 .setUserAgent(settings.getGoodDataUserAgent())
-                .setConnectionManager(connectionManager)
+                .setConnectionManager(settings.getMetrics() != null
+                        ? new InstrumentedHttpClientConnectionManager(connectionManager, settings.getMetrics())
+                        : connectionManager)
                 .addRequestInterceptorFirst(new RequestIdInterceptor())
                 .addResponseInterceptorFirst(new ResponseMissingRequestIdInterceptor())
                 .setDefaultRequestConfig(requestConfig);
+        if (settings.getConnectionIdleTimeout() > 0) {
+            builder.evictExpiredConnections()
+                    .evictIdleConnections(TimeValue.ofMilliseconds(settings.getConnectionIdleTimeout()));
+        }
+        if (settings.getRetrySettings() != null) {
+            builder.setRetryStrategy(createIoErrorRetryStrategy());
+        }
+        if (settings.getConcurrencyLimitSettings() != null) {
+            builder.addExecInterceptorAfter(ChainElement.RETRY.name(), ConcurrencyLimitingExecChainHandler.NAME,
+                    new ConcurrencyLimitingExecChainHandler(new AdaptiveConcurrencyLimiter(
+                            settings.getConcurrencyLimitSettings(), settings.getMetrics())));
+        }
+        return builder;
+    }
+
+    /**
+     * Creates retry strategy of the http client used when {@link GoodDataSettings#getRetrySettings() retries}
+     * are configured. Error responses are then retried by {@link RetryableRestTemplate}, so the client retries
+     * just the I/O errors.
+     *
+     * @return retry strategy
+     */
+    static HttpRequestRetryStrategy createIoErrorRetryStrategy() {
+        return new DefaultHttpRequestRetryStrategy() {
+            @Override
+            public boolean retryRequest(final HttpResponse response, final int execCount, final HttpContext context) {
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Creates configuration of pooled connections (timeouts, time to live and validation) from given settings.
+     *
+     * @param settings settings to apply
+     * @return connection config
+     */
+    static ConnectionConfig createConnectionConfig(final GoodDataSettings settings) {
+        return ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(settings.getConnectionTimeout()))
+                .setSocketTimeout(Timeout.ofMilliseconds(settings.getSocketTimeout()))
+                .setTimeToLive(settings.getConnectionTimeToLive() > 0
+                        ? TimeValue.ofMilliseconds(settings.getConnectionTimeToLive())
+                        : null)
+                // non-positive value disables the validation
+                .setValidateAfterInactivity(settings.getValidateAfterInactivity() > 0
+                        ? TimeValue.ofMilliseconds(settings.getValidateAfterInactivity())
+                        : TimeValue.NEG_ONE_MILLISECOND)
+                .build();
+    }
+
+    /**
+     * Creates route to the API endpoint, to apply {@link GoodDataSettings#getMaxConnections()} on.
+     *
+     * @param endpoint API endpoint
+     * @return API route
+     */
+    static HttpRoute createApiRoute(final GoodDataEndpoint endpoint) {
+        notNull(endpoint, "endpoint");
+        return new HttpRoute(new HttpHost(endpoint.getProtocol(), endpoint.getHostname(), endpoint.getPort()),
+                null, "https".equalsIgnoreCase(endpoint.getProtocol()));
     }
 }
@@ -0,0 +1,120 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.httpcomponents;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.AbstractClientHttpRequestFactoryWrapper;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.gooddata.sdk.common.util.Validate.notNull;
+
+/**
+ * {@link ClientHttpRequestFactory} wrapper applying {@link ClientHttpRequestInterceptor}s without buffering
+ * the request body.
+ * <p>
+ * Spring's {@code InterceptingClientHttpRequestFactory}, used by RestTemplate when it has interceptors, buffers
+ * every request body to pass it to the interceptors. The SDK interceptors only modify headers and inspect responses,
+ * so here they get an empty body and the real body is streamed to the wrapped request. Interceptors must therefore
+ * neither read nor replace the body.
+ */
+class StreamingInterceptingClientHttpRequestFactory extends AbstractClientHttpRequestFactoryWrapper {
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private final List<ClientHttpRequestInterceptor> interceptors;
+
+    StreamingInterceptingClientHttpRequestFactory(final ClientHttpRequestFactory requestFactory,
+                                                  final List<ClientHttpRequestInterceptor> interceptors) {
+        super(notNull(requestFactory, "requestFactory"));
+        this.interceptors = notNull(interceptors, "interceptors");
+    }
+
+    @Override
+    protected ClientHttpRequest createRequest(final URI uri, final HttpMethod httpMethod,
+                                              final ClientHttpRequestFactory requestFactory) throws IOException {
+        return new StreamingInterceptingClientHttpRequest(requestFactory.createRequest(uri, httpMethod));
+    }
+
+    private class StreamingInterceptingClientHttpRequest implements ClientHttpRequest, StreamingHttpOutputMessage {
+
+        private final ClientHttpRequest delegate;
+
+        private StreamingInterceptingClientHttpRequest(final ClientHttpRequest delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return delegate.getMethod();
+        }
+
+        @Override
+        public String getMethodValue() {
+            return delegate.getMethodValue();
+        }
+
+        @Override
+        public URI getURI() {
+            return delegate.getURI();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void setBody(final Body body) {
+            if (delegate instanceof StreamingHttpOutputMessage) {
+                ((StreamingHttpOutputMessage) delegate).setBody(body);
+            } else {
+                try {
+                    body.writeTo(delegate.getBody());
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Unable to write request body", e);
+                }
+            }
+        }
+
+        @Override
+        public ClientHttpResponse execute() throws IOException {
+            return new Execution().execute(this, EMPTY_BODY);
+        }
+
+        private class Execution implements ClientHttpRequestExecution {
+
+            private final Iterator<ClientHttpRequestInterceptor> iterator = interceptors.iterator();
+
+            @Override
+            public ClientHttpResponse execute(final HttpRequest request, final byte[] body) throws IOException {
+                if (iterator.hasNext()) {
+                    return iterator.next().intercept(request, body, this);
+                }
+                // headers of the request (possibly wrapped by interceptors) are the headers of the delegate
+                return delegate.execute();
+            }
+        }
+    }
+}
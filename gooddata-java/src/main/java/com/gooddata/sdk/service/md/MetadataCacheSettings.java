@@ -0,0 +1,74 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.md;
+
+import com.gooddata.sdk.common.util.GoodDataToStringBuilder;
+
+import java.util.Objects;
+
+import static org.springframework.util.Assert.isTrue;
+
+/**
+ * Contains settings for caching of metadata queries done by {@link MetadataService}.
+ * Caching is disabled unless these settings are set using
+ * {@link com.gooddata.sdk.service.GoodDataSettings#setMetadataCacheSettings(MetadataCacheSettings)}.
+ */
+public class MetadataCacheSettings {
+
+    public static final long DEFAULT_TTL = 5 * 60 * 1000L; // 5min
+    public static final int DEFAULT_MAX_QUERIES = 100;
+
+    private long ttl = DEFAULT_TTL;
+    private int maxQueries = DEFAULT_MAX_QUERIES;
+
+    /**
+     * Time in milliseconds for which a query result is served from the cache.
+     *
+     * @return time to live of cached query
+     */
+    public long getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(final long ttl) {
+        isTrue(ttl > 0, "ttl has to be greater than 0");
+        this.ttl = ttl;
+    }
+
+    /**
+     * Maximal number of cached query results (one per project and metadata type). When exceeded, the least recently
+     * used result is evicted.
+     *
+     * @return maximal number of cached queries
+     */
+    public int getMaxQueries() {
+        return maxQueries;
+    }
+
+    public void setMaxQueries(final int maxQueries) {
+        isTrue(maxQueries > 0, "maxQueries has to be greater than 0");
+        this.maxQueries = maxQueries;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final MetadataCacheSettings that = (MetadataCacheSettings) o;
+        return ttl == that.ttl &&
+                maxQueries == that.maxQueries;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ttl, maxQueries);
+    }
+
+    @Override
+    public String toString() {
+        return GoodDataToStringBuilder.defaultToString(this);
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.md;
+
+import com.gooddata.sdk.model.md.Entry;
+import com.gooddata.sdk.model.md.Restriction;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import static com.gooddata.sdk.common.util.Validate.notNull;
+
+/**
+ * Size bounded LRU cache of metadata query results (entries of <code>/gdc/md/{PROJECT_ID}/query/{TYPE}</code>)
+ * with expiration. Cached entries are indexed by identifier, title and URI, so restricted lookups don't need
+ * to scan the whole listing.
+ * <p>
+ * For internal use by {@link MetadataService}.
+ */
+final class MetadataQueryCache {
+
+    private final long ttl;
+    private final LongSupplier clock;
+    private final Map<Key, CachedQuery> queries;
+
+    MetadataQueryCache(final MetadataCacheSettings settings) {
+        this(settings, System::currentTimeMillis);
+    }
+
+    MetadataQueryCache(final MetadataCacheSettings settings, final LongSupplier clock) {
+        notNull(settings, "settings");
+        this.ttl = settings.getTtl();
+        this.clock = notNull(clock, "clock");
+        final int maxQueries = settings.getMaxQueries();
+        this.queries = new LinkedHashMap<Key, CachedQuery>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, CachedQuery> eldest) {
+                return size() > maxQueries;
+            }
+        };
+    }
+
+    /**
+     * @param projectId project id
+     * @param type      query type
+     * @return cached query result or null if not cached or expired
+     */
+    synchronized CachedQuery get(final String projectId, final String type) {
+        final Key key = new Key(projectId, type);
+        final CachedQuery query = queries.get(key);
+        if (query != null && clock.getAsLong() - query.loaded >= ttl) {
+            queries.remove(key);
+            return null;
+        }
+        return query;
+    }
+
+    /**
+     * Caches the query result.
+     *
+     * @param projectId project id
+     * @param type      query type
+     * @param entries   query entries
+     * @return cached query result
+     */
+    synchronized CachedQuery put(final String projectId, final String type, final Collection<Entry> entries) {
+        final CachedQuery query = new CachedQuery(entries, clock.getAsLong());
+        queries.put(new Key(projectId, type), query);
+        return query;
+    }
+
+    /**
+     * Evicts all cached query results of the project.
+     *
+     * @param projectId project id
+     */
+    synchronized void invalidateProject(final String projectId) {
+        queries.keySet().removeIf(key -> key.projectId.equals(projectId));
+    }
+
+    /**
+     * Evicts all cached query results containing the object of given URI.
+     *
+     * @param uri object URI
+     */
+    synchronized void invalidateUri(final String uri) {
+        queries.values().removeIf(query -> query.uris.contains(uri));
+    }
+
+    synchronized void invalidateAll() {
+        queries.clear();
+    }
+
+    synchronized int size() {
+        return queries.size();
+    }
+
+    /**
+     * Immutable result of a single query with its indexes.
+     */
+    static final class CachedQuery {
+
+        private final List<Entry> entries;
+        private final Map<String, List<Entry>> byIdentifier;
+        private final Map<String, List<Entry>> byTitle;
+        private final Set<String> uris;
+        private final long loaded;
+
+        private CachedQuery(final Collection<Entry> entries, final long loaded) {
+            this.entries = Collections.unmodifiableList(new ArrayList<>(entries));
+            this.byIdentifier = index(entries, Entry::getIdentifier);
+            this.byTitle = index(entries, Entry::getTitle);
+            this.uris = new HashSet<>(entries.size());
+            entries.forEach(entry -> uris.add(entry.getUri()));
+            this.loaded = loaded;
+        }
+
+        /**
+         * Finds entries matching any of given restrictions in the same way as the uncached query does.
+         *
+         * @param restrictions query restrictions
+         * @return matching entries
+         */
+        Collection<Entry> find(final Restriction... restrictions) {
+            if (restrictions == null || restrictions.length == 0) {
+                return new ArrayList<>(entries);
+            }
+            if (restrictions.length == 1 && restrictions[0] != null) {
+                switch (restrictions[0].getType()) {
+                    case IDENTIFIER:
+                        return lookup(byIdentifier, restrictions[0].getValue());
+                    case TITLE:
+                        return lookup(byTitle, restrictions[0].getValue());
+                    default:
+                        break;
+                }
+            }
+            return MetadataService.filterEntries(entries, restrictions);
+        }
+
+        private static Collection<Entry> lookup(final Map<String, List<Entry>> index, final String value) {
+            return new ArrayList<>(index.getOrDefault(value, Collections.emptyList()));
+        }
+
+        private static Map<String, List<Entry>> index(final Collection<Entry> entries,
+                                                      final Function<Entry, String> key) {
+            final Map<String, List<Entry>> index = new HashMap<>(entries.size());
+            for (Entry entry : entries) {
+                final String value = key.apply(entry);
+                if (value != null) {
+                    index.computeIfAbsent(value, k -> new ArrayList<>(1)).add(entry);
+                }
+            }
+            return index;
+        }
+    }
+
+    private static final class Key {
+        private final String projectId;
+        private final String type;
+
+        private Key(final String projectId, final String type) {
+            this.projectId = projectId;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final Key key = (Key) o;
+            return projectId.equals(key.projectId) && type.equals(key.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * projectId.hashCode() + type.hashCode();
+        }
+    }
+}
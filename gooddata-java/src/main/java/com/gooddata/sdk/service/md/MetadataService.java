@@ -27,23 +27,39 @@ import com.gooddata.sdk.model.md.Usage;
 import com.gooddata.sdk.model.md.UseMany;
 import com.gooddata.sdk.model.md.UseManyEntries;
 import com.gooddata.sdk.model.md.report.ReportDefinition;
+import com.gooddata.sdk.model.md.visualization.CachingVisualizationConverter;
+import com.gooddata.sdk.model.md.visualization.VisualizationClass;
 import com.gooddata.sdk.model.project.Project;
 import com.gooddata.sdk.service.AbstractService;
 import com.gooddata.sdk.service.GoodDataSettings;
+import com.gooddata.sdk.service.ParallelismSettings;
 import org.springframework.http.HttpStatus;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriTemplate;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.gooddata.sdk.common.util.Validate.noNullElements;
 import static com.gooddata.sdk.common.util.Validate.notEmpty;
@@ -60,8 +76,17 @@ public class MetadataService extends AbstractService {
     public static final UriTemplate OBJ_TEMPLATE = new UriTemplate(Obj.OBJ_URI);
     private static final Set<String> IRREGULAR_PLURAL_WORD_SUFFIXES = new HashSet<>(asList("s", "ch", "sh", "x", "o"));
 
+    private final MetadataQueryCache queryCache;
+    private final int bulkGetChunkSize;
+    private final int bulkGetParallelism;
+
     public MetadataService(final RestTemplate restTemplate, final GoodDataSettings settings) {
         super(restTemplate, settings);
+        this.queryCache = settings.getMetadataCacheSettings() != null
+                ? new MetadataQueryCache(settings.getMetadataCacheSettings())
+                : null;
+        this.bulkGetChunkSize = settings.getParallelismSettings().getBulkGetChunkSize();
+        this.bulkGetParallelism = settings.getParallelismSettings().getBulkGetParallelism();
     }
 
     /**
@@ -93,6 +118,9 @@ public class MetadataService extends AbstractService {
         if (response == null) {
             throw new ObjCreateException("Received empty response from API call.", obj);
         }
+        if (queryCache != null) {
+            queryCache.invalidateProject(project.getId());
+        }
         return response;
     }
 
@@ -111,47 +139,118 @@ public class MetadataService extends AbstractService {
         notNull(uri, "uri");
         notNull(cls, "cls");
         try {
-            final T result = restTemplate.getForObject(uri, cls);
+            return checkObjResponse(restTemplate.getForObject(uri, cls));
+        } catch (GoodDataRestException | RestClientException e) {
+            throw getObjException(uri, cls, e);
+        }
+    }
 
-            if (result != null) {
-                return result;
-            } else {
-                throw new GoodDataException("Received empty response from API call.");
+    /**
+     * Get metadata object by URI (format is <code>/gdc/md/{PROJECT_ID}/obj/{OBJECT_ID}</code>) asynchronously.
+     * The calling thread is not blocked by the request when the REST provider supports asynchronous transport
+     * (see {@link com.gooddata.sdk.service.httpcomponents.AsyncGoodDataRestProvider}).
+     *
+     * @param uri URI in format <code>/gdc/md/{PROJECT_ID}/obj/{OBJECT_ID}</code>
+     * @param cls class of the resulting object
+     * @param <T> type of the object to be returned
+     * @return future completed by the metadata object or exceptionally by the same exceptions
+     * {@link #getObjByUri(String, Class)} throws
+     */
+    public <T extends Obj> CompletableFuture<T> getObjByUriAsync(final String uri, final Class<T> cls) {
+        notNull(uri, "uri");
+        notNull(cls, "cls");
+        return getObjAsync(uri, cls).handle((result, failure) -> {
+            if (failure == null) {
+                return checkObjResponse(result);
             }
-        } catch (GoodDataRestException e) {
-            if (HttpStatus.NOT_FOUND.value() == e.getStatusCode()) {
-                throw new ObjNotFoundException(uri, cls, e);
-            } else {
-                throw e;
+            final Throwable cause = unwrapCompletionException(failure);
+            if (cause instanceof GoodDataRestException || cause instanceof RestClientException) {
+                throw getObjException(uri, cls, (RuntimeException) cause);
             }
-        } catch (RestClientException e) {
-            throw new GoodDataException("Unable to get " + cls.getSimpleName().toLowerCase() + " " + uri, e);
+            throw new CompletionException(cause);
+        });
+    }
+
+    private <T extends Obj> CompletableFuture<T> getObjAsync(final String uri, final Class<T> cls) {
+        // requested by the URI template when possible, so the request metrics aren't reported per object
+        final Map<String, String> match = OBJ_TEMPLATE.match(uri);
+        if (match.containsKey("objId") && uri.indexOf('?') < 0) {
+            return getAsyncRestOperations().getForObjectAsync(Obj.OBJ_URI, cls, match.get("projectId"),
+                    match.get("objId"));
+        }
+        return getAsyncRestOperations().getForObjectAsync(uri, cls);
+    }
+
+    private static <T> T checkObjResponse(final T result) {
+        if (result == null) {
+            throw new GoodDataException("Received empty response from API call.");
+        }
+        return result;
+    }
+
+    private static RuntimeException getObjException(final String uri, final Class<? extends Obj> cls,
+                                                    final RuntimeException e) {
+        if (e instanceof GoodDataRestException) {
+            if (HttpStatus.NOT_FOUND.value() == ((GoodDataRestException) e).getStatusCode()) {
+                return new ObjNotFoundException(uri, cls, (GoodDataRestException) e);
+            }
+            return e;
         }
+        return new GoodDataException("Unable to get " + cls.getSimpleName().toLowerCase() + " " + uri, e);
     }
 
     /**
      * Retrieves a collection of objects corresponding to the supplied collection of URIs.
+     * <p>
+     * Large collections are split into chunks of {@link ParallelismSettings#getBulkGetChunkSize()} URIs, which are
+     * requested concurrently (up to {@link ParallelismSettings#getBulkGetParallelism()} at once).
      *
      * @param project project that contains the objects to be retrieved
      * @param uris    collection of URIs
      * @return collection of metadata objects corresponding to the supplied URIs
      */
     public Collection<Obj> getObjsByUris(Project project, Collection<String> uris) {
+        notNull(uris, "uris");
+        final Collection<Obj> result = new ArrayList<>(uris.size());
+        getObjsByUris(project, uris, result::add);
+        return result;
+    }
+
+    /**
+     * Retrieves objects corresponding to the supplied collection of URIs and passes them to the consumer
+     * in the order of the chunks they were requested by. Only a bounded number of chunks is held in memory.
+     *
+     * @param project  project that contains the objects to be retrieved
+     * @param uris     collection of URIs
+     * @param consumer consumer of the retrieved objects, called from the calling thread
+     * @see #getObjsByUris(Project, Collection)
+     */
+    public void getObjsByUris(Project project, Collection<String> uris, Consumer<? super Obj> consumer) {
+        notNull(consumer, "consumer");
+        try (Stream<Obj> objs = streamObjsByUris(project, uris)) {
+            objs.forEachOrdered(consumer);
+        }
+    }
+
+    /**
+     * Retrieves objects corresponding to the supplied collection of URIs as a lazy stream. Chunks are requested
+     * ahead while the stream is consumed, only a bounded number of them is held in memory. Close the stream when
+     * it isn't consumed fully to cancel the pending requests.
+     *
+     * @param project project that contains the objects to be retrieved
+     * @param uris    collection of URIs
+     * @return stream of metadata objects corresponding to the supplied URIs
+     * @see #getObjsByUris(Project, Collection)
+     */
+    public Stream<Obj> streamObjsByUris(Project project, Collection<String> uris) {
         notNull(project, "project");
         notNull(project.getId(), "project.id");
         notNull(uris, "uris");
 
-        try {
-            final BulkGet result = restTemplate.postForObject(BulkGet.URI, new BulkGetUris(uris), BulkGet.class, project.getId());
-
-            if (result != null) {
-                return result.getItems();
-            } else {
-                throw new GoodDataException("Received empty response from API call.");
-            }
-        } catch (RestClientException e) {
-            throw new GoodDataException("Unable to get objects. Some of the supplied URIs may be malformed.", e);
-        }
+        final BulkGetIterator chunks = new BulkGetIterator(project.getId(), split(uris, bulkGetChunkSize));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED), false)
+                .onClose(chunks::cancel)
+                .flatMap(Collection::stream);
     }
 
     /**
@@ -168,6 +267,7 @@ public class MetadataService extends AbstractService {
         notNull(obj.getUri(), "obj.uri");
         try {
             restTemplate.put(obj.getUri(), obj);
+            invalidateCachedQueries(obj.getUri());
             return getObjByUri(obj.getUri(), (Class<T>) obj.getClass());
         } catch (GoodDataException | RestClientException e) {
             throw new ObjUpdateException(obj, e);
@@ -187,6 +287,7 @@ public class MetadataService extends AbstractService {
         notNull(obj.getUri(), "obj.uri");
         try {
             restTemplate.delete(obj.getUri());
+            invalidateCachedQueries(obj.getUri());
         } catch (GoodDataRestException e) {
             if (HttpStatus.NOT_FOUND.value() == e.getStatusCode()) {
                 throw new ObjNotFoundException(obj);
@@ -210,6 +311,7 @@ public class MetadataService extends AbstractService {
         notNull(uri, "uri");
         try {
             restTemplate.delete(uri);
+            invalidateCachedQueries(uri);
         } catch (GoodDataRestException e) {
             if (HttpStatus.NOT_FOUND.value() == e.getStatusCode()) {
                 throw new ObjNotFoundException(uri);
@@ -285,6 +387,10 @@ public class MetadataService extends AbstractService {
 
     /**
      * Find metadata by restrictions like identifier, title or summary.
+     * <p>
+     * When the metadata cache is enabled (see {@link GoodDataSettings#setMetadataCacheSettings(MetadataCacheSettings)}),
+     * the listing of given type is downloaded once and the subsequent lookups are served from the cache until
+     * it expires or an object of the project is created, updated or removed through this service.
      *
      * @param project      project where to search for the metadata
      * @param cls          class of searched metadata
@@ -299,10 +405,19 @@ public class MetadataService extends AbstractService {
         notNull(cls, "cls");
 
         final String type = getQueryType(cls);
+        if (queryCache != null) {
+            final MetadataQueryCache.CachedQuery cached = queryCache.get(project.getId(), type);
+            if (cached != null) {
+                return cached.find(restrictions);
+            }
+        }
         try {
             final Query queryResult = restTemplate.getForObject(Query.URI, Query.class, project.getId(), type);
 
             if (queryResult != null && queryResult.getEntries() != null) {
+                if (queryCache != null) {
+                    return queryCache.put(project.getId(), type, queryResult.getEntries()).find(restrictions);
+                }
                 return filterEntries(queryResult.getEntries(), restrictions);
             } else {
                 throw new GoodDataException("Received empty response from API call.");
@@ -435,6 +550,31 @@ public class MetadataService extends AbstractService {
         return getUrisForIdentifiers(project, identifiers).asIdentifierToUri();
     }
 
+    /**
+     * Create converter of identifier object qualifiers to URI object qualifiers of given project. The converter resolves
+     * all the identifiers of an AFM using a single {@link #identifiersToUris(Project, Collection)} call and caches them,
+     * so keep and reuse it for executions of the same project.
+     *
+     * @param project project where to search for the metadata
+     * @return new converter with empty cache
+     * @see ProjectObjQualifierConverter#convert(com.gooddata.sdk.model.executeafm.Execution)
+     */
+    public ProjectObjQualifierConverter createObjQualifierConverter(final Project project) {
+        return new ProjectObjQualifierConverter(this, project);
+    }
+
+    /**
+     * Create converter of visualization objects to executions fetching the visualization classes using
+     * {@link #getObjByUri(String, Class)}. The converter caches the visualization classes and parsed properties
+     * of the visualization objects, so keep and reuse it for converting many visualization objects.
+     *
+     * @return new converter with empty caches
+     * @see CachingVisualizationConverter
+     */
+    public CachingVisualizationConverter createVisualizationConverter() {
+        return new CachingVisualizationConverter(uri -> getObjByUri(uri, VisualizationClass.class));
+    }
+
     /**
      * Fetches attribute elements for given attribute using default display form.
      *
@@ -519,7 +659,44 @@ public class MetadataService extends AbstractService {
     }
 
 
-    private Collection<Entry> filterEntries(Collection<Entry> entries, Restriction... restrictions) {
+    /**
+     * Evict all cached metadata queries (see {@link GoodDataSettings#setMetadataCacheSettings(MetadataCacheSettings)}).
+     * Use when the metadata were changed other way than using this service.
+     */
+    public void clearQueryCache() {
+        if (queryCache != null) {
+            queryCache.invalidateAll();
+        }
+    }
+
+    /**
+     * Evict cached metadata queries of given project
+     * (see {@link GoodDataSettings#setMetadataCacheSettings(MetadataCacheSettings)}).
+     * Use when the metadata were changed other way than using this service.
+     *
+     * @param project project
+     */
+    public void clearQueryCache(final Project project) {
+        notNull(project, "project");
+        notNull(project.getId(), "project.id");
+        if (queryCache != null) {
+            queryCache.invalidateProject(project.getId());
+        }
+    }
+
+    private void invalidateCachedQueries(final String uri) {
+        if (queryCache == null) {
+            return;
+        }
+        final Map<String, String> match = OBJ_TEMPLATE.match(uri);
+        if (match.containsKey("projectId")) {
+            queryCache.invalidateProject(match.get("projectId"));
+        } else {
+            queryCache.invalidateUri(uri);
+        }
+    }
+
+    static Collection<Entry> filterEntries(Collection<Entry> entries, Restriction... restrictions) {
         if (restrictions == null || restrictions.length == 0) {
             return entries;
         }
@@ -542,6 +719,89 @@ public class MetadataService extends AbstractService {
         return result;
     }
 
+    private Collection<Obj> bulkGet(final String projectId, final List<String> uris) {
+        try {
+            final BulkGet result = restTemplate.postForObject(BulkGet.URI, new BulkGetUris(uris), BulkGet.class, projectId);
+
+            if (result != null) {
+                return result.getItems();
+            } else {
+                throw new GoodDataException("Received empty response from API call.");
+            }
+        } catch (RestClientException e) {
+            throw new GoodDataException("Unable to get objects. Some of the supplied URIs may be malformed.", e);
+        }
+    }
+
+    private static List<List<String>> split(final Collection<String> uris, final int chunkSize) {
+        if (uris.isEmpty()) {
+            return Collections.singletonList(Collections.emptyList());
+        }
+        final List<List<String>> chunks = new ArrayList<>();
+        List<String> chunk = null;
+        for (String uri : uris) {
+            if (chunk == null || chunk.size() == chunkSize) {
+                chunk = new ArrayList<>(Math.min(chunkSize, uris.size()));
+                chunks.add(chunk);
+            }
+            chunk.add(uri);
+        }
+        return chunks;
+    }
+
+    /**
+     * Iterates over results of bulk get chunks, keeping at most {@link #bulkGetParallelism} chunks in flight.
+     */
+    private class BulkGetIterator implements Iterator<Collection<Obj>> {
+
+        private final String projectId;
+        private final List<List<String>> chunks;
+        private final Executor executor;
+        private final Deque<CompletableFuture<Collection<Obj>>> inFlight = new ArrayDeque<>();
+        private int next;
+
+        private BulkGetIterator(final String projectId, final List<List<String>> chunks) {
+            this.projectId = projectId;
+            this.chunks = chunks;
+            // a single chunk is requested from the calling thread
+            this.executor = chunks.size() > 1 && bulkGetParallelism > 1 ? getRequestExecutor() : Runnable::run;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < chunks.size() || !inFlight.isEmpty();
+        }
+
+        @Override
+        public Collection<Obj> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            while (next < chunks.size() && inFlight.size() < bulkGetParallelism) {
+                final List<String> chunk = chunks.get(next++);
+                inFlight.add(CompletableFuture.supplyAsync(() -> bulkGet(projectId, chunk), executor));
+            }
+            try {
+                return inFlight.poll().join();
+            } catch (CompletionException e) {
+                cancel();
+                if (e.getCause() instanceof GoodDataException) {
+                    throw (GoodDataException) e.getCause();
+                }
+                throw new GoodDataException("Unable to get objects.", e.getCause());
+            } catch (CancellationException e) {
+                cancel();
+                throw new GoodDataException("Getting of objects was cancelled.", e);
+            }
+        }
+
+        private void cancel() {
+            next = chunks.size();
+            inFlight.forEach(future -> future.cancel(false));
+            inFlight.clear();
+        }
+    }
+
     private IdentifiersAndUris getUrisForIdentifiers(final Project project, final Collection<String> identifiers) {
         final IdentifiersAndUris response;
         try {
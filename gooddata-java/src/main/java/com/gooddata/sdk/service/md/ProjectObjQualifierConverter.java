@@ -0,0 +1,132 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.md;
+
+import com.gooddata.sdk.common.util.GoodDataToStringBuilder;
+import com.gooddata.sdk.model.executeafm.Execution;
+import com.gooddata.sdk.model.executeafm.IdentifierObjQualifier;
+import com.gooddata.sdk.model.executeafm.ObjQualifier;
+import com.gooddata.sdk.model.executeafm.UriObjQualifier;
+import com.gooddata.sdk.model.executeafm.afm.Afm;
+import com.gooddata.sdk.model.executeafm.afm.ObjQualifierConverter;
+import com.gooddata.sdk.model.project.Project;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static com.gooddata.sdk.common.util.Validate.noNullElements;
+import static com.gooddata.sdk.common.util.Validate.notNull;
+import static java.util.Collections.singleton;
+
+/**
+ * {@link ObjQualifierConverter} resolving identifiers of a single project using {@link MetadataService#identifiersToUris(Project, Collection)}.
+ * Resolved URIs are cached, so every identifier is looked up just once during the converter lifetime.
+ * <p>
+ * Use {@link #convert(Afm)} or {@link #convert(Execution)} to convert the whole AFM - all its identifiers not resolved yet
+ * are looked up by a single request. Converting the identifiers one by one (as {@link Afm#withObjUriQualifiers(ObjQualifierConverter)}
+ * does when given any other converter) costs a request per identifier.
+ * <p>
+ * Identifiers which can't be resolved are not cached. Create a new converter (or call {@link #clear()}) when the project
+ * metadata are removed or recreated.
+ *
+ * @see MetadataService#createObjQualifierConverter(Project)
+ */
+public class ProjectObjQualifierConverter implements ObjQualifierConverter {
+
+    private final MetadataService metadataService;
+    private final Project project;
+    private final Map<String, String> uris = new ConcurrentHashMap<>();
+
+    ProjectObjQualifierConverter(final MetadataService metadataService, final Project project) {
+        this.metadataService = notNull(metadataService, "metadataService");
+        this.project = notNull(project, "project");
+        notNull(project.getId(), "project.id");
+    }
+
+    /**
+     * Converts the given identifier qualifier, looking up its URI unless it's already resolved.
+     *
+     * @param identifierObjQualifier identifier qualifier to convert
+     * @return matching URI qualifier, empty when there is no object with such identifier in the project
+     * @throws com.gooddata.sdk.common.GoodDataException if unable to query metadata
+     */
+    @Override
+    public Optional<UriObjQualifier> convertToUriQualifier(final IdentifierObjQualifier identifierObjQualifier) {
+        notNull(identifierObjQualifier, "identifierObjQualifier");
+        resolve(singleton(identifierObjQualifier));
+        return Optional.ofNullable(uris.get(identifierObjQualifier.getIdentifier())).map(UriObjQualifier::new);
+    }
+
+    /**
+     * Resolves all the not yet resolved identifiers of the given qualifiers by a single request. Other qualifiers are ignored.
+     *
+     * @param qualifiers qualifiers to resolve
+     * @throws com.gooddata.sdk.common.GoodDataException if unable to query metadata
+     */
+    public void resolve(final Collection<? extends ObjQualifier> qualifiers) {
+        noNullElements(qualifiers, "qualifiers");
+        final Set<String> identifiers = qualifiers.stream()
+                .filter(IdentifierObjQualifier.class::isInstance)
+                .map(qualifier -> ((IdentifierObjQualifier) qualifier).getIdentifier())
+                .filter(identifier -> !uris.containsKey(identifier))
+                .collect(Collectors.toSet());
+        if (!identifiers.isEmpty()) {
+            uris.putAll(metadataService.identifiersToUris(project, identifiers));
+        }
+    }
+
+    /**
+     * Copies the given AFM to use just the URI object qualifiers. All the identifiers are resolved by a single request at most.
+     *
+     * @param afm AFM to convert
+     * @return copy of the AFM with URI object qualifiers
+     * @throws IllegalArgumentException                  if some identifier doesn't exist in the project
+     * @throws com.gooddata.sdk.common.GoodDataException if unable to query metadata
+     * @see Afm#withObjUriQualifiers(ObjQualifierConverter)
+     */
+    public Afm convert(final Afm afm) {
+        notNull(afm, "afm");
+        resolve(afm.getObjQualifiers());
+        return afm.withObjUriQualifiers(this);
+    }
+
+    /**
+     * Copies the given execution to use just the URI object qualifiers in its AFM. All the identifiers are resolved
+     * by a single request at most.
+     *
+     * @param execution execution to convert
+     * @return copy of the execution with URI object qualifiers
+     * @throws IllegalArgumentException                  if some identifier doesn't exist in the project
+     * @throws com.gooddata.sdk.common.GoodDataException if unable to query metadata
+     */
+    public Execution convert(final Execution execution) {
+        notNull(execution, "execution");
+        return new Execution(convert(execution.getAfm()), execution.getResultSpec());
+    }
+
+    /**
+     * Forgets all the resolved URIs.
+     */
+    public void clear() {
+        uris.clear();
+    }
+
+    /**
+     * @return project the identifiers are resolved in
+     */
+    public Project getProject() {
+        return project;
+    }
+
+    @Override
+    public String toString() {
+        return GoodDataToStringBuilder.defaultToString(this, "metadataService", "uris");
+    }
+}
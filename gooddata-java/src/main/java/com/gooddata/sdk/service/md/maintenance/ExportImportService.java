@@ -21,6 +21,7 @@ import com.gooddata.sdk.service.AbstractService;
 import com.gooddata.sdk.service.FutureResult;
 import com.gooddata.sdk.service.GoodDataSettings;
 import com.gooddata.sdk.service.PollResult;
+import com.gooddata.sdk.service.PollType;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
@@ -76,7 +77,7 @@ public class ExportImportService extends AbstractService {
             public void handlePollException(GoodDataRestException e) {
                 throw new ExportImportException("Unable to to export partial metadata.", e);
             }
-        });
+        }.withPollType(PollType.PROJECT_EXPORT));
     }
 
     /**
@@ -114,7 +115,7 @@ public class ExportImportService extends AbstractService {
             public void handlePollException(GoodDataRestException e) {
                 throw new ExportImportException("Unable to import partial metadata.", e);
             }
-        });
+        }.withPollType(PollType.PROJECT_IMPORT));
     }
 
     /**
@@ -167,7 +168,7 @@ public class ExportImportService extends AbstractService {
             public void handlePollException(GoodDataRestException e) {
                 throw new ExportImportException(errorMessage + ": " + e.getText(), e);
             }
-        });
+        }.withPollType(PollType.PROJECT_EXPORT));
     }
 
     /**
@@ -218,6 +219,6 @@ public class ExportImportService extends AbstractService {
             public void handlePollException(GoodDataRestException e) {
                 throw new ExportImportException(errorMessage + ": " + e.getText(), e);
             }
-        });
+        }.withPollType(PollType.PROJECT_IMPORT));
     }
 }
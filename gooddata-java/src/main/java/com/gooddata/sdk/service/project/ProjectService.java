@@ -5,6 +5,7 @@
  */
 package com.gooddata.sdk.service.project;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.gooddata.sdk.common.GoodDataException;
 import com.gooddata.sdk.common.GoodDataRestException;
 import com.gooddata.sdk.common.collections.CustomPageRequest;
@@ -34,9 +35,13 @@ import com.gooddata.sdk.service.AbstractPollHandler;
 import com.gooddata.sdk.service.AbstractService;
 import com.gooddata.sdk.service.FutureResult;
 import com.gooddata.sdk.service.GoodDataSettings;
+import com.gooddata.sdk.service.ParallelismSettings;
 import com.gooddata.sdk.service.PollResult;
+import com.gooddata.sdk.service.PollType;
 import com.gooddata.sdk.service.SimplePollHandler;
 import com.gooddata.sdk.service.account.AccountService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.web.client.RestClientException;
@@ -45,14 +50,21 @@ import org.springframework.web.util.UriTemplate;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import static com.gooddata.sdk.common.util.Validate.noNullElements;
@@ -78,6 +90,11 @@ public class ProjectService extends AbstractService {
     public static final UriTemplate PROJECT_USER_TEMPLATE = new UriTemplate(User.URI);
     public static final UriTemplate LIST_PROJECTS_TEMPLATE = new UriTemplate(Projects.LIST_PROJECTS_URI);
     private final AccountService accountService;
+    private final RoleCache roleCache;
+    private final int usersUpdateBatchSize;
+    private final int usersUpdateParallelism;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
 
     /**
      * Constructs service for GoodData project management (list projects, create a project, ...).
@@ -90,6 +107,11 @@ public class ProjectService extends AbstractService {
                           final GoodDataSettings settings) {
         super(restTemplate, settings);
         this.accountService = notNull(accountService, "accountService");
+        this.roleCache = settings.getRoleCacheSettings() != null
+                ? new RoleCache(settings.getRoleCacheSettings(), getCodec().reader(Role.class))
+                : null;
+        this.usersUpdateBatchSize = settings.getParallelismSettings().getUsersUpdateBatchSize();
+        this.usersUpdateParallelism = settings.getParallelismSettings().getUsersUpdateParallelism();
     }
 
     private static URI getProjectsUri(final String userId) {
@@ -135,7 +157,7 @@ public class ProjectService extends AbstractService {
      */
     public PageBrowser<Project> listProjects() {
         final String userId = accountService.getCurrent().getId();
-        return new PageBrowser<>(page -> listProjects(getProjectsUri(userId, page)));
+        return createPageBrowser(page -> listProjects(getProjectsUri(userId, page)));
     }
 
     /**
@@ -147,7 +169,7 @@ public class ProjectService extends AbstractService {
     public PageBrowser<Project> listProjects(final PageRequest startPage) {
         notNull(startPage, "startPage");
         final String userId = accountService.getCurrent().getId();
-        return new PageBrowser<>(startPage, page -> listProjects(getProjectsUri(userId, page)));
+        return createPageBrowser(startPage, page -> listProjects(getProjectsUri(userId, page)));
     }
 
     /**
@@ -161,7 +183,7 @@ public class ProjectService extends AbstractService {
         notNull(startPage, "startPage");
         notNull(account, "account");
         notEmpty(account.getId(), "account.uri");
-        return new PageBrowser<>(startPage, page -> listProjects(getProjectsUri(account.getId(), page)));
+        return createPageBrowser(startPage, page -> listProjects(getProjectsUri(account.getId(), page)));
     }
 
     /**
@@ -174,6 +196,29 @@ public class ProjectService extends AbstractService {
         return listProjects(account, new CustomPageRequest());
     }
 
+    /**
+     * Get single page of projects that given user/account has access to asynchronously. The calling thread is not
+     * blocked by the request when the REST provider supports asynchronous transport (see
+     * {@link com.gooddata.sdk.service.httpcomponents.AsyncGoodDataRestProvider}).
+     * Following pages can be requested using {@link Page#getNextPage()} of the returned page.
+     *
+     * @param account user whose projects will be returned
+     * @param page    page to be retrieved
+     * @return future completed by the page of projects or exceptionally by {@link GoodDataException}
+     */
+    public CompletableFuture<Page<Project>> listProjectsAsync(final Account account, final PageRequest page) {
+        notNull(page, "page");
+        notNull(account, "account");
+        notEmpty(account.getId(), "account.uri");
+        return getAsyncRestOperations().getForObjectAsync(getProjectsUri(account.getId(), page), Projects.class)
+                .handle((projects, failure) -> {
+                    if (failure != null) {
+                        throw new GoodDataException("Unable to list projects", unwrapCompletionException(failure));
+                    }
+                    return projects == null ? new Page<>() : projects;
+                });
+    }
+
     private Page<Project> listProjects(final URI uri) {
         try {
             final Projects projects = restTemplate.getForObject(uri, Projects.class);
@@ -226,7 +271,7 @@ public class ProjectService extends AbstractService {
             public void handlePollException(final GoodDataRestException e) {
                 throw new GoodDataException("Creating project " + uri + " failed", e);
             }
-        });
+        }.withPollType(PollType.PROJECT_CREATE));
     }
 
     /**
@@ -380,7 +425,7 @@ public class ProjectService extends AbstractService {
                     public void handlePollException(final GoodDataRestException e) {
                         throw new GoodDataException("Project validation failed: " + getPollingUri(), e);
                     }
-                });
+                }.withPollType(PollType.PROJECT_VALIDATION));
     }
 
     /**
@@ -391,7 +436,7 @@ public class ProjectService extends AbstractService {
      */
     public PageBrowser<User> listUsers(final Project project) {
         notNull(project, "project");
-        return new PageBrowser<>(page -> listUsers(getUsersUri(project, page)));
+        return createPageBrowser(page -> listUsers(getUsersUri(project, page)));
     }
 
     /**
@@ -404,7 +449,7 @@ public class ProjectService extends AbstractService {
     public PageBrowser<User> listUsers(final Project project, final PageRequest startPage) {
         notNull(project, "project");
         notNull(startPage, "startPage");
-        return new PageBrowser<>(startPage, page -> listUsers(getUsersUri(project, page)));
+        return createPageBrowser(startPage, page -> listUsers(getUsersUri(project, page)));
     }
 
     private Page<User> listUsers(final URI uri) {
@@ -422,7 +467,9 @@ public class ProjectService extends AbstractService {
     /**
      * Get set of user role by given project.
      * <p>
-     * Note: This makes n+1 API calls to retrieve all role details.
+     * Note: This makes n+1 API calls to retrieve all role details, the role details are requested concurrently
+     * (see {@link GoodDataSettings#setRequestExecutor}). The role details can be cached, see
+     * {@link GoodDataSettings#setRoleCacheSettings(RoleCacheSettings)}.
      *
      * @param project project of roles
      * @return set of found roles or empty set
@@ -436,15 +483,45 @@ public class ProjectService extends AbstractService {
             return Collections.emptySet();
         } else {
             final Set<Role> result = new HashSet<>();
+            final List<String> missing = new ArrayList<>();
             for (String roleUri : roles.getRoles()) {
-                final Role role = restTemplate.getForObject(roleUri, Role.class);
-                notNullState(role, "role").setUri(roleUri);
-                result.add(role);
+                final Role cached = roleCache != null ? roleCache.get(project, roleUri) : null;
+                if (cached != null) {
+                    result.add(cached);
+                } else {
+                    missing.add(roleUri);
+                }
+            }
+            if (missing.size() == 1) {
+                result.add(fetchRole(project, missing.get(0)));
+            } else if (!missing.isEmpty()) {
+                final List<CompletableFuture<Role>> fetches = missing.stream()
+                        .map(roleUri -> CompletableFuture.supplyAsync(() -> fetchRole(project, roleUri),
+                                getRequestExecutor()))
+                        .collect(Collectors.toList());
+                try {
+                    fetches.forEach(fetch -> result.add(fetch.join()));
+                } catch (CompletionException e) {
+                    fetches.forEach(fetch -> fetch.cancel(false));
+                    throw e.getCause() instanceof RuntimeException
+                            ? (RuntimeException) e.getCause()
+                            : new GoodDataException("Unable to get roles of project " + project.getId(), e.getCause());
+                }
             }
             return result;
         }
     }
 
+    private Role fetchRole(final Project project, final String roleUri) {
+        if (roleCache != null) {
+            final JsonNode role = restTemplate.getForObject(roleUri, JsonNode.class);
+            return roleCache.put(project, roleUri, notNullState(role, "role"));
+        }
+        final Role role = restTemplate.getForObject(roleUri, Role.class);
+        notNullState(role, "role").setUri(roleUri);
+        return role;
+    }
+
     /**
      * Get role by given URI.
      *
@@ -569,6 +646,179 @@ public class ProjectService extends AbstractService {
         doPostProjectUsersUpdate(project, users);
     }
 
+    /**
+     * Update (add) users in many projects at once, e.g. to synchronize user provisioning of the whole domain.
+     * Users of every project are sent in batches of {@link ParallelismSettings#getUsersUpdateBatchSize()} users
+     * and up to {@link ParallelismSettings#getUsersUpdateParallelism()} batches (of the same or of different projects)
+     * are sent concurrently. The users are not read back, see {@link #updateUsersInProjects(Map, boolean)}.
+     * <p>
+     * Unlike {@link #updateUserInProject(Project, User...)} this method doesn't throw when some users fail to
+     * be updated. Failed users, including all users of batches which failed to be sent, are reported in the result
+     * of their project. Errors of the batches which failed to be sent are available by
+     * {@link ProjectUsersUpdateReport#getErrors()}.
+     *
+     * @param users users to update by project
+     * @return reports of the update by project, in the iteration order of given map
+     */
+    public Map<Project, ProjectUsersUpdateReport> updateUsersInProjects(
+            final Map<Project, ? extends Collection<User>> users) {
+        return updateUsersInProjects(users, false);
+    }
+
+    /**
+     * Update (add) users in many projects at once, optionally verifying the updated users are present in their
+     * projects. The verification lists users of every updated project once, instead of reading every user back
+     * like {@link #addUserToProject(Project, Account, Role...)} does. Users which are not found are reported as failed.
+     * When the users of a project can't be listed, the error is reported by
+     * {@link ProjectUsersUpdateReport#getErrors()} and the result of the project stays
+     * {@link ProjectUsersUpdateReport#isVerified() unverified}.
+     *
+     * @param users  users to update by project
+     * @param verify whether to read the users back to verify they are present in their projects
+     * @return reports of the update by project, in the iteration order of given map
+     * @see #updateUsersInProjects(Map)
+     */
+    public Map<Project, ProjectUsersUpdateReport> updateUsersInProjects(
+            final Map<Project, ? extends Collection<User>> users, final boolean verify) {
+        notNull(users, "users");
+
+        final Map<Project, UsersUpdate> updates = new LinkedHashMap<>();
+        final List<Runnable> batches = new ArrayList<>();
+        users.forEach((project, projectUsers) -> {
+            notNull(project, "project");
+            notEmpty(project.getId(), "project.id");
+            noNullElements(projectUsers, "users");
+            final UsersUpdate update = new UsersUpdate(project);
+            updates.put(project, update);
+            final List<User> list = new ArrayList<>(projectUsers);
+            for (int i = 0; i < list.size(); i += usersUpdateBatchSize) {
+                final List<User> batch = list.subList(i, Math.min(i + usersUpdateBatchSize, list.size()));
+                batches.add(() -> update.send(batch));
+            }
+        });
+        runConcurrently(batches);
+
+        if (verify) {
+            runConcurrently(updates.values().stream()
+                    .map(update -> (Runnable) update::verify)
+                    .collect(Collectors.toList()));
+        }
+
+        final Map<Project, ProjectUsersUpdateReport> result = new LinkedHashMap<>();
+        updates.forEach((project, update) -> result.put(project, update.getReport()));
+        return result;
+    }
+
+    /**
+     * Runs the tasks on the request executor, keeping at most {@link #usersUpdateParallelism} tasks in flight.
+     */
+    private void runConcurrently(final List<Runnable> tasks) {
+        // a single task is run from the calling thread
+        final Executor executor = tasks.size() > 1 && usersUpdateParallelism > 1
+                ? getRequestExecutor()
+                : Runnable::run;
+        final Deque<CompletableFuture<Void>> inFlight = new ArrayDeque<>();
+        try {
+            for (Runnable task : tasks) {
+                if (inFlight.size() >= usersUpdateParallelism) {
+                    inFlight.removeFirst().join();
+                }
+                inFlight.addLast(CompletableFuture.runAsync(task, executor));
+            }
+            while (!inFlight.isEmpty()) {
+                inFlight.removeFirst().join();
+            }
+        } catch (CompletionException e) {
+            inFlight.forEach(task -> task.cancel(false));
+            final Throwable cause = unwrapCompletionException(e);
+            throw cause instanceof RuntimeException
+                    ? (RuntimeException) cause
+                    : new GoodDataException("Unable to update users in projects", cause);
+        }
+    }
+
+    /**
+     * Collects results of batches of a single project users update.
+     */
+    private class UsersUpdate {
+        private final Project project;
+        private final List<String> successful = new ArrayList<>();
+        private final List<String> failed = new ArrayList<>();
+        private final List<GoodDataException> errors = new ArrayList<>();
+        private boolean verified;
+
+        private UsersUpdate(final Project project) {
+            this.project = project;
+        }
+
+        private void send(final List<User> users) {
+            ProjectUsersUpdateResult result = null;
+            GoodDataException error = null;
+            try {
+                result = restTemplate.postForObject(getUsersUri(project), new Users(users.toArray(new User[0])),
+                        ProjectUsersUpdateResult.class);
+            } catch (GoodDataException | RestClientException e) {
+                error = new ProjectUsersUpdateException("Unable to update " + users.size() + " users in project "
+                        + project.getId(), e);
+                logger.warn(error.getMessage(), e);
+            }
+            synchronized (this) {
+                if (result == null) {
+                    users.stream().map(User::getUri).forEach(failed::add);
+                    if (error != null) {
+                        errors.add(error);
+                    }
+                } else {
+                    addAll(successful, result.getSuccessful());
+                    addAll(failed, result.getFailed());
+                }
+            }
+        }
+
+        private void verify() {
+            synchronized (this) {
+                if (successful.isEmpty()) {
+                    verified = true;
+                    return;
+                }
+            }
+            final Set<String> present;
+            try {
+                present = listUsers(project).allItemsStream()
+                        .map(User::getUri)
+                        .collect(Collectors.toSet());
+            } catch (GoodDataException | RestClientException e) {
+                final GoodDataException error = new ProjectUsersUpdateException("Unable to verify users in project "
+                        + project.getId(), e);
+                logger.warn(error.getMessage(), e);
+                synchronized (this) {
+                    errors.add(error);
+                }
+                return;
+            }
+            synchronized (this) {
+                final List<String> missing = successful.stream()
+                        .filter(uri -> !present.contains(uri))
+                        .collect(Collectors.toList());
+                successful.removeAll(missing);
+                failed.addAll(missing);
+                verified = true;
+            }
+        }
+
+        private synchronized ProjectUsersUpdateReport getReport() {
+            return new ProjectUsersUpdateReport(
+                    new ProjectUsersUpdateResult(new ArrayList<>(successful), new ArrayList<>(failed)),
+                    new ArrayList<>(errors), verified);
+        }
+
+        private void addAll(final List<String> target, final List<String> uris) {
+            if (uris != null) {
+                target.addAll(uris);
+            }
+        }
+    }
+
     private void doPostProjectUsersUpdate(final Project project, final User... users) {
         final URI usersUri = getUsersUri(project);
 
@@ -0,0 +1,66 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.project;
+
+import com.gooddata.sdk.common.GoodDataException;
+import com.gooddata.sdk.common.util.GoodDataToStringBuilder;
+import com.gooddata.sdk.model.project.ProjectUsersUpdateResult;
+
+import java.util.Collections;
+import java.util.List;
+
+import static com.gooddata.sdk.common.util.Validate.notNull;
+
+/**
+ * Outcome of the users update of single project done by {@link ProjectService#updateUsersInProjects(java.util.Map)}.
+ * Besides the result aggregated from all the update requests of the project it holds the errors of the requests
+ * which failed as a whole.
+ */
+public class ProjectUsersUpdateReport {
+
+    private final ProjectUsersUpdateResult result;
+    private final List<GoodDataException> errors;
+    private final boolean verified;
+
+    ProjectUsersUpdateReport(final ProjectUsersUpdateResult result, final List<GoodDataException> errors,
+                             final boolean verified) {
+        this.result = notNull(result, "result");
+        this.errors = Collections.unmodifiableList(notNull(errors, "errors"));
+        this.verified = verified;
+    }
+
+    /**
+     * Accounts of the requests which failed as a whole are reported as failed.
+     *
+     * @return result aggregated from all the update requests of the project
+     */
+    public ProjectUsersUpdateResult getResult() {
+        return result;
+    }
+
+    /**
+     * Errors of the update requests which failed as a whole (e.g. due to a server or connection failure) and error
+     * of the verification, when it failed.
+     *
+     * @return list of errors, empty when every request got a response
+     */
+    public List<GoodDataException> getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return true when the successfully updated users were read back and found in the project
+     * @see ProjectService#updateUsersInProjects(java.util.Map, boolean)
+     */
+    public boolean isVerified() {
+        return verified;
+    }
+
+    @Override
+    public String toString() {
+        return GoodDataToStringBuilder.defaultToString(this);
+    }
+}
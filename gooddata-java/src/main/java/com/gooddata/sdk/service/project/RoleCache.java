@@ -0,0 +1,132 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.project;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.gooddata.sdk.common.GoodDataException;
+import com.gooddata.sdk.model.project.Project;
+import com.gooddata.sdk.model.project.Role;
+import org.springframework.web.util.UriTemplate;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import static com.gooddata.sdk.common.util.Validate.notNull;
+
+/**
+ * Size bounded LRU cache of project roles with expiration. Roles are keyed by the project template and the role id,
+ * when the project was created from a template, otherwise by the role URI. The roles are cached without their
+ * project specific links and every lookup returns a new instance with the URI of the requested role.
+ * <p>
+ * For internal use by {@link ProjectService}.
+ */
+final class RoleCache {
+
+    private static final UriTemplate ROLE_TEMPLATE = new UriTemplate(Role.URI);
+    private static final String ROLE_NODE = "projectRole";
+    private static final String LINKS_NODE = "links";
+
+    private final ObjectReader roleReader;
+    private final long ttl;
+    private final LongSupplier clock;
+    private final Map<String, CachedRole> roles;
+
+    RoleCache(final RoleCacheSettings settings, final ObjectReader roleReader) {
+        this(settings, roleReader, System::currentTimeMillis);
+    }
+
+    RoleCache(final RoleCacheSettings settings, final ObjectReader roleReader, final LongSupplier clock) {
+        notNull(settings, "settings");
+        this.roleReader = notNull(roleReader, "roleReader");
+        this.ttl = settings.getTtl();
+        this.clock = notNull(clock, "clock");
+        final int maxRoles = settings.getMaxRoles();
+        this.roles = new LinkedHashMap<String, CachedRole>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CachedRole> eldest) {
+                return size() > maxRoles;
+            }
+        };
+    }
+
+    /**
+     * @param project project of the role
+     * @param roleUri role URI
+     * @return new instance of the cached role or null if not cached or expired
+     */
+    Role get(final Project project, final String roleUri) {
+        final String key = key(project, roleUri);
+        final JsonNode role;
+        synchronized (this) {
+            final CachedRole cached = roles.get(key);
+            if (cached == null) {
+                return null;
+            }
+            if (clock.getAsLong() - cached.loaded >= ttl) {
+                roles.remove(key);
+                return null;
+            }
+            role = cached.role;
+        }
+        return toRole(role, roleUri);
+    }
+
+    /**
+     * Caches the role.
+     *
+     * @param project project of the role
+     * @param roleUri role URI
+     * @param role    role as returned by the API
+     * @return role read from the given JSON
+     */
+    Role put(final Project project, final String roleUri, final JsonNode role) {
+        final JsonNode node = role.deepCopy();
+        if (node.get(ROLE_NODE) instanceof ObjectNode) {
+            ((ObjectNode) node.get(ROLE_NODE)).remove(LINKS_NODE);
+        }
+        final CachedRole cached = new CachedRole(node, clock.getAsLong());
+        synchronized (this) {
+            roles.put(key(project, roleUri), cached);
+        }
+        return toRole(role, roleUri);
+    }
+
+    synchronized int size() {
+        return roles.size();
+    }
+
+    private Role toRole(final JsonNode role, final String roleUri) {
+        try {
+            final Role result = roleReader.readValue(role);
+            result.setUri(roleUri);
+            return result;
+        } catch (IOException e) {
+            throw new GoodDataException("Unable to read role " + roleUri, e);
+        }
+    }
+
+    private static String key(final Project project, final String roleUri) {
+        final String template = project.getProjectTemplate();
+        if (template != null && ROLE_TEMPLATE.matches(roleUri)) {
+            return template + '#' + ROLE_TEMPLATE.match(roleUri).get("roleId");
+        }
+        return roleUri;
+    }
+
+    private static final class CachedRole {
+        private final JsonNode role;
+        private final long loaded;
+
+        private CachedRole(final JsonNode role, final long loaded) {
+            this.role = role;
+            this.loaded = loaded;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.project;
+
+import com.gooddata.sdk.common.util.GoodDataToStringBuilder;
+
+import java.util.Objects;
+
+import static org.springframework.util.Assert.isTrue;
+
+/**
+ * Contains settings for caching of project roles fetched by {@link ProjectService#getRoles}.
+ * Caching is disabled unless these settings are set using
+ * {@link com.gooddata.sdk.service.GoodDataSettings#setRoleCacheSettings(RoleCacheSettings)}.
+ * <p>
+ * Roles of projects created from the same project template are identical, so they are cached per template
+ * and role and shared by all such projects. Roles of projects created without template are cached per project.
+ */
+public class RoleCacheSettings {
+
+    public static final long DEFAULT_TTL = 30 * 60 * 1000L; // 30min
+    public static final int DEFAULT_MAX_ROLES = 1000;
+
+    private long ttl = DEFAULT_TTL;
+    private int maxRoles = DEFAULT_MAX_ROLES;
+
+    /**
+     * Time in milliseconds for which a role is served from the cache.
+     *
+     * @return time to live of cached role
+     */
+    public long getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(final long ttl) {
+        isTrue(ttl > 0, "ttl has to be greater than 0");
+        this.ttl = ttl;
+    }
+
+    /**
+     * Maximal number of cached roles. When exceeded, the least recently used role is evicted.
+     *
+     * @return maximal number of cached roles
+     */
+    public int getMaxRoles() {
+        return maxRoles;
+    }
+
+    public void setMaxRoles(final int maxRoles) {
+        isTrue(maxRoles > 0, "maxRoles has to be greater than 0");
+        this.maxRoles = maxRoles;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final RoleCacheSettings that = (RoleCacheSettings) o;
+        return ttl == that.ttl &&
+                maxRoles == that.maxRoles;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ttl, maxRoles);
+    }
+
+    @Override
+    public String toString() {
+        return GoodDataToStringBuilder.defaultToString(this);
+    }
+}
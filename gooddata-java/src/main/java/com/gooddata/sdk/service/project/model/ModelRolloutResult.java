@@ -0,0 +1,76 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.project.model;
+
+import com.gooddata.sdk.common.GoodDataException;
+import com.gooddata.sdk.common.util.GoodDataToStringBuilder;
+import com.gooddata.sdk.model.project.Project;
+
+import java.util.List;
+
+import static com.gooddata.sdk.common.util.Validate.notNull;
+
+/**
+ * Outcome of the model rollout to single project.
+ *
+ * @see ModelService#rolloutProjectModel(String, java.util.Collection, java.util.function.Consumer)
+ */
+public final class ModelRolloutResult {
+
+    private final Project project;
+    private final List<String> updateMaql;
+    private final GoodDataException failure;
+
+    ModelRolloutResult(final Project project, final List<String> updateMaql, final GoodDataException failure) {
+        this.project = notNull(project, "project");
+        this.updateMaql = updateMaql;
+        this.failure = failure;
+    }
+
+    /**
+     * @return the project the model was rolled out to
+     */
+    public Project getProject() {
+        return project;
+    }
+
+    /**
+     * Returns the MAQL DDL executed (or attempted to be executed) in the project, see {@link
+     * com.gooddata.sdk.model.project.model.ModelDiff#getUpdateMaql()}. Projects updated by the same script share
+     * the same list instance, so the results can be grouped by it.
+     *
+     * @return MAQL DDL chunks, empty when the project model was up to date, null when the diff failed
+     */
+    public List<String> getUpdateMaql() {
+        return updateMaql;
+    }
+
+    /**
+     * @return the failure of the diff or update, null when the rollout succeeded
+     */
+    public GoodDataException getFailure() {
+        return failure;
+    }
+
+    /**
+     * @return true when the project model was updated or was up to date already
+     */
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+
+    /**
+     * @return true when the project model was up to date already, so nothing was executed
+     */
+    public boolean isUpToDate() {
+        return failure == null && updateMaql.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return GoodDataToStringBuilder.defaultToString(this);
+    }
+}
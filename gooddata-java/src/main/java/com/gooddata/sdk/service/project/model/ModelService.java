@@ -5,6 +5,7 @@
  */
 package com.gooddata.sdk.service.project.model;
 
+import com.gooddata.sdk.common.GoodDataException;
 import com.gooddata.sdk.common.GoodDataRestException;
 import com.gooddata.sdk.model.gdc.AsyncTask;
 import com.gooddata.sdk.model.gdc.TaskStatus;
@@ -17,9 +18,13 @@ import com.gooddata.sdk.service.AbstractPollHandlerBase;
 import com.gooddata.sdk.service.AbstractService;
 import com.gooddata.sdk.service.FutureResult;
 import com.gooddata.sdk.service.GoodDataSettings;
+import com.gooddata.sdk.service.ParallelismSettings;
 import com.gooddata.sdk.service.PollResult;
+import com.gooddata.sdk.service.PollType;
 import com.gooddata.sdk.service.SimplePollHandler;
 import com.gooddata.sdk.service.dataset.DatasetService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.util.FileCopyUtils;
 import org.springframework.web.client.RestClientException;
@@ -27,8 +32,19 @@ import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.gooddata.sdk.common.util.Validate.noNullElements;
 import static com.gooddata.sdk.common.util.Validate.notNull;
@@ -41,11 +57,16 @@ import static java.util.Arrays.asList;
  */
 public class ModelService extends AbstractService {
 
+    private final int modelUpdateParallelism;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
     public ModelService(final RestTemplate restTemplate, final GoodDataSettings settings) {
         super(restTemplate, settings);
+        this.modelUpdateParallelism = settings.getParallelismSettings().getModelUpdateParallelism();
     }
 
-    private FutureResult<ModelDiff> getProjectModelDiff(Project project, DiffRequest diffRequest) {
+    private PollResult<ModelDiff> getProjectModelDiff(Project project, DiffRequest diffRequest) {
         notNull(project, "project");
         notNull(project.getId(), "project.id");
         notNull(diffRequest, "diffRequest");
@@ -57,7 +78,7 @@ public class ModelService extends AbstractService {
                 public void handlePollException(final GoodDataRestException e) {
                     throw new ModelException("Unable to get project model diff", e);
                 }
-            });
+            }.withPollType(PollType.MODEL_UPDATE));
         } catch (GoodDataRestException | RestClientException e) {
             throw new ModelException("Unable to get project model diff", e);
         }
@@ -132,60 +153,156 @@ public class ModelService extends AbstractService {
         if (maqlDdl.isEmpty()) {
             throw new IllegalArgumentException("MAQL DDL string(s) should be given");
         }
-        return new PollResult<>(this, new AbstractPollHandlerBase<MaqlDdlLinks, Void>(MaqlDdlLinks.class, Void.class) {
+        return new PollResult<>(this, new MaqlDdlPollHandler(project.getId(), maqlDdl));
+    }
 
-            private final String projectId = project.getId();
-            private final LinkedList<String> maqlChunks = new LinkedList<>(maqlDdl);
-            private String pollUri;
+    /**
+     * Roll the target model out to the given projects, see {@link #rolloutProjectModel(String, Collection, Consumer)}.
+     *
+     * @param targetModel target model
+     * @param projects    projects to be updated
+     * @return results in the order of the given projects, once all the projects are finished
+     */
+    public List<ModelRolloutResult> rolloutProjectModel(final String targetModel, final Collection<Project> projects) {
+        return rolloutProjectModel(targetModel, projects, result -> {
+        });
+    }
 
-            {
-                executeNextMaqlChunk();
-            }
+    /**
+     * Roll the target model out to the given projects. The model diff of every project is computed and the chosen
+     * update script (see {@link ModelDiff#getUpdateMaql()}) is executed in the project right after, so at most
+     * {@link ParallelismSettings#getModelUpdateParallelism()} projects are diffed or updated at once. The diffs
+     * and MAQL DDL tasks are polled by the shared poll scheduler; the MAQL DDL chunks of single project are executed
+     * one after another.
+     * <p>
+     * Identical update scripts of different projects are de-duplicated, the results of such projects share the same
+     * {@link ModelRolloutResult#getUpdateMaql() update MAQL} instance. Failure of single project doesn't stop
+     * the rollout, it's reported by its result. Failure of the listener is only logged.
+     *
+     * @param targetModel target model
+     * @param projects    projects to be updated
+     * @param listener    called with the result of every project as soon as the project is finished,
+     *                    the calls are serialized
+     * @return results in the order of the given projects, once all the projects are finished
+     */
+    public List<ModelRolloutResult> rolloutProjectModel(final String targetModel, final Collection<Project> projects,
+                                                        final Consumer<? super ModelRolloutResult> listener) {
+        notNull(targetModel, "targetModel");
+        noNullElements(projects, "projects");
+        notNull(listener, "listener");
+        projects.forEach(project -> notNull(project.getId(), "project.id"));
 
-            /**
-             * @return true if polling should finish, false otherwise
-             */
-            private boolean executeNextMaqlChunk() {
-                if (maqlChunks.isEmpty()) {
-                    return true;
-                }
-                try {
-                    final MaqlDdlLinks links = restTemplate.postForObject(MaqlDdl.URI, new MaqlDdl(maqlChunks.poll()),
-                            MaqlDdlLinks.class, projectId);
-                    this.pollUri = notNullState(links, "maqlDdlLinks").getStatusUri();
-                } catch (GoodDataRestException | RestClientException e) {
-                    throw new ModelException("Unable to update project model", e);
-                }
-                return false;
+        final DiffRequest diffRequest = new DiffRequest(targetModel);
+        final Map<List<String>, List<String>> scripts = new ConcurrentHashMap<>();
+        final Semaphore permits = new Semaphore(modelUpdateParallelism);
+        final List<CompletableFuture<ModelRolloutResult>> results = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            permits.acquireUninterruptibly();
+            final AtomicReference<List<String>> updateMaql = new AtomicReference<>();
+            CompletableFuture<PollResult<ModelDiff>> diffTask;
+            try {
+                diffTask = CompletableFuture.supplyAsync(() -> getProjectModelDiff(project, diffRequest),
+                        getRequestExecutor());
+            } catch (RejectedExecutionException e) {
+                // reported as failure of the project, which releases the permit
+                diffTask = CompletableFuture.failedFuture(e);
             }
+            results.add(diffTask
+                    .thenCompose(PollResult::toCompletableFuture)
+                    .thenApply(diff -> {
+                        final List<String> maql = scripts.computeIfAbsent(diff.getUpdateMaql(), Function.identity());
+                        updateMaql.set(maql);
+                        return maql;
+                    })
+                    .thenCompose(maql -> maql.isEmpty()
+                            ? CompletableFuture.<Void>completedFuture(null)
+                            : CompletableFuture
+                            .supplyAsync(() -> new PollResult<>(this, new MaqlDdlPollHandler(project.getId(), maql)),
+                                    getRequestExecutor())
+                            .thenCompose(PollResult::toCompletableFuture))
+                    .handle((ignored, failure) -> {
+                        permits.release();
+                        final ModelRolloutResult result = new ModelRolloutResult(project, updateMaql.get(),
+                                failure == null ? null : toModelFailure(failure));
+                        try {
+                            synchronized (listener) {
+                                listener.accept(result);
+                            }
+                        } catch (RuntimeException e) {
+                            logger.warn("Model rollout listener failed on result of project {}", project.getId(), e);
+                        }
+                        return result;
+                    }));
+        }
+        return results.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    }
 
-            @Override
-            public String getPollingUri() {
-                return pollUri;
-            }
+    private static GoodDataException toModelFailure(final Throwable failure) {
+        final Throwable cause = unwrapCompletionException(failure);
+        return cause instanceof GoodDataException
+                ? (GoodDataException) cause
+                : new ModelException("Unable to roll out project model", cause);
+    }
 
-            @Override
-            public boolean isFinished(final ClientHttpResponse response) throws IOException {
-                if (!super.isFinished(response)) {
-                    return false;
-                }
-                final TaskStatus maqlDdlTaskStatus = extractData(response, TaskStatus.class);
-                if (!maqlDdlTaskStatus.isSuccess()) {
-                    throw new ModelException("Unable to update project model: " + maqlDdlTaskStatus.getMessages());
-                }
-                return executeNextMaqlChunk();
-            }
+    /**
+     * Executes the MAQL DDL chunks one after another, the next chunk is posted once the previous task is finished.
+     */
+    private class MaqlDdlPollHandler extends AbstractPollHandlerBase<MaqlDdlLinks, Void> {
 
-            @Override
-            public void handlePollResult(MaqlDdlLinks pollResult) {
-                setResult(null);
-            }
+        private final String projectId;
+        private final LinkedList<String> maqlChunks;
+        private String pollUri;
+
+        private MaqlDdlPollHandler(final String projectId, final Collection<String> maqlDdl) {
+            super(MaqlDdlLinks.class, Void.class);
+            withPollType(PollType.MODEL_UPDATE);
+            this.projectId = projectId;
+            this.maqlChunks = new LinkedList<>(maqlDdl);
+            executeNextMaqlChunk();
+        }
 
-            @Override
-            public void handlePollException(final GoodDataRestException e) {
+        /**
+         * @return true if polling should finish, false otherwise
+         */
+        private boolean executeNextMaqlChunk() {
+            if (maqlChunks.isEmpty()) {
+                return true;
+            }
+            try {
+                final MaqlDdlLinks links = restTemplate.postForObject(MaqlDdl.URI, new MaqlDdl(maqlChunks.poll()),
+                        MaqlDdlLinks.class, projectId);
+                this.pollUri = notNullState(links, "maqlDdlLinks").getStatusUri();
+            } catch (GoodDataRestException | RestClientException e) {
                 throw new ModelException("Unable to update project model", e);
             }
-        });
-    }
+            return false;
+        }
 
+        @Override
+        public String getPollingUri() {
+            return pollUri;
+        }
+
+        @Override
+        public boolean isFinished(final ClientHttpResponse response) throws IOException {
+            if (!super.isFinished(response)) {
+                return false;
+            }
+            final TaskStatus maqlDdlTaskStatus = extractData(response, TaskStatus.class);
+            if (!maqlDdlTaskStatus.isSuccess()) {
+                throw new ModelException("Unable to update project model: " + maqlDdlTaskStatus.getMessages());
+            }
+            return executeNextMaqlChunk();
+        }
+
+        @Override
+        public void handlePollResult(MaqlDdlLinks pollResult) {
+            setResult(null);
+        }
+
+        @Override
+        public void handlePollException(final GoodDataRestException e) {
+            throw new ModelException("Unable to update project model", e);
+        }
+    }
 }
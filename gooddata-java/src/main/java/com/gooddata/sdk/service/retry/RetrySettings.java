@@ -11,6 +11,11 @@ import static org.springframework.util.Assert.isTrue;
 
 /**
  * Contains settings for HTTP requests retry.
+ * <p>
+ * When set, the failed requests are retried by {@link RetryableRestTemplate} according to its
+ * {@link RetryStrategy} (e.g. {@link GetServerErrorRetryStrategy}) and the http client retries just the I/O errors.
+ * Its own retries of HTTP 429 and 503 responses (honouring the <code>Retry-After</code> header) are disabled, so
+ * every request is retried by one layer only.
  */
 public class RetrySettings {
 
@@ -6,6 +6,7 @@
 package com.gooddata.sdk.service.retry;
 
 import com.gooddata.sdk.common.GoodDataRestException;
+import com.gooddata.sdk.service.GoodDataMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpMethod;
@@ -32,6 +33,7 @@ public class RetryableRestTemplate extends RestTemplate {
 
     private final RetryTemplate retryTemplate;
     private final RetryStrategy retryStrategy;
+    private final GoodDataMetrics metrics;
 
     /**
      * Create a new instance of the {@link RetryableRestTemplate}.
@@ -41,10 +43,24 @@ public class RetryableRestTemplate extends RestTemplate {
      * @param retryStrategy  retry strategy
      */
     public RetryableRestTemplate(ClientHttpRequestFactory requestFactory, RetryTemplate retryTemplate, RetryStrategy retryStrategy) {
+        this(requestFactory, retryTemplate, retryStrategy, null);
+    }
+
+    /**
+     * Create a new instance of the {@link RetryableRestTemplate} reporting the retries.
+     *
+     * @param requestFactory HTTP request factory to use
+     * @param retryTemplate  retry template
+     * @param retryStrategy  retry strategy
+     * @param metrics        metrics to report the retries to, may be null
+     */
+    public RetryableRestTemplate(ClientHttpRequestFactory requestFactory, RetryTemplate retryTemplate, RetryStrategy retryStrategy,
+                                 GoodDataMetrics metrics) {
         super(requestFactory);
         notNull(retryTemplate);
         this.retryTemplate = retryTemplate;
         this.retryStrategy = retryStrategy;
+        this.metrics = metrics;
     }
 
     /**
@@ -55,6 +71,18 @@ public class RetryableRestTemplate extends RestTemplate {
      * @return retryable rest template
      */
     public static RestTemplate create(RetrySettings retrySettings, ClientHttpRequestFactory factory) {
+        return create(retrySettings, factory, null);
+    }
+
+    /**
+     * Creates new retryable REST template reporting the retries.
+     *
+     * @param retrySettings retry settings
+     * @param factory       request factory
+     * @param metrics       metrics to report the retries to, may be null
+     * @return retryable rest template
+     */
+    public static RestTemplate create(RetrySettings retrySettings, ClientHttpRequestFactory factory, GoodDataMetrics metrics) {
         final RetryTemplate retryTemplate = new RetryTemplate();
 
         if (retrySettings.getRetryCount() != null) {
@@ -75,15 +103,20 @@ public class RetryableRestTemplate extends RestTemplate {
             }
         }
 
-        return new RetryableRestTemplate(factory, retryTemplate, new GetServerErrorRetryStrategy());
+        return new RetryableRestTemplate(factory, retryTemplate, new GetServerErrorRetryStrategy(), metrics);
     }
 
     @Override
-    protected <T> T doExecute(URI url, HttpMethod method, RequestCallback requestCallback,
+    protected <T> T doExecute(URI url, String uriTemplate, HttpMethod method, RequestCallback requestCallback,
                               ResponseExtractor<T> responseExtractor) throws RestClientException {
         return retryTemplate.execute(context -> {
+            if (metrics != null && context.getRetryCount() > 0
+                    && context.getLastThrowable() instanceof GoodDataRestException) {
+                metrics.requestRetried(method.name(), uriTemplate != null ? uriTemplate : url.getPath(),
+                        ((GoodDataRestException) context.getLastThrowable()).getStatusCode(), context.getRetryCount());
+            }
             try {
-                return super.doExecute(url, method, requestCallback, responseExtractor);
+                return super.doExecute(url, uriTemplate, method, requestCallback, responseExtractor);
             } catch (GoodDataRestException e) {
                 if (!retryStrategy.retryAllowed(method.toString(), e.getStatusCode(), url)) {
                     context.setExhaustedOnly();
@@ -13,6 +13,8 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
@@ -66,6 +68,34 @@ public abstract class ZipHelper {
         }
     }
 
+    /**
+     * Estimates size of the zip archive created from the input file, before it's created. It's the size of the file
+     * or the total size of files in the directory, i.e. the size of uncompressed data. The size is exact for already
+     * zipped file, which is copied as is.
+     *
+     * @param file file to be zipped
+     * @return estimated size of the zip archive in bytes
+     */
+    public static long estimateZipSize(File file) {
+        notNull(file, "file");
+        if (file.isDirectory()) {
+            final List<File> files = new ArrayList<>();
+            listFiles(file, files);
+            return files.stream().mapToLong(File::length).sum();
+        }
+        return file.length();
+    }
+
+    private static void listFiles(File dir, List<File> files) {
+        for (File file : notNull(Objects.requireNonNull(dir.listFiles()), "listed files")) {
+            if (file.isDirectory()) {
+                listFiles(file, files);
+            } else {
+                files.add(file);
+            }
+        }
+    }
+
     private static void zipDir(Path rootPath, File dir, ZipOutputStream zos) throws IOException {
         for (File file : notNull(Objects.requireNonNull(dir.listFiles()), "listed files")) {
             if (file.isDirectory()) {
@@ -24,6 +24,7 @@ import com.gooddata.sdk.service.AbstractService;
 import com.gooddata.sdk.service.FutureResult;
 import com.gooddata.sdk.service.GoodDataSettings;
 import com.gooddata.sdk.service.PollResult;
+import com.gooddata.sdk.service.PollType;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpResponse;
@@ -111,7 +112,7 @@ public class WarehouseService extends AbstractService {
             public void handlePollException(final GoodDataRestException e) {
                 throw new GoodDataException("Unable to create warehouse", e);
             }
-        });
+        }.withPollType(PollType.WAREHOUSE));
     }
 
     /**
@@ -183,7 +184,7 @@ public class WarehouseService extends AbstractService {
      */
     public PageBrowser<Warehouse> listWarehouses(final PageRequest startPage) {
         notNull(startPage, "startPage");
-        return new PageBrowser<>(startPage, page -> listWarehouses(getWarehousesUri(page)));
+        return createPageBrowser(startPage, page -> listWarehouses(getWarehousesUri(page)));
     }
 
     private URI getWarehousesUri() {
@@ -232,7 +233,7 @@ public class WarehouseService extends AbstractService {
         notNull(warehouse.getId(), "warehouse.id");
         notNull(startPage, "startPage");
 
-        return new PageBrowser<>(startPage,
+        return createPageBrowser(startPage,
                 page -> listWarehouseUsers(warehouse, getWarehouseUsersUri(warehouse, page)));
     }
 
@@ -299,7 +300,7 @@ public class WarehouseService extends AbstractService {
                     public void handlePollException(final GoodDataRestException e) {
                         throw new GoodDataException("Unable to add user to warehouse", e);
                     }
-                });
+                }.withPollType(PollType.WAREHOUSE));
     }
 
     /**
@@ -348,7 +349,7 @@ public class WarehouseService extends AbstractService {
                     public void handlePollException(final GoodDataRestException e) {
                         throw new GoodDataException("Unable to remove user from warehouse", e);
                     }
-                });
+                }.withPollType(PollType.WAREHOUSE));
     }
 
     /**
@@ -388,7 +389,7 @@ public class WarehouseService extends AbstractService {
      * @return {@link PageBrowser} pageable list of warehouse schemas
      */
     public PageBrowser<WarehouseSchema> listWarehouseSchemas(final Warehouse warehouse, final PageRequest startPage) {
-        return new PageBrowser<>(startPage,
+        return createPageBrowser(startPage,
                 page -> listWarehouseSchemas(getWarehouseSchemasUri(warehouse, page))
         );
     }
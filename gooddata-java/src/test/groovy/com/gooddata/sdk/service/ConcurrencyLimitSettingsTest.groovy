@@ -0,0 +1,52 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service
+
+import nl.jqno.equalsverifier.EqualsVerifier
+import nl.jqno.equalsverifier.Warning
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class ConcurrencyLimitSettingsTest extends Specification {
+
+    private ConcurrencyLimitSettings settings = new ConcurrencyLimitSettings()
+
+    @Unroll
+    def "value #value is #correct for #variable"() {
+        expect:
+        try {
+            settings."set${variable}"(value)
+            assert correct
+            assert settings."get${variable}"() == value
+        } catch (IllegalArgumentException e) {
+            assert !correct
+        }
+
+        where:
+        value | correct | variable
+        1     | true    | "InitialLimit"
+        0     | false   | "InitialLimit"
+        1     | true    | "MinLimit"
+        0     | false   | "MinLimit"
+        1     | true    | "MaxLimit"
+        0     | false   | "MaxLimit"
+        0.5d  | true    | "BackoffRatio"
+        0d    | false   | "BackoffRatio"
+        1d    | false   | "BackoffRatio"
+        2d    | true    | "LatencyTolerance"
+        1d    | false   | "LatencyTolerance"
+        1L    | true    | "MaxWait"
+        0L    | false   | "MaxWait"
+    }
+
+    def "should verify equals"() {
+        expect:
+        EqualsVerifier.forClass(ConcurrencyLimitSettings)
+                .usingGetClass()
+                .suppress(Warning.NONFINAL_FIELDS)
+                .verify()
+    }
+}
@@ -7,6 +7,7 @@ package com.gooddata.sdk.service
 
 import nl.jqno.equalsverifier.EqualsVerifier
 import nl.jqno.equalsverifier.Warning
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy
 import spock.lang.Specification
 import spock.lang.Unroll
 
@@ -22,10 +23,22 @@ class GoodDataSettingsTest extends Specification {
         expect:
         with(settings) {
             maxConnections > 0
+            stagingMaxConnections > 0
+            maxTotalConnections == maxConnections
+            poolConcurrencyPolicy == PoolConcurrencyPolicy.STRICT
+            connectionTimeToLive == 0
+            connectionIdleTimeout == 0
+            validateAfterInactivity > 0
             connectionTimeout >= 0
             connectionRequestTimeout >= 0
             socketTimeout >= 0
             pollSleep >= 0
+            parallelismSettings == new ParallelismSettings()
+            !jacksonBlackbird
+            metrics == null
+            roleCacheSettings == null
+            executionResultCacheSettings == null
+            concurrencyLimitSettings == null
             goodDataUserAgent =~ /GoodData-Java-SDK\/UNKNOWN \(.*\) Apache-HttpClient\/\d\.\d\.\d/
             presetHeaders['Accept'] == 'application/json'
             presetHeaders.containsKey('X-GDC-Version')
@@ -59,6 +72,21 @@ class GoodDataSettingsTest extends Specification {
         'SocketTimeout'            | -5
         'PollSleep'                | -5
         'MaxConnections'           | 0
+        'StagingMaxConnections'    | 0
+        'MaxTotalConnections'      | -1
+        'ConnectionTimeToLive'     | -1
+        'ConnectionIdleTimeout'    | -1
+        'ValidateAfterInactivity'  | -1
+        'PoolConcurrencyPolicy'    | null
+        'ParallelismSettings'      | null
+    }
+
+    def "should use explicit max total connections"() {
+        when:
+        settings.maxTotalConnections = 7
+
+        then:
+        settings.maxTotalConnections == 7
     }
 
     def "custom user agent should be prefix of default"() {
@@ -86,6 +114,7 @@ class GoodDataSettingsTest extends Specification {
         expect:
         EqualsVerifier.forClass(GoodDataSettings)
                 .usingGetClass()
+                .withIgnoredFields('pollScheduler', 'requestExecutor')
                 .suppress(Warning.NONFINAL_FIELDS)
                 .verify()
     }
@@ -0,0 +1,78 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service
+
+import nl.jqno.equalsverifier.EqualsVerifier
+import nl.jqno.equalsverifier.Warning
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class ParallelismSettingsTest extends Specification {
+
+    private ParallelismSettings settings = new ParallelismSettings()
+
+    def "should have defaults"() {
+        expect:
+        with(settings) {
+            bulkGetChunkSize > 0
+            bulkGetParallelism > 0
+            usersUpdateBatchSize > 0
+            usersUpdateParallelism > 0
+            uploadParallelism > 0
+            downloadParallelism > 0
+            downloadSegmentSize > 0
+            downloadSegmentRetries >= 0
+            exportParallelism > 0
+            modelUpdateParallelism > 0
+            pagePrefetch == 0
+        }
+    }
+
+    @Unroll
+    def "value #value is #correct for #variable"() {
+        expect:
+        try {
+            settings."set${variable}"(value)
+            assert correct
+            assert settings."get${variable}"() == value
+        } catch (IllegalArgumentException e) {
+            assert !correct
+        }
+
+        where:
+        value | correct | variable
+        1     | true    | "BulkGetChunkSize"
+        0     | false   | "BulkGetChunkSize"
+        1     | true    | "BulkGetParallelism"
+        0     | false   | "BulkGetParallelism"
+        1     | true    | "UsersUpdateBatchSize"
+        0     | false   | "UsersUpdateBatchSize"
+        1     | true    | "UsersUpdateParallelism"
+        0     | false   | "UsersUpdateParallelism"
+        1     | true    | "UploadParallelism"
+        0     | false   | "UploadParallelism"
+        1     | true    | "DownloadParallelism"
+        0     | false   | "DownloadParallelism"
+        1     | true    | "DownloadSegmentSize"
+        0     | false   | "DownloadSegmentSize"
+        0     | true    | "DownloadSegmentRetries"
+        -1    | false   | "DownloadSegmentRetries"
+        1     | true    | "ExportParallelism"
+        0     | false   | "ExportParallelism"
+        1     | true    | "ModelUpdateParallelism"
+        0     | false   | "ModelUpdateParallelism"
+        0     | true    | "PagePrefetch"
+        -1    | false   | "PagePrefetch"
+    }
+
+    def "should verify equals"() {
+        expect:
+        EqualsVerifier.forClass(ParallelismSettings)
+                .usingGetClass()
+                .suppress(Warning.NONFINAL_FIELDS)
+                .verify()
+    }
+}
@@ -18,7 +18,9 @@ import com.gooddata.sdk.model.executeafm.response.*
 import com.gooddata.sdk.model.executeafm.result.ExecutionResult
 import com.gooddata.sdk.model.executeafm.result.Paging
 import com.gooddata.sdk.model.project.Project
+import com.gooddata.sdk.service.GoodData
 import com.gooddata.sdk.service.GoodDataITBase
+import com.gooddata.sdk.service.httpcomponents.LoginPasswordGoodDataRestProvider
 import spock.lang.Shared
 import spock.lang.Unroll
 
@@ -117,9 +119,11 @@ class ExecuteAfmServiceIT extends GoodDataITBase<ExecuteAfmService> {
                 .receivedTimes(2)
 
         where:
-        order | resultQuery                                     | getResult
-        '1st' | RESULT_QUERY                                    | { it.getResult(response) }
-        '2nd' | "$RESULT_QUERY_BASE&offset=1%2C0&limit=10%2C10" | { it.getResult(response, new ResultPage([1, 0], [10, 10])) }
+        order          | resultQuery                                     | getResult
+        '1st'          | RESULT_QUERY                                    | { it.getResult(response) }
+        '2nd'          | "$RESULT_QUERY_BASE&offset=1%2C0&limit=10%2C10" | { it.getResult(response, new ResultPage([1, 0], [10, 10])) }
+        '1st columnar' | RESULT_QUERY                                    | { it.getColumnarResult(response) }
+        '2nd columnar' | "$RESULT_QUERY_BASE&offset=1%2C0&limit=10%2C10" | { it.getColumnarResult(response, new ResultPage([1, 0], [10, 10])) }
     }
 
     @Unroll
@@ -148,6 +152,77 @@ class ExecuteAfmServiceIT extends GoodDataITBase<ExecuteAfmService> {
 
     }
 
+    def "should serve cached AFM execution and result page"() {
+        given:
+        ExecutionResult result = new ExecutionResult(new String[0], new Paging([0], [0], [0]))
+        onRequest()
+                .havingMethodEqualTo('POST')
+                .havingPathEqualTo('/gdc/app/projects/PROJECT_ID/executeAfm')
+                .respond()
+                .withBody(OBJECT_MAPPER.writeValueAsString(response))
+                .withStatus(200)
+        onRequest()
+                .havingMethodEqualTo('GET')
+                .havingPathEqualTo(RESULT_PATH)
+                .respond()
+                .withBody(OBJECT_MAPPER.writeValueAsString(result))
+                .withStatus(200)
+        def service = cachingService()
+
+        when:
+        2.times {
+            def executed = service.executeAfm(project, afmExecution)
+            service.getResult(executed).get()
+            service.getResult(executed, new ResultPage([1, 0], [10, 10])).get()
+        }
+
+        then:
+        verifyThatRequest()
+                .havingMethodEqualTo('POST')
+                .havingPathEqualTo('/gdc/app/projects/PROJECT_ID/executeAfm')
+                .receivedOnce()
+        verifyThatRequest()
+                .havingMethodEqualTo('GET')
+                .havingPathEqualTo(RESULT_PATH)
+                .receivedTimes(2)
+
+        when:
+        service.clearResultCache(project)
+        service.getResult(service.executeAfm(project, afmExecution)).get()
+
+        then:
+        verifyThatRequest()
+                .havingMethodEqualTo('POST')
+                .havingPathEqualTo('/gdc/app/projects/PROJECT_ID/executeAfm')
+                .receivedTimes(2)
+        verifyThatRequest()
+                .havingMethodEqualTo('GET')
+                .havingPathEqualTo(RESULT_PATH)
+                .receivedTimes(3)
+    }
+
+    def "should serve cached async AFM execution"() {
+        given:
+        onRequest()
+                .havingMethodEqualTo('POST')
+                .havingPathEqualTo('/gdc/app/projects/PROJECT_ID/executeAfm')
+                .respond()
+                .withBody(OBJECT_MAPPER.writeValueAsString(response))
+                .withStatus(200)
+        def service = cachingService()
+
+        when:
+        service.executeAfm(project, afmExecution)
+        ExecutionResponse executed = service.executeAfmAsync(project, afmExecution).join()
+
+        then:
+        executed.executionResultUri == RESULT_URI
+        verifyThatRequest()
+                .havingMethodEqualTo('POST')
+                .havingPathEqualTo('/gdc/app/projects/PROJECT_ID/executeAfm')
+                .receivedOnce()
+    }
+
     def "should execute visualization object"() {
         given:
         onRequest()
@@ -183,6 +258,13 @@ class ExecuteAfmServiceIT extends GoodDataITBase<ExecuteAfmService> {
         ex.message == 'Unable to execute visualization'
     }
 
+    private ExecuteAfmService cachingService() {
+        def settings = createGoodDataSettings()
+        settings.executionResultCacheSettings = new ExecutionResultCacheSettings()
+        new GoodData(new LoginPasswordGoodDataRestProvider(endpoint, settings, 'sdk@gooddata.com', 'sdk'))
+                .executeAfmService
+    }
+
     @Override
     protected ExecuteAfmService getService() {
         return gd.executeAfmService
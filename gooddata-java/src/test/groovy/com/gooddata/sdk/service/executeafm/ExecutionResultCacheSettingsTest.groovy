@@ -0,0 +1,46 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.executeafm
+
+import nl.jqno.equalsverifier.EqualsVerifier
+import nl.jqno.equalsverifier.Warning
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class ExecutionResultCacheSettingsTest extends Specification {
+
+    private ExecutionResultCacheSettings settings = new ExecutionResultCacheSettings()
+
+    @Unroll
+    def "value #value is #correct for #variable"() {
+        expect:
+        try {
+            settings."set${variable}"(value)
+            assert correct
+            assert settings."get${variable}"() == value
+        } catch (IllegalArgumentException e) {
+            assert !correct
+        }
+
+        where:
+        value | correct | variable
+        1     | true    | "Ttl"
+        0     | false   | "Ttl"
+        -1    | false   | "Ttl"
+        1     | true    | "MaxMemorySize"
+        0     | false   | "MaxMemorySize"
+        1     | true    | "MaxDiskSize"
+        0     | false   | "MaxDiskSize"
+    }
+
+    def "should verify equals"() {
+        expect:
+        EqualsVerifier.forClass(ExecutionResultCacheSettings)
+                .usingGetClass()
+                .suppress(Warning.NONFINAL_FIELDS)
+                .verify()
+    }
+}
@@ -14,9 +14,11 @@ import com.gooddata.sdk.model.md.report.Report
 import com.gooddata.sdk.model.md.report.ReportDefinition
 import com.gooddata.sdk.service.GoodDataITBase
 import spock.lang.Shared
+import spock.lang.TempDir
 import spock.lang.Unroll
 
 import java.nio.charset.StandardCharsets
+import java.nio.file.Path
 
 import static com.gooddata.sdk.common.util.ResourceUtils.OBJECT_MAPPER
 import static com.gooddata.sdk.common.util.ResourceUtils.readObjectFromResource
@@ -42,6 +44,9 @@ class ExportServiceIT extends GoodDataITBase<ExportService> {
     @Shared
     ProjectDashboard DASHBOARD = readObjectFromResource('/md/projectDashboard.json', ProjectDashboard)
 
+    @TempDir
+    Path targetDir
+
     def setup() {
         onRequest()
                 .havingPathEqualTo(ReportRequest.URI)
@@ -188,6 +193,59 @@ class ExportServiceIT extends GoodDataITBase<ExportService> {
 
     }
 
+    def "should export batch"() {
+        given:
+        def exports = [
+                new ReportExport(REPORT, ExportFormat.CSV, targetDir.resolve('report.csv')),
+                new ReportExport(DEFINITION, ExportFormat.XLSX, targetDir.resolve('definition.xlsx')),
+                ReportExport.rawCsv(REPORT, targetDir.resolve('raw.csv'))
+        ]
+
+        when:
+        def results = service.export(exports)
+
+        then:
+        results*.export == exports
+        results.every { it.successful && it.failure == null }
+        exports.every { it.target.toFile().text == RESPONSE }
+    }
+
+    def "should not stop batch on failed export"() {
+        given:
+        onRequest()
+                .havingPathEqualTo(EXPORT_POLL_URI)
+                .havingMethodEqualTo('GET')
+                .respond()
+                .withStatus(204)
+        onRequest()
+                .havingPathEqualTo(RAW_EXPORT_POLL)
+                .havingMethodEqualTo('GET')
+                .respond()
+                .withStatus(200)
+                .thenRespond()
+                .withStatus(400)
+        def failedTarget = targetDir.resolve('failed.csv')
+        failedTarget.toFile().text = 'previous'
+        def exports = [
+                new ReportExport(REPORT, ExportFormat.CSV, targetDir.resolve('nodata.csv')),
+                ReportExport.rawCsv(DEFINITION, failedTarget)
+        ]
+
+        when:
+        def results = service.export(exports)
+
+        then:
+        results*.export == exports
+        results[0].noData
+        !results[0].successful
+        results[0].failure instanceof NoDataExportException
+        !targetDir.resolve('nodata.csv').toFile().exists()
+
+        !results[1].noData
+        results[1].failure instanceof ExportException
+        !failedTarget.toFile().exists()
+    }
+
     @Override
     protected ExportService getService() {
         return gd.exportService
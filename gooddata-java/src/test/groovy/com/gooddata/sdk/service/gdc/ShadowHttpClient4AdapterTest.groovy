@@ -9,7 +9,6 @@ import org.apache.hc.client5.http.classic.HttpClient
 import org.apache.hc.core5.http.ClassicHttpRequest
 import org.apache.hc.core5.http.HttpHost
 import org.apache.hc.core5.http.message.BasicClassicHttpResponse
-import org.apache.hc.core5.http.protocol.HttpContext
 import org.apache.http.client.methods.CloseableHttpResponse
 import org.apache.http.client.methods.HttpGet
 import org.apache.http.message.BasicHttpRequest
@@ -23,7 +22,7 @@ class ShadowHttpClient4AdapterTest extends Specification {
     def "should convert absolute HttpUriRequest to Classic request"() {
         given:
         def response = new BasicClassicHttpResponse(200, "OK")
-        client.execute(_ as ClassicHttpRequest, _ as HttpContext) >> response
+        client.executeOpen(_ as HttpHost, _ as ClassicHttpRequest, _) >> response
 
         when:
         CloseableHttpResponse result = adapter.execute(new HttpGet("https://example.com/foo"))
@@ -36,8 +35,7 @@ class ShadowHttpClient4AdapterTest extends Specification {
     def "should merge host and relative path"() {
         given:
         def response = new BasicClassicHttpResponse(204, "No Content")
-        client.execute(_ as HttpHost, _ as ClassicHttpRequest,
-                _ as HttpContext) >> response
+        client.executeOpen(_ as HttpHost, _ as ClassicHttpRequest, _) >> response
 
         when:
         def httpHost = new org.apache.http.HttpHost("example.com", 443, "https")
@@ -46,6 +44,6 @@ class ShadowHttpClient4AdapterTest extends Specification {
 
         then:
         result.statusLine.statusCode == 204
-        0 * client.execute(_ as ClassicHttpRequest, _)
+        0 * client.execute(*_)
     }
 }
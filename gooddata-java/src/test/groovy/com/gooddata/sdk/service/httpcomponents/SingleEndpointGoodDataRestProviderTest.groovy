@@ -6,8 +6,16 @@
 package com.gooddata.sdk.service.httpcomponents
 
 import com.gooddata.sdk.service.GoodDataEndpoint
+import com.gooddata.sdk.service.GoodDataMetrics
 import com.gooddata.sdk.service.GoodDataSettings
+import com.gooddata.sdk.service.retry.RetrySettings
+import org.apache.hc.client5.http.HttpRequestRetryStrategy
 import org.apache.hc.client5.http.classic.HttpClient
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager
+import org.apache.hc.client5.http.protocol.HttpClientContext
+import org.apache.hc.core5.http.NoHttpResponseException
+import org.apache.hc.core5.http.message.BasicHttpRequest
+import org.apache.hc.core5.http.message.BasicHttpResponse
 import spock.lang.Specification
 
 class SingleEndpointGoodDataRestProviderTest extends Specification {
@@ -36,4 +44,68 @@ class SingleEndpointGoodDataRestProviderTest extends Specification {
         then:
         dataStoreService.isPresent()
     }
+
+    def "should apply pool settings"() {
+        given:
+        def settings = new GoodDataSettings()
+        settings.maxConnections = 3
+        settings.stagingMaxConnections = 5
+        settings.connectionTimeToLive = 1000
+        settings.validateAfterInactivity = 0
+        def endpoint = new GoodDataEndpoint('api.example.com', 443, 'https')
+
+        when:
+        def provider = new SingleEndpointGoodDataRestProvider(endpoint, settings, Stub(GoodDataHttpClientBuilder)) {
+        }
+        def connectionManager = provider.createHttpClientBuilder(settings).connManager as PoolingHttpClientConnectionManager
+        def config = SingleEndpointGoodDataRestProvider.createConnectionConfig(settings)
+
+        then:
+        connectionManager.maxTotal == 3
+        connectionManager.defaultMaxPerRoute == 5
+        connectionManager.getMaxPerRoute(SingleEndpointGoodDataRestProvider.createApiRoute(endpoint)) == 3
+        config.timeToLive.toMilliseconds() == 1000
+        config.validateAfterInactivity.toMilliseconds() < 0
+    }
+
+    def "should retry just I/O errors by http client when retries are set"() {
+        given:
+        def settings = new GoodDataSettings()
+        settings.retrySettings = new RetrySettings()
+        def context = HttpClientContext.create()
+
+        when:
+        def provider = new SingleEndpointGoodDataRestProvider(new GoodDataEndpoint(), settings,
+                Stub(GoodDataHttpClientBuilder)) {
+        }
+        def strategy = provider.createHttpClientBuilder(settings).retryStrategy as HttpRequestRetryStrategy
+
+        then:
+        !strategy.retryRequest(new BasicHttpResponse(429), 1, context)
+        !strategy.retryRequest(new BasicHttpResponse(503), 1, context)
+        strategy.retryRequest(new BasicHttpRequest('GET', '/gdc'), new NoHttpResponseException('test'), 1, context)
+    }
+
+    def "should instrument connection pool and requests when metrics set"() {
+        given:
+        def settings = new GoodDataSettings()
+        settings.maxConnections = 3
+        settings.metrics = new GoodDataMetrics() {}
+        def endpoint = new GoodDataEndpoint('api.example.com', 443, 'https')
+        def client = Mock(HttpClient)
+        def builder = Stub(GoodDataHttpClientBuilder) {
+            buildHttpClient(_, _, _) >> client
+        }
+
+        when:
+        def provider = new SingleEndpointGoodDataRestProvider(endpoint, settings, builder) {
+        }
+        def connectionManager = provider.createHttpClientBuilder(settings).connManager
+
+        then:
+        connectionManager instanceof InstrumentedHttpClientConnectionManager
+        (connectionManager as InstrumentedHttpClientConnectionManager)
+                .getMaxPerRoute(SingleEndpointGoodDataRestProvider.createApiRoute(endpoint)) == 3
+        !provider.restTemplate.observationRegistry.isNoop()
+    }
 }
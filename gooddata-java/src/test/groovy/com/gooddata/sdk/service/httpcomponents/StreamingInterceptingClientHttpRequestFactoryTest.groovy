@@ -0,0 +1,59 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.httpcomponents
+
+import com.gooddata.sdk.service.HeaderSettingRequestInterceptor
+import org.springframework.http.HttpHeaders
+import org.springframework.http.HttpMethod
+import org.springframework.http.StreamingHttpOutputMessage
+import org.springframework.http.client.ClientHttpRequest
+import org.springframework.http.client.ClientHttpRequestFactory
+import org.springframework.http.client.ClientHttpResponse
+import spock.lang.Specification
+
+class StreamingInterceptingClientHttpRequestFactoryTest extends Specification {
+
+    private final HttpHeaders headers = new HttpHeaders()
+    private final ClientHttpResponse response = Mock()
+    private final StreamingClientHttpRequest delegateRequest = Mock() {
+        getHeaders() >> headers
+    }
+    private final ClientHttpRequestFactory delegate = Mock() {
+        createRequest(_, _) >> delegateRequest
+    }
+    private final StreamingInterceptingClientHttpRequestFactory factory =
+            new StreamingInterceptingClientHttpRequestFactory(delegate,
+                    [new HeaderSettingRequestInterceptor(['X-Test': 'value'])])
+
+    def "should apply interceptors and execute delegate"() {
+        given:
+        def request = factory.createRequest(new URI('/gdc'), HttpMethod.POST)
+
+        when:
+        def result = request.execute()
+
+        then:
+        1 * delegateRequest.execute() >> response
+        result == response
+        headers.getFirst('X-Test') == 'value'
+    }
+
+    def "should pass streaming body to delegate"() {
+        given:
+        def request = factory.createRequest(new URI('/gdc'), HttpMethod.POST)
+        StreamingHttpOutputMessage.Body body = Mock()
+
+        when:
+        (request as StreamingHttpOutputMessage).setBody(body)
+
+        then:
+        1 * delegateRequest.setBody(body)
+        0 * body.writeTo(_)
+    }
+}
+
+interface StreamingClientHttpRequest extends ClientHttpRequest, StreamingHttpOutputMessage {
+}
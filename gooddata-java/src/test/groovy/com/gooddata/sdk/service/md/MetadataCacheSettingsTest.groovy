@@ -0,0 +1,44 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.md
+
+import nl.jqno.equalsverifier.EqualsVerifier
+import nl.jqno.equalsverifier.Warning
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class MetadataCacheSettingsTest extends Specification {
+
+    private MetadataCacheSettings settings = new MetadataCacheSettings()
+
+    @Unroll
+    def "value #value is #correct for #variable"() {
+        expect:
+        try {
+            settings."set${variable}"(value)
+            assert correct
+            assert settings."get${variable}"() == value
+        } catch (IllegalArgumentException e) {
+            assert !correct
+        }
+
+        where:
+        value | correct | variable
+        1     | true    | "Ttl"
+        0     | false   | "Ttl"
+        -1    | false   | "Ttl"
+        1     | true    | "MaxQueries"
+        0     | false   | "MaxQueries"
+    }
+
+    def "should verify equals"() {
+        expect:
+        EqualsVerifier.forClass(MetadataCacheSettings)
+                .usingGetClass()
+                .suppress(Warning.NONFINAL_FIELDS)
+                .verify()
+    }
+}
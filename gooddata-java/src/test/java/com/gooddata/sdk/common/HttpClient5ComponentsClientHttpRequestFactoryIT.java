@@ -12,8 +12,10 @@ import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.core5.http.StreamClosedException;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.RestTemplate;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -30,6 +32,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
+import static java.util.Collections.singletonMap;
 import static net.jadler.Jadler.closeJadler;
 import static net.jadler.Jadler.initJadler;
 import static net.jadler.Jadler.onRequest;
@@ -441,6 +444,27 @@ public class HttpClient5ComponentsClientHttpRequestFactoryIT {
         assertEquals(200, response.getStatusCode().value());
     }
 
+    @Test
+    void shouldStreamPostRequestBodyChunked() throws IOException {
+        // Given
+        onRequest()
+                .havingMethodEqualTo("POST")
+                .havingPathEqualTo("/api/stream")
+                .havingHeaderEqualTo("Transfer-Encoding", "chunked")
+                .havingBodyEqualTo("{\"name\":\"streamed\"}")
+                .respond()
+                .withStatus(201);
+        factory.setBufferRequestBody(false);
+
+        // When
+        final RestTemplate restTemplate = new RestTemplate(factory);
+        final ResponseEntity<Void> response = restTemplate.postForEntity(baseUrl + "/api/stream",
+                singletonMap("name", "streamed"), Void.class);
+
+        // Then
+        assertEquals(201, response.getStatusCode().value());
+    }
+
     /**
      * Helper method to read response body as string
      */
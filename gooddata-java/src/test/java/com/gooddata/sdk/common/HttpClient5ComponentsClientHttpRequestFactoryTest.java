@@ -16,12 +16,14 @@ import org.apache.hc.core5.http.HttpEntity;
 import org.mockito.ArgumentCaptor;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.http.StreamingHttpOutputMessage;
 import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.http.client.ClientHttpResponse;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Method;
@@ -288,6 +290,55 @@ class HttpClient5ComponentsClientHttpRequestFactoryTest {
         }
     }
 
+    @Test
+    void shouldStreamBodyWhenNotBuffering() throws Exception {
+        // Given
+        when(mockHttpClient.executeOpen(isNull(), any(ClassicHttpRequest.class), isNull()))
+                .thenReturn(mockResponse);
+        when(mockResponse.getCode()).thenReturn(200);
+        when(mockResponse.getHeaders()).thenReturn(new org.apache.hc.core5.http.Header[0]);
+        factory.setBufferRequestBody(false);
+
+        ClientHttpRequest request = factory.createRequest(URI.create("http://test.com"), HttpMethod.POST);
+        assertTrue(request instanceof StreamingHttpOutputMessage);
+
+        // When
+        request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        ((StreamingHttpOutputMessage) request).setBody(output -> output.write("{\"test\": \"data\"}".getBytes()));
+        request.execute();
+
+        // Then
+        ArgumentCaptor<ClassicHttpRequest> requestCaptor = ArgumentCaptor.forClass(ClassicHttpRequest.class);
+        verify(mockHttpClient).executeOpen(isNull(), requestCaptor.capture(), isNull());
+        HttpEntity entity = ((HttpPost) requestCaptor.getValue()).getEntity();
+        assertNotNull(entity);
+        assertEquals(-1, entity.getContentLength());
+        assertTrue(entity.isRepeatable());
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        entity.writeTo(written);
+        assertEquals("{\"test\": \"data\"}", written.toString());
+    }
+
+    @Test
+    void shouldBufferStreamingBodyByDefault() throws Exception {
+        // Given
+        when(mockHttpClient.executeOpen(isNull(), any(ClassicHttpRequest.class), isNull()))
+                .thenReturn(mockResponse);
+        when(mockResponse.getCode()).thenReturn(200);
+        when(mockResponse.getHeaders()).thenReturn(new org.apache.hc.core5.http.Header[0]);
+
+        ClientHttpRequest request = factory.createRequest(URI.create("http://test.com"), HttpMethod.POST);
+
+        // When
+        ((StreamingHttpOutputMessage) request).setBody(output -> output.write("data".getBytes()));
+        request.execute();
+
+        // Then
+        ArgumentCaptor<ClassicHttpRequest> requestCaptor = ArgumentCaptor.forClass(ClassicHttpRequest.class);
+        verify(mockHttpClient).executeOpen(isNull(), requestCaptor.capture(), isNull());
+        assertEquals(4, ((HttpPost) requestCaptor.getValue()).getEntity().getContentLength());
+    }
+
     @Test
     void shouldHandleInvalidContentType() throws Exception {
         // Given
@@ -8,6 +8,7 @@ package com.gooddata.sdk.service;
 import com.gooddata.sdk.common.GoodDataException;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpResponse;
@@ -16,8 +17,13 @@ import org.springframework.web.client.RestTemplate;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -54,4 +60,91 @@ public class AbstractServiceTest {
         PollHandler<?, ?> handler = mock(PollHandler.class);
         service.poll(handler, 5, TimeUnit.SECONDS);
     }
+
+    @Test
+    public void pollAsyncShouldCompleteWithResult() throws Exception {
+        @SuppressWarnings("unchecked")
+        PollHandler<?, String> handler = mock(PollHandler.class);
+        when(handler.isFinished(any(ClientHttpResponse.class))).thenReturn(false);
+        when(handler.isDone()).thenReturn(false, false, true);
+        when(handler.getResult()).thenReturn("result");
+        service = serviceWithPollSleep(10);
+
+        final CompletableFuture<String> future = service.pollAsync(handler, 5, TimeUnit.SECONDS);
+
+        assertThat(future.get(5, TimeUnit.SECONDS), is("result"));
+    }
+
+    @Test
+    public void pollAsyncShouldCompleteExceptionallyWhenOverTimeout() throws Exception {
+        service = serviceWithPollSleep(10);
+        PollHandler<?, ?> handler = mock(PollHandler.class);
+
+        final CompletableFuture<?> future = service.pollAsync(handler, 50, TimeUnit.MILLISECONDS);
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), is(instanceOf(GoodDataException.class)));
+            assertThat(e.getCause().getMessage(), is("timeout"));
+            return;
+        }
+        throw new AssertionError("future should complete exceptionally");
+    }
+
+    @Test
+    public void pollResultShouldReturnSameCompletableFuture() throws Exception {
+        @SuppressWarnings("unchecked")
+        PollHandler<?, String> handler = mock(PollHandler.class);
+        when(handler.isDone()).thenReturn(true);
+        when(handler.getResult()).thenReturn("result");
+
+        final PollResult<String> result = new PollResult<>(service, handler);
+
+        assertThat(result.toCompletableFuture(), is(result.toCompletableFuture()));
+        assertThat(result.toCompletableFuture().get(), is("result"));
+    }
+
+    @Test
+    public void pollShouldUseRetryAfterHeader() throws Exception {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "7");
+        final ClientHttpResponse response = mock(ClientHttpResponse.class);
+        when(response.getStatusCode()).thenReturn(HttpStatus.ACCEPTED);
+        when(response.getHeaders()).thenReturn(headers);
+        when(restTemplate.execute(any(), any(HttpMethod.class), any(), any(ResponseExtractor.class)))
+                .thenReturn(response);
+        final GoodDataSettings settings = new GoodDataSettings();
+        settings.setPollIntervalStrategy(new ExponentialPollIntervalStrategy(100, 60000, 2, 0));
+        service = new AbstractService(restTemplate, settings) {
+        };
+        PollHandler<?, ?> handler = mock(PollHandler.class);
+        final PollState state = new PollState();
+
+        service.pollOnce(handler, state);
+
+        assertThat(service.nextPollInterval(handler, state), is(7000L));
+    }
+
+    @Test
+    public void nextPollIntervalShouldPreferHandlerStrategy() throws Exception {
+        PollHandler<?, ?> handler = mock(PollHandler.class);
+        when(handler.getPollIntervalStrategy()).thenReturn(new FixedPollIntervalStrategy(42));
+
+        assertThat(service.nextPollInterval(handler, new PollState()), is(42L));
+    }
+
+    @Test
+    public void nextPollIntervalShouldDefaultToPollSleep() throws Exception {
+        PollHandler<?, ?> handler = mock(PollHandler.class);
+
+        assertThat(serviceWithPollSleep(13).nextPollInterval(handler, new PollState()), is(13L));
+    }
+
+    private AbstractService serviceWithPollSleep(final int pollSleep) {
+        final GoodDataSettings settings = new GoodDataSettings();
+        settings.setPollSleep(pollSleep);
+        return new AbstractService(restTemplate, settings) {
+        };
+    }
 }
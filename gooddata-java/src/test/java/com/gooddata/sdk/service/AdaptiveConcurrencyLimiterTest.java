@@ -0,0 +1,171 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.testng.Assert.assertThrows;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+    private ConcurrencyLimitSettings settings;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        events.clear();
+        settings = new ConcurrencyLimitSettings();
+        settings.setInitialLimit(2);
+        settings.setMinLimit(1);
+        settings.setMaxLimit(3);
+        settings.setBackoffRatio(0.5);
+        settings.setMaxWait(50);
+    }
+
+    @Test
+    public void shouldIncreaseLimitWhenUtilized() throws Exception {
+        final AdaptiveConcurrencyLimiter limiter = limiter();
+
+        limiter.acquire(ApiFamily.MD).success(1);
+        assertThat(limiter.getLimit(ApiFamily.MD), is(3));
+
+        limiter.acquire(ApiFamily.MD).success(1);
+        assertThat(limiter.getLimit(ApiFamily.MD), is(3));
+        assertThat(events, contains("MD 3"));
+    }
+
+    @Test
+    public void shouldNotIncreaseLimitWhenNotUtilized() throws Exception {
+        settings.setInitialLimit(3);
+        settings.setMaxLimit(10);
+        final AdaptiveConcurrencyLimiter limiter = limiter();
+
+        limiter.acquire(ApiFamily.MD).success(1);
+
+        assertThat(limiter.getLimit(ApiFamily.MD), is(3));
+    }
+
+    @Test
+    public void shouldDecreaseLimitWhenOverloaded() throws Exception {
+        final AdaptiveConcurrencyLimiter limiter = limiter();
+
+        limiter.acquire(ApiFamily.EXPORTER).overloaded();
+        limiter.acquire(ApiFamily.EXPORTER).overloaded();
+
+        assertThat(limiter.getLimit(ApiFamily.EXPORTER), is(1));
+        assertThat(limiter.getLimit(ApiFamily.MD), is(2));
+        assertThat(events, contains("EXPORTER 1"));
+    }
+
+    @Test
+    public void shouldKeepLimitWhenIgnored() throws Exception {
+        final AdaptiveConcurrencyLimiter limiter = limiter();
+
+        limiter.acquire(ApiFamily.STAGING).ignore();
+
+        assertThat(limiter.getLimit(ApiFamily.STAGING), is(2));
+        assertThat(limiter.getInFlight(ApiFamily.STAGING), is(0));
+    }
+
+    @Test
+    public void shouldReleasePermitOnce() throws Exception {
+        final AdaptiveConcurrencyLimiter limiter = limiter();
+        final AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire(ApiFamily.MD);
+        limiter.acquire(ApiFamily.MD);
+
+        permit.overloaded();
+        permit.overloaded();
+
+        assertThat(limiter.getLimit(ApiFamily.MD), is(1));
+        assertThat(limiter.getInFlight(ApiFamily.MD), is(1));
+    }
+
+    @Test
+    public void shouldDecreaseLimitOnLatencySpike() throws Exception {
+        settings.setInitialLimit(3);
+        settings.setLatencyTolerance(2);
+        final AdaptiveConcurrencyLimiter limiter = limiter();
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire(ApiFamily.EXECUTE_AFM).success(100);
+        }
+
+        limiter.acquire(ApiFamily.EXECUTE_AFM).success(200);
+        assertThat(limiter.getLimit(ApiFamily.EXECUTE_AFM), is(3));
+
+        limiter.acquire(ApiFamily.EXECUTE_AFM).success(250);
+        assertThat(limiter.getLimit(ApiFamily.EXECUTE_AFM), is(1));
+    }
+
+    @Test
+    public void shouldNotIncludeLatencyOfSuccessWithoutLatency() throws Exception {
+        settings.setInitialLimit(3);
+        settings.setLatencyTolerance(2);
+        final AdaptiveConcurrencyLimiter limiter = limiter();
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire(ApiFamily.EXECUTE_AFM).success(100);
+            limiter.acquire(ApiFamily.EXECUTE_AFM).success();
+        }
+
+        limiter.acquire(ApiFamily.EXECUTE_AFM).success(200);
+        assertThat(limiter.getLimit(ApiFamily.EXECUTE_AFM), is(3));
+    }
+
+    @Test
+    public void shouldWaitForPermit() throws Exception {
+        settings.setMaxWait(10_000);
+        final AdaptiveConcurrencyLimiter limiter = limiter();
+        final AdaptiveConcurrencyLimiter.Permit first = limiter.acquire(ApiFamily.MD);
+        limiter.acquire(ApiFamily.MD);
+
+        final CompletableFuture<AdaptiveConcurrencyLimiter.Permit> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return limiter.acquire(ApiFamily.MD);
+            } catch (InterruptedException | TimeoutException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThrows(TimeoutException.class, () -> waiting.get(100, TimeUnit.MILLISECONDS));
+
+        first.ignore();
+        waiting.get(10, TimeUnit.SECONDS);
+        assertThat(limiter.getInFlight(ApiFamily.MD), is(2));
+    }
+
+    @Test
+    public void shouldTimeoutWaitingForPermit() throws Exception {
+        final AdaptiveConcurrencyLimiter limiter = limiter();
+        limiter.acquire(ApiFamily.MD);
+        limiter.acquire(ApiFamily.MD);
+
+        assertThrows(TimeoutException.class, () -> limiter.acquire(ApiFamily.MD));
+        limiter.acquire(ApiFamily.EXECUTE_AFM);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldFailOnInitialLimitOutOfBounds() throws Exception {
+        settings.setInitialLimit(4);
+        limiter();
+    }
+
+    private AdaptiveConcurrencyLimiter limiter() {
+        return new AdaptiveConcurrencyLimiter(settings, new GoodDataMetrics() {
+            @Override
+            public void concurrencyLimitChanged(final String family, final int limit) {
+                events.add(family + " " + limit);
+            }
+        });
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class ApiFamilyTest {
+
+    @DataProvider
+    public Object[][] paths() {
+        return new Object[][]{
+                {"/gdc/md/PROJECT_ID/obj/1", ApiFamily.MD},
+                {"/gdc/app/projects/PROJECT_ID/executeAfm", ApiFamily.EXECUTE_AFM},
+                {"/gdc/app/projects/PROJECT_ID/executeVisualization", ApiFamily.EXECUTE_AFM},
+                {"/gdc/app/projects/PROJECT_ID/executionResults/123", ApiFamily.EXECUTE_AFM},
+                {"/gdc/exporter/executor", ApiFamily.EXPORTER},
+                {"/gdc/projects/PROJECT_ID/execute/raw", ApiFamily.EXPORTER},
+                {"/gdc/uploads/dir/upload.zip", ApiFamily.STAGING},
+                {"/uploads/dir/upload.zip", ApiFamily.STAGING},
+                {"/gdc/projects/PROJECT_ID", null},
+                {"/gdc/account/login", null},
+                {null, null},
+        };
+    }
+
+    @Test(dataProvider = "paths")
+    public void shouldDetermineFamily(final String path, final ApiFamily family) throws Exception {
+        assertThat(ApiFamily.of(path), is(family));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service;
+
+import com.gooddata.sdk.common.GoodDataRestException;
+import com.gooddata.sdk.model.md.Attribute;
+import com.gooddata.sdk.model.project.Project;
+import com.gooddata.sdk.service.retry.RetrySettings;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.gooddata.sdk.common.util.ResourceUtils.readFromResource;
+import static net.jadler.Jadler.onRequest;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.testng.Assert.assertThrows;
+
+public class ConcurrencyLimitIT extends AbstractGoodDataIT {
+
+    private static final String ATTRIBUTE_URI = "/gdc/md/PROJECT_ID/obj/1";
+    private static final String PROJECT_URI = "/gdc/projects/PROJECT_ID";
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    @BeforeMethod
+    public void setUp() {
+        events.clear();
+    }
+
+    @Override
+    protected GoodDataSettings createGoodDataSettings() {
+        final RetrySettings retrySettings = new RetrySettings();
+        retrySettings.setRetryCount(3);
+        retrySettings.setRetryInitialInterval(1L);
+
+        final GoodDataSettings settings = super.createGoodDataSettings();
+        settings.setRetrySettings(retrySettings);
+        settings.setConcurrencyLimitSettings(new ConcurrencyLimitSettings());
+        settings.setMetrics(new GoodDataMetrics() {
+            @Override
+            public void concurrencyLimitChanged(final String family, final int limit) {
+                events.add(family + " " + limit);
+            }
+        });
+        return settings;
+    }
+
+    @Test
+    public void shouldDecreaseLimitWhenThrottled() throws Exception {
+        onRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo(ATTRIBUTE_URI)
+                .respond()
+                .withStatus(503)
+                .thenRespond()
+                .withBody(readFromResource("/md/attribute.json"));
+
+        final Attribute attribute = gd.getMetadataService().getObjByUri(ATTRIBUTE_URI, Attribute.class);
+
+        assertThat(attribute, is(notNullValue()));
+        assertThat(events, contains("MD 3"));
+    }
+
+    @Test
+    public void shouldNotLimitRequestsOutOfFamily() throws Exception {
+        onRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo(PROJECT_URI)
+                .respond()
+                .withStatus(429);
+
+        assertThrows(GoodDataRestException.class, () -> gd.getProjectService().getProjectById("PROJECT_ID"));
+        assertThat(events, is(empty()));
+    }
+
+    @Test
+    public void shouldRecoverLimitAfterThrottling() throws Exception {
+        onRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo(ATTRIBUTE_URI)
+                .respond()
+                .withStatus(429)
+                .thenRespond()
+                .withStatus(429)
+                .thenRespond()
+                .withStatus(429)
+                .thenRespond()
+                .withBody(readFromResource("/md/attribute.json"));
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(GoodDataRestException.class,
+                    () -> gd.getMetadataService().getObjByUri(ATTRIBUTE_URI, Attribute.class));
+        }
+        gd.getMetadataService().getObjByUri(ATTRIBUTE_URI, Attribute.class);
+
+        // 4 -> 3.6 -> 3.24 -> 2.916, the last request utilizes the limit of 2
+        assertThat(events, contains("MD 3", "MD 2", "MD 3"));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service;
+
+import com.gooddata.sdk.common.GoodDataRestException;
+import org.testng.annotations.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.mockito.Mockito.mock;
+
+public class ExponentialPollIntervalStrategyTest {
+
+    private final PollHandler<?, ?> handler = mock(PollHandler.class);
+
+    @Test
+    public void shouldGrowExponentiallyUpToCap() throws Exception {
+        final ExponentialPollIntervalStrategy strategy = new ExponentialPollIntervalStrategy(100, 1000, 2, 0);
+
+        assertThat(strategy.nextPollInterval(handler, 1, 0, null), is(100L));
+        assertThat(strategy.nextPollInterval(handler, 2, 0, null), is(200L));
+        assertThat(strategy.nextPollInterval(handler, 3, 0, null), is(400L));
+        assertThat(strategy.nextPollInterval(handler, 5, 0, null), is(1000L));
+        assertThat(strategy.nextPollInterval(handler, 500, 0, null), is(1000L));
+    }
+
+    @Test
+    public void shouldApplyJitter() throws Exception {
+        final ExponentialPollIntervalStrategy strategy = new ExponentialPollIntervalStrategy(100, 10000, 2, 0.5);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(strategy.nextPollInterval(handler, 3, 0, null),
+                    is(allOf(greaterThanOrEqualTo(200L), lessThanOrEqualTo(600L))));
+        }
+    }
+
+    @Test
+    public void shouldRespectRetryAfterWithinBounds() throws Exception {
+        final ExponentialPollIntervalStrategy strategy = new ExponentialPollIntervalStrategy(100, 1000, 2, 0);
+
+        assertThat(strategy.nextPollInterval(handler, 1, 0, 700L), is(700L));
+        assertThat(strategy.nextPollInterval(handler, 1, 0, 5000L), is(1000L));
+        assertThat(strategy.nextPollInterval(handler, 1, 0, 0L), is(100L));
+    }
+
+    @Test
+    public void shouldUseBoundsOfHandlerType() throws Exception {
+        final ExponentialPollIntervalStrategy strategy = new ExponentialPollIntervalStrategy(100, 1000, 2, 0)
+                .withBounds(SimplePollHandler.class, 10, 50);
+        final SimplePollHandler<?> simpleHandler = mock(SimplePollHandler.class);
+
+        assertThat(strategy.nextPollInterval(simpleHandler, 1, 0, null), is(10L));
+        assertThat(strategy.nextPollInterval(simpleHandler, 10, 0, null), is(50L));
+        assertThat(strategy.nextPollInterval(handler, 10, 0, null), is(1000L));
+    }
+
+    @Test
+    public void shouldUseBoundsOfPollType() throws Exception {
+        final ExponentialPollIntervalStrategy strategy = new ExponentialPollIntervalStrategy(100, 1000, 2, 0)
+                .withBounds(PollType.EXECUTION_RESULT, 10, 50)
+                .withBounds(PollType.ETL_PULL, 1000, 60000)
+                .withBounds(SimplePollHandler.class, 1, 1);
+        final PollHandler<?, ?> executionHandler = simpleHandler().withPollType(PollType.EXECUTION_RESULT);
+        final PollHandler<?, ?> pullHandler = simpleHandler().withPollType(PollType.ETL_PULL);
+        final PollHandler<?, ?> untypedHandler = simpleHandler();
+
+        assertThat(strategy.nextPollInterval(executionHandler, 1, 0, null), is(10L));
+        assertThat(strategy.nextPollInterval(executionHandler, 10, 0, null), is(50L));
+        assertThat(strategy.nextPollInterval(pullHandler, 1, 0, null), is(1000L));
+        assertThat(strategy.nextPollInterval(pullHandler, 10, 0, null), is(60000L));
+        assertThat(strategy.nextPollInterval(untypedHandler, 10, 0, null), is(1L));
+        assertThat(strategy.nextPollInterval(handler, 10, 0, null), is(1000L));
+    }
+
+    @Test
+    public void shouldRaiseFloorWithTaskAge() throws Exception {
+        final ExponentialPollIntervalStrategy strategy = new ExponentialPollIntervalStrategy(100, 1000, 2, 0, 0.1);
+
+        assertThat(strategy.nextPollInterval(handler, 1, 500, null), is(100L));
+        assertThat(strategy.nextPollInterval(handler, 1, 5000, null), is(500L));
+        assertThat(strategy.nextPollInterval(handler, 1, 5000, 200L), is(500L));
+        assertThat(strategy.nextPollInterval(handler, 1, 60000, null), is(1000L));
+        assertThat(new ExponentialPollIntervalStrategy(100, 1000, 2, 0, 0)
+                .nextPollInterval(handler, 1, 60000, null), is(100L));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldNotAcceptCapLowerThanFloor() throws Exception {
+        new ExponentialPollIntervalStrategy(100, 10, 2, 0);
+    }
+
+    private static SimplePollHandler<Void> simpleHandler() {
+        return new SimplePollHandler<Void>("/uri", Void.class) {
+            @Override
+            public void handlePollException(final GoodDataRestException e) {
+            }
+        };
+    }
+}
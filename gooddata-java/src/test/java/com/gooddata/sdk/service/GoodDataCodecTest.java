@@ -0,0 +1,169 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.gooddata.sdk.model.project.Project;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.gooddata.sdk.common.util.ResourceUtils.readFromResource;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class GoodDataCodecTest {
+
+    private GoodDataCodec codec;
+    private RestTemplate restTemplate;
+
+    @BeforeMethod
+    public void setUp() {
+        codec = new GoodDataCodec(new GoodDataSettings());
+        restTemplate = new RestTemplate();
+    }
+
+    @Test
+    public void shouldCacheReadersAndWriters() {
+        codec.warmUp(Project.class);
+
+        assertThat(codec.reader(Project.class), is(sameInstance(codec.reader(Project.class))));
+        assertThat(codec.writer(Project.class), is(sameInstance(codec.writer(Project.class))));
+        assertThat(codec.reader(Project.class).getValueType().getRawClass(), is(Project.class));
+    }
+
+    @Test
+    public void shouldInstallIntoRestTemplate() {
+        assertThat(GoodDataCodec.of(restTemplate), is(nullValue()));
+
+        assertThat(codec.install(restTemplate), is(sameInstance(codec)));
+        assertThat(GoodDataCodec.of(restTemplate), is(sameInstance(codec)));
+        assertThat(jsonConverters(), hasSize(1));
+        assertThat(((MappingJackson2HttpMessageConverter) jsonConverters().get(0)).getObjectMapper(),
+                is(sameInstance(codec.getMapper())));
+
+        final GoodDataCodec other = new GoodDataCodec(new GoodDataSettings());
+        assertThat(other.install(restTemplate), is(sameInstance(codec)));
+        assertThat(jsonConverters(), hasSize(1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldReadUsingInstalledCodec() throws Exception {
+        codec.install(restTemplate);
+        final GenericHttpMessageConverter<Object> converter =
+                (GenericHttpMessageConverter<Object>) jsonConverters().get(0);
+
+        final Project project = (Project) converter.read(Project.class, null,
+                inputMessage(readFromResource("/project/project.json")));
+
+        assertThat(project, is(notNullValue()));
+        assertThat(project.getTitle(), is("TITLE"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldWriteRuntimeTypeUsingInstalledCodec() throws Exception {
+        codec.install(restTemplate);
+        final GenericHttpMessageConverter<Object> converter =
+                (GenericHttpMessageConverter<Object>) jsonConverters().get(0);
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        converter.write(new Child(), Parent.class, MediaType.APPLICATION_JSON, outputMessage(body));
+
+        assertThat(body.toString(UTF_8.name()), containsString("\"child\":\"c\""));
+        assertThat(codec.writer(Child.class), is(sameInstance(codec.writer(Child.class))));
+    }
+
+    @Test
+    public void serviceShouldUseInstalledCodec() {
+        codec.install(restTemplate);
+        final AbstractService service = new AbstractService(restTemplate, new GoodDataSettings()) {
+        };
+
+        assertThat(service.getCodec(), is(sameInstance(codec)));
+        assertThat(service.mapper, is(not(sameInstance(codec.getMapper()))));
+        assertThat(service.mapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES), is(true));
+    }
+
+    @Test
+    public void shouldIgnoreMissingBlackbirdModule() {
+        final GoodDataSettings settings = new GoodDataSettings();
+        settings.setJacksonBlackbird(true);
+
+        assertThat(new GoodDataCodec(settings).getMapper().getRegisteredModuleIds(),
+                is(codec.getMapper().getRegisteredModuleIds()));
+    }
+
+    private List<HttpMessageConverter<?>> jsonConverters() {
+        return restTemplate.getMessageConverters().stream()
+                .filter(converter -> converter instanceof MappingJackson2HttpMessageConverter)
+                .collect(Collectors.toList());
+    }
+
+    private static HttpInputMessage inputMessage(final InputStream body) {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return new HttpInputMessage() {
+            @Override
+            public InputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        };
+    }
+
+    private static HttpOutputMessage outputMessage(final OutputStream body) {
+        final HttpHeaders headers = new HttpHeaders();
+        return new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        };
+    }
+
+    public static class Parent {
+        public String getParent() {
+            return "p";
+        }
+    }
+
+    public static class Child extends Parent {
+        public String getChild() {
+            return "c";
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service;
+
+import com.gooddata.sdk.model.connector.ConnectorType;
+import com.gooddata.sdk.model.connector.Integration;
+import com.gooddata.sdk.model.gdc.UriResponse;
+import com.gooddata.sdk.model.project.Project;
+import com.gooddata.sdk.model.project.Projects;
+import com.gooddata.sdk.service.retry.RetrySettings;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.gooddata.sdk.common.util.ResourceUtils.OBJECT_MAPPER;
+import static com.gooddata.sdk.common.util.ResourceUtils.readFromResource;
+import static com.gooddata.sdk.common.util.ResourceUtils.readObjectFromResource;
+import static net.jadler.Jadler.onRequest;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+public class GoodDataMetricsIT extends AbstractGoodDataIT {
+
+    private static final String PROJECT_URI = "/gdc/projects/PROJECT_ID";
+    private static final String INTEGRATION_URI = "/gdc/projects/PROJECT_ID/connectors/zendesk4/integration";
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    @BeforeMethod
+    public void setUp() {
+        events.clear();
+    }
+
+    @Override
+    protected GoodDataSettings createGoodDataSettings() {
+        final RetrySettings retrySettings = new RetrySettings();
+        retrySettings.setRetryCount(3);
+        retrySettings.setRetryInitialInterval(1L);
+
+        final GoodDataSettings settings = super.createGoodDataSettings();
+        settings.setRetrySettings(retrySettings);
+        settings.setMetrics(new GoodDataMetrics() {
+            @Override
+            public void requestCompleted(final String method, final String uriTemplate, final int statusCode,
+                                         final long durationNanos) {
+                events.add("request " + method + " " + uriTemplate + " " + statusCode);
+            }
+
+            @Override
+            public void connectionLeased(final String route, final long waitNanos, final int leased,
+                                         final int pending, final int available, final int max) {
+                events.add("lease " + route + " " + leased + "/" + max);
+            }
+
+            @Override
+            public void requestRetried(final String method, final String uriTemplate, final int statusCode,
+                                       final int retryCount) {
+                events.add("retry " + method + " " + uriTemplate + " " + statusCode + " " + retryCount);
+            }
+
+            @Override
+            public void pollAttempted(final String pollingUri, final int statusCode, final int attempt) {
+                events.add("poll " + pollingUri + " " + statusCode + " " + attempt);
+            }
+
+            @Override
+            public void pollFinished(final String pollingUri, final int attempts, final long elapsed) {
+                events.add("polled " + pollingUri + " " + attempts);
+            }
+        });
+        return settings;
+    }
+
+    @Test
+    public void shouldReportRetriedRequestByTemplate() throws Exception {
+        onRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo(INTEGRATION_URI)
+                .respond()
+                .withStatus(500)
+                .thenRespond()
+                .withBody(readFromResource("/connector/integration.json"));
+
+        final Project project = readObjectFromResource("/project/project.json", Project.class);
+        final Integration integration = gd.getConnectorService().getIntegration(project, ConnectorType.ZENDESK4);
+
+        assertThat(integration, is(notNullValue()));
+        assertThat(events, contains(
+                startsWith("lease http://localhost:"),
+                is("request GET " + Integration.URL + " 500"),
+                is("retry GET " + Integration.URL + " 500 1"),
+                startsWith("lease http://localhost:"),
+                is("request GET " + Integration.URL + " 200")));
+    }
+
+    @Test
+    public void shouldReportPolling() throws Exception {
+        onRequest()
+                .havingMethodEqualTo("POST")
+                .havingPathEqualTo(Projects.URI)
+                .respond()
+                .withBody(OBJECT_MAPPER.writeValueAsString(new UriResponse(PROJECT_URI)))
+                .withStatus(202);
+        onRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo(PROJECT_URI)
+                .respond()
+                .withBody(readFromResource("/project/project-loading.json"))
+                .withStatus(202)
+                .thenRespond()
+                .withBody(readFromResource("/project/project.json"));
+
+        gd.getProjectService().createProject(new Project("TITLE", "AUTH_TOKEN")).get();
+
+        assertThat(events, hasItem("request POST " + Projects.URI + " 202"));
+        assertThat(events, hasItem("request GET " + PROJECT_URI + " 202"));
+        assertThat(events, hasItem("poll " + PROJECT_URI + " 202 1"));
+        assertThat(events, hasItem("poll " + PROJECT_URI + " 200 2"));
+        assertThat(events, hasItem("polled " + PROJECT_URI + " 2"));
+    }
+
+    @Test
+    public void shouldReportFailedPolling() throws Exception {
+        onRequest()
+                .havingMethodEqualTo("POST")
+                .havingPathEqualTo(Projects.URI)
+                .respond()
+                .withBody(OBJECT_MAPPER.writeValueAsString(new UriResponse(PROJECT_URI)))
+                .withStatus(202);
+        onRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo(PROJECT_URI)
+                .respond()
+                .withStatus(400);
+
+        try {
+            gd.getProjectService().createProject(new Project("TITLE", "AUTH_TOKEN")).get();
+        } catch (RuntimeException ignored) {
+            // expected
+        }
+
+        assertThat(events, hasItem("poll " + PROJECT_URI + " 400 1"));
+        assertThat(events, hasItem("polled " + PROJECT_URI + " 1"));
+    }
+}
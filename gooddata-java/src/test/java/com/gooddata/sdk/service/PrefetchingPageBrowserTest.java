@@ -0,0 +1,132 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service;
+
+import com.gooddata.sdk.common.GoodDataException;
+import com.gooddata.sdk.common.collections.CustomPageRequest;
+import com.gooddata.sdk.common.collections.Page;
+import com.gooddata.sdk.common.collections.PageBrowser;
+import com.gooddata.sdk.common.collections.PageRequest;
+import com.gooddata.sdk.common.collections.Paging;
+import com.gooddata.sdk.common.util.SpringMutableUri;
+import org.springframework.web.client.RestTemplate;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.testng.Assert.assertTrue;
+
+public class PrefetchingPageBrowserTest {
+
+    private static final int PAGE_SIZE = 2;
+    private static final int PAGES = 5;
+    private static final Pattern OFFSET = Pattern.compile("offset=(\\d+)");
+
+    private ExecutorService executor;
+    private AtomicInteger fetched;
+    private Semaphore fetches;
+
+    @BeforeMethod
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        fetched = new AtomicInteger();
+        fetches = new Semaphore(0);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldBrowseAllItemsInOrder() {
+        final PageBrowser<Integer> browser = new PrefetchingPageBrowser<>(new CustomPageRequest(0, PAGE_SIZE),
+                this::getPage, executor, 2);
+
+        assertThat(browser.allItemsStream().collect(Collectors.toList()),
+                is(IntStream.range(0, PAGES * PAGE_SIZE).boxed().collect(Collectors.toList())));
+        assertThat(fetched.get(), is(PAGES));
+    }
+
+    @Test
+    public void shouldPrefetchLimitedNumberOfPages() throws Exception {
+        final PageBrowser<Integer> browser = new PrefetchingPageBrowser<>(new CustomPageRequest(0, PAGE_SIZE),
+                this::getPage, executor, 2);
+        final Iterator<Integer> items = browser.allItemsIterator();
+
+        assertTrue(fetches.tryAcquire(3, 5, TimeUnit.SECONDS), "first page and two following pages fetched");
+        Thread.sleep(100);
+        assertThat(fetched.get(), is(3));
+
+        // pages 1 and 2 processed, page 3 is being processed
+        for (int i = 0; i < 2 * PAGE_SIZE + 1; i++) {
+            items.next();
+        }
+        assertTrue(fetches.tryAcquire(2, 5, TimeUnit.SECONDS), "window moved by two pages");
+        assertThat(fetched.get(), is(PAGES));
+    }
+
+    @Test(expectedExceptions = GoodDataException.class, expectedExceptionsMessageRegExp = "page 2 failed")
+    public void shouldPropagatePageFailure() {
+        final Function<PageRequest, Page<Integer>> provider = request -> {
+            if (offset(request) == 2 * PAGE_SIZE) {
+                throw new GoodDataException("page 2 failed");
+            }
+            return getPage(request);
+        };
+        new PrefetchingPageBrowser<>(new CustomPageRequest(0, PAGE_SIZE), provider, executor, 3)
+                .allItemsStream().collect(Collectors.toList());
+    }
+
+    @Test
+    public void serviceShouldCreatePrefetchingBrowserWhenConfigured() {
+        final GoodDataSettings settings = new GoodDataSettings();
+        final AbstractService plain = new AbstractService(new RestTemplate(), settings) {
+        };
+        assertThat(plain.createPageBrowser(this::getPage), not(instanceOf(PrefetchingPageBrowser.class)));
+
+        settings.getParallelismSettings().setPagePrefetch(2);
+        settings.setRequestExecutor(executor);
+        final AbstractService prefetching = new AbstractService(new RestTemplate(), settings) {
+        };
+        final PageBrowser<Integer> browser = prefetching.createPageBrowser(this::getPage);
+        assertThat(browser, instanceOf(PrefetchingPageBrowser.class));
+        assertThat(browser.allItemsStream().count(), is((long) PAGES * PAGE_SIZE));
+    }
+
+    private Page<Integer> getPage(final PageRequest request) {
+        final int offset = offset(request);
+        final List<Integer> items = IntStream.range(offset, offset + PAGE_SIZE).boxed().collect(Collectors.toList());
+        final String next = offset + PAGE_SIZE < PAGES * PAGE_SIZE
+                ? "/items?offset=" + (offset + PAGE_SIZE) + "&limit=" + PAGE_SIZE
+                : null;
+        fetched.incrementAndGet();
+        fetches.release();
+        return new Page<>(items, new Paging(next));
+    }
+
+    private static int offset(final PageRequest request) {
+        final Matcher matcher = OFFSET.matcher(request.getPageUri(new SpringMutableUri("/items")).toString());
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+    }
+}
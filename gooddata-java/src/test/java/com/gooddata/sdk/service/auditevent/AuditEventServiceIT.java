@@ -11,25 +11,47 @@ import com.gooddata.sdk.model.account.Account;
 import com.gooddata.sdk.model.auditevent.AuditEvent;
 import com.gooddata.sdk.service.AbstractGoodDataIT;
 import com.gooddata.sdk.service.account.AccountServiceIT;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
 import static com.gooddata.sdk.common.util.ResourceUtils.readFromResource;
 import static jakarta.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
 import static jakarta.servlet.http.HttpServletResponse.SC_UNAUTHORIZED;
 import static net.jadler.Jadler.onRequest;
+import static net.jadler.Jadler.verifyThatRequest;
+import static org.apache.commons.io.FileUtils.deleteQuietly;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.testng.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 public class AuditEventServiceIT extends AbstractGoodDataIT {
 
     private AuditEventService service;
+    private Path cursorDir;
 
     @BeforeMethod
     public void setUp() throws Exception {
         service = gd.getAuditEventService();
+        cursorDir = Files.createTempDirectory("auditevents");
+    }
+
+    @AfterMethod
+    public void cleanUp() {
+        deleteQuietly(cursorDir.toFile());
     }
 
     @Test(expectedExceptions = AuditEventsForbiddenException.class)
@@ -108,4 +130,107 @@ public class AuditEventServiceIT extends AbstractGoodDataIT {
         final Page<AuditEvent> events = service.listAuditEvents();
         assertThat(events.getPageItems(), hasSize(2));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldTailAuditEvents() throws Exception {
+        onRequest()
+                .havingPathEqualTo("/gdc/domains/DOMAIN/auditEvents")
+                .respond()
+                .withBody(readFromResource("/auditevents/auditEvents.json"))
+        ;
+        onRequest()
+                .havingPathEqualTo("/gdc/domains/DOMAIN/auditEvents")
+                .havingParameterEqualTo("offset", "456")
+                .respond()
+                .withBody(readFromResource("/auditevents/auditEventsPage2.json"))
+        ;
+        final AuditEventCursorStore store = new FileAuditEventCursorStore(cursorDir.resolve("cursor"));
+        final AuditEventTail tail = service.tailAuditEvents("DOMAIN", new AuditEventPageRequest(), store);
+        final List<String> consumed = new ArrayList<>();
+
+        assertThat(tail.poll(event -> consumed.add(event.getId())), is(2));
+        assertThat(consumed, contains("123", "456"));
+        assertThat(store.load().getEventId(), is("456"));
+
+        assertThat(tail.poll(event -> consumed.add(event.getId())), is(0));
+        assertThat(service.tailAuditEvents("DOMAIN", new AuditEventPageRequest(), store)
+                .poll(event -> consumed.add(event.getId())), is(0));
+        assertThat(consumed, hasSize(2));
+        verifyThatRequest()
+                .havingPathEqualTo("/gdc/domains/DOMAIN/auditEvents")
+                .havingParameterEqualTo("offset", "456")
+                .receivedTimes(3);
+    }
+
+    @Test
+    public void shouldKeepCursorOfLastConsumedEvent() throws Exception {
+        onRequest()
+                .havingPathEqualTo("/gdc/domains/DOMAIN/auditEvents")
+                .respond()
+                .withBody(readFromResource("/auditevents/auditEvents.json"))
+        ;
+        onRequest()
+                .havingPathEqualTo("/gdc/domains/DOMAIN/auditEvents")
+                .havingParameterEqualTo("offset", "123")
+                .respond()
+                .withBody(readFromResource("/auditevents/auditEventsPage2.json"))
+        ;
+        final AuditEventCursorStore store = new FileAuditEventCursorStore(cursorDir.resolve("cursor"));
+        final AuditEventTail tail = service.tailAuditEvents("DOMAIN", new AuditEventPageRequest(), store);
+
+        try {
+            tail.poll(event -> {
+                if ("456".equals(event.getId())) {
+                    throw new IllegalStateException("consumer failure");
+                }
+            });
+            fail("consumer failure expected");
+        } catch (IllegalStateException expected) {
+            // the failure is propagated
+        }
+        assertThat(store.load().getEventId(), is("123"));
+
+        final List<String> consumed = new ArrayList<>();
+        assertThat(tail.poll(event -> consumed.add(event.getId())), is(1));
+        assertThat(consumed, contains("456"));
+        assertThat(store.load().getEventId(), is("456"));
+    }
+
+    @Test
+    public void shouldPropagateConsumerFailureWhenCursorNotSaved() throws Exception {
+        onRequest()
+                .havingPathEqualTo("/gdc/domains/DOMAIN/auditEvents")
+                .respond()
+                .withBody(readFromResource("/auditevents/auditEvents.json"))
+        ;
+        final AuditEventCursorStore store = mock(AuditEventCursorStore.class);
+        final IllegalStateException saveFailure = new IllegalStateException("save failure");
+        doThrow(saveFailure).when(store).save(any());
+        final AuditEventTail tail = service.tailAuditEvents("DOMAIN", new AuditEventPageRequest(), store);
+
+        try {
+            tail.poll(event -> {
+                if ("456".equals(event.getId())) {
+                    throw new IllegalArgumentException("consumer failure");
+                }
+            });
+            fail("consumer failure expected");
+        } catch (IllegalArgumentException expected) {
+            assertThat(expected.getSuppressed(), is(arrayContaining(saveFailure)));
+        }
+    }
+
+    @Test
+    public void shouldNotStoreCursorWithoutEvents() throws Exception {
+        onRequest()
+                .havingPathEqualTo("/gdc/domains/DOMAIN/auditEvents")
+                .respond()
+                .withBody(readFromResource("/auditevents/emptyAuditEvents.json"))
+        ;
+        final AuditEventCursorStore store = new FileAuditEventCursorStore(cursorDir.resolve("cursor"));
+
+        assertThat(service.tailAuditEvents("DOMAIN", new AuditEventPageRequest(), store).poll(event -> {
+        }), is(0));
+        assertThat(store.load(), is(nullValue()));
+    }
+}
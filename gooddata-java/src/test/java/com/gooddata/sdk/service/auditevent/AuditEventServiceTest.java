@@ -61,4 +61,14 @@ public class AuditEventServiceTest {
     public void shouldFailOnNullPageButDomain() throws Exception {
         service.listAuditEvents("", null);
     }
-}
\ No newline at end of file
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = ".*domain.*")
+    public void shouldFailToTailNullDomain() throws Exception {
+        service.tailAuditEvents((String) null, new AuditEventPageRequest(), mock(AuditEventCursorStore.class));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = ".*store.*")
+    public void shouldFailToTailWithoutStore() throws Exception {
+        service.tailAuditEvents("DOMAIN", new AuditEventPageRequest(), null);
+    }
+}
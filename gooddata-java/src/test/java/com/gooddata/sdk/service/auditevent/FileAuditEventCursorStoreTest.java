@@ -0,0 +1,73 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.auditevent;
+
+import com.gooddata.sdk.common.GoodDataException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.io.FileUtils.deleteQuietly;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class FileAuditEventCursorStoreTest {
+
+    private static final ZonedDateTime OCCURRED = ZonedDateTime.of(1993, 3, 9, 10, 20, 30, 123_000_000, ZoneOffset.UTC);
+
+    private Path dir;
+    private FileAuditEventCursorStore store;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("cursor");
+        store = new FileAuditEventCursorStore(dir.resolve("cursor.properties"));
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        deleteQuietly(dir.toFile());
+    }
+
+    @Test
+    public void shouldLoadNothingWhenNotStored() {
+        assertThat(store.load(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldStoreCursor() {
+        final AuditEventCursor cursor = new AuditEventCursor("456", OCCURRED);
+        store.save(AuditEventCursor.startingAt(OCCURRED.minusDays(1)));
+        store.save(cursor);
+
+        assertThat(store.load(), is(cursor));
+        assertThat(new FileAuditEventCursorStore(store.getPath()).load(), is(cursor));
+        assertThat(Files.exists(dir.resolve("cursor.properties.tmp")), is(false));
+    }
+
+    @Test
+    public void shouldStoreTimeCursor() {
+        final AuditEventCursor cursor = AuditEventCursor.startingAt(OCCURRED);
+        store.save(cursor);
+
+        assertThat(store.load(), is(cursor));
+        assertThat(store.load().getEventId(), is(nullValue()));
+    }
+
+    @Test(expectedExceptions = GoodDataException.class)
+    public void shouldFailOnInvalidCursor() throws Exception {
+        Files.write(store.getPath(), "eventId=456\noccurred=yesterday\n".getBytes(UTF_8));
+
+        store.load();
+    }
+}
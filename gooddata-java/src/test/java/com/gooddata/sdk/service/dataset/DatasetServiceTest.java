@@ -9,7 +9,10 @@ import com.gooddata.sdk.common.GoodDataException;
 import com.gooddata.sdk.common.GoodDataRestException;
 import com.gooddata.sdk.model.dataset.DatasetLinks;
 import com.gooddata.sdk.model.dataset.DatasetManifest;
+import com.gooddata.sdk.model.dataset.DatasetManifests;
 import com.gooddata.sdk.model.dataset.DatasetNotFoundException;
+import com.gooddata.sdk.model.dataset.Pull;
+import com.gooddata.sdk.model.dataset.PullTask;
 import com.gooddata.sdk.model.dataset.Upload;
 import com.gooddata.sdk.model.dataset.UploadStatistics;
 import com.gooddata.sdk.model.dataset.Uploads;
@@ -19,7 +22,9 @@ import com.gooddata.sdk.model.project.Project;
 import com.gooddata.sdk.service.GoodDataSettings;
 import com.gooddata.sdk.service.gdc.DataStoreException;
 import com.gooddata.sdk.service.gdc.DataStoreService;
+import com.gooddata.sdk.service.gdc.UploadCompression;
 import org.hamcrest.Matchers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.web.client.RestClientException;
@@ -29,15 +34,29 @@ import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static com.gooddata.sdk.common.util.ResourceUtils.OBJECT_MAPPER;
 import static java.lang.String.format;
+import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.fail;
 
 public class DatasetServiceTest {
 
@@ -123,6 +142,69 @@ public class DatasetServiceTest {
         service.loadDatasets(project, manifest);
     }
 
+    @Test
+    public void testLoadDatasetsUploadsConcurrently() throws Exception {
+        final GoodDataSettings settings = new GoodDataSettings();
+        settings.getParallelismSettings().setUploadParallelism(3);
+        service = new DatasetService(restTemplate, dataStoreService, settings);
+        final CountDownLatch running = new CountDownLatch(3);
+        doAnswer(invocation -> {
+            running.countDown();
+            if (!running.await(5, TimeUnit.SECONDS)) {
+                throw new DataStoreException("uploads not concurrent", null);
+            }
+            return null;
+        }).when(dataStoreService).upload(endsWith(".csv"), any(InputStream.class));
+        final PullTask pullTask = mock(PullTask.class);
+        when(pullTask.getPollUri()).thenReturn("/gdc/md/17/tasks/task/1");
+        when(restTemplate.postForObject(eq(Pull.URI), any(Pull.class), eq(PullTask.class), eq(PROJECT_ID)))
+                .thenReturn(pullTask);
+
+        service.loadDatasets(project, manifest("first"), manifest("second"),
+                manifest("third"));
+
+        verify(dataStoreService, times(3)).upload(endsWith(".csv"), eq(stream));
+        verify(dataStoreService).upload(endsWith("/upload_info.json"), any(InputStream.class));
+        verify(dataStoreService, never()).delete(anyString());
+    }
+
+    @Test
+    public void testLoadDatasetsCompressed() throws Exception {
+        final PullTask pullTask = mock(PullTask.class);
+        when(pullTask.getPollUri()).thenReturn("/gdc/md/17/tasks/task/1");
+        when(restTemplate.postForObject(eq(Pull.URI), any(Pull.class), eq(PullTask.class), eq(PROJECT_ID)))
+                .thenReturn(pullTask);
+        final DatasetManifest first = manifest("first");
+
+        service.loadDatasets(project, singletonList(first), UploadCompression.GZIP);
+
+        verify(dataStoreService).upload(endsWith("/first.csv.gz"), eq(stream), eq(UploadCompression.GZIP));
+        final ArgumentCaptor<InputStream> manifestJson = ArgumentCaptor.forClass(InputStream.class);
+        verify(dataStoreService).upload(endsWith("/upload_info.json"), manifestJson.capture());
+        final DatasetManifests manifests = OBJECT_MAPPER.readValue(manifestJson.getValue(), DatasetManifests.class);
+        assertThat(manifests.getManifests().iterator().next().getFile(), is("first.csv.gz"));
+        assertThat(first.getFile(), is("first.csv"));
+    }
+
+    @Test
+    public void testLoadDatasetsCleansUpWhenUploadFails() throws Exception {
+        final GoodDataSettings settings = new GoodDataSettings();
+        settings.getParallelismSettings().setUploadParallelism(1);
+        service = new DatasetService(restTemplate, dataStoreService, settings);
+        doThrow(DataStoreException.class).when(dataStoreService).upload(anyString(), any(InputStream.class));
+
+        try {
+            service.loadDatasets(project, manifest("first"), manifest("second"));
+            fail("DatasetException expected");
+        } catch (DatasetException e) {
+            assertThat(e.getDatasets(), contains("first", "second"));
+        }
+
+        verify(dataStoreService, times(1)).upload(anyString(), any(InputStream.class));
+        verify(dataStoreService).delete(startsWith("/" + PROJECT_ID + "_"));
+        verify(restTemplate, never()).postForObject(eq(Pull.URI), any(), eq(PullTask.class), any(Object[].class));
+    }
+
     @Test(expectedExceptions = IllegalArgumentException.class)
     public void testLoadDatasetByIdWithNullProject() {
         service.loadDataset(null, DATASET_ID, stream);
@@ -251,4 +333,10 @@ public class DatasetServiceTest {
         when(restTemplate.getForObject(DatasetService.UPLOADS_INFO_TEMPLATE.expand(PROJECT_ID), UploadsInfo.class))
                 .thenReturn(uploadsInfo);
     }
-}
\ No newline at end of file
+
+    private DatasetManifest manifest(final String dataset) {
+        final DatasetManifest manifest = new DatasetManifest(dataset, stream);
+        manifest.setFile(dataset + ".csv");
+        return manifest;
+    }
+}
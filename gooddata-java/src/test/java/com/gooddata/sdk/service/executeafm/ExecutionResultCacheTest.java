@@ -0,0 +1,196 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.executeafm;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+public class ExecutionResultCacheTest {
+
+    private static final byte[] VALUE = new byte[]{1, 2, 3, 4};
+
+    private final AtomicLong time = new AtomicLong(1_600_000_000_000L);
+    private ExecutionResultCacheSettings settings;
+    private Path directory;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("execution-result-cache");
+        settings = new ExecutionResultCacheSettings();
+        settings.setTtl(1000);
+        settings.setMaxMemorySize(8);
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        try (Stream<Path> walk = Files.walk(directory)) {
+            walk.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void shouldCacheInMemory() throws Exception {
+        final ExecutionResultCache cache = new ExecutionResultCache(settings, time::get);
+        cache.put("PROJECT", "key", VALUE);
+
+        assertThat(cache.get("PROJECT", "key"), is(VALUE));
+        assertThat(cache.get("OTHER", "key"), is(nullValue()));
+        assertThat(cache.get("PROJECT", "other"), is(nullValue()));
+        assertThat(cache.memorySize(), is(4L));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedBySize() throws Exception {
+        final ExecutionResultCache cache = new ExecutionResultCache(settings, time::get);
+        cache.put("PROJECT", "first", VALUE);
+        cache.put("PROJECT", "second", VALUE);
+        cache.get("PROJECT", "first");
+        cache.put("PROJECT", "third", VALUE);
+
+        assertThat(cache.get("PROJECT", "first"), is(notNullValue()));
+        assertThat(cache.get("PROJECT", "second"), is(nullValue()));
+        assertThat(cache.get("PROJECT", "third"), is(notNullValue()));
+        assertThat(cache.memorySize(), is(8L));
+    }
+
+    @Test
+    public void shouldNotCacheTooLargeEntryInMemory() throws Exception {
+        final ExecutionResultCache cache = new ExecutionResultCache(settings, time::get);
+        cache.put("PROJECT", "key", new byte[9]);
+
+        assertThat(cache.get("PROJECT", "key"), is(nullValue()));
+        assertThat(cache.memorySize(), is(0L));
+    }
+
+    @Test
+    public void shouldExpire() throws Exception {
+        final ExecutionResultCache cache = new ExecutionResultCache(settings, time::get);
+        cache.put("PROJECT", "key", VALUE);
+
+        time.addAndGet(999);
+        assertThat(cache.get("PROJECT", "key"), is(notNullValue()));
+        time.addAndGet(1);
+        assertThat(cache.get("PROJECT", "key"), is(nullValue()));
+        assertThat(cache.memorySize(), is(0L));
+    }
+
+    @Test
+    public void shouldInvalidateProject() throws Exception {
+        settings.setDiskDirectory(directory);
+        final ExecutionResultCache cache = new ExecutionResultCache(settings, time::get);
+        cache.put("PROJECT", "key", VALUE);
+        cache.put("OTHER", "key", VALUE);
+
+        cache.invalidateProject("PROJECT");
+
+        assertThat(cache.get("PROJECT", "key"), is(nullValue()));
+        assertThat(cache.get("OTHER", "key"), is(VALUE));
+        assertThat(cache.diskSize(), is(4L));
+    }
+
+    @Test
+    public void shouldInvalidateAll() throws Exception {
+        settings.setDiskDirectory(directory);
+        final ExecutionResultCache cache = new ExecutionResultCache(settings, time::get);
+        cache.put("PROJECT", "key", VALUE);
+        cache.put("OTHER", "key", VALUE);
+
+        cache.invalidateAll();
+
+        assertThat(cache.get("PROJECT", "key"), is(nullValue()));
+        assertThat(cache.get("OTHER", "key"), is(nullValue()));
+        assertThat(cache.memorySize(), is(0L));
+        assertThat(cache.diskSize(), is(0L));
+        assertThat(fileCount(), is(0L));
+    }
+
+    @Test
+    public void shouldServeEvictedEntryFromDisk() throws Exception {
+        settings.setDiskDirectory(directory);
+        final ExecutionResultCache cache = new ExecutionResultCache(settings, time::get);
+        cache.put("PROJECT", "first", VALUE);
+        cache.put("PROJECT", "second", VALUE);
+        cache.put("PROJECT", "third", VALUE);
+
+        assertThat(cache.get("PROJECT", "first"), is(VALUE));
+        assertThat(cache.diskSize(), is(12L));
+    }
+
+    @Test
+    public void shouldServeDiskEntryAfterRestart() throws Exception {
+        settings.setDiskDirectory(directory);
+        new ExecutionResultCache(settings, time::get).put("PROJECT", "key", VALUE);
+
+        final ExecutionResultCache cache = new ExecutionResultCache(settings, time::get);
+        assertThat(cache.diskSize(), is(4L));
+        assertThat(cache.get("PROJECT", "key"), is(VALUE));
+
+        time.addAndGet(1000);
+        assertThat(new ExecutionResultCache(settings, time::get).get("PROJECT", "key"), is(nullValue()));
+    }
+
+    @Test
+    public void shouldForgetDeletedFile() throws Exception {
+        settings.setDiskDirectory(directory);
+        new ExecutionResultCache(settings, time::get).put("PROJECT", "key", VALUE);
+        final ExecutionResultCache cache = new ExecutionResultCache(settings, time::get);
+        try (Stream<Path> listing = Files.list(directory)) {
+            listing.forEach(path -> path.toFile().delete());
+        }
+
+        assertThat(cache.get("PROJECT", "key"), is(nullValue()));
+        assertThat(cache.diskSize(), is(0L));
+    }
+
+    @Test
+    public void shouldEvictFilesBySize() throws Exception {
+        settings.setDiskDirectory(directory);
+        settings.setMaxDiskSize(8);
+        final ExecutionResultCache cache = new ExecutionResultCache(settings, time::get);
+        cache.put("PROJECT", "first", VALUE);
+        cache.put("PROJECT", "second", VALUE);
+        cache.put("PROJECT", "third", VALUE);
+
+        assertThat(cache.diskSize(), is(8L));
+        assertThat(fileCount(), is(2L));
+    }
+
+    @Test
+    public void shouldDeleteLeftoverTemporaryFiles() throws Exception {
+        Files.write(directory.resolve("PROJECT_abc.tmp"), VALUE);
+        settings.setDiskDirectory(directory);
+
+        final ExecutionResultCache cache = new ExecutionResultCache(settings, time::get);
+
+        assertThat(cache.diskSize(), is(0L));
+        assertThat(fileCount(), is(0L));
+    }
+
+    @Test
+    public void shouldHashToHex() throws Exception {
+        assertThat(ExecutionResultCache.sha256(new byte[0]),
+                is("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855"));
+    }
+
+    private long fileCount() throws IOException {
+        try (Stream<Path> listing = Files.list(directory)) {
+            return listing.count();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.executeafm;
+
+import com.gooddata.sdk.common.GoodDataException;
+import com.gooddata.sdk.model.executeafm.ResultPage;
+import com.gooddata.sdk.model.executeafm.response.ExecutionResponse;
+import com.gooddata.sdk.model.executeafm.response.ResultDimension;
+import com.gooddata.sdk.model.executeafm.result.AttributeHeaderItem;
+import com.gooddata.sdk.model.executeafm.result.ExecutionResult;
+import com.gooddata.sdk.model.executeafm.result.Paging;
+import com.gooddata.sdk.model.executeafm.result.ResultHeaderItem;
+import com.gooddata.sdk.service.FutureResult;
+import org.mockito.ArgumentMatcher;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.expectThrows;
+
+public class ExecutionResultFetcherTest {
+
+    private static final String[][] DATA = {
+            {"1", "2", "3"},
+            {"4", "5", "6"},
+            {"7", "8", "9"}
+    };
+
+    private ExecuteAfmService service;
+    private ExecutionResponse response;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        service = mock(ExecuteAfmService.class);
+        response = new ExecutionResponse(asList(mock(ResultDimension.class), mock(ResultDimension.class)), "/result");
+        // 3x3 result paged by 2x2
+        for (int row = 0; row < 3; row += 2) {
+            for (int column = 0; column < 3; column += 2) {
+                mockPage(row, column);
+            }
+        }
+    }
+
+    @Test
+    public void shouldStreamPagesInOrder() throws Exception {
+        final List<ExecutionResult> pages = new ArrayList<>();
+
+        new ExecutionResultFetcher(service, response)
+                .pageLimits(2)
+                .maxInFlight(2)
+                .forEachPage(pages::add);
+
+        assertThat(pages, hasSize(4));
+        assertThat(pages.get(0).getPaging().getOffset(), contains(0, 0));
+        assertThat(pages.get(1).getPaging().getOffset(), contains(0, 2));
+        assertThat(pages.get(2).getPaging().getOffset(), contains(2, 0));
+        assertThat(pages.get(3).getPaging().getOffset(), contains(2, 2));
+    }
+
+    @Test
+    public void shouldAssembleFullResult() throws Exception {
+        final ExecutionResult result = new ExecutionResultFetcher(service, response).pageLimits(2, 2).fetchAll();
+
+        assertThat(result.getPaging().getTotal(), contains(3, 3));
+        assertThat(result.getData(), hasSize(3));
+        for (int row = 0; row < 3; row++) {
+            for (int column = 0; column < 3; column++) {
+                assertThat(result.getData().get(row).asList().get(column).textValue(), is(DATA[row][column]));
+            }
+        }
+        assertThat(names(result.getHeaderItems().get(0).get(0)), contains("r0", "r1", "r2"));
+        assertThat(names(result.getHeaderItems().get(1).get(0)), contains("c0", "c1", "c2"));
+        assertThat(result.getTotals().get(0).get(0), contains("t0", "t1", "t2"));
+    }
+
+    @Test
+    public void shouldFailWhenPageFails() throws Exception {
+        final GoodDataException cause = new GoodDataException("failed page");
+        final CompletableFuture<ExecutionResult> failed = new CompletableFuture<>();
+        failed.completeExceptionally(cause);
+        final FutureResult<ExecutionResult> future = mock(FutureResult.class);
+        when(future.toCompletableFuture()).thenReturn(failed);
+        when(service.getResult(eq(response), argThat(page(2, 2)))).thenReturn(future);
+
+        final ExecutionResultException e = expectThrows(ExecutionResultException.class,
+                () -> new ExecutionResultFetcher(service, response).pageLimits(2).fetchAll());
+        assertThat(e.getCause(), is(sameInstance(cause)));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldRejectLimitsOfWrongDimensions() throws Exception {
+        new ExecutionResultFetcher(service, response).pageLimits(1, 2, 3);
+    }
+
+    private void mockPage(final int rowOffset, final int columnOffset) {
+        final int rows = Math.min(2, 3 - rowOffset);
+        final int columns = Math.min(2, 3 - columnOffset);
+        final String[][] data = new String[rows][columns];
+        final List<ResultHeaderItem> rowHeaders = new ArrayList<>();
+        final List<ResultHeaderItem> columnHeaders = new ArrayList<>();
+        final List<String> totals = new ArrayList<>();
+        for (int row = 0; row < rows; row++) {
+            System.arraycopy(DATA[rowOffset + row], columnOffset, data[row], 0, columns);
+            rowHeaders.add(new AttributeHeaderItem("r" + (rowOffset + row), "/r"));
+        }
+        for (int column = 0; column < columns; column++) {
+            columnHeaders.add(new AttributeHeaderItem("c" + (columnOffset + column), "/c"));
+            totals.add("t" + (columnOffset + column));
+        }
+        final ExecutionResult page = new ExecutionResult(data,
+                new Paging(asList(rows, columns), asList(rowOffset, columnOffset), asList(3, 3)));
+        page.addHeaderItems(singletonList(rowHeaders));
+        page.addHeaderItems(singletonList(columnHeaders));
+        page.setTotals(asList(singletonList(totals), new ArrayList<>()));
+
+        final FutureResult<ExecutionResult> future = mock(FutureResult.class);
+        when(future.get()).thenReturn(page);
+        when(future.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(page));
+        when(service.getResult(eq(response), argThat(page(rowOffset, columnOffset)))).thenReturn(future);
+    }
+
+    private static ArgumentMatcher<ResultPage> page(final int rowOffset, final int columnOffset) {
+        final String offsets = rowOffset + "%2C" + columnOffset;
+        return page -> page != null && offsets.equals(page.getOffsetsQueryParam());
+    }
+
+    private static List<String> names(final List<ResultHeaderItem> items) {
+        final List<String> names = new ArrayList<>();
+        items.forEach(item -> names.add(item.getName()));
+        return names;
+    }
+}
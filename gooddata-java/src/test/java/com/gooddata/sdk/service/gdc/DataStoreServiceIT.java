@@ -6,21 +6,53 @@
 package com.gooddata.sdk.service.gdc;
 
 import com.gooddata.sdk.service.AbstractGoodDataIT;
+import com.gooddata.sdk.service.GoodDataSettings;
+import net.jadler.stubbing.StubResponse;
 import org.apache.commons.io.IOUtils;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.InputStream;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipInputStream;
 
 import static com.gooddata.sdk.common.util.ResourceUtils.readFromResource;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static net.jadler.Jadler.closeJadler;
 import static net.jadler.Jadler.onRequest;
 import static net.jadler.Jadler.port;
+import static net.jadler.Jadler.verifyThatRequest;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.testng.Assert.fail;
 
 public class DataStoreServiceIT extends AbstractGoodDataIT {
 
+    private static final String DOWNLOAD_PATH = "/uploads/download.csv";
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d+)");
+    private static final int SEGMENT_SIZE = 10;
+
     private InputStream content;
+    private File target;
 
     @BeforeMethod
     public void setUp() throws Exception {
@@ -36,6 +68,22 @@ public class DataStoreServiceIT extends AbstractGoodDataIT {
                 .withBody(readFromResource("/gdc/gdc.json"))
                 .withStatus(200);
         content = new ByteArrayInputStream("test".getBytes());
+        target = File.createTempFile("download", ".csv");
+    }
+
+    @AfterMethod
+    public void deleteTarget() throws Exception {
+        Files.deleteIfExists(target.toPath());
+        Files.deleteIfExists(SegmentedDownload.progressPath(target));
+    }
+
+    @Override
+    protected GoodDataSettings createGoodDataSettings() {
+        final GoodDataSettings settings = super.createGoodDataSettings();
+        settings.getParallelismSettings().setDownloadSegmentSize(SEGMENT_SIZE);
+        settings.getParallelismSettings().setDownloadParallelism(3);
+        settings.getParallelismSettings().setDownloadSegmentRetries(1);
+        return settings;
     }
 
     @Test
@@ -62,4 +110,218 @@ public class DataStoreServiceIT extends AbstractGoodDataIT {
         gd.getDataStoreService().upload("/test", content);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldUploadGzipCompressed() throws Exception {
+        final AtomicReference<byte[]> body = captureUpload("/uploads/test.csv.gz");
+
+        gd.getDataStoreService().upload("/test.csv.gz", content, UploadCompression.GZIP);
+
+        try (InputStream uploaded = new GZIPInputStream(new ByteArrayInputStream(body.get()))) {
+            assertThat(IOUtils.toString(uploaded, UTF_8), is("test"));
+        }
+    }
+
+    @Test
+    public void shouldUploadZipCompressed() throws Exception {
+        final AtomicReference<byte[]> body = captureUpload("/uploads/test.csv.zip");
+
+        gd.getDataStoreService().upload("/test.csv.zip", content, UploadCompression.ZIP);
+
+        try (ZipInputStream uploaded = new ZipInputStream(new ByteArrayInputStream(body.get()))) {
+            assertThat(uploaded.getNextEntry().getName(), is("test.csv"));
+            assertThat(IOUtils.toString(uploaded, UTF_8), is("test"));
+            assertThat(uploaded.getNextEntry(), is(nullValue()));
+        }
+    }
+
+    private static AtomicReference<byte[]> captureUpload(final String path) {
+        final AtomicReference<byte[]> body = new AtomicReference<>();
+        onRequest()
+                .havingMethodEqualTo("PUT")
+                .havingPathEqualTo(path)
+                .respondUsing(request -> {
+                    body.set(request.getBodyAsBytes());
+                    return StubResponse.builder().status(201).build();
+                });
+        return body;
+    }
+
+    @Test
+    public void shouldDownloadStream() throws Exception {
+        final byte[] data = data(95);
+        stubDownload(data, true, range -> false);
+
+        try (InputStream stream = gd.getDataStoreService().download("/download.csv")) {
+            assertThat(IOUtils.toByteArray(stream), is(data));
+        }
+    }
+
+    @Test
+    public void shouldDownloadBySegments() throws Exception {
+        final byte[] data = data(95);
+        stubDownload(data, true, range -> false);
+
+        gd.getDataStoreService().download("/download.csv", target);
+
+        assertThat(Files.readAllBytes(target.toPath()), is(data));
+        assertThat(Files.exists(SegmentedDownload.progressPath(target)), is(false));
+        verifyThatRequest().havingMethodEqualTo("GET").havingPathEqualTo(DOWNLOAD_PATH)
+                .havingHeader("Range").receivedTimes(10);
+    }
+
+    @Test
+    public void shouldRetryFailedSegment() throws Exception {
+        final byte[] data = data(95);
+        final AtomicInteger failures = new AtomicInteger();
+        stubDownload(data, true, range -> range.startsWith("bytes=40-") && failures.getAndIncrement() == 0);
+
+        gd.getDataStoreService().download("/download.csv", target);
+
+        assertThat(Files.readAllBytes(target.toPath()), is(data));
+        verifyThatRequest().havingMethodEqualTo("GET").havingPathEqualTo(DOWNLOAD_PATH)
+                .havingHeaderEqualTo("Range", "bytes=40-49").receivedTimes(2);
+    }
+
+    @Test
+    public void shouldResumeFailedDownload() throws Exception {
+        final byte[] data = data(95);
+        final List<String> progress = failDownload(data);
+        final long completed = progress.stream().filter(line -> line.matches("\\d+")).count();
+        assertThat(progress, not(hasItem("5")));
+        assertThat(completed, is(greaterThan(0L)));
+
+        restartServer(data);
+        gd.getDataStoreService().download("/download.csv", target);
+
+        assertThat(Files.readAllBytes(target.toPath()), is(data));
+        assertThat(Files.exists(SegmentedDownload.progressPath(target)), is(false));
+        verifyThatRequest().havingMethodEqualTo("GET").havingPathEqualTo(DOWNLOAD_PATH)
+                .havingHeader("Range").receivedTimes((int) (10 - completed));
+    }
+
+    @Test
+    public void shouldRestartFailedDownloadWhenTargetIsMissing() throws Exception {
+        final byte[] data = data(95);
+        failDownload(data);
+        Files.delete(target.toPath());
+
+        restartServer(data);
+        gd.getDataStoreService().download("/download.csv", target);
+
+        assertThat(Files.readAllBytes(target.toPath()), is(data));
+        verifyThatRequest().havingMethodEqualTo("GET").havingPathEqualTo(DOWNLOAD_PATH)
+                .havingHeader("Range").receivedTimes(10);
+    }
+
+    @Test
+    public void shouldRestartFailedDownloadWhenTargetIsReplaced() throws Exception {
+        final byte[] data = data(95);
+        failDownload(data);
+        final FileTime modified = Files.getLastModifiedTime(target.toPath());
+        Files.write(target.toPath(), new byte[95]);
+        Files.setLastModifiedTime(target.toPath(), FileTime.fromMillis(modified.toMillis() - 60_000));
+
+        restartServer(data);
+        gd.getDataStoreService().download("/download.csv", target);
+
+        assertThat(Files.readAllBytes(target.toPath()), is(data));
+        verifyThatRequest().havingMethodEqualTo("GET").havingPathEqualTo(DOWNLOAD_PATH)
+                .havingHeader("Range").receivedTimes(10);
+    }
+
+    @Test
+    public void shouldRestartInterruptedDownloadWhenTargetIsTooSmall() throws Exception {
+        final byte[] data = data(95);
+        // progress of a download interrupted before the target state was recorded
+        Files.write(SegmentedDownload.progressPath(target), asList("95 10 \"v1\"", "0", "1", "7"));
+        Files.write(target.toPath(), Arrays.copyOf(data, 20));
+        stubDownload(data, true, range -> false);
+
+        gd.getDataStoreService().download("/download.csv", target);
+
+        assertThat(Files.readAllBytes(target.toPath()), is(data));
+        verifyThatRequest().havingMethodEqualTo("GET").havingPathEqualTo(DOWNLOAD_PATH)
+                .havingHeader("Range").receivedTimes(10);
+    }
+
+    @Test
+    public void shouldDownloadWholeFileWithoutRangeSupport() throws Exception {
+        final byte[] data = data(95);
+        stubDownload(data, false, range -> false);
+
+        gd.getDataStoreService().download("/download.csv", target);
+
+        assertThat(Files.readAllBytes(target.toPath()), is(data));
+        verifyThatRequest().havingMethodEqualTo("GET").havingPathEqualTo(DOWNLOAD_PATH).receivedOnce();
+        verifyThatRequest().havingMethodEqualTo("GET").havingPathEqualTo(DOWNLOAD_PATH)
+                .havingHeader("Range").receivedNever();
+    }
+
+    /**
+     * Downloads given data failing at segment 5, returns the kept progress.
+     */
+    private List<String> failDownload(final byte[] data) throws Exception {
+        stubDownload(data, true, range -> range.startsWith("bytes=50-"));
+        try {
+            gd.getDataStoreService().download("/download.csv", target);
+            fail("download should fail");
+        } catch (DataStoreException e) {
+            assertThat(e.getMessage(), startsWith("Unable to download from"));
+        }
+        return Files.readAllLines(SegmentedDownload.progressPath(target));
+    }
+
+    /**
+     * Starts fresh server serving given data, to count the requests of the resumed download only.
+     */
+    private void restartServer(final byte[] data) {
+        closeJadler();
+        commonSetUp();
+        onRequest().havingMethodEqualTo("GET").havingPathEqualTo("/gdc").respond()
+                .withBody(readFromResource("/gdc/gdc.json")).withStatus(200);
+        stubDownload(data, true, range -> false);
+    }
+
+    private static byte[] data(final int length) {
+        final byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) ('a' + i % 26);
+        }
+        return data;
+    }
+
+    /**
+     * Stubs download of given data, responding by 500 to the range requests matching given predicate.
+     */
+    private static void stubDownload(final byte[] data, final boolean acceptRanges, final Predicate<String> failing) {
+        onRequest()
+                .havingMethodEqualTo("HEAD")
+                .havingPathEqualTo(DOWNLOAD_PATH)
+                .respond()
+                .withHeader("Content-Length", String.valueOf(data.length))
+                .withHeader("Accept-Ranges", acceptRanges ? "bytes" : "none")
+                .withHeader("ETag", "\"v1\"")
+                .withStatus(200);
+        onRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo(DOWNLOAD_PATH)
+                .respondUsing(request -> {
+                    final String range = request.getHeaders().getValue("Range");
+                    if (range == null) {
+                        return StubResponse.builder().status(200).body(data).build();
+                    }
+                    if (failing.test(range)) {
+                        return StubResponse.builder().status(500).build();
+                    }
+                    final Matcher matcher = RANGE.matcher(range);
+                    assertThat(matcher.matches(), is(true));
+                    final int start = Integer.parseInt(matcher.group(1));
+                    final int end = Integer.parseInt(matcher.group(2));
+                    return StubResponse.builder()
+                            .status(206)
+                            .header("Content-Range", "bytes " + start + "-" + end + "/" + data.length)
+                            .body(Arrays.copyOfRange(data, start, end + 1))
+                            .build();
+                });
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.httpcomponents;
+
+import com.gooddata.sdk.model.executeafm.Execution;
+import com.gooddata.sdk.model.executeafm.afm.Afm;
+import com.gooddata.sdk.model.executeafm.response.ExecutionResponse;
+import com.gooddata.sdk.model.executeafm.result.ExecutionResult;
+import com.gooddata.sdk.model.md.Metric;
+import com.gooddata.sdk.model.md.Obj;
+import com.gooddata.sdk.model.project.Project;
+import com.gooddata.sdk.service.GoodDataEndpoint;
+import com.gooddata.sdk.service.GoodDataMetrics;
+import com.gooddata.sdk.service.GoodDataSettings;
+import com.gooddata.sdk.service.executeafm.ExecuteAfmService;
+import com.gooddata.sdk.service.md.MetadataService;
+import com.gooddata.sdk.service.md.ObjNotFoundException;
+import net.jadler.stubbing.RequestStubbing;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.gooddata.sdk.common.util.ResourceUtils.readFromResource;
+import static com.gooddata.sdk.common.util.ResourceUtils.readObjectFromResource;
+import static com.gooddata.sdk.service.httpcomponents.AsyncTokenAuthenticator.SST_HEADER;
+import static com.gooddata.sdk.service.httpcomponents.AsyncTokenAuthenticator.TOKEN_URI;
+import static com.gooddata.sdk.service.httpcomponents.AsyncTokenAuthenticator.TT_HEADER;
+import static net.jadler.Jadler.closeJadler;
+import static net.jadler.Jadler.initJadler;
+import static net.jadler.Jadler.onRequest;
+import static net.jadler.Jadler.port;
+import static net.jadler.Jadler.verifyThatRequest;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.testng.Assert.fail;
+
+public class AsyncGoodDataRestProviderIT {
+
+    private static final String SST = "SST";
+    private static final String OBJ_URI = "/gdc/md/PROJECT_ID/obj/1";
+    private static final String RESULT_URI = "/gdc/app/projects/PROJECT_ID/executionResults/1?q=1";
+
+    private AsyncGoodDataRestProvider provider;
+    private GoodDataSettings settings;
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+
+    @BeforeMethod
+    public void setUp() {
+        initJadler().withDefaultResponseContentType("application/json");
+        requests.clear();
+        settings = new GoodDataSettings();
+        settings.setPollSleep(0);
+        settings.setMetrics(new GoodDataMetrics() {
+            @Override
+            public void requestCompleted(final String method, final String uriTemplate, final int statusCode,
+                                         final long durationNanos) {
+                requests.add(method + " " + uriTemplate + " " + statusCode);
+            }
+        });
+        provider = new AsyncGoodDataRestProvider(new GoodDataEndpoint("localhost", port(), "http"), settings,
+                (client, host) -> SST);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        provider.close();
+        closeJadler();
+    }
+
+    @Test
+    public void shouldGetObjAsync() throws Exception {
+        onTokenRequest().respond().withBody(token("TT"));
+        onRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo(OBJ_URI)
+                .havingHeaderEqualTo(TT_HEADER, "TT")
+                .respond()
+                .withBody(readFromResource("/md/metric.json"));
+
+        final MetadataService service = new MetadataService(provider.getRestTemplate(), settings);
+        final Metric metric = service.getObjByUriAsync(OBJ_URI, Metric.class).get(10, TimeUnit.SECONDS);
+        final Metric again = service.getObjByUriAsync(OBJ_URI, Metric.class).get(10, TimeUnit.SECONDS);
+
+        assertThat(metric, is(notNullValue()));
+        assertThat(again.getUri(), is(metric.getUri()));
+        verifyThatRequest().havingPathEqualTo(TOKEN_URI).receivedOnce();
+    }
+
+    @Test
+    public void shouldMapNotFoundAsync() throws Exception {
+        onTokenRequest().respond().withBody(token("TT"));
+        onRequest()
+                .havingPathEqualTo(OBJ_URI)
+                .respond()
+                .withStatus(404);
+
+        final MetadataService service = new MetadataService(provider.getRestTemplate(), settings);
+        try {
+            service.getObjByUriAsync(OBJ_URI, Metric.class).get(10, TimeUnit.SECONDS);
+            fail("ExecutionException expected");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), is(instanceOf(ObjNotFoundException.class)));
+        }
+    }
+
+    @Test
+    public void shouldRefreshRejectedToken() throws Exception {
+        onTokenRequest()
+                .respond().withBody(token("EXPIRED"))
+                .thenRespond().withBody(token("TT"));
+        onRequest()
+                .havingPathEqualTo(OBJ_URI)
+                .havingHeaderEqualTo(TT_HEADER, "EXPIRED")
+                .respond()
+                .withStatus(401);
+        onRequest()
+                .havingPathEqualTo(OBJ_URI)
+                .havingHeaderEqualTo(TT_HEADER, "TT")
+                .respond()
+                .withBody(readFromResource("/md/metric.json"));
+
+        final MetadataService service = new MetadataService(provider.getRestTemplate(), settings);
+        assertThat(service.getObjByUriAsync(OBJ_URI, Metric.class).get(10, TimeUnit.SECONDS), is(notNullValue()));
+        verifyThatRequest().havingPathEqualTo(TOKEN_URI).receivedTimes(2);
+        assertThat(requests, contains("GET " + Obj.OBJ_URI + " 401", "GET " + Obj.OBJ_URI + " 200"));
+    }
+
+    @Test
+    public void shouldExecuteAfmAndPollResultAsync() throws Exception {
+        onTokenRequest().respond().withBody(token("TT"));
+        onRequest()
+                .havingMethodEqualTo("POST")
+                .havingPathEqualTo("/gdc/app/projects/PROJECT_ID/executeAfm")
+                .havingHeaderEqualTo(TT_HEADER, "TT")
+                .respond()
+                .withBody("{\"executionResponse\":{\"dimensions\":[],\"links\":{\"executionResult\":\""
+                        + RESULT_URI + "\"}}}");
+        onRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo("/gdc/app/projects/PROJECT_ID/executionResults/1")
+                .respond()
+                .withStatus(202)
+                .thenRespond()
+                .withBody(readFromResource("/executeafm/result/executionResult.json"));
+
+        final ExecuteAfmService service = new ExecuteAfmService(provider.getRestTemplate(), settings);
+        final Project project = readObjectFromResource("/project/project.json", Project.class);
+        final ExecutionResponse response = service.executeAfmAsync(project, new Execution(new Afm()))
+                .get(10, TimeUnit.SECONDS);
+        final ExecutionResult result = service.getResult(response).toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+        assertThat(result, is(notNullValue()));
+    }
+
+    private static RequestStubbing onTokenRequest() {
+        return onRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo(TOKEN_URI)
+                .havingHeaderEqualTo(SST_HEADER, SST);
+    }
+
+    private static String token(final String token) {
+        return "{\"userToken\":{\"token\":\"" + token + "\"}}";
+    }
+}
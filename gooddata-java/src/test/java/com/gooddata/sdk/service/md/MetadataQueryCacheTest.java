@@ -0,0 +1,97 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.md;
+
+import com.gooddata.sdk.model.md.Entry;
+import com.gooddata.sdk.model.md.Restriction;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MetadataQueryCacheTest {
+
+    private final AtomicLong time = new AtomicLong();
+    private MetadataQueryCache cache;
+    private Entry first;
+    private Entry second;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        final MetadataCacheSettings settings = new MetadataCacheSettings();
+        settings.setTtl(1000);
+        settings.setMaxQueries(2);
+        cache = new MetadataQueryCache(settings, time::get);
+        first = entry("/gdc/md/PROJECT/obj/1", "attr.first", "Title");
+        second = entry("/gdc/md/PROJECT/obj/2", "attr.second", "Title");
+    }
+
+    @Test
+    public void shouldFindByIndexes() throws Exception {
+        final MetadataQueryCache.CachedQuery query = cache.put("PROJECT", "attributes", asList(first, second));
+
+        assertThat(query.find(Restriction.identifier("attr.second")), contains(second));
+        assertThat(query.find(Restriction.title("Title")), contains(first, second));
+        assertThat(query.find(Restriction.identifier("unknown")), is(empty()));
+        assertThat(query.find(), contains(first, second));
+        assertThat(query.find(Restriction.identifier("attr.second"), Restriction.identifier("attr.first")),
+                contains(first, second));
+    }
+
+    @Test
+    public void shouldExpire() throws Exception {
+        cache.put("PROJECT", "attributes", asList(first, second));
+
+        time.set(999);
+        assertThat(cache.get("PROJECT", "attributes"), is(notNullValue()));
+        time.set(1000);
+        assertThat(cache.get("PROJECT", "attributes"), is(nullValue()));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed() throws Exception {
+        cache.put("PROJECT", "attributes", asList(first, second));
+        cache.put("PROJECT", "metrics", asList(first, second));
+        cache.get("PROJECT", "attributes");
+        cache.put("OTHER", "metrics", asList(first, second));
+
+        assertThat(cache.get("PROJECT", "attributes"), is(notNullValue()));
+        assertThat(cache.get("PROJECT", "metrics"), is(nullValue()));
+        assertThat(cache.get("OTHER", "metrics"), is(notNullValue()));
+    }
+
+    @Test
+    public void shouldInvalidate() throws Exception {
+        cache.put("PROJECT", "attributes", asList(first, second));
+        cache.put("OTHER", "attributes", asList(second));
+
+        cache.invalidateUri("/gdc/md/PROJECT/obj/1");
+        assertThat(cache.get("PROJECT", "attributes"), is(nullValue()));
+        assertThat(cache.get("OTHER", "attributes"), is(notNullValue()));
+
+        cache.invalidateProject("OTHER");
+        assertThat(cache.size(), is(0));
+    }
+
+    private static Entry entry(final String uri, final String identifier, final String title) {
+        final Entry entry = mock(Entry.class);
+        when(entry.getUri()).thenReturn(uri);
+        when(entry.getIdentifier()).thenReturn(identifier);
+        when(entry.getTitle()).thenReturn(title);
+        return entry;
+    }
+}
@@ -23,6 +23,7 @@ import com.gooddata.sdk.model.md.Restriction;
 import com.gooddata.sdk.model.md.Service;
 import com.gooddata.sdk.model.md.Updatable;
 import com.gooddata.sdk.model.md.report.ReportDefinition;
+import com.gooddata.sdk.model.md.visualization.CachingVisualizationConverter;
 import com.gooddata.sdk.model.md.visualization.VisualizationClass;
 import com.gooddata.sdk.model.project.Project;
 import com.gooddata.sdk.service.GoodDataSettings;
@@ -37,13 +38,17 @@ import org.testng.annotations.Test;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
 
 import static com.gooddata.sdk.common.util.ResourceUtils.readObjectFromResource;
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -53,8 +58,11 @@ import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.fail;
 
 public class MetadataServiceTest {
 
@@ -232,6 +240,48 @@ public class MetadataServiceTest {
         service.getObjByUri(URI, Obj.class);
     }
 
+    @Test
+    public void testGetObjByUriAsync() throws Exception {
+        final Obj resultObj = mock(Obj.class);
+        when(restTemplate.getForObject(URI, Obj.class)).thenReturn(resultObj);
+
+        final Obj result = service.getObjByUriAsync(URI, Obj.class).get();
+        assertThat(result, is(resultObj));
+    }
+
+    @Test
+    public void testGetObjByUriAsyncUsesTemplate() throws Exception {
+        final Obj resultObj = mock(Obj.class);
+        when(restTemplate.getForObject(Obj.OBJ_URI, Obj.class, PROJECT_ID, ID)).thenReturn(resultObj);
+
+        final Obj result = service.getObjByUriAsync(format("/gdc/md/%s/obj/%s", PROJECT_ID, ID), Obj.class).get();
+        assertThat(result, is(resultObj));
+    }
+
+    @Test
+    public void testGetObjByUriAsyncNotFound() throws Exception {
+        final GoodDataRestException restException = mock(GoodDataRestException.class);
+        when(restException.getStatusCode()).thenReturn(HttpStatus.NOT_FOUND.value());
+        when(restTemplate.getForObject(URI, Obj.class)).thenThrow(restException);
+
+        try {
+            service.getObjByUriAsync(URI, Obj.class).get();
+            fail("ExecutionException expected");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), is(instanceOf(ObjNotFoundException.class)));
+        }
+    }
+
+    @Test
+    public void testGetObjByUriAsyncWithNoResponseFromAPI() throws Exception {
+        try {
+            service.getObjByUriAsync(URI, Obj.class).get();
+            fail("ExecutionException expected");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), is(instanceOf(GoodDataException.class)));
+        }
+    }
+
     @Test(expectedExceptions = IllegalArgumentException.class)
     public void testGetObjByIdNullProject() {
         service.getObjById(null, ID, Obj.class);
@@ -475,4 +525,110 @@ public class MetadataServiceTest {
         service.setTimezone(project, "");
     }
 
+    @Test
+    public void testFindCached() {
+        final MetadataService cachedService = cachedService();
+        final Entry entry = mock(Entry.class);
+        when(entry.getIdentifier()).thenReturn(ID);
+        when(entry.getUri()).thenReturn(URI);
+        final Query queryResult = mock(Query.class);
+        when(queryResult.getEntries()).thenReturn(singletonList(entry));
+        when(restTemplate.getForObject(Query.URI, Query.class, PROJECT_ID, "queryables")).thenReturn(queryResult);
+
+        assertThat(cachedService.getObjUri(project, Queryable.class, Restriction.identifier(ID)), is(URI));
+        assertThat(cachedService.getObjUri(project, Queryable.class, Restriction.identifier(ID)), is(URI));
+        assertThat(cachedService.find(project, Queryable.class), hasSize(1));
+
+        verify(restTemplate, times(1)).getForObject(Query.URI, Query.class, PROJECT_ID, "queryables");
+    }
+
+    @Test
+    public void testFindCacheInvalidatedByRemove() {
+        final MetadataService cachedService = cachedService();
+        final Query queryResult = mock(Query.class);
+        when(queryResult.getEntries()).thenReturn(Collections.emptyList());
+        when(restTemplate.getForObject(Query.URI, Query.class, PROJECT_ID, "queryables")).thenReturn(queryResult);
+
+        cachedService.find(project, Queryable.class);
+        cachedService.removeObjByUri("/gdc/md/" + PROJECT_ID + "/obj/1");
+        cachedService.find(project, Queryable.class);
+        cachedService.clearQueryCache(project);
+        cachedService.find(project, Queryable.class);
+
+        verify(restTemplate, times(3)).getForObject(Query.URI, Query.class, PROJECT_ID, "queryables");
+    }
+
+    @Test
+    public void testGetObjsByUrisChunked() {
+        final MetadataService chunkedService = chunkedService();
+        final List<String> uris = asList("/1", "/2", "/3", "/4", "/5");
+        final Obj[] objs = new Obj[uris.size()];
+        for (int i = 0; i < objs.length; i++) {
+            objs[i] = mock(Obj.class);
+        }
+        mockBulkGet(uris.subList(0, 2), objs[0], objs[1]);
+        mockBulkGet(uris.subList(2, 4), objs[2], objs[3]);
+        mockBulkGet(uris.subList(4, 5), objs[4]);
+
+        final Collection<Obj> result = chunkedService.getObjsByUris(project, uris);
+
+        assertThat(result, contains(objs));
+        verify(restTemplate, times(3)).postForObject(eq(BulkGet.URI), any(BulkGetUris.class), eq(BulkGet.class), eq(PROJECT_ID));
+    }
+
+    @Test
+    public void testStreamObjsByUrisStopsEarly() {
+        final MetadataService chunkedService = chunkedService();
+        final Obj obj = mock(Obj.class);
+        mockBulkGet(asList("/1", "/2"), obj, obj);
+        mockBulkGet(asList("/3", "/4"), obj, obj);
+        mockBulkGet(asList("/5", "/6"), obj, obj);
+
+        try (Stream<Obj> objs = chunkedService.streamObjsByUris(project, asList("/1", "/2", "/3", "/4", "/5", "/6"))) {
+            assertThat(objs.limit(1).count(), is(1L));
+        }
+
+        verify(restTemplate, never()).postForObject(BulkGet.URI, new BulkGetUris(asList("/5", "/6")), BulkGet.class, PROJECT_ID);
+    }
+
+    @Test(expectedExceptions = GoodDataException.class, expectedExceptionsMessageRegExp = "Unable to get objects.*")
+    public void testGetObjsByUrisChunkFails() {
+        final MetadataService chunkedService = chunkedService();
+        mockBulkGet(asList("/1", "/2"), mock(Obj.class), mock(Obj.class));
+        when(restTemplate.postForObject(BulkGet.URI, new BulkGetUris(asList("/3")), BulkGet.class, PROJECT_ID))
+                .thenThrow(new RestClientException(""));
+
+        chunkedService.getObjsByUris(project, asList("/1", "/2", "/3"), obj -> { });
+    }
+
+    @Test
+    public void testCreateVisualizationConverterFetchesClassOnce() {
+        final VisualizationClass visualizationClass = mock(VisualizationClass.class);
+        when(restTemplate.getForObject(URI, VisualizationClass.class)).thenReturn(visualizationClass);
+
+        final CachingVisualizationConverter converter = service.createVisualizationConverter();
+
+        assertThat(converter.getVisualizationClass(URI), is(visualizationClass));
+        assertThat(converter.getVisualizationClass(URI), is(visualizationClass));
+        verify(restTemplate, times(1)).getForObject(URI, VisualizationClass.class);
+    }
+
+    private MetadataService chunkedService() {
+        final GoodDataSettings settings = new GoodDataSettings();
+        settings.getParallelismSettings().setBulkGetChunkSize(2);
+        settings.getParallelismSettings().setBulkGetParallelism(2);
+        return new MetadataService(restTemplate, settings);
+    }
+
+    private void mockBulkGet(final List<String> uris, final Obj... objs) {
+        final BulkGet response = mock(BulkGet.class);
+        when(response.getItems()).thenReturn(asList(objs));
+        when(restTemplate.postForObject(BulkGet.URI, new BulkGetUris(uris), BulkGet.class, PROJECT_ID)).thenReturn(response);
+    }
+
+    private MetadataService cachedService() {
+        final GoodDataSettings settings = new GoodDataSettings();
+        settings.setMetadataCacheSettings(new MetadataCacheSettings());
+        return new MetadataService(restTemplate, settings);
+    }
 }
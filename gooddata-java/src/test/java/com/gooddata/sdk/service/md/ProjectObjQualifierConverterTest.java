@@ -0,0 +1,156 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.md;
+
+import com.gooddata.sdk.model.executeafm.Execution;
+import com.gooddata.sdk.model.executeafm.IdentifierObjQualifier;
+import com.gooddata.sdk.model.executeafm.UriObjQualifier;
+import com.gooddata.sdk.model.executeafm.afm.Afm;
+import com.gooddata.sdk.model.executeafm.afm.AttributeItem;
+import com.gooddata.sdk.model.executeafm.afm.MeasureItem;
+import com.gooddata.sdk.model.executeafm.afm.PopMeasureDefinition;
+import com.gooddata.sdk.model.executeafm.afm.SimpleMeasureDefinition;
+import com.gooddata.sdk.model.executeafm.afm.filter.PositiveAttributeFilter;
+import com.gooddata.sdk.model.executeafm.resultspec.ResultSpec;
+import com.gooddata.sdk.model.project.Project;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ProjectObjQualifierConverterTest {
+
+    private static final String PROJECT_ID = "PROJECT_ID";
+
+    @Mock
+    private MetadataService metadataService;
+    @Mock
+    private Project project;
+
+    private ProjectObjQualifierConverter converter;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this).close();
+        when(project.getId()).thenReturn(PROJECT_ID);
+        when(metadataService.identifiersToUris(eq(project), anyCollection())).thenAnswer(invocation -> {
+            final Collection<String> identifiers = invocation.getArgument(1);
+            return identifiers.stream()
+                    .filter(identifier -> !identifier.startsWith("missing"))
+                    .collect(Collectors.toMap(identifier -> identifier, ProjectObjQualifierConverterTest::uri));
+        });
+        converter = new ProjectObjQualifierConverter(metadataService, project);
+    }
+
+    @Test
+    public void shouldConvertAfmUsingSingleRequest() {
+        final Afm afm = afm(40);
+
+        final Afm converted = converter.convert(afm);
+
+        assertThat(converted.getObjQualifiers(), everyItem(instanceOf(UriObjQualifier.class)));
+        assertThat(converted.getAttributes().get(0).getDisplayForm(), is(new UriObjQualifier(uri("attr"))));
+        assertThat(converted.getMeasures().get(78).getDefinition().getObjQualifiers(),
+                is(new HashSet<>(singletonList(new UriObjQualifier(uri("metric39"))))));
+        verify(metadataService, times(1)).identifiersToUris(eq(project), anyCollection());
+    }
+
+    @Test
+    public void shouldServeRepeatedIdentifiersFromCache() {
+        converter.convert(afm(2));
+        final Afm converted = converter.convert(afm(2));
+
+        assertThat(converted.getObjQualifiers(), everyItem(instanceOf(UriObjQualifier.class)));
+        assertThat(converter.convertToUriQualifier(new IdentifierObjQualifier("metric1")),
+                is(Optional.of(new UriObjQualifier(uri("metric1")))));
+        verify(metadataService, times(1)).identifiersToUris(eq(project), anyCollection());
+    }
+
+    @Test
+    public void shouldResolveOnlyNewIdentifiers() {
+        converter.convert(afm(2));
+        converter.convert(afm(3));
+
+        verify(metadataService).identifiersToUris(project, new HashSet<>(asList("attr", "metric0", "metric1")));
+        verify(metadataService).identifiersToUris(project, new HashSet<>(singletonList("metric2")));
+    }
+
+    @Test
+    public void shouldConvertExecution() {
+        final ResultSpec resultSpec = new ResultSpec();
+        final Execution converted = converter.convert(new Execution(afm(1), resultSpec));
+
+        assertThat(converted.getAfm().getObjQualifiers(), everyItem(instanceOf(UriObjQualifier.class)));
+        assertThat(converted.getResultSpec(), is(sameInstance(resultSpec)));
+    }
+
+    @Test
+    public void shouldNotRequestUriQualifiers() {
+        final Afm afm = new Afm().addMeasure(new MeasureItem(new SimpleMeasureDefinition(new UriObjQualifier(uri("metric"))), "m"));
+
+        final Afm converted = converter.convert(afm);
+
+        assertThat(converted.getMeasures().get(0), is(sameInstance(afm.getMeasures().get(0))));
+        verify(metadataService, never()).identifiersToUris(any(), anyCollection());
+    }
+
+    @Test
+    public void shouldNotConvertMissingIdentifier() {
+        assertThat(converter.convertToUriQualifier(new IdentifierObjQualifier("missing")), is(Optional.empty()));
+        assertThat(converter.convertToUriQualifier(new IdentifierObjQualifier("missing")), is(Optional.empty()));
+
+        verify(metadataService, times(2)).identifiersToUris(eq(project), anyCollection());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldFailOnMissingIdentifier() {
+        converter.convert(afm(1).addMeasure(new MeasureItem(new SimpleMeasureDefinition(new IdentifierObjQualifier("missing")), "x")));
+    }
+
+    @Test
+    public void shouldClearCache() {
+        converter.convert(afm(1));
+        converter.clear();
+        converter.convert(afm(1));
+
+        verify(metadataService, times(2)).identifiersToUris(eq(project), anyCollection());
+    }
+
+    private static Afm afm(final int metrics) {
+        final Afm afm = new Afm()
+                .addAttribute(new AttributeItem(new IdentifierObjQualifier("attr"), "a"))
+                .addFilter(new PositiveAttributeFilter(new IdentifierObjQualifier("attr"), "value"));
+        IntStream.range(0, metrics).forEach(i -> afm
+                .addMeasure(new MeasureItem(new SimpleMeasureDefinition(new IdentifierObjQualifier("metric" + i)), "m" + i))
+                .addMeasure(new MeasureItem(new PopMeasureDefinition("m" + i, new IdentifierObjQualifier("attr")), "pop" + i)));
+        return afm;
+    }
+
+    private static String uri(final String identifier) {
+        return "/gdc/md/" + PROJECT_ID + "/obj/" + identifier;
+    }
+}
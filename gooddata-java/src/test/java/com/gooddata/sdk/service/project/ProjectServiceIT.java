@@ -16,31 +16,45 @@ import com.gooddata.sdk.model.project.CreatedInvitations;
 import com.gooddata.sdk.model.project.Invitation;
 import com.gooddata.sdk.model.project.Project;
 import com.gooddata.sdk.model.project.ProjectTemplate;
+import com.gooddata.sdk.model.project.ProjectUsersUpdateResult;
 import com.gooddata.sdk.model.project.ProjectValidationResults;
 import com.gooddata.sdk.model.project.ProjectValidationType;
 import com.gooddata.sdk.model.project.Projects;
 import com.gooddata.sdk.model.project.Role;
 import com.gooddata.sdk.model.project.User;
 import com.gooddata.sdk.service.AbstractGoodDataIT;
+import com.gooddata.sdk.service.GoodData;
+import com.gooddata.sdk.service.GoodDataSettings;
 import org.hamcrest.core.Is;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.gooddata.sdk.common.util.ResourceUtils.OBJECT_MAPPER;
 import static com.gooddata.sdk.common.util.ResourceUtils.readFromResource;
 import static com.gooddata.sdk.common.util.ResourceUtils.readObjectFromResource;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static net.jadler.Jadler.onRequest;
+import static net.jadler.Jadler.verifyThatRequest;
 import static net.javacrumbs.jsonunit.JsonMatchers.jsonEquals;
 import static net.javacrumbs.jsonunit.core.Option.IGNORING_ARRAY_ORDER;
 import static net.javacrumbs.jsonunit.core.util.ResourceUtils.resource;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.Mockito.doReturn;
@@ -305,6 +319,42 @@ public class ProjectServiceIT extends AbstractGoodDataIT {
         assertThat(roles, hasSize(2));
     }
 
+    @Test
+    public void shouldReturnCachedProjectRoles() {
+        onRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo("/gdc/projects/PROJECT_ID/roles")
+                .respond()
+                .withBody(readFromResource("/project/project-roles.json"))
+                .withStatus(200);
+        onRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo("/gdc/projects/PROJECT_ID/roles/ROLE1")
+                .respond()
+                .withBody(readFromResource("/project/project-role.json"))
+                .withStatus(200);
+        onRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo("/gdc/projects/PROJECT_ID/roles/ROLE2")
+                .respond()
+                .withBody(readFromResource("/project/project-role2.json"))
+                .withStatus(200);
+
+        final GoodDataSettings settings = createGoodDataSettings();
+        settings.setRoleCacheSettings(new RoleCacheSettings());
+        final GoodData cachingGd = createGoodData(settings);
+
+        final Set<Role> roles = cachingGd.getProjectService().getRoles(enabled);
+        assertThat(roles, hasSize(2));
+        assertThat(cachingGd.getProjectService().getRoles(enabled), is(roles));
+        assertThat(roles.stream().map(Role::getUri).collect(Collectors.toSet()),
+                containsInAnyOrder("/gdc/projects/PROJECT_ID/roles/ROLE1", "/gdc/projects/PROJECT_ID/roles/ROLE2"));
+
+        verifyThatRequest().havingPathEqualTo("/gdc/projects/PROJECT_ID/roles").receivedTimes(2);
+        verifyThatRequest().havingPathEqualTo("/gdc/projects/PROJECT_ID/roles/ROLE1").receivedOnce();
+        verifyThatRequest().havingPathEqualTo("/gdc/projects/PROJECT_ID/roles/ROLE2").receivedOnce();
+    }
+
     @Test
     public void shouldReturnProjectRoleForUri() {
         final String roleUri = "/gdc/projects/PROJECT_ID/roles/ROLE1";
@@ -393,6 +443,102 @@ public class ProjectServiceIT extends AbstractGoodDataIT {
         gd.getProjectService().addUserToProject(enabled, account, role);
     }
 
+    @Test
+    public void updateUsersInProjects() throws Exception {
+        final String otherProjectId = "OTHER_ID";
+        onRequest()
+                .havingMethodEqualTo("POST")
+                .havingPathEqualTo(ProjectService.PROJECT_USERS_TEMPLATE.expand("PROJECT_ID").toString())
+                .havingBody(containsString("/gdc/account/profile/U1"))
+                .respond()
+                .withBody(usersUpdateResult(asList("/gdc/account/profile/U1", "/gdc/account/profile/U2"), emptyList()));
+        onRequest()
+                .havingMethodEqualTo("POST")
+                .havingPathEqualTo(ProjectService.PROJECT_USERS_TEMPLATE.expand("PROJECT_ID").toString())
+                .havingBody(containsString("/gdc/account/profile/U3"))
+                .respond()
+                .withBody(usersUpdateResult(emptyList(), singletonList("/gdc/account/profile/U3")));
+        onRequest()
+                .havingMethodEqualTo("POST")
+                .havingPathEqualTo(ProjectService.PROJECT_USERS_TEMPLATE.expand(otherProjectId).toString())
+                .respond()
+                .withStatus(500);
+
+        final Project other = mock(Project.class);
+        doReturn(otherProjectId).when(other).getId();
+        final Map<Project, List<User>> users = new LinkedHashMap<>();
+        users.put(enabled, asList(user("U1"), user("U2"), user("U3")));
+        users.put(other, singletonList(user("U4")));
+
+        final GoodDataSettings settings = createGoodDataSettings();
+        settings.getParallelismSettings().setUsersUpdateBatchSize(2);
+        final Map<Project, ProjectUsersUpdateReport> result = createGoodData(settings).getProjectService()
+                .updateUsersInProjects(users);
+
+        assertThat(result.keySet(), contains(enabled, other));
+        assertThat(result.get(enabled).getResult().getSuccessful(),
+                containsInAnyOrder("/gdc/account/profile/U1", "/gdc/account/profile/U2"));
+        assertThat(result.get(enabled).getResult().getFailed(), contains("/gdc/account/profile/U3"));
+        assertThat(result.get(other).getResult().getSuccessful(), is(empty()));
+        assertThat(result.get(other).getResult().getFailed(), contains("/gdc/account/profile/U4"));
+        assertThat(result.get(enabled).isVerified(), is(false));
+        assertThat(result.get(enabled).getErrors(), is(empty()));
+        assertThat(result.get(other).getErrors(), hasSize(1));
+        assertThat(result.get(other).getErrors().get(0), is(instanceOf(ProjectUsersUpdateException.class)));
+        assertThat(result.get(other).getErrors().get(0).getCause(), is(instanceOf(GoodDataException.class)));
+        verifyThatRequest().havingPathEqualTo(ProjectService.PROJECT_USERS_TEMPLATE.expand("PROJECT_ID").toString())
+                .receivedTimes(2);
+    }
+
+    @Test
+    public void updateUsersInProjectsWithVerification() throws Exception {
+        onRequest()
+                .havingMethodEqualTo("POST")
+                .havingPathEqualTo(ProjectService.PROJECT_USERS_TEMPLATE.expand("PROJECT_ID").toString())
+                .respond()
+                .withBody(usersUpdateResult(asList("/gdc/account/profile/USER_ID", "/gdc/account/profile/U2"),
+                        emptyList()));
+        onRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo(ProjectService.PROJECT_USERS_TEMPLATE.expand("PROJECT_ID").toString())
+                .respond()
+                .withBody(readFromResource("/project/project-users.json"));
+
+        final ProjectUsersUpdateReport report = gd.getProjectService()
+                .updateUsersInProjects(singletonMap(enabled, asList(user("USER_ID"), user("U2"))), true)
+                .get(enabled);
+
+        assertThat(report.isVerified(), is(true));
+        assertThat(report.getResult().getSuccessful(), contains("/gdc/account/profile/USER_ID"));
+        assertThat(report.getResult().getFailed(), contains("/gdc/account/profile/U2"));
+    }
+
+    @Test
+    public void updateUsersInProjectsWithFailedVerification() throws Exception {
+        onRequest()
+                .havingMethodEqualTo("POST")
+                .havingPathEqualTo(ProjectService.PROJECT_USERS_TEMPLATE.expand("PROJECT_ID").toString())
+                .respond()
+                .withBody(usersUpdateResult(asList("/gdc/account/profile/USER_ID", "/gdc/account/profile/U2"),
+                        emptyList()));
+        onRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo(ProjectService.PROJECT_USERS_TEMPLATE.expand("PROJECT_ID").toString())
+                .respond()
+                .withStatus(500);
+
+        final ProjectUsersUpdateReport report = gd.getProjectService()
+                .updateUsersInProjects(singletonMap(enabled, asList(user("USER_ID"), user("U2"))), true)
+                .get(enabled);
+
+        assertThat(report.isVerified(), is(false));
+        assertThat(report.getResult().getSuccessful(),
+                contains("/gdc/account/profile/USER_ID", "/gdc/account/profile/U2"));
+        assertThat(report.getResult().getFailed(), is(empty()));
+        assertThat(report.getErrors(), hasSize(1));
+        assertThat(report.getErrors().get(0), is(instanceOf(ProjectUsersUpdateException.class)));
+    }
+
     @Test
     public void disableUserInProject() {
         onRequest()
@@ -473,4 +619,20 @@ public class ProjectServiceIT extends AbstractGoodDataIT {
         assertThat(projects.getPageItems().isEmpty(), is(false));
         assertThat(projects.getPageItems().get(0).getTitle(), Is.is("defaultEmptyProject"));
     }
-}
\ No newline at end of file
+
+    private GoodData createGoodData(final GoodDataSettings settings) {
+        return new GoodData(endpoint.getHostname(), "sdk@gooddata.com", "sdk", endpoint.getPort(),
+                endpoint.getProtocol(), settings);
+    }
+
+    private static User user(final String accountId) {
+        final Account account = mock(Account.class);
+        doReturn("/gdc/account/profile/" + accountId).when(account).getUri();
+        return new User(account);
+    }
+
+    private static String usersUpdateResult(final List<String> successful, final List<String> failed)
+            throws Exception {
+        return OBJECT_MAPPER.writeValueAsString(new ProjectUsersUpdateResult(successful, failed));
+    }
+}
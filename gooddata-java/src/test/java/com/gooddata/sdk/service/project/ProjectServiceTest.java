@@ -27,10 +27,12 @@ import org.testng.annotations.Test;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Collection;
+import java.util.concurrent.ExecutionException;
 
 import static com.gooddata.sdk.service.project.ProjectService.LIST_PROJECTS_TEMPLATE;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
@@ -40,6 +42,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.fail;
 
 public class ProjectServiceTest {
 
@@ -137,6 +140,29 @@ public class ProjectServiceTest {
         assertThat(result, hasItem(project));
     }
 
+    @Test
+    public void testListProjectsAsync() throws Exception {
+        doReturn(new Projects(singletonList(project), new Paging(""))).when(restTemplate)
+                .getForObject(new URI(LIST_PROJECTS_TEMPLATE.expand(ACCOUNT_ID) + "?offset=1&limit=100"), Projects.class);
+        final Collection<Project> result = service.listProjectsAsync(account, new CustomPageRequest(1, 100))
+                .get().getPageItems();
+
+        assertThat(result, hasSize(1));
+        assertThat(result, hasItem(project));
+    }
+
+    @Test
+    public void testListProjectsAsyncWithClientException() throws Exception {
+        doThrow(new RestClientException("")).when(restTemplate)
+                .getForObject(new URI(LIST_PROJECTS_TEMPLATE.expand(ACCOUNT_ID) + "?limit=100"), Projects.class);
+        try {
+            service.listProjectsAsync(account, new CustomPageRequest()).get();
+            fail("ExecutionException expected");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), is(instanceOf(GoodDataException.class)));
+        }
+    }
+
     @Test(expectedExceptions = GoodDataException.class)
     public void testListProjectsForuserWithClientException() throws Exception {
         doThrow(new GoodDataException("")).when(restTemplate)
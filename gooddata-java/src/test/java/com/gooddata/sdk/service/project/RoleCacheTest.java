@@ -0,0 +1,108 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.project;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.gooddata.sdk.model.project.Project;
+import com.gooddata.sdk.model.project.Role;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.gooddata.sdk.common.util.ResourceUtils.OBJECT_MAPPER;
+import static com.gooddata.sdk.common.util.ResourceUtils.readFromResource;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RoleCacheTest {
+
+    private static final String TEMPLATE = "/projectTemplates/TEMPLATE/1";
+    private static final String ROLE_URI = "/gdc/projects/PROJECT_ID/roles/ROLE1";
+    private static final String OTHER_ROLE_URI = "/gdc/projects/OTHER_ID/roles/ROLE1";
+
+    private final AtomicLong time = new AtomicLong();
+    private RoleCache cache;
+    private JsonNode role;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        final RoleCacheSettings settings = new RoleCacheSettings();
+        settings.setTtl(1000);
+        settings.setMaxRoles(2);
+        cache = new RoleCache(settings, OBJECT_MAPPER.readerFor(Role.class), time::get);
+        role = OBJECT_MAPPER.readTree(readFromResource("/project/project-role.json"));
+    }
+
+    @Test
+    public void shouldShareRolesOfProjectsWithSameTemplate() throws Exception {
+        final Role fetched = cache.put(project(TEMPLATE), ROLE_URI, role);
+        assertThat(fetched.getUri(), is(ROLE_URI));
+
+        final Role cached = cache.get(project(TEMPLATE), OTHER_ROLE_URI);
+        assertThat(cached, is(notNullValue()));
+        assertThat(cached, is(not(sameInstance(fetched))));
+        assertThat(cached, is(fetched));
+        assertThat(cached.getTitle(), is("Embedded Dashboard Only"));
+        assertThat(cached.getUri(), is(OTHER_ROLE_URI));
+        assertThat(cache.get(project("/projectTemplates/OTHER/1"), OTHER_ROLE_URI), is(nullValue()));
+    }
+
+    @Test
+    public void shouldCacheByUriWithoutTemplate() throws Exception {
+        cache.put(project(null), ROLE_URI, role);
+
+        assertThat(cache.get(project(null), ROLE_URI).getUri(), is(ROLE_URI));
+        assertThat(cache.get(project(null), OTHER_ROLE_URI), is(nullValue()));
+        assertThat(cache.get(project(TEMPLATE), ROLE_URI), is(nullValue()));
+    }
+
+    @Test
+    public void shouldReturnNewInstances() throws Exception {
+        cache.put(project(TEMPLATE), ROLE_URI, role);
+
+        final Role first = cache.get(project(TEMPLATE), ROLE_URI);
+        first.setUri("/changed");
+        assertThat(cache.get(project(TEMPLATE), ROLE_URI).getUri(), is(ROLE_URI));
+        assertThat(role.path("projectRole").has("links"), is(true));
+    }
+
+    @Test
+    public void shouldExpire() throws Exception {
+        cache.put(project(TEMPLATE), ROLE_URI, role);
+
+        time.set(999);
+        assertThat(cache.get(project(TEMPLATE), ROLE_URI), is(notNullValue()));
+        time.set(1000);
+        assertThat(cache.get(project(TEMPLATE), ROLE_URI), is(nullValue()));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed() throws Exception {
+        cache.put(project(TEMPLATE), "/gdc/projects/PROJECT_ID/roles/1", role);
+        cache.put(project(TEMPLATE), "/gdc/projects/PROJECT_ID/roles/2", role);
+        cache.get(project(TEMPLATE), "/gdc/projects/PROJECT_ID/roles/1");
+        cache.put(project(TEMPLATE), "/gdc/projects/PROJECT_ID/roles/3", role);
+
+        assertThat(cache.get(project(TEMPLATE), "/gdc/projects/PROJECT_ID/roles/1"), is(notNullValue()));
+        assertThat(cache.get(project(TEMPLATE), "/gdc/projects/PROJECT_ID/roles/2"), is(nullValue()));
+        assertThat(cache.get(project(TEMPLATE), "/gdc/projects/PROJECT_ID/roles/3"), is(notNullValue()));
+        assertThat(cache.size(), is(2));
+    }
+
+    private static Project project(final String template) {
+        final Project project = mock(Project.class);
+        when(project.getProjectTemplate()).thenReturn(template);
+        return project;
+    }
+}
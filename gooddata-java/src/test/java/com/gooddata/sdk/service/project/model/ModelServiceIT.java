@@ -10,19 +10,35 @@ import com.gooddata.sdk.model.gdc.TaskStatus;
 import com.gooddata.sdk.model.project.Project;
 import com.gooddata.sdk.model.project.model.ModelDiff;
 import com.gooddata.sdk.service.AbstractGoodDataIT;
+import com.gooddata.sdk.service.GoodDataSettings;
+import org.springframework.web.client.RestTemplate;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static com.gooddata.sdk.common.util.ResourceUtils.OBJECT_MAPPER;
 import static com.gooddata.sdk.common.util.ResourceUtils.readFromResource;
 import static com.gooddata.sdk.common.util.ResourceUtils.readObjectFromResource;
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
 import static net.jadler.Jadler.onRequest;
+import static net.jadler.Jadler.verifyThatRequest;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class ModelServiceIT extends AbstractGoodDataIT {
 
@@ -35,11 +51,18 @@ public class ModelServiceIT extends AbstractGoodDataIT {
             "synchronize {dataset.chunk1} preserve data",
             "synchronize {dataset.chunk2} preserve data");
 
+    private static final String OTHER_DIFF_URI = "/gdc/projects/OTHER_ID/model/diff";
+    private static final String OTHER_DIFF_POLL_URI = OTHER_DIFF_URI + "/456";
+    private static final String EMPTY_DIFF_JSON = "{\"projectModelDiff\":{\"updateScripts\":[]}}";
+
     private Project project;
+    private Project other;
 
     @BeforeClass
     public void setUp() throws Exception {
         project = readObjectFromResource("/project/project.json", Project.class);
+        other = mock(Project.class);
+        when(other.getId()).thenReturn("OTHER_ID");
     }
 
     @Test
@@ -126,4 +149,133 @@ public class ModelServiceIT extends AbstractGoodDataIT {
         final ModelDiff diff = OBJECT_MAPPER.readValue(MODEL_DIFF_JSON, ModelDiff.class);
         gd.getModelService().updateProjectModel(project, diff).get();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldRolloutModel() throws Exception {
+        mockDiff(DIFF_URI, DIFF_POLL_URI, MODEL_DIFF_JSON);
+        mockDiff(OTHER_DIFF_URI, OTHER_DIFF_POLL_URI, EMPTY_DIFF_JSON);
+        mockUpdate();
+
+        final List<ModelRolloutResult> finished = new ArrayList<>();
+        final List<ModelRolloutResult> results = gd.getModelService()
+                .rolloutProjectModel("xxx", asList(project, other), finished::add);
+
+        assertThat(results, hasSize(2));
+        assertThat(results.get(0).getProject(), is(project));
+        assertThat(results.get(0).isSuccessful(), is(true));
+        assertThat(results.get(0).isUpToDate(), is(false));
+        assertThat(results.get(0).getUpdateMaql(), contains("synchronize {dataset.chunk1} preserve data",
+                "synchronize {dataset.chunk2} preserve data"));
+        assertThat(results.get(1).getProject(), is(other));
+        assertThat(results.get(1).isUpToDate(), is(true));
+        assertThat(finished, containsInAnyOrder(results.toArray()));
+        verifyThatRequest().havingMethodEqualTo("POST").havingPathEqualTo(LDM_MANAGE2).receivedTimes(2);
+        verifyThatRequest().havingMethodEqualTo("POST").havingPathEqualTo("/gdc/md/OTHER_ID/ldm/manage2").receivedNever();
+    }
+
+    @Test
+    public void shouldShareIdenticalUpdateScripts() throws Exception {
+        mockDiff(DIFF_URI, DIFF_POLL_URI, MODEL_DIFF_JSON);
+        mockDiff(OTHER_DIFF_URI, OTHER_DIFF_POLL_URI, MODEL_DIFF_JSON);
+        mockUpdate();
+        onRequest()
+                .havingMethodEqualTo("POST")
+                .havingPathEqualTo("/gdc/md/OTHER_ID/ldm/manage2")
+                .respond()
+                .withStatus(202)
+                .withBody(readFromResource("/model/maqlDdlLinks.json"));
+
+        final List<ModelRolloutResult> results = gd.getModelService().rolloutProjectModel("xxx", asList(project, other));
+
+        assertThat(results.get(0).isSuccessful(), is(true));
+        assertThat(results.get(1).isSuccessful(), is(true));
+        assertThat(results.get(1).getUpdateMaql(), is(sameInstance(results.get(0).getUpdateMaql())));
+        verifyThatRequest().havingMethodEqualTo("POST").havingPathEqualTo("/gdc/md/OTHER_ID/ldm/manage2").receivedTimes(2);
+    }
+
+    @Test
+    public void shouldNotStopRolloutOnFailedProject() throws Exception {
+        mockDiff(DIFF_URI, DIFF_POLL_URI, MODEL_DIFF_JSON);
+        mockUpdate();
+        onRequest()
+                .havingMethodEqualTo("POST")
+                .havingPathEqualTo(OTHER_DIFF_URI)
+                .respond()
+                .withStatus(202)
+                .withBody(OBJECT_MAPPER.writeValueAsString(new AsyncTask(OTHER_DIFF_POLL_URI)));
+        onRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo(OTHER_DIFF_POLL_URI)
+                .respond()
+                .withStatus(400);
+
+        final List<ModelRolloutResult> results = gd.getModelService().rolloutProjectModel("xxx", asList(other, project));
+
+        assertThat(results.get(0).isSuccessful(), is(false));
+        assertThat(results.get(0).getFailure(), is(instanceOf(ModelException.class)));
+        assertThat(results.get(0).getUpdateMaql(), is(nullValue()));
+        assertThat(results.get(1).isSuccessful(), is(true));
+    }
+
+    @Test
+    public void shouldNotFailRolloutOnListenerFailure() throws Exception {
+        mockDiff(DIFF_URI, DIFF_POLL_URI, MODEL_DIFF_JSON);
+        mockDiff(OTHER_DIFF_URI, OTHER_DIFF_POLL_URI, EMPTY_DIFF_JSON);
+        mockUpdate();
+
+        final List<ModelRolloutResult> results = gd.getModelService().rolloutProjectModel("xxx",
+                asList(project, other), result -> {
+                    throw new IllegalStateException("listener failure");
+                });
+
+        assertThat(results, hasSize(2));
+        assertThat(results.get(0).isSuccessful(), is(true));
+        assertThat(results.get(1).isSuccessful(), is(true));
+    }
+
+    @Test
+    public void shouldReportRejectedProjects() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        final GoodDataSettings settings = new GoodDataSettings();
+        settings.setRequestExecutor(executor);
+        settings.getParallelismSettings().setModelUpdateParallelism(1);
+        final ModelService service = new ModelService(new RestTemplate(), settings);
+
+        final List<ModelRolloutResult> results = service.rolloutProjectModel("xxx", asList(project, other));
+
+        assertThat(results, hasSize(2));
+        assertThat(results.get(0).getFailure(), is(instanceOf(ModelException.class)));
+        assertThat(results.get(1).getFailure(), is(instanceOf(ModelException.class)));
+    }
+
+    private static void mockDiff(final String diffUri, final String pollUri, final String diff) throws IOException {
+        onRequest()
+                .havingMethodEqualTo("POST")
+                .havingPathEqualTo(diffUri)
+                .respond()
+                .withStatus(202)
+                .withBody(OBJECT_MAPPER.writeValueAsString(new AsyncTask(pollUri)));
+        onRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo(pollUri)
+                .respond()
+                .withStatus(200)
+                .withBody(diff);
+    }
+
+    private static void mockUpdate() throws IOException {
+        onRequest()
+                .havingMethodEqualTo("POST")
+                .havingPathEqualTo(LDM_MANAGE2)
+                .respond()
+                .withStatus(202)
+                .withBody(readFromResource("/model/maqlDdlLinks.json"));
+        onRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo(STATUS_URI)
+                .respond()
+                .withStatus(200)
+                .withBody(OBJECT_MAPPER.writeValueAsString(new TaskStatus("OK", STATUS_URI)));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * (C) 2025 GoodData Corporation.
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE.txt file in the root directory of this source tree.
+ */
+package com.gooddata.sdk.service.retry;
+
+import com.gooddata.sdk.common.GoodDataRestException;
+import com.gooddata.sdk.model.md.Attribute;
+import com.gooddata.sdk.model.project.Project;
+import com.gooddata.sdk.service.AbstractGoodDataIT;
+import com.gooddata.sdk.service.GoodDataSettings;
+import com.gooddata.sdk.service.md.ObjCreateException;
+import org.testng.annotations.Test;
+
+import static com.gooddata.sdk.common.util.ResourceUtils.readFromResource;
+import static com.gooddata.sdk.common.util.ResourceUtils.readObjectFromResource;
+import static net.jadler.Jadler.onRequest;
+import static net.jadler.Jadler.verifyThatRequest;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.testng.Assert.assertThrows;
+
+public class RetryableRestTemplateIT extends AbstractGoodDataIT {
+
+    private static final int RETRY_COUNT = 3;
+    private static final String ATTRIBUTE_URI = "/gdc/md/PROJECT_ID/obj/1";
+
+    @Override
+    protected GoodDataSettings createGoodDataSettings() {
+        final RetrySettings retrySettings = new RetrySettings();
+        retrySettings.setRetryCount(RETRY_COUNT);
+        retrySettings.setRetryInitialInterval(1L);
+
+        final GoodDataSettings settings = super.createGoodDataSettings();
+        settings.setRetrySettings(retrySettings);
+        return settings;
+    }
+
+    @Test
+    public void shouldRetryGetServerErrorRetryCountTimes() throws Exception {
+        onRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo(ATTRIBUTE_URI)
+                .respond()
+                .withStatus(503);
+
+        assertThrows(GoodDataRestException.class,
+                () -> gd.getMetadataService().getObjByUri(ATTRIBUTE_URI, Attribute.class));
+
+        // the retry count is the total number of attempts, the http client doesn't retry on its own
+        verifyThatRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo(ATTRIBUTE_URI)
+                .receivedTimes(RETRY_COUNT);
+    }
+
+    @Test
+    public void shouldSucceedAfterRetry() throws Exception {
+        onRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo(ATTRIBUTE_URI)
+                .respond()
+                .withStatus(500)
+                .thenRespond()
+                .withBody(readFromResource("/md/attribute.json"));
+
+        final Attribute attribute = gd.getMetadataService().getObjByUri(ATTRIBUTE_URI, Attribute.class);
+
+        assertThat(attribute, is(notNullValue()));
+        verifyThatRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo(ATTRIBUTE_URI)
+                .receivedTimes(2);
+    }
+
+    @Test
+    public void shouldNotRetryTooManyRequestsByHttpClient() throws Exception {
+        onRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo(ATTRIBUTE_URI)
+                .respond()
+                .withStatus(429)
+                .withHeader("Retry-After", "0");
+
+        assertThrows(GoodDataRestException.class,
+                () -> gd.getMetadataService().getObjByUri(ATTRIBUTE_URI, Attribute.class));
+
+        // 429 isn't retryable by the GetServerErrorRetryStrategy and the http client doesn't retry it either
+        verifyThatRequest()
+                .havingMethodEqualTo("GET")
+                .havingPathEqualTo(ATTRIBUTE_URI)
+                .receivedOnce();
+    }
+
+    @Test
+    public void shouldNotRetryPost() throws Exception {
+        onRequest()
+                .havingMethodEqualTo("POST")
+                .havingPathEqualTo("/gdc/md/PROJECT_ID/obj")
+                .respond()
+                .withStatus(503);
+
+        final Project project = readObjectFromResource("/project/project.json", Project.class);
+        assertThrows(ObjCreateException.class, () -> gd.getMetadataService().createObj(project,
+                readObjectFromResource("/md/attribute.json", Attribute.class)));
+
+        verifyThatRequest()
+                .havingMethodEqualTo("POST")
+                .havingPathEqualTo("/gdc/md/PROJECT_ID/obj")
+                .receivedOnce();
+    }
+}
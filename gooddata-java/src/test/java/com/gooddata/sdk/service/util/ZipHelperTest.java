@@ -6,6 +6,7 @@
 package com.gooddata.sdk.service.util;
 
 import org.apache.commons.io.FileUtils;
+import org.springframework.util.StreamUtils;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -14,10 +15,15 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -106,4 +112,67 @@ public class ZipHelperTest {
             verifyZipContent(output, SOME_FILE);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldZipDirContent() throws Exception {
+        final Map<String, byte[]> files = createFiles(temporaryFolder.resolve("content"));
+        final File zipped = temporaryFolder.resolve("content.zip").toFile();
+        try (FileOutputStream output = new FileOutputStream(zipped)) {
+            ZipHelper.zip(temporaryFolder.resolve("content").toFile(), output);
+        }
+        verifyZipFiles(zipped, files);
+    }
+
+    @Test
+    public void shouldEstimateZipSize() throws Exception {
+        final Map<String, byte[]> files = createFiles(temporaryFolder.resolve("estimated"));
+        final long size = files.values().stream().mapToLong(data -> data.length).sum();
+
+        assertThat(ZipHelper.estimateZipSize(temporaryFolder.resolve("estimated").toFile()), is(size));
+        assertThat(ZipHelper.estimateZipSize(temporaryFolder.resolve("estimated").resolve("empty.txt").toFile()),
+                is(0L));
+    }
+
+    private static Map<String, byte[]> createFiles(final Path dir) throws Exception {
+        final Random random = new Random(42);
+        final Map<String, byte[]> files = new HashMap<>();
+        files.put("empty.txt", new byte[0]);
+        files.put(Paths.get("a", "random.bin").toString(), randomBytes(random, 100_000));
+        files.put(Paths.get("a", "b", "text.csv").toString(), "id,name\n1,žluťoučký kůň\n".repeat(1000).getBytes(StandardCharsets.UTF_8));
+        for (int i = 0; i < 5; i++) {
+            files.put("file" + i + ".txt", randomBytes(random, 1000 * i));
+        }
+        for (Map.Entry<String, byte[]> file : files.entrySet()) {
+            final Path path = dir.resolve(file.getKey());
+            Files.createDirectories(path.getParent());
+            Files.write(path, file.getValue());
+        }
+        return files;
+    }
+
+    private static byte[] randomBytes(final Random random, final int size) {
+        final byte[] bytes = new byte[size];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    private static void verifyZipFiles(final File zipped, final Map<String, byte[]> files) throws Exception {
+        try (ZipFile zipFile = new ZipFile(zipped)) {
+            assertThat(zipFile.size(), is(files.size()));
+            for (Map.Entry<String, byte[]> file : files.entrySet()) {
+                final ZipEntry entry = zipFile.getEntry(file.getKey());
+                assertThat(file.getKey(), entry, notNullValue());
+                assertThat(StreamUtils.copyToByteArray(zipFile.getInputStream(entry)), is(file.getValue()));
+            }
+        }
+        final Map<String, byte[]> read = new HashMap<>();
+        try (ZipInputStream input = new ZipInputStream(Files.newInputStream(zipped.toPath()))) {
+            ZipEntry entry;
+            while ((entry = input.getNextEntry()) != null) {
+                read.put(entry.getName(), StreamUtils.copyToByteArray(input));
+            }
+        }
+        assertThat(read.keySet(), is(files.keySet()));
+        files.forEach((name, data) -> assertThat(read.get(name), is(data)));
+    }
+}